@@ -2,6 +2,7 @@ package io.forge.kit.metrics.api.domain;
 
 import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
 import jakarta.interceptor.InvocationContext;
+import java.util.Map;
 
 /**
  * Interface for type-safe metric recorder.
@@ -13,6 +14,24 @@ import jakarta.interceptor.InvocationContext;
  */
 public interface MetricsRecorder
 {
+    /**
+     * Context data key holding the weight of a sampled invocation, see {@link ServiceMetrics#sampleRate()}.
+     */
+    String SAMPLE_WEIGHT_KEY = "metrics.sample.weight";
+
+    /**
+     * Returns how many invocations the current one stands for: {@code 1 / sampleRate} for a sampled success, otherwise
+     * {@code 1}. Recorders increment counters by this weight so totals stay unbiased under sampling.
+     *
+     * @param context The invocation context passed to the recorder
+     * @return the invocation's sample weight, at least 1
+     */
+    static long sampleWeight(final InvocationContext context)
+    {
+        final Map<String, Object> contextData = context.getContextData();
+        return contextData != null && contextData.get(SAMPLE_WEIGHT_KEY) instanceof final Long weight ? weight : 1L;
+    }
+
     /**
      * Records metrics based on the method's execution result.
      *
@@ -34,4 +53,35 @@ public interface MetricsRecorder
      * @param exception The exception that was thrown
      */
     void recordException(InvocationContext context, Exception exception);
+
+    /**
+     * Records metrics based on the method's execution result and its measured duration.
+     *
+     * <p>The interceptor times every invocation with a single monotonic timestamp around {@code proceed()} and calls
+     * this method. The default delegates to {@link #recordMetrics(InvocationContext, MetricsResultIndicator)}, so
+     * existing recorders are unaffected; override it to record latency without timing the call yourself.
+     *
+     * @param context                The invocation context containing method and target information
+     * @param metricsResultIndicator The success/failure result returned by the intercepted method, may be null
+     * @param durationNanos          Elapsed time of the invocation in nanoseconds
+     */
+    default void recordMetrics(final InvocationContext context, final MetricsResultIndicator metricsResultIndicator,
+                               final long durationNanos)
+    {
+        recordMetrics(context, metricsResultIndicator);
+    }
+
+    /**
+     * Records metrics for an exception that occurred during method execution, including the time taken to fail.
+     *
+     * <p>The default delegates to {@link #recordException(InvocationContext, Exception)}.
+     *
+     * @param context       The invocation context containing method and target information
+     * @param exception     The exception that was thrown
+     * @param durationNanos Elapsed time of the invocation in nanoseconds
+     */
+    default void recordException(final InvocationContext context, final Exception exception, final long durationNanos)
+    {
+        recordException(context, exception);
+    }
 }
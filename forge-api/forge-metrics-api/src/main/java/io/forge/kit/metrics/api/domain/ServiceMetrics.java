@@ -64,4 +64,22 @@ public @interface ServiceMetrics
      */
     @Nonbinding
     String type() default "";
+
+    /**
+     * Fraction of successful invocations handed to the recorder, for hot paths where recording every call costs
+     * measurable CPU.
+     *
+     * <p>Exceptions and results whose indicator reports failure are always recorded. A sampled success carries a
+     * weight of {@code 1 / sampleRate}, available to recorders via {@link MetricsRecorder#sampleWeight}, so counters
+     * incremented by that weight stay unbiased. The rate is rounded to the nearest {@code 1/n} so the weight is a
+     * whole number, e.g. {@code 0.01} samples one call in 100 with weight 100. Timers and other distributions see
+     * only the sampled successes but every failure, so derive rates and error ratios from weighted counters rather than
+     * timer counts.
+     *
+     * <p>{@code 1.0} (the default) records every invocation; {@code 0.0} records failures only.
+     *
+     * @return the sampling rate, between 0.0 and 1.0
+     */
+    @Nonbinding
+    double sampleRate() default 1.0d;
 }
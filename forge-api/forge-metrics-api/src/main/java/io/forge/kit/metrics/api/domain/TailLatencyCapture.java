@@ -0,0 +1,54 @@
+package io.forge.kit.metrics.api.domain;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps the slowest invocations of a method, with argument snapshots, so latency spikes can be traced to their inputs.
+ *
+ * <p>Not an interceptor binding: it is read by the metrics interceptors and only takes effect alongside
+ * {@link ServiceMetrics} or {@link io.forge.kit.metrics.api.persistence.DatabaseMetrics DatabaseMetrics}. Each method
+ * keeps a top-{@link #size()} reservoir of its slowest invocations per rolling window; an invocation faster than the
+ * current slowest-N costs a single comparison. Captured entries record duration, timestamp, thread and the values at
+ * {@link #argPaths()}.
+ *
+ * <p>This annotation can be used on methods or classes. When used on a class, it applies to all methods in that class.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * @ServiceMetrics(MethodTimerMetricsRecorder.class)
+ * @TailLatencyCapture(size = 20, argPaths = {"#customerId", "1"})
+ * public Quote price(final QuoteRequest request, final int quantity) { ... }
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface TailLatencyCapture
+{
+    /**
+     * Number of slowest invocations kept per method and window.
+     *
+     * @return the reservoir size
+     */
+    int size() default 10;
+
+    /**
+     * Length of the rolling window. Captures from the previous window stay visible until the current one ends.
+     *
+     * @return the window length in seconds
+     */
+    long windowSeconds() default 300L;
+
+    /**
+     * Property paths of the arguments to snapshot, in the same format as {@code LogMethodEntry#argPaths()}, e.g.
+     * {@code "#customerId"} or {@code "1"}. Values are captured as strings. Empty (the default) captures no arguments,
+     * so nothing sensitive is retained unless asked for.
+     *
+     * @return array of argument property paths
+     */
+    String[] argPaths() default {};
+}
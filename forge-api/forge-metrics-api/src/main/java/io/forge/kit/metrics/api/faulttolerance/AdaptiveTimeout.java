@@ -0,0 +1,88 @@
+package io.forge.kit.metrics.api.faulttolerance;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark methods or classes for an adaptive timeout derived from observed latency. The
+ * {@code AdaptiveTimeoutInterceptor} keeps a rolling latency sketch per circuit and bounds each call by
+ * {@code quantile × factor}, clamped to {@code [minMillis, maxMillis]}. Until {@link #minimumSamples()} calls have been
+ * observed, {@link #maxMillis()} applies.
+ *
+ * <p>Calls exceeding the timeout fail with {@link org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException},
+ * so {@link org.eclipse.microprofile.faulttolerance.Retry} and
+ * {@link org.eclipse.microprofile.faulttolerance.CircuitBreaker} treat them exactly like a static
+ * {@link org.eclipse.microprofile.faulttolerance.Timeout}. The timeout applies per attempt. Synchronous calls are
+ * interrupted; {@code CompletionStage} and {@code Uni} results fail when the timeout elapses.
+ *
+ * <p>The circuit name is resolved like {@link CircuitBreakerMetrics}: {@link io.smallrye.faulttolerance.api.CircuitBreakerName}
+ * if present, otherwise {@code "fully.qualified.ClassName#methodName"}.
+ *
+ * <p>Example usage (replacing {@code @Timeout(1000)}):
+ * <pre>
+ * {@code
+ * @CircuitBreakerName("inventory-api")
+ * @AdaptiveTimeout(quantile = 0.999, factor = 2.0, minMillis = 50, maxMillis = 2000)
+ * public Stock stock(final String sku) {
+ * return inventoryClient.stock(sku);
+ * }
+ * }
+ * </pre>
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AdaptiveTimeout
+{
+    /**
+     * The latency quantile the timeout is derived from.
+     *
+     * @return quantile in {@code (0, 1]}
+     */
+    @Nonbinding
+    double quantile() default 0.999;
+
+    /**
+     * Multiplier applied to the quantile.
+     *
+     * @return factor, at least 1
+     */
+    @Nonbinding
+    double factor() default 2.0;
+
+    /**
+     * Lower bound of the timeout.
+     *
+     * @return minimum timeout in milliseconds
+     */
+    @Nonbinding
+    long minMillis() default 50L;
+
+    /**
+     * Upper bound of the timeout, also used until enough samples have been observed.
+     *
+     * @return maximum timeout in milliseconds
+     */
+    @Nonbinding
+    long maxMillis() default 5000L;
+
+    /**
+     * The number of calls the rolling window must contain before the timeout adapts.
+     *
+     * @return minimum samples
+     */
+    @Nonbinding
+    int minimumSamples() default 100;
+
+    /**
+     * The rolling window the quantile is computed over.
+     *
+     * @return window in seconds
+     */
+    @Nonbinding
+    long windowSeconds() default 300L;
+}
@@ -0,0 +1,101 @@
+package io.forge.kit.metrics.api.faulttolerance;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark methods or classes for circuit breaking per downstream key (tenant, shard, bucket, ...). The
+ * {@code KeyedCircuitBreakerInterceptor} resolves a key from the method arguments and keeps an independent breaker per
+ * key, so one failing partition is short-circuited while healthy partitions keep full throughput.
+ *
+ * <p>Each key's breaker follows {@link org.eclipse.microprofile.faulttolerance.CircuitBreaker} semantics: over the last
+ * {@link #requestVolumeThreshold()} calls, a failure ratio of at least {@link #failureRatio()} opens it; after
+ * {@link #delayMillis()} a single probe call decides whether it closes again. Breakers are kept for about
+ * {@link #maxKeys()} keys per circuit, evicting the least recently used in batches.
+ *
+ * <p>Rejected calls fail with {@code KeyedCircuitBreakerOpenException}, a
+ * {@link org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException}. Calls whose key resolves to
+ * {@code null} are not guarded.
+ *
+ * <p>The circuit name is resolved like {@link CircuitBreakerMetrics}: {@link io.smallrye.faulttolerance.api.CircuitBreakerName}
+ * if present, otherwise {@code "fully.qualified.ClassName#methodName"}. Metrics are tagged by circuit and
+ * {@link #keyClass()}, never by key value.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * @CircuitBreakerName("tenant-store")
+ * @KeyedCircuitBreaker(keyPath = "#tenantId", keyClass = "tenant")
+ * public Document load(final DocumentRequest request) {
+ * return store.load(request);
+ * }
+ * }
+ * </pre>
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface KeyedCircuitBreaker
+{
+    /**
+     * Path to the key in the method arguments, in {@code ReflectionPathResolver} syntax ({@code "0"},
+     * {@code "#tenantId"}, {@code "1#bucket#name"}).
+     *
+     * @return key path
+     */
+    @Nonbinding
+    String keyPath() default "0";
+
+    /**
+     * Low-cardinality name of what the key identifies, used as the {@code key_class} metric tag.
+     *
+     * @return key class, e.g. {@code "tenant"} or {@code "shard"}
+     */
+    @Nonbinding
+    String keyClass() default "key";
+
+    /**
+     * The number of most recent calls per key the failure ratio is computed over.
+     *
+     * @return rolling window size
+     */
+    @Nonbinding
+    int requestVolumeThreshold() default 20;
+
+    /**
+     * The failure ratio within the rolling window that opens a key's breaker.
+     *
+     * @return failure ratio in {@code (0, 1]}
+     */
+    @Nonbinding
+    double failureRatio() default 0.5;
+
+    /**
+     * How long a key's breaker stays open before a probe call is let through.
+     *
+     * @return delay in milliseconds
+     */
+    @Nonbinding
+    long delayMillis() default 5000L;
+
+    /**
+     * Maximum number of keys tracked per circuit; the least recently used keys are evicted in a batch beyond it.
+     *
+     * @return maximum keys
+     */
+    @Nonbinding
+    int maxKeys() default 1000;
+
+    /**
+     * Exceptions that do not count as failures, e.g. validation errors caused by the caller. A retry refused by a
+     * {@link RetryBudget} never counts as a failure, since the guarded method did not run; it need not be listed.
+     *
+     * @return exception types treated as success
+     */
+    @Nonbinding
+    Class<? extends Throwable>[] skipOn() default {};
+}
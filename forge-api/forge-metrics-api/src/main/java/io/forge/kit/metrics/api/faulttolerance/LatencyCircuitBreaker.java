@@ -0,0 +1,88 @@
+package io.forge.kit.metrics.api.faulttolerance;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark methods or classes for latency-adaptive circuit breaking. The {@code LatencyCircuitBreakerInterceptor}
+ * keeps a rolling latency sketch per circuit and opens the circuit when the recent p99 exceeds
+ * {@link #thresholdMultiplier()} times its baseline, failing calls fast instead of letting a slow (but not failing)
+ * downstream tie up worker threads.
+ *
+ * <p>The baseline is a slow moving average of the p99, updated only while the circuit is healthy, so gradual drift is
+ * absorbed while a sudden slowdown trips the circuit. After {@link #delayMillis()} a single probe call is let through;
+ * the circuit closes if the probe is within the threshold and re-opens otherwise.
+ *
+ * <p>Latency is measured when a call completes, so calls that hang never trip the circuit by themselves. Combine it
+ * with {@link org.eclipse.microprofile.faulttolerance.Timeout} or {@link AdaptiveTimeout} to turn hangs into slow,
+ * completed calls.
+ *
+ * <p>Rejected calls fail with {@code LatencyCircuitBreakerOpenException}, a
+ * {@link org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException}, so existing handling of open
+ * circuits applies unchanged.
+ *
+ * <p>The circuit name is resolved like {@link CircuitBreakerMetrics}: {@link io.smallrye.faulttolerance.api.CircuitBreakerName}
+ * if present, otherwise {@code "fully.qualified.ClassName#methodName"}. It complements, rather than replaces,
+ * {@link org.eclipse.microprofile.faulttolerance.CircuitBreaker}, which only reacts to failures.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * @CircuitBreaker(delay = 1000)
+ * @CircuitBreakerName("pricing-api")
+ * @LatencyCircuitBreaker(thresholdMultiplier = 4.0)
+ * public Quote price(final QuoteRequest request) {
+ * return pricingClient.price(request);
+ * }
+ * }
+ * </pre>
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface LatencyCircuitBreaker
+{
+    /**
+     * The circuit opens when the recent p99 exceeds the baseline p99 multiplied by this value.
+     *
+     * @return threshold multiplier, greater than 1
+     */
+    @Nonbinding
+    double thresholdMultiplier() default 3.0;
+
+    /**
+     * The number of calls the rolling window must contain before the circuit can open.
+     *
+     * @return minimum samples
+     */
+    @Nonbinding
+    int minimumSamples() default 100;
+
+    /**
+     * The rolling window the recent p99 is computed over.
+     *
+     * @return window in seconds
+     */
+    @Nonbinding
+    long windowSeconds() default 60L;
+
+    /**
+     * The time constant of the baseline moving average; larger values make the baseline slower to follow drift.
+     *
+     * @return baseline time constant in seconds
+     */
+    @Nonbinding
+    long baselineSeconds() default 1800L;
+
+    /**
+     * How long the circuit stays open before a probe call is let through.
+     *
+     * @return delay in milliseconds
+     */
+    @Nonbinding
+    long delayMillis() default 5000L;
+}
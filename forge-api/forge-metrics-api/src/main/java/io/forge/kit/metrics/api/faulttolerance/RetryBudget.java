@@ -0,0 +1,71 @@
+package io.forge.kit.metrics.api.faulttolerance;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to cap retries of {@link org.eclipse.microprofile.faulttolerance.Retry} methods to a fraction of first
+ * attempts. The {@code RetryBudgetInterceptor} keeps a token bucket per circuit: every first attempt deposits
+ * {@link #ratio()} tokens, every retry withdraws one, and retries are refused once the bucket is empty. A degraded
+ * dependency therefore sees at most {@code (1 + ratio)} times its normal load instead of {@code (1 + maxRetries)} times.
+ *
+ * <p>{@link #minRetriesPerSecond()} tops the bucket up over time so low-traffic circuits can still retry, and
+ * {@link #maxTokens()} caps the burst of retries a long healthy period can accumulate.
+ *
+ * <p>A refused retry fails with {@code RetryBudgetExhaustedException}, carrying the previous attempt's failure as its
+ * cause, without invoking the method. Add it to {@code @Retry(abortOn)} so SmallRye stops retrying immediately instead
+ * of failing the remaining attempts fast after each retry delay, and to {@code @CircuitBreaker(skipOn)} so refused
+ * retries do not open the circuit. A method missing either entry logs a warning on its first call.
+ *
+ * <p>The budget is kept per application instance. Since each instance caps its own retries at the same ratio, the
+ * retry load across a cluster is capped at that ratio too.
+ *
+ * <p>The circuit name is resolved like {@link CircuitBreakerMetrics}: {@link io.smallrye.faulttolerance.api.CircuitBreakerName}
+ * if present, otherwise {@code "fully.qualified.ClassName#methodName"}.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * @Retry(maxRetries = 2, delay = 150, abortOn = RetryBudgetExhaustedException.class)
+ * @CircuitBreaker(skipOn = RetryBudgetExhaustedException.class)
+ * @CircuitBreakerName("inventory-api")
+ * @RetryBudget(ratio = 0.1)
+ * public Stock stock(final String sku) {
+ * return inventoryClient.stock(sku);
+ * }
+ * }
+ * </pre>
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RetryBudget
+{
+    /**
+     * Retry tokens deposited per first attempt, i.e. the sustained ratio of retries to first attempts.
+     *
+     * @return ratio, greater than 0
+     */
+    @Nonbinding
+    double ratio() default 0.1;
+
+    /**
+     * Retry tokens deposited per second regardless of traffic.
+     *
+     * @return minimum retries per second
+     */
+    @Nonbinding
+    double minRetriesPerSecond() default 1.0;
+
+    /**
+     * Maximum tokens the bucket can hold; also the initial balance.
+     *
+     * @return bucket capacity
+     */
+    @Nonbinding
+    int maxTokens() default 20;
+}
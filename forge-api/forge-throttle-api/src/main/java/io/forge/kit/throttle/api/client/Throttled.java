@@ -0,0 +1,66 @@
+package io.forge.kit.throttle.api.client;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark bean methods whose invocations must respect a downstream quota (client-side / outbound rate
+ * limiting). The {@code ThrottledInterceptor} consumes a permit from the same rate limiter engine used for inbound
+ * HTTP throttling before the method is invoked.
+ *
+ * <p>When the calling thread is a virtual thread, the interceptor <strong>waits</strong> for a permit (up to
+ * {@link #maxWaitMillis()}) instead of failing, since parking a virtual thread is cheap. On platform threads the
+ * interceptor fails fast with {@link io.forge.kit.throttle.api.client.exception.ThrottledException}.
+ *
+ * <p>This annotation can be used on methods or classes. When used on a class,
+ * it applies to all methods in that class.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * @Throttled(key = "cognito-admin-api", permitsPerSecond = 20)
+ * public AdminGetUserResponse getUser(final String username) {
+ * return cognitoClient.adminGetUser(...);
+ * }
+ * }
+ * </pre>
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Throttled
+{
+    /**
+     * The rate limit bucket key. Methods sharing a key share the same quota, so use the downstream dependency
+     * (e.g. {@code "dynamodb"}) rather than the calling method when several methods hit the same API.
+     *
+     * <p>If empty, the key is derived from the declaring class and method name: {@code "ClassName#methodName"}.
+     *
+     * @return the rate limit bucket key, or empty string to derive it
+     */
+    @Nonbinding
+    String key() default "";
+
+    /**
+     * The number of permits issued per second for this key. The first registration of a key wins, so all
+     * methods sharing a key should declare the same rate.
+     *
+     * @return permits per second
+     */
+    @Nonbinding
+    long permitsPerSecond();
+
+    /**
+     * The maximum time a virtual thread will wait for a permit before failing with
+     * {@link io.forge.kit.throttle.api.client.exception.ThrottledException}.
+     * Ignored on platform threads, which never wait.
+     *
+     * @return maximum wait in milliseconds
+     */
+    @Nonbinding
+    long maxWaitMillis() default 1000L;
+}
@@ -0,0 +1,29 @@
+package io.forge.kit.throttle.api.client.exception;
+
+/**
+ * Exception thrown when a {@link io.forge.kit.throttle.api.client.Throttled} method invocation could not obtain a
+ * permit for its downstream quota. The downstream call is never attempted when this exception is thrown.
+ */
+public final class ThrottledException extends RuntimeException
+{
+    private final String key;
+
+    private final long retryAfterSeconds;
+
+    public ThrottledException(final String key, final long retryAfterSeconds)
+    {
+        super(String.format("Client rate limit exceeded for key [%s], retry after %ds", key, retryAfterSeconds));
+        this.key = key;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getKey()
+    {
+        return key;
+    }
+
+    public long getRetryAfterSeconds()
+    {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package io.forge.kit.throttle.api.event;
+
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+
+/**
+ * Immutable record of one rate limit decision, published by {@link io.forge.kit.throttle.api.infrastructure.RateLimiter
+ * RateLimiter} engines to {@link RateLimitEventListener}s.
+ *
+ * @param key      the rate limit key the request was checked against (e.g. {@code "user:john"})
+ * @param status   the outcome of the check
+ * @param nanoTime {@link System#nanoTime()} when the decision was made, for ordering and windowing
+ */
+public record RateLimitEvent(String key, RateLimitStatus status, long nanoTime)
+{
+    /**
+     * @return true if the request was allowed, false if it was blocked
+     */
+    public boolean allowed()
+    {
+        return status.allowed();
+    }
+}
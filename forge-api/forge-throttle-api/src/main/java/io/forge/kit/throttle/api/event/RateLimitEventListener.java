@@ -0,0 +1,82 @@
+package io.forge.kit.throttle.api.event;
+
+import java.util.List;
+
+/**
+ * SPI for observing rate limit decisions without wrapping the rate limiting filter.
+ *
+ * <p>Implement this interface as a CDI bean and the rate limiter engine publishes every allowed and blocked decision
+ * to it. Listeners choose how they are delivered:
+ * <ul>
+ * <li>{@link Delivery#SYNCHRONOUS} (default) - {@link #onEvent(RateLimitEvent)} runs on the request thread, directly
+ * after the decision. Keep it cheap and non-blocking.</li>
+ * <li>{@link Delivery#BATCHED} - events are queued and handed to {@link #onBatch(List)} on a background thread. The
+ * queue is bounded; when it is full, events are dropped rather than slowing requests down. Suited to metrics, audit
+ * logging and heavy-hitter detection.</li>
+ * </ul>
+ *
+ * <p>Listener failures are logged and never affect the rate limit decision.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * @ApplicationScoped
+ * public class BlockedRequestAuditor implements RateLimitEventListener
+ * {
+ *     @Override
+ *     public Delivery delivery()
+ *     {
+ *         return Delivery.BATCHED;
+ *     }
+ *
+ *     @Override
+ *     public void onBatch(final List<RateLimitEvent> events)
+ *     {
+ *         events.stream().filter(e -> !e.allowed()).forEach(auditLog::blocked);
+ *     }
+ * }
+ * }
+ * </pre>
+ */
+public interface RateLimitEventListener
+{
+    /**
+     * How events reach a listener.
+     */
+    enum Delivery
+    {
+        SYNCHRONOUS,
+        BATCHED
+    }
+
+    /**
+     * Returns how this listener receives events. Read once when the listener is registered.
+     *
+     * @return the delivery mode, {@link Delivery#SYNCHRONOUS} by default
+     */
+    default Delivery delivery()
+    {
+        return Delivery.SYNCHRONOUS;
+    }
+
+    /**
+     * Receives a single rate limit decision.
+     *
+     * @param event the decision
+     */
+    void onEvent(RateLimitEvent event);
+
+    /**
+     * Receives a batch of decisions in publication order. Only called for {@link Delivery#BATCHED} listeners; the
+     * default hands each event to {@link #onEvent(RateLimitEvent)}.
+     *
+     * @param events the decisions, never empty; the list must not be retained after the call
+     */
+    default void onBatch(final List<RateLimitEvent> events)
+    {
+        for (final RateLimitEvent event : events)
+        {
+            onEvent(event);
+        }
+    }
+}
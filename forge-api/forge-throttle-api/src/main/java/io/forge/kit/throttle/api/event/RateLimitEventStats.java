@@ -0,0 +1,17 @@
+package io.forge.kit.throttle.api.event;
+
+/**
+ * Delivery statistics of the component publishing {@link RateLimitEvent}s to {@link RateLimitEventListener}s.
+ *
+ * <p>Exposes back-pressure to tooling (metrics, health checks) without coupling callers to the dispatcher.
+ */
+public interface RateLimitEventStats
+{
+    /**
+     * Returns the number of events discarded because the queue for {@link RateLimitEventListener.Delivery#BATCHED}
+     * listeners was full.
+     *
+     * @return cumulative dropped event count
+     */
+    long droppedCount();
+}
@@ -0,0 +1,36 @@
+package io.forge.kit.throttle.api.infrastructure;
+
+/**
+ * Optional capability for {@link RateLimiter} engines that keep one bucket per key in memory.
+ *
+ * <p>Exposes bucket inventory to tooling (simulation, sampling) without coupling callers to a specific engine.
+ */
+public interface BucketOccupancySource
+{
+    /**
+     * Returns the number of buckets currently held by the engine.
+     *
+     * @return live bucket count
+     */
+    int bucketCount();
+
+    /**
+     * Visits a random subset of live buckets, reporting each bucket's capacity and currently available tokens.
+     *
+     * <p>Implementations should select buckets uniformly and must not consume tokens. Intended to be called from a
+     * background sampler, never from the request path.
+     *
+     * @param maxSamples upper bound on the number of buckets visited
+     * @param sampler    receives each sampled bucket
+     */
+    void sampleOccupancy(int maxSamples, OccupancySampler sampler);
+
+    /**
+     * Receives occupancy samples from {@link #sampleOccupancy(int, OccupancySampler)}.
+     */
+    @FunctionalInterface
+    interface OccupancySampler
+    {
+        void accept(String key, long capacity, long availableTokens);
+    }
+}
@@ -0,0 +1,89 @@
+package io.forge.kit.throttle.api.infrastructure;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Request-scoped outcome of the rate limit check for the current request.
+ *
+ * <p>Rate limiting filters call {@link #record(String, RateLimitStatus)} once the key is resolved and tokens are
+ * consumed; any bean running later in the same request (metrics recorders, response filters) injects this context and
+ * reads the result from primitive fields. This replaces passing the key and status through string-keyed request
+ * properties.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * @Inject
+ * RateLimitContext rateLimitContext;
+ *
+ * @ServerRequestFilter(preMatching = true, priority = 10)
+ * public void filter(final ResteasyReactiveContainerRequestContext ctx)
+ * {
+ *     final String key = keyResolver.resolve(ctx);
+ *     rateLimitContext.record(key, rateLimiter.tryConsume(key));
+ * }
+ * }
+ * </pre>
+ */
+@RequestScoped
+public class RateLimitContext
+{
+    private boolean checked;
+    private String key;
+    private boolean allowed;
+    private long limit;
+    private long remaining;
+    private long retryAfterSeconds;
+
+    /**
+     * Records the result of the rate limit check for this request, replacing any earlier result.
+     *
+     * @param key    The rate limit key the request was checked against
+     * @param status The outcome of the check
+     */
+    public void record(final String key, final RateLimitStatus status)
+    {
+        this.key = key;
+        this.allowed = status.allowed();
+        this.limit = status.limit();
+        this.remaining = status.remaining();
+        this.retryAfterSeconds = status.retryAfterSeconds();
+        this.checked = true;
+    }
+
+    /**
+     * @return true once a rate limit check has been recorded for this request
+     */
+    public boolean checked()
+    {
+        return checked;
+    }
+
+    /**
+     * @return the rate limit key (e.g. {@code "user:john"}), or null if no check was recorded
+     */
+    public String key()
+    {
+        return key;
+    }
+
+    public boolean allowed()
+    {
+        return allowed;
+    }
+
+    public long limit()
+    {
+        return limit;
+    }
+
+    public long remaining()
+    {
+        return remaining;
+    }
+
+    public long retryAfterSeconds()
+    {
+        return retryAfterSeconds;
+    }
+}
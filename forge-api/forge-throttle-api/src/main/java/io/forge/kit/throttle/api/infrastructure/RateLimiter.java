@@ -1,5 +1,8 @@
 package io.forge.kit.throttle.api.infrastructure;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Contract for rate limiters used across services.
  */
@@ -12,4 +15,38 @@ public interface RateLimiter
      * @return status of the rate limit decision
      */
     RateLimitStatus tryConsume(String key);
+
+    /**
+     * Attempts to consume a single permit for the given key, waiting up to {@code maxWait} for one to become
+     * available. Returns immediately with a blocked status if the permit cannot be obtained within {@code maxWait}.
+     *
+     * <p>Intended for client-side throttling on virtual threads, where parking is cheap. The default implementation
+     * sleeps for the reported {@link RateLimitStatus#retryAfterSeconds()}; engines with finer-grained refill
+     * information should override it.
+     *
+     * @param key     unique identifier for the rate limit bucket
+     * @param maxWait maximum time to wait for a permit
+     * @return status of the rate limit decision
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    default RateLimitStatus tryConsume(final String key, final Duration maxWait) throws InterruptedException
+    {
+        final long deadline = System.nanoTime() + maxWait.toNanos();
+
+        RateLimitStatus status = tryConsume(key);
+        while (!status.allowed())
+        {
+            final long waitNanos = TimeUnit.SECONDS.toNanos(Math.max(1L, status.retryAfterSeconds()));
+            if (System.nanoTime() + waitNanos > deadline)
+            {
+                // Waiting would exceed the budget - fail now rather than sleep for nothing
+                return status;
+            }
+
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            status = tryConsume(key);
+        }
+
+        return status;
+    }
 }
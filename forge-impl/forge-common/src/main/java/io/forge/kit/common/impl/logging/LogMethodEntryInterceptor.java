@@ -4,6 +4,7 @@ import io.forge.kit.common.api.logging.LogMethodEntry;
 import io.forge.kit.common.impl.interceptor.InvocationContextParameterExtractor;
 import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
@@ -26,10 +27,18 @@ import org.jboss.logging.Logger;
 @Priority(Interceptor.Priority.LIBRARY_AFTER + 100) // 3100
 public final class LogMethodEntryInterceptor
 {
+    private final AnnotationResolver annotationResolver;
+
+    @Inject
+    public LogMethodEntryInterceptor(final AnnotationResolver annotationResolver)
+    {
+        this.annotationResolver = annotationResolver;
+    }
+
     @AroundInvoke
     public Object logMethodEntry(final InvocationContext context) throws Exception
     {
-        final LogMethodEntry annotation = AnnotationResolver.resolve(context, LogMethodEntry.class);
+        final LogMethodEntry annotation = annotationResolver.resolve(context.getMethod(), LogMethodEntry.class);
         if (annotation != null)
         {
             final Method method = context.getMethod();
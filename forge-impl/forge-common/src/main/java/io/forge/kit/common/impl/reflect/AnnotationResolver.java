@@ -1,22 +1,92 @@
 package io.forge.kit.common.impl.reflect;
 
+import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.interceptor.InvocationContext;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Resolves interceptor binding annotations, method-level first with a class-level fallback.
+ *
+ * <p>Results are memoized per annotation type and method (or type), so only the first invocation of a method reflects
+ * on it; subsequent lookups are lock-free map reads. The caches live on this bean rather than in static fields, so a
+ * dev-mode reload drops them together with the application classes they reference.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * final Throttled annotation = annotationResolver.resolve(context.getMethod(), Throttled.class);
+ * }</pre>
+ */
+@ApplicationScoped
 public final class AnnotationResolver
 {
-    private AnnotationResolver()
+    private final ConcurrentMap<Class<? extends Annotation>, MethodMetadataCache<Annotation>> methodCaches = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<? extends Annotation>, ConcurrentMap<Class<?>, Optional<Annotation>>> typeCaches = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves the annotation on the intercepted method, falling back to its declaring class, without memoizing.
+     *
+     * @param context         the invocation context
+     * @param annotationClass the annotation type
+     * @return the annotation, or null if neither the method nor its declaring class carries it
+     * @deprecated reflects on every call; inject this bean and use {@link #resolve(Method, Class)} with
+     * {@code context.getMethod()} instead. Kept for callers of the former static utility and removed in the next
+     * release.
+     */
+    @Deprecated(forRemoval = true)
+    public static <A extends Annotation> A resolve(final InvocationContext context, final Class<A> annotationClass)
     {
+        return annotationClass.cast(resolveUncached(context.getMethod(), annotationClass));
+    }
 
+    /**
+     * Resolves the annotation on the method, falling back to its declaring class.
+     *
+     * @param method          the method to inspect
+     * @param annotationClass the annotation type
+     * @return the annotation, or null if neither the method nor its declaring class carries it
+     */
+    public <A extends Annotation> A resolve(final Method method, final Class<A> annotationClass)
+    {
+        MethodMetadataCache<Annotation> cache = methodCaches.get(annotationClass);
+        if (cache == null)
+        {
+            cache = methodCaches.computeIfAbsent(annotationClass,
+                type -> new MethodMetadataCache<>(m -> resolveUncached(m, type)));
+        }
+        return annotationClass.cast(cache.get(method));
     }
 
-    public static <A extends Annotation> A resolve(final InvocationContext context, final Class<A> annotationClass)
+    /**
+     * Resolves the annotation on a type, such as the runtime class of an interceptor target.
+     *
+     * @param type            the type to inspect
+     * @param annotationClass the annotation type
+     * @return the annotation, or null if absent
+     */
+    public <A extends Annotation> A resolveOnType(final Class<?> type, final Class<A> annotationClass)
     {
-        final Method method = context.getMethod();
+        ConcurrentMap<Class<?>, Optional<Annotation>> cache = typeCaches.get(annotationClass);
+        if (cache == null)
+        {
+            cache = typeCaches.computeIfAbsent(annotationClass, a -> new ConcurrentHashMap<>());
+        }
+        Optional<Annotation> annotation = cache.get(type);
+        if (annotation == null)
+        {
+            annotation = cache.computeIfAbsent(type, t -> Optional.ofNullable(t.getAnnotation(annotationClass)));
+        }
+        return annotationClass.cast(annotation.orElse(null));
+    }
 
+    private static Annotation resolveUncached(final Method method, final Class<? extends Annotation> annotationClass)
+    {
         // method-level first
-        final A onMethod = method.getAnnotation(annotationClass);
+        final Annotation onMethod = method.getAnnotation(annotationClass);
         if (onMethod != null)
         {
             return onMethod;
@@ -0,0 +1,55 @@
+package io.forge.kit.common.impl.reflect;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Memoizes metadata derived from a {@link Method} (resolved annotations, names, labels) so interceptors pay the
+ * reflection cost once per method rather than on every invocation.
+ *
+ * <p>Lookups after the first are a lock-free {@link ConcurrentHashMap#get(Object)}. A {@code null} result from the
+ * resolver is cached too, so methods without metadata are not re-inspected.
+ *
+ * <p>The resolver must be a pure function of the method; it may run more than once under contention.
+ *
+ * <p>Hold the cache in an application-scoped bean rather than a static field: its keys reference application classes,
+ * which a static cache would keep reachable across dev-mode reloads.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * private final MethodMetadataCache<String> circuitNames = new MethodMetadataCache<>(CircuitNames::derive);
+ *
+ * final String circuitName = circuitNames.get(context.getMethod());
+ * }</pre>
+ *
+ * @param <T> metadata type
+ */
+public final class MethodMetadataCache<T>
+{
+    private final ConcurrentMap<Method, Optional<T>> cache = new ConcurrentHashMap<>();
+    private final Function<Method, T> resolver;
+
+    public MethodMetadataCache(final Function<Method, T> resolver)
+    {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Returns the metadata for the method, resolving it on first access.
+     *
+     * @param method the intercepted method
+     * @return the resolved metadata, or null if the resolver returned null
+     */
+    public T get(final Method method)
+    {
+        Optional<T> metadata = cache.get(method);
+        if (metadata == null)
+        {
+            metadata = cache.computeIfAbsent(method, m -> Optional.ofNullable(resolver.apply(m)));
+        }
+        return metadata.orElse(null);
+    }
+}
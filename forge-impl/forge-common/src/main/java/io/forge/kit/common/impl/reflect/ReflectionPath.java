@@ -0,0 +1,138 @@
+package io.forge.kit.common.impl.reflect;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A {@link ReflectionPathResolver} path parsed once, for callers that extract the same path on every invocation.
+ *
+ * <p>The path is split and its parameter index parsed up front; each property accessor is looked up on first use per
+ * runtime class and reused afterwards. Hold instances per method, e.g. in a {@link MethodMetadataCache}.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * private final MethodMetadataCache<ReflectionPath> keyPaths =
+ *     new MethodMetadataCache<>(method -> ReflectionPath.parse(method.getAnnotation(Keyed.class).keyPath()));
+ *
+ * final Object key = keyPaths.get(context.getMethod()).extract(context.getParameters());
+ * }</pre>
+ */
+public final class ReflectionPath
+{
+    private final int parameterIndex;
+    private final Property[] properties;
+
+    private ReflectionPath(final int parameterIndex, final Property[] properties)
+    {
+        this.parameterIndex = parameterIndex;
+        this.properties = properties;
+    }
+
+    /**
+     * Parses a path such as {@code "0"}, {@code "1#user#id"} or {@code "#tenantId"}.
+     *
+     * @param path the path; a leading {@code #} selects the first parameter
+     * @return the parsed path
+     * @throws IllegalArgumentException if the path is empty or its parameter spec is not numeric
+     */
+    public static ReflectionPath parse(final String path)
+    {
+        if (path == null || path.trim().isEmpty())
+        {
+            throw new IllegalArgumentException("Empty property path");
+        }
+
+        final String[] parts = path.split("#");
+        if (parts.length == 0)
+        {
+            throw new IllegalArgumentException("Empty property path");
+        }
+
+        // "#username" splits to ["", "username"] - an empty parameter spec selects the first parameter
+        final String paramSpec = parts[0].isEmpty() ? "0" : parts[0];
+        final int parameterIndex;
+        try
+        {
+            parameterIndex = Integer.parseInt(paramSpec);
+        }
+        catch (final NumberFormatException e)
+        {
+            throw new IllegalArgumentException("Parameter spec must be a numeric index (e.g., \"0\", \"1\") or start with \"#\" for first parameter, got: " + paramSpec);
+        }
+
+        final Property[] properties = new Property[parts.length - 1];
+        for (int i = 1; i < parts.length; i++)
+        {
+            properties[i - 1] = new Property(parts[i]);
+        }
+        return new ReflectionPath(parameterIndex, properties);
+    }
+
+    /**
+     * Extracts the value the path points to.
+     *
+     * @param methodArgs the method arguments
+     * @return the value, or null if the parameter or an intermediate property is null
+     * @throws IllegalArgumentException if the parameter index is out of bounds
+     * @throws NoSuchMethodException    if a property has no accessor
+     * @throws Exception                if an accessor throws
+     */
+    public Object extract(final Object[] methodArgs) throws Exception
+    {
+        if (parameterIndex < 0 || parameterIndex >= methodArgs.length)
+        {
+            throw new IllegalArgumentException("Parameter index out of bounds: " + parameterIndex);
+        }
+
+        Object current = methodArgs[parameterIndex];
+        for (final Property property : properties)
+        {
+            if (current == null) return null;
+            current = property.valueOf(current);
+        }
+        return current;
+    }
+
+    private static final class Property
+    {
+        private final String name;
+        private final String[] candidateMethods;
+        private final ConcurrentMap<Class<?>, Method> accessors = new ConcurrentHashMap<>();
+
+        private Property(final String name)
+        {
+            this.name = name;
+            this.candidateMethods = new String[]{"get" + StringUtils.capitalize(name), "is" + StringUtils.capitalize(name), name};
+        }
+
+        private Object valueOf(final Object obj) throws Exception
+        {
+            final Class<?> clazz = obj.getClass();
+            Method accessor = accessors.get(clazz);
+            if (accessor == null)
+            {
+                accessor = accessorOf(clazz);
+                accessors.putIfAbsent(clazz, accessor);
+            }
+            return accessor.invoke(obj);
+        }
+
+        private Method accessorOf(final Class<?> clazz) throws NoSuchMethodException
+        {
+            for (final String candidate : candidateMethods)
+            {
+                try
+                {
+                    return clazz.getMethod(candidate);
+                }
+                catch (final NoSuchMethodException ignored)
+                {
+                    // try the next naming convention
+                }
+            }
+            throw new NoSuchMethodException("Property accessor not found for '" + name + "' on " + clazz.getSimpleName());
+        }
+    }
+}
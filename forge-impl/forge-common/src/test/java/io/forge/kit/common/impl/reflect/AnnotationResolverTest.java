@@ -3,6 +3,7 @@ package io.forge.kit.common.impl.reflect;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.Test;
  */
 class AnnotationResolverTest
 {
+    private final AnnotationResolver resolver = new AnnotationResolver();
+
     private InvocationContext context;
 
     @BeforeEach
@@ -30,7 +33,7 @@ class AnnotationResolverTest
         final Method method = TestReflectionHelper.createTestMethod("testMethod");
         when(context.getMethod()).thenReturn(method);
 
-        final TestAnnotation result = AnnotationResolver.resolve(context, TestAnnotation.class);
+        final TestAnnotation result = resolver.resolve(context.getMethod(), TestAnnotation.class);
 
         assertNotNull(result);
         assertEquals("method", result.value());
@@ -42,7 +45,7 @@ class AnnotationResolverTest
         final Method method = TestReflectionHelper.createTestMethod("testMethod", String.class);
         when(context.getMethod()).thenReturn(method);
 
-        final TestAnnotation result = AnnotationResolver.resolve(context, TestAnnotation.class);
+        final TestAnnotation result = resolver.resolve(context.getMethod(), TestAnnotation.class);
 
         assertNotNull(result);
         assertEquals("class", result.value());
@@ -54,8 +57,47 @@ class AnnotationResolverTest
         final Method method = TestUser.class.getMethod("username");
         when(context.getMethod()).thenReturn(method);
 
-        final TestAnnotation result = AnnotationResolver.resolve(context, TestAnnotation.class);
+        final TestAnnotation result = resolver.resolve(context.getMethod(), TestAnnotation.class);
 
         assertNull(result);
     }
+
+    @Test
+    void resolve_ReturnsSameInstance_OnRepeatedLookups()
+    {
+        final Method method = TestReflectionHelper.createTestMethod("testMethod");
+
+        final TestAnnotation first = resolver.resolve(method, TestAnnotation.class);
+        final TestAnnotation second = resolver.resolve(method, TestAnnotation.class);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @SuppressWarnings("removal")
+    void resolve_ResolvesStatically_ForCallersOfTheFormerUtility()
+    {
+        final Method method = TestReflectionHelper.createTestMethod("testMethod", String.class);
+        when(context.getMethod()).thenReturn(method);
+
+        final TestAnnotation result = AnnotationResolver.resolve(context, TestAnnotation.class);
+
+        assertNotNull(result);
+        assertEquals("class", result.value());
+    }
+
+    @Test
+    void resolveOnType_ReturnsTypeAnnotation_WhenPresent()
+    {
+        final TestAnnotation result = resolver.resolveOnType(TestMethodClass.class, TestAnnotation.class);
+
+        assertNotNull(result);
+        assertEquals("class", result.value());
+    }
+
+    @Test
+    void resolveOnType_ReturnsNull_WhenAbsent()
+    {
+        assertNull(resolver.resolveOnType(TestUser.class, TestAnnotation.class));
+    }
 }
@@ -0,0 +1,55 @@
+package io.forge.kit.common.impl.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MethodMetadataCache}.
+ */
+class MethodMetadataCacheTest
+{
+    @Test
+    void get_ResolvesOncePerMethod()
+    {
+        final AtomicInteger resolutions = new AtomicInteger();
+        final MethodMetadataCache<String> cache = new MethodMetadataCache<>(method ->
+        {
+            resolutions.incrementAndGet();
+            return method.getName();
+        });
+        final Method method = TestReflectionHelper.createTestMethod("testMethod");
+
+        assertEquals("testMethod", cache.get(method));
+        assertEquals("testMethod", cache.get(method));
+        assertEquals(1, resolutions.get());
+    }
+
+    @Test
+    void get_CachesNullResults()
+    {
+        final AtomicInteger resolutions = new AtomicInteger();
+        final MethodMetadataCache<String> cache = new MethodMetadataCache<>(method ->
+        {
+            resolutions.incrementAndGet();
+            return null;
+        });
+        final Method method = TestReflectionHelper.createTestMethod("testMethod");
+
+        assertNull(cache.get(method));
+        assertNull(cache.get(method));
+        assertEquals(1, resolutions.get());
+    }
+
+    @Test
+    void get_ResolvesEachMethodIndependently()
+    {
+        final MethodMetadataCache<Integer> cache = new MethodMetadataCache<>(Method::getParameterCount);
+
+        assertEquals(0, cache.get(TestReflectionHelper.createTestMethod("testMethod")));
+        assertEquals(1, cache.get(TestReflectionHelper.createTestMethod("testMethod", String.class)));
+    }
+}
@@ -0,0 +1,62 @@
+package io.forge.kit.common.impl.reflect;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ReflectionPath Tests")
+class ReflectionPathTest
+{
+    @Test
+    @DisplayName("a parsed path extracts values from successive argument arrays")
+    void extract_ReusesParsedPath_AcrossInvocations() throws Exception
+    {
+        final ReflectionPath path = ReflectionPath.parse("#user#username");
+
+        assertEquals("john.doe", path.extract(new Object[]{new TestRequest(new TestUser("john.doe", "john@example.com"), true)}));
+        assertEquals("jane.doe", path.extract(new Object[]{new TestRequest(new TestUser("jane.doe", "jane@example.com"), false)}));
+    }
+
+    @Test
+    @DisplayName("a parsed path resolves accessors per runtime class")
+    void extract_ResolvesAccessorsPerRuntimeClass() throws Exception
+    {
+        final ReflectionPath path = ReflectionPath.parse("0#username");
+
+        assertEquals("john.doe", path.extract(new Object[]{new TestUser("john.doe", "john@example.com")}));
+        assertEquals("jane.doe", path.extract(new Object[]{new TestAccount("jane.doe")}));
+    }
+
+    @Test
+    @DisplayName("extract returns null when an intermediate property is null")
+    void extract_ReturnsNull_WhenIntermediatePropertyIsNull() throws Exception
+    {
+        assertNull(ReflectionPath.parse("0#user#username").extract(new Object[]{new TestRequest(null, true)}));
+    }
+
+    @Test
+    @DisplayName("parse rejects a non-numeric parameter spec before any invocation")
+    void parse_RejectsNonNumericParameterSpec()
+    {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> ReflectionPath.parse("unknownParam#username"));
+
+        assertTrue(exception.getMessage().contains("Parameter spec must be a numeric index"));
+    }
+
+    public static final class TestAccount
+    {
+        private final String username;
+
+        TestAccount(final String username)
+        {
+            this.username = username;
+        }
+
+        public String getUsername()
+        {
+            return username;
+        }
+    }
+}
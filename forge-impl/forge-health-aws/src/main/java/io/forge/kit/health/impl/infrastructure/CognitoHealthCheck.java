@@ -1,5 +1,6 @@
 package io.forge.kit.health.impl.infrastructure;
 
+import io.forge.kit.health.impl.jfr.HealthCheckEvent;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.Readiness;
@@ -47,6 +48,11 @@ public abstract class CognitoHealthCheck implements HealthCheck
 
     @Override
     public HealthCheckResponse call()
+    {
+        return HealthCheckEvent.timed(this::check);
+    }
+
+    private HealthCheckResponse check()
     {
         try
         {
@@ -1,5 +1,6 @@
 package io.forge.kit.health.impl.infrastructure;
 
+import io.forge.kit.health.impl.jfr.HealthCheckEvent;
 import java.util.ArrayList;
 import java.util.List;
 import org.eclipse.microprofile.health.HealthCheck;
@@ -46,6 +47,11 @@ public abstract class DynamoDbHealthCheck implements HealthCheck
 
     @Override
     public HealthCheckResponse call()
+    {
+        return HealthCheckEvent.timed(this::check);
+    }
+
+    private HealthCheckResponse check()
     {
         try
         {
@@ -1,5 +1,6 @@
 package io.forge.kit.health.impl.infrastructure;
 
+import io.forge.kit.health.impl.jfr.HealthCheckEvent;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +49,11 @@ public abstract class PostgresHealthCheck implements HealthCheck
 
     @Override
     public HealthCheckResponse call()
+    {
+        return HealthCheckEvent.timed(this::check);
+    }
+
+    private HealthCheckResponse check()
     {
         try
         {
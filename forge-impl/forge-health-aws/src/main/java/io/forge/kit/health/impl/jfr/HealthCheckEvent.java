@@ -0,0 +1,58 @@
+package io.forge.kit.health.impl.jfr;
+
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * JDK Flight Recorder event for one execution of a forge-kit health check, including its remote calls.
+ */
+@Name("io.forge.kit.HealthCheck")
+@Label("Health Check")
+@Category({"Forge Kit", "Health"})
+@Description("Execution of a readiness health check")
+@StackTrace(false)
+public final class HealthCheckEvent extends Event
+{
+    @Label("Check")
+    private String check;
+
+    @Label("Up")
+    private boolean up;
+
+    /**
+     * Runs a health check, recording it as an event.
+     *
+     * @param check the check to run
+     * @return the check's response
+     */
+    public static HealthCheckResponse timed(final Supplier<HealthCheckResponse> check)
+    {
+        final HealthCheckEvent event = new HealthCheckEvent();
+        event.begin();
+        final HealthCheckResponse response = check.get();
+        event.complete(response);
+        return response;
+    }
+
+    /**
+     * Ends the check and commits the event if it is enabled and exceeds its threshold.
+     *
+     * @param response the health check result
+     */
+    private void complete(final HealthCheckResponse response)
+    {
+        end();
+        if (shouldCommit())
+        {
+            this.check = response.getName();
+            this.up = response.getStatus() == HealthCheckResponse.Status.UP;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Histogram bucket boundaries with a fixed relative accuracy, in the style of DDSketch.
+ *
+ * <p>Boundaries are the powers {@code gamma^i} with {@code gamma = (1 + a) / (1 - a)} for relative accuracy {@code a}.
+ * Any value in a bucket is within {@code a} of the bucket's estimate {@code 2 * upper / (gamma + 1)}. Because the
+ * boundaries are anchored at powers of {@code gamma} rather than at the configured range, every pod using the same
+ * accuracy produces identical boundaries, so bucket counts from different pods add up to an exact merged histogram.
+ *
+ * <p>The number of buckets grows with {@code ln(max / min) / ln(gamma)}: about 60 for 50&micro;s-10s at 10% accuracy,
+ * about 120 at 5%.
+ */
+public final class LogarithmicBuckets
+{
+    private LogarithmicBuckets()
+    {}
+
+    /**
+     * Returns the bucket upper bounds covering {@code [minValue, maxValue]}, in ascending order.
+     *
+     * @param minValue         smallest value to resolve, must be positive
+     * @param maxValue         largest value to resolve, must be greater than {@code minValue}
+     * @param relativeAccuracy relative accuracy {@code a}, between 0 and 1 exclusive
+     * @return strictly increasing bucket upper bounds
+     */
+    public static long[] boundaries(final long minValue, final long maxValue, final double relativeAccuracy)
+    {
+        if (minValue <= 0L || maxValue <= minValue)
+        {
+            throw new IllegalArgumentException("minValue must be positive and below maxValue");
+        }
+        if (!(relativeAccuracy > 0.0d && relativeAccuracy < 1.0d))
+        {
+            throw new IllegalArgumentException("relativeAccuracy must be between 0 and 1 exclusive");
+        }
+
+        final double logGamma = Math.log(gamma(relativeAccuracy));
+        final int first = (int) Math.ceil(Math.log(minValue) / logGamma);
+        final int last = (int) Math.ceil(Math.log(maxValue) / logGamma);
+
+        final long[] bounds = new long[last - first + 1];
+        int count = 0;
+        for (int i = first; i <= last; i++)
+        {
+            final long bound = (long) Math.ceil(Math.exp(i * logGamma));
+            // Rounding can collapse adjacent boundaries of tiny values
+            if (count == 0 || bound > bounds[count - 1])
+            {
+                bounds[count++] = bound;
+            }
+        }
+        return count == bounds.length ? bounds : Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Returns the ratio between consecutive boundaries for a relative accuracy.
+     */
+    public static double gamma(final double relativeAccuracy)
+    {
+        return (1.0d + relativeAccuracy) / (1.0d - relativeAccuracy);
+    }
+}
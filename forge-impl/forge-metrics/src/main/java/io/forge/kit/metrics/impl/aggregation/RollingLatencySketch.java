@@ -0,0 +1,165 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry-independent rolling quantile sketch of non-negative {@code long} values (typically nanoseconds).
+ *
+ * <p>The sketch keeps a ring of {@code windowCount} time windows, each a log-linear histogram using the
+ * {@link StripedHistogram} bucket layout (at most 6.25% relative error). Recording touches one counter; a window is
+ * cleared lazily by the first writer that enters it after it expired. Quantiles are computed over the windows that
+ * fall inside the rolling span, so old observations age out without any background thread.
+ *
+ * <p>Quantile queries scan every bucket of every window and are intended to be called periodically, not per event.
+ * Recording racing with a window reset may be lost, which is acceptable for an estimate.
+ */
+public final class RollingLatencySketch
+{
+    private final LongSupplier nanoClock;
+    private final long windowNanos;
+    private final int windowCount;
+
+    /**
+     * Bucket counts of all windows, window {@code w} occupying {@code [w * BUCKET_COUNT, (w + 1) * BUCKET_COUNT)}.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * The epoch (clock / window length) each window currently holds.
+     */
+    private final AtomicLongArray epochs;
+
+    /**
+     * @param span        total rolling span covered by the sketch
+     * @param windowCount number of windows the span is divided into; more windows age data out more smoothly
+     * @param nanoClock   monotonic clock, {@code System::nanoTime} outside tests
+     */
+    public RollingLatencySketch(final Duration span, final int windowCount, final LongSupplier nanoClock)
+    {
+        if (windowCount < 1 || span.isZero() || span.isNegative())
+        {
+            throw new IllegalArgumentException("span and windowCount must be positive");
+        }
+        this.nanoClock = nanoClock;
+        this.windowCount = windowCount;
+        this.windowNanos = Math.max(1L, span.toNanos() / windowCount);
+        this.counts = new AtomicLongArray(windowCount * StripedHistogram.BUCKET_COUNT);
+        this.epochs = new AtomicLongArray(windowCount);
+        for (int window = 0; window < windowCount; window++)
+        {
+            epochs.set(window, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Records a value; negative values are recorded as zero.
+     *
+     * @param value value to record
+     */
+    public void record(final long value)
+    {
+        final long epoch = Math.floorDiv(nanoClock.getAsLong(), windowNanos);
+        final int window = (int) Math.floorMod(epoch, (long) windowCount);
+
+        final long windowEpoch = epochs.get(window);
+        if (windowEpoch < epoch && epochs.compareAndSet(window, windowEpoch, epoch))
+        {
+            clear(window);
+        }
+
+        counts.incrementAndGet(window * StripedHistogram.BUCKET_COUNT + StripedHistogram.indexOf(Math.max(0L, value)));
+    }
+
+    /**
+     * Returns the number of values recorded within the rolling span.
+     */
+    public long count()
+    {
+        final long currentEpoch = Math.floorDiv(nanoClock.getAsLong(), windowNanos);
+        long total = 0L;
+        for (int window = 0; window < windowCount; window++)
+        {
+            if (isLive(window, currentEpoch))
+            {
+                final int offset = window * StripedHistogram.BUCKET_COUNT;
+                for (int bucket = 0; bucket < StripedHistogram.BUCKET_COUNT; bucket++)
+                {
+                    total += counts.get(offset + bucket);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Estimates a quantile over the rolling span.
+     *
+     * @param quantile quantile in {@code [0, 1]}, e.g. {@code 0.99}
+     * @return the estimated value, or {@code -1} if nothing was recorded within the span
+     */
+    public long quantile(final double quantile)
+    {
+        final long currentEpoch = Math.floorDiv(nanoClock.getAsLong(), windowNanos);
+        final long[] merged = new long[StripedHistogram.BUCKET_COUNT];
+        long total = 0L;
+        for (int window = 0; window < windowCount; window++)
+        {
+            if (isLive(window, currentEpoch))
+            {
+                final int offset = window * StripedHistogram.BUCKET_COUNT;
+                for (int bucket = 0; bucket < StripedHistogram.BUCKET_COUNT; bucket++)
+                {
+                    final long count = counts.get(offset + bucket);
+                    merged[bucket] += count;
+                    total += count;
+                }
+            }
+        }
+
+        if (total == 0L)
+        {
+            return -1L;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * total));
+        long seen = 0L;
+        for (int bucket = 0; bucket < merged.length; bucket++)
+        {
+            seen += merged[bucket];
+            if (seen >= rank)
+            {
+                return StripedHistogram.representativeValue(bucket);
+            }
+        }
+        return StripedHistogram.representativeValue(merged.length - 1);
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public void reset()
+    {
+        for (int window = 0; window < windowCount; window++)
+        {
+            epochs.set(window, Long.MIN_VALUE);
+            clear(window);
+        }
+    }
+
+    private boolean isLive(final int window, final long currentEpoch)
+    {
+        final long windowEpoch = epochs.get(window);
+        return windowEpoch != Long.MIN_VALUE && currentEpoch - windowEpoch < windowCount;
+    }
+
+    private void clear(final int window)
+    {
+        final int offset = window * StripedHistogram.BUCKET_COUNT;
+        for (int bucket = 0; bucket < StripedHistogram.BUCKET_COUNT; bucket++)
+        {
+            counts.set(offset + bucket, 0L);
+        }
+    }
+}
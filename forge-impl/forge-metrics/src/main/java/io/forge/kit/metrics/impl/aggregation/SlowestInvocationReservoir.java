@@ -0,0 +1,180 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import io.forge.kit.metrics.impl.dto.SlowInvocation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free top-N reservoir of the slowest invocations within a rolling window.
+ *
+ * <p>Callers first ask {@link #qualifies(long, long)}, which compares the duration against the current N-th slowest
+ * (and the window deadline) and is all an ordinary invocation pays. Only qualifying invocations build a
+ * {@link SlowInvocation} and {@link #offer} it; the entry replaces the fastest slot with a CAS, retrying if another
+ * writer got there first.
+ *
+ * <p>Windows are tumbling: the first caller after the deadline starts a new, empty window and the finished one is kept
+ * for {@link #snapshot(long)}, so a snapshot covers the current and the previous window.
+ */
+public final class SlowestInvocationReservoir
+{
+    private static final Comparator<SlowInvocation> SLOWEST_FIRST =
+        Comparator.comparingLong(SlowInvocation::durationNanos).reversed();
+
+    private final int size;
+    private final long windowNanos;
+    private final AtomicReference<Window> current;
+
+    private volatile Window previous;
+
+    /**
+     * @param size       number of invocations kept per window
+     * @param window     window length
+     * @param startNanos monotonic time the first window starts at
+     */
+    public SlowestInvocationReservoir(final int size, final Duration window, final long startNanos)
+    {
+        if (size < 1 || window.isZero() || window.isNegative())
+        {
+            throw new IllegalArgumentException("size and window must be positive");
+        }
+        this.size = size;
+        this.windowNanos = window.toNanos();
+        this.current = new AtomicReference<>(new Window(size, startNanos + windowNanos));
+    }
+
+    /**
+     * Returns whether an invocation is slow enough to enter the reservoir, starting a new window if the current one has
+     * ended.
+     *
+     * @param durationNanos elapsed time of the invocation
+     * @param nowNanos      monotonic time the invocation finished
+     * @return true if the caller should {@link #offer} the invocation
+     */
+    public boolean qualifies(final long durationNanos, final long nowNanos)
+    {
+        final Window window = current.get();
+        if (nowNanos - window.deadlineNanos < 0L)
+        {
+            return durationNanos > window.thresholdNanos;
+        }
+
+        if (current.compareAndSet(window, new Window(size, nowNanos + windowNanos)))
+        {
+            previous = window;
+        }
+        return true;
+    }
+
+    /**
+     * Adds an invocation if it is still among the slowest of the current window.
+     *
+     * @param invocation the slow invocation
+     */
+    public void offer(final SlowInvocation invocation)
+    {
+        current.get().offer(invocation);
+    }
+
+    /**
+     * Returns the slowest invocations of the current and previous window, slowest first. Windows that ended more than
+     * one window length before {@code nowNanos} are left out, so an idle method ages out without further calls.
+     *
+     * @param nowNanos monotonic time of the snapshot
+     * @return at most {@code size} invocations
+     */
+    public List<SlowInvocation> snapshot(final long nowNanos)
+    {
+        final List<SlowInvocation> invocations = new ArrayList<>(2 * size);
+        collectIfRecent(current.get(), nowNanos, invocations);
+        final Window finished = previous;
+        if (finished != null)
+        {
+            collectIfRecent(finished, nowNanos, invocations);
+        }
+        invocations.sort(SLOWEST_FIRST);
+        return List.copyOf(invocations.size() > size ? invocations.subList(0, size) : invocations);
+    }
+
+    private void collectIfRecent(final Window window, final long nowNanos, final List<SlowInvocation> target)
+    {
+        if (nowNanos - (window.deadlineNanos + windowNanos) < 0L)
+        {
+            window.collect(target);
+        }
+    }
+
+    private static final class Window
+    {
+        private final long deadlineNanos;
+        private final AtomicReferenceArray<SlowInvocation> slots;
+
+        /**
+         * Duration of the fastest kept invocation once every slot is filled, otherwise -1. Only ever lags behind the
+         * true value, which lets an extra invocation onto the slow path but never keeps a slow one out.
+         */
+        private volatile long thresholdNanos = -1L;
+
+        private Window(final int size, final long deadlineNanos)
+        {
+            this.deadlineNanos = deadlineNanos;
+            this.slots = new AtomicReferenceArray<>(size);
+        }
+
+        private void offer(final SlowInvocation invocation)
+        {
+            while (true)
+            {
+                final int fastest = fastestSlot();
+                final SlowInvocation replaced = slots.get(fastest);
+                if (replaced != null && replaced.durationNanos() >= invocation.durationNanos())
+                {
+                    // Slower invocations filled the window meanwhile
+                    return;
+                }
+                if (slots.compareAndSet(fastest, replaced, invocation))
+                {
+                    // Slots only ever get slower, so this read never exceeds the true N-th slowest
+                    final SlowInvocation next = slots.get(fastestSlot());
+                    thresholdNanos = next != null ? next.durationNanos() : -1L;
+                    return;
+                }
+            }
+        }
+
+        private int fastestSlot()
+        {
+            int fastest = 0;
+            long fastestNanos = Long.MAX_VALUE;
+            for (int i = 0; i < slots.length(); i++)
+            {
+                final SlowInvocation invocation = slots.get(i);
+                if (invocation == null)
+                {
+                    return i;
+                }
+                if (invocation.durationNanos() < fastestNanos)
+                {
+                    fastest = i;
+                    fastestNanos = invocation.durationNanos();
+                }
+            }
+            return fastest;
+        }
+
+        private void collect(final List<SlowInvocation> target)
+        {
+            for (int i = 0; i < slots.length(); i++)
+            {
+                final SlowInvocation invocation = slots.get(i);
+                if (invocation != null)
+                {
+                    target.add(invocation);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry-independent counter cell. Writers add to a {@link LongAdder}, which stripes contended updates across
+ * cells; a single flusher periodically drains the accumulated delta.
+ */
+public final class StripedCounter
+{
+    private final LongAdder adder = new LongAdder();
+
+    /**
+     * Adds one.
+     */
+    public void increment()
+    {
+        adder.increment();
+    }
+
+    /**
+     * Adds the given amount.
+     *
+     * @param amount amount to add
+     */
+    public void add(final long amount)
+    {
+        adder.add(amount);
+    }
+
+    /**
+     * Returns the amount accumulated since the previous drain and resets it.
+     *
+     * <p>Updates racing with the drain are carried over to the next drain, never lost.
+     *
+     * @return accumulated delta
+     */
+    public long drain()
+    {
+        return adder.sumThenReset();
+    }
+}
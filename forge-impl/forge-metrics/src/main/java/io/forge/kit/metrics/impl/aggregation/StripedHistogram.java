@@ -0,0 +1,104 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry-independent log-linear histogram of non-negative {@code long} values (typically nanoseconds).
+ *
+ * <p>Each power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so a value is represented with a
+ * relative error of at most 1/16 (6.25%). Buckets are {@link LongAdder}s created on first use, so recording is a
+ * shift, a lookup and a striped add.
+ *
+ * <p>Values are read back with {@link #drain(BucketConsumer)}, which reports each non-empty bucket as its midpoint and
+ * the count accumulated since the previous drain.
+ */
+public final class StripedHistogram
+{
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Values below {@link #SUB_BUCKETS} map to themselves; each higher exponent contributes {@link #SUB_BUCKETS}.
+     */
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+    /**
+     * Receives drained buckets.
+     */
+    @FunctionalInterface
+    public interface BucketConsumer
+    {
+        /**
+         * @param value representative (midpoint) value of the bucket
+         * @param count number of values recorded in the bucket since the previous drain
+         */
+        void accept(long value, long count);
+    }
+
+    /**
+     * Records a value; negative values are recorded as zero.
+     *
+     * @param value value to record
+     */
+    public void record(final long value)
+    {
+        final int index = indexOf(Math.max(0L, value));
+        LongAdder bucket = buckets.get(index);
+        if (bucket == null)
+        {
+            final LongAdder created = new LongAdder();
+            bucket = buckets.compareAndExchange(index, null, created);
+            if (bucket == null)
+            {
+                bucket = created;
+            }
+        }
+        bucket.increment();
+    }
+
+    /**
+     * Reports and resets every non-empty bucket. Must only be called from one thread at a time.
+     *
+     * @param consumer receives {@code (representativeValue, count)} per non-empty bucket, in ascending value order
+     */
+    public void drain(final BucketConsumer consumer)
+    {
+        for (int index = 0; index < BUCKET_COUNT; index++)
+        {
+            final LongAdder bucket = buckets.get(index);
+            if (bucket != null)
+            {
+                final long count = bucket.sumThenReset();
+                if (count > 0L)
+                {
+                    consumer.accept(representativeValue(index), count);
+                }
+            }
+        }
+    }
+
+    static int indexOf(final long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long representativeValue(final int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >>> 1);
+    }
+}
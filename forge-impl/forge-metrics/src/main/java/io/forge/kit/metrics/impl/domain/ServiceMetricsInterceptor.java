@@ -1,18 +1,27 @@
 package io.forge.kit.metrics.impl.domain;
 
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import io.forge.kit.metrics.api.domain.MetricsRecorder;
 import io.forge.kit.metrics.api.domain.ServiceMetrics;
 import io.forge.kit.metrics.api.domain.support.MetricsRecorderResolver;
 import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
+import io.forge.kit.metrics.impl.domain.support.AsyncResultSupport;
+import io.forge.kit.metrics.impl.domain.support.TailLatencyRegistry;
 import io.forge.kit.metrics.impl.dto.OptionalEmptyResult;
 import io.forge.kit.metrics.impl.dto.OptionalPresentResult;
+import io.forge.kit.metrics.impl.jfr.MetricsRecordingEvent;
+import io.forge.kit.metrics.impl.tracing.InvocationSpan;
+import io.forge.kit.metrics.impl.tracing.InvocationTracer;
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
 import org.apache.commons.lang3.StringUtils;
+import org.jboss.logging.Logger;
 
 /**
  * CDI interceptor that automatically collects metrics for methods annotated with {@link ServiceMetrics}. This
@@ -22,7 +31,8 @@ import org.apache.commons.lang3.StringUtils;
  * <p>The interceptor:
  * <ul>
  * <li>Extracts the metrics recorder class from the annotation</li>
- * <li>Delegates to the recorder to record metrics based on method result</li>
+ * <li>Times the invocation with a single monotonic timestamp around {@code proceed()}</li>
+ * <li>Delegates to the recorder to record metrics based on method result and elapsed nanos</li>
  * <li>Handles exceptions by delegating to the recorder's exception recording method</li>
  * </ul>
  *
@@ -32,6 +42,8 @@ import org.apache.commons.lang3.StringUtils;
  * <li>{@code Optional<T>} where T implements MetricsResultIndicator - converted to synthetic indicator based on
  * presence</li>
  * <li>void - handler receives null and should extract data from request context or other sources</li>
+ * <li>{@code CompletionStage}, {@code Uni} or {@code Multi} - recorded when the result terminates, using the
+ * completed value (or last item) as above</li>
  * </ul>
  *
  * <p>Example:
@@ -45,6 +57,24 @@ import org.apache.commons.lang3.StringUtils;
  * </pre>
  * The operation name ("login") is automatically extracted from the method name.
  *
+ * <p>With {@link ServiceMetrics#sampleRate()} below 1.0, successful invocations are handed to the recorder with
+ * probability {@code 1/n} and weight {@code n} (see {@link MetricsRecorder#sampleWeight}); unsampled successes skip
+ * the recorder entirely. Exceptions and failed indicators are always recorded with weight 1.
+ *
+ * <p>Methods also annotated with {@link io.forge.kit.metrics.api.domain.TailLatencyCapture TailLatencyCapture} keep
+ * their slowest invocations in the {@link TailLatencyRegistry}, whatever the sampling rate.
+ *
+ * <p>The time spent recording after the method finishes is timed as a {@link MetricsRecordingEvent} for JDK Flight
+ * Recorder.
+ *
+ * <p>Within a sampled trace, each invocation also gets a span from the {@link InvocationTracer} carrying
+ * {@code metrics.type} and the result; the recorder runs while that span is current so meters can reference it as an
+ * exemplar. Exemplars only link with the inline meter writer - the ring-buffer and striped writers apply updates on
+ * their flush thread, where no span is current. The span is ended even if the recorder throws; a recorder failure is
+ * logged and never fails the invocation. For methods returning {@code Uni} or {@code Multi} the span is started when the
+ * result is subscribed, once per subscription, since a result that is never subscribed never terminates and would
+ * never end it.
+ *
  * <p>The interceptor binding uses {@link jakarta.enterprise.util.Nonbinding Nonbinding} on the recorder class value,
  * allowing a single interceptor to handle all recorder types. The actual recorder
  * class is read from the method annotation at runtime.
@@ -54,21 +84,39 @@ import org.apache.commons.lang3.StringUtils;
 @Priority(Interceptor.Priority.LIBRARY_AFTER) // 3000
 public final class ServiceMetricsInterceptor
 {
+    private static final Logger LOGGER = Logger.getLogger(ServiceMetricsInterceptor.class);
+
     private final MetricsRecorderResolver recorderResolver;
+    private final TailLatencyRegistry tailLatencyRegistry;
+    private final InvocationTracer tracer;
+    private final AnnotationResolver annotationResolver;
 
     @Inject
-    public ServiceMetricsInterceptor(final MetricsRecorderResolver recorderResolver)
+    public ServiceMetricsInterceptor(final MetricsRecorderResolver recorderResolver,
+                                     final TailLatencyRegistry tailLatencyRegistry, final InvocationTracer tracer,
+                                     final AnnotationResolver annotationResolver)
     {
         this.recorderResolver = recorderResolver;
+        this.tailLatencyRegistry = tailLatencyRegistry;
+        this.tracer = tracer;
+        this.annotationResolver = annotationResolver;
     }
 
     @AroundInvoke
     public Object collectMetrics(final InvocationContext context) throws Exception
     {
         final Optional<ResolvedContext> resolved = resolveContext(context);
-        if (resolved.isPresent())
+        if (resolved.isPresent() && AsyncResultSupport.isLazy(context.getMethod()))
         {
-            return proceedWithMetrics(context, resolved.get());
+            return proceedLazily(context, resolved.get());
+        }
+        else if (resolved.isPresent())
+        {
+            final InvocationSpan span = startSpan(context, resolved.get().annotation());
+            try (InvocationSpan.Scope ignored = span.makeCurrent())
+            {
+                return proceedWithMetrics(context, resolved.get(), span);
+            }
         }
         else
         {
@@ -80,26 +128,140 @@ public final class ServiceMetricsInterceptor
      * Core execution
      * ------------------------------------------------- */
 
-    private Object proceedWithMetrics(final InvocationContext context, final ResolvedContext rc) throws Exception
+    private Object proceedWithMetrics(final InvocationContext context, final ResolvedContext rc,
+                                      final InvocationSpan span) throws Exception
     {
         putTypeIfPresent(context, rc.annotation());
 
+        final long start = System.nanoTime();
+        final Object result;
         try
         {
-            final Object result = context.proceed();
+            result = context.proceed();
+        }
+        catch (final Exception e)
+        {
+            recordFailure(context, rc.recorder(), tailLatencyRegistry, span, e, System.nanoTime() - start);
+            throw e;
+        }
+
+        if (AsyncResultSupport.isAsync(result))
+        {
+            return AsyncResultSupport.onCompletion(result, start,
+                new AsyncRecording(context, rc.recorder(), rc.sampleWeight(), tailLatencyRegistry, span));
+        }
 
-            // Always call recordMetrics, even for void methods (pass null as indicator)
-            // This allows recorders like ThrottleMetricsRecorder to extract data from request context
-            final MetricsResultIndicator indicator = toMetricsResult(result).orElse(null);
-            rc.recorder().recordMetrics(context, indicator);
+        // Call recordMetrics even for void methods (pass null as indicator)
+        // This allows recorders like ThrottleMetricsRecorder to read request-scoped state
+        recordResult(context, rc.recorder(), rc.sampleWeight(), tailLatencyRegistry, span, result,
+            System.nanoTime() - start);
+        return result;
+    }
 
-            return result;
+    /**
+     * Proceeds with a method returning {@code Uni} or {@code Multi}, starting the span on each subscription. A failure
+     * to assemble the result, or a result that is not lazy after all, is recorded under a span covering the call.
+     */
+    private Object proceedLazily(final InvocationContext context, final ResolvedContext rc) throws Exception
+    {
+        putTypeIfPresent(context, rc.annotation());
+
+        final long start = System.nanoTime();
+        final Object result;
+        try
+        {
+            result = context.proceed();
         }
         catch (final Exception e)
         {
-            rc.recorder().recordException(context, e);
+            final InvocationSpan span = startSpan(context, rc.annotation());
+            try (InvocationSpan.Scope ignored = span.makeCurrent())
+            {
+                recordFailure(context, rc.recorder(), tailLatencyRegistry, span, e, System.nanoTime() - start);
+            }
             throw e;
         }
+
+        if (AsyncResultSupport.isAsync(result))
+        {
+            return AsyncResultSupport.onSubscription(result, () -> new AsyncRecording(context, rc.recorder(),
+                rc.sampleWeight(), tailLatencyRegistry, startSpan(context, rc.annotation())));
+        }
+
+        final InvocationSpan span = startSpan(context, rc.annotation());
+        try (InvocationSpan.Scope ignored = span.makeCurrent())
+        {
+            recordResult(context, rc.recorder(), rc.sampleWeight(), tailLatencyRegistry, span, result,
+                System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /* -------------------------------------------------
+     * Recording
+     * ------------------------------------------------- */
+
+    /**
+     * Hands a completed invocation to the recorder and ends the span with its result. A recorder failure is logged
+     * rather than thrown, so it never fails the call or gets recorded as an exception of it.
+     */
+    private static void recordResult(final InvocationContext context, final MetricsRecorder recorder,
+                                     final long sampleWeight, final TailLatencyRegistry tailLatencyRegistry,
+                                     final InvocationSpan span, final Object result, final long durationNanos)
+    {
+        final MetricsResultIndicator indicator = toMetricsResult(result).orElse(null);
+        try
+        {
+            final MetricsRecordingEvent event = new MetricsRecordingEvent();
+            event.begin();
+            tailLatencyRegistry.offer(context, durationNanos);
+            if (shouldRecord(context, indicator, sampleWeight))
+            {
+                recorder.recordMetrics(context, indicator, durationNanos);
+            }
+            event.complete("service", context, durationNanos);
+        }
+        catch (final RuntimeException e)
+        {
+            logRecordingFailure(context, e);
+        }
+        finally
+        {
+            span.end(indicator);
+        }
+    }
+
+    /**
+     * Hands a failed invocation to the recorder and ends the span with the failure; a recorder failure is logged so
+     * the original failure is the one the caller sees.
+     */
+    private static void recordFailure(final InvocationContext context, final MetricsRecorder recorder,
+                                      final TailLatencyRegistry tailLatencyRegistry, final InvocationSpan span,
+                                      final Throwable failure, final long durationNanos)
+    {
+        try
+        {
+            final MetricsRecordingEvent event = new MetricsRecordingEvent();
+            event.begin();
+            tailLatencyRegistry.offer(context, durationNanos);
+            final Exception exception = failure instanceof final Exception e ? e : new CompletionException(failure);
+            recorder.recordException(context, exception, durationNanos);
+            event.complete("service", context, durationNanos);
+        }
+        catch (final RuntimeException e)
+        {
+            logRecordingFailure(context, e);
+        }
+        finally
+        {
+            span.end(failure);
+        }
+    }
+
+    private static void logRecordingFailure(final InvocationContext context, final RuntimeException e)
+    {
+        LOGGER.warnf(e, "Failed to record service metrics for %s.%s",
+            context.getMethod().getDeclaringClass().getSimpleName(), context.getMethod().getName());
     }
 
     /* -------------------------------------------------
@@ -111,25 +273,60 @@ public final class ServiceMetricsInterceptor
         return findServiceMetrics(context)
             .flatMap(annotation -> recorderResolver
                 .resolve(annotation.value())
-                .map(recorder -> new ResolvedContext(annotation, recorder)));
+                .map(recorder -> new ResolvedContext(annotation, recorder, sampleWeight(annotation.sampleRate()))));
     }
 
     private Optional<ServiceMetrics> findServiceMetrics(final InvocationContext context)
     {
+        // Memoized per method/type - reflection only happens on the first invocation
         return Optional.ofNullable(
-            context.getMethod().getAnnotation(ServiceMetrics.class)
+            annotationResolver.resolve(context.getMethod(), ServiceMetrics.class)
         ).or(() -> Optional.ofNullable(
-            context.getTarget()
-                .getClass()
-                .getAnnotation(ServiceMetrics.class)
+            annotationResolver.resolveOnType(context.getTarget().getClass(), ServiceMetrics.class)
         ));
     }
 
+    /* -------------------------------------------------
+     * Sampling
+     * ------------------------------------------------- */
+
+    /**
+     * Converts a sampling rate into the number of invocations each sampled one stands for: 1 records everything, 0
+     * records failures only.
+     */
+    static long sampleWeight(final double sampleRate)
+    {
+        if (sampleRate >= 1.0d || Double.isNaN(sampleRate))
+        {
+            return 1L;
+        }
+        return sampleRate > 0.0d ? Math.max(1L, Math.round(1.0d / sampleRate)) : 0L;
+    }
+
+    /**
+     * Failures are always recorded; successes are sampled with probability {@code 1/weight}, and a sampled success
+     * publishes its weight for the recorder.
+     */
+    private static boolean shouldRecord(final InvocationContext context, final MetricsResultIndicator indicator,
+                                        final long weight)
+    {
+        if (weight == 1L || indicator != null && !indicator.success())
+        {
+            return true;
+        }
+        if (weight == 0L || ThreadLocalRandom.current().nextLong(weight) != 0L)
+        {
+            return false;
+        }
+        context.getContextData().put(MetricsRecorder.SAMPLE_WEIGHT_KEY, weight);
+        return true;
+    }
+
     /* -------------------------------------------------
      * Metrics result handling
      * ------------------------------------------------- */
 
-    private Optional<MetricsResultIndicator> toMetricsResult(final Object result)
+    private static Optional<MetricsResultIndicator> toMetricsResult(final Object result)
     {
         if (result instanceof MetricsResultIndicator indicator)
         {
@@ -163,11 +360,56 @@ public final class ServiceMetricsInterceptor
         }
     }
 
+    private InvocationSpan startSpan(final InvocationContext context, final ServiceMetrics annotation)
+    {
+        final InvocationSpan span = tracer.startSpan(context);
+        final String type = annotation.type();
+        if (span != InvocationSpan.NOOP && StringUtils.isNotEmpty(type))
+        {
+            span.setAttribute("metrics.type", type);
+        }
+        return span;
+    }
+
     /* -------------------------------------------------
      * Internal model
      * ------------------------------------------------- */
 
-    private record ResolvedContext(ServiceMetrics annotation, MetricsRecorder recorder)
+    private record ResolvedContext(ServiceMetrics annotation, MetricsRecorder recorder, long sampleWeight)
     {
     }
+
+    /**
+     * Records once an asynchronous result terminates, using the completed value (or a {@code Multi}'s last item) as
+     * the result indicator. The span is made current on the completing thread while recording, and a cancelled result
+     * only ends the span.
+     */
+    private record AsyncRecording(InvocationContext context, MetricsRecorder recorder, long sampleWeight,
+                                  TailLatencyRegistry tailLatencyRegistry, InvocationSpan span)
+        implements AsyncResultSupport.AsyncCompletion
+    {
+        @Override
+        public void onItem(final Object lastItem, final long durationNanos)
+        {
+            try (InvocationSpan.Scope ignored = span.makeCurrent())
+            {
+                recordResult(context, recorder, sampleWeight, tailLatencyRegistry, span, lastItem, durationNanos);
+            }
+        }
+
+        @Override
+        public void onFailure(final Throwable failure, final long durationNanos)
+        {
+            try (InvocationSpan.Scope ignored = span.makeCurrent())
+            {
+                recordFailure(context, recorder, tailLatencyRegistry, span, failure, durationNanos);
+            }
+        }
+
+        @Override
+        public void onCancellation(final long durationNanos)
+        {
+            span.end();
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package io.forge.kit.metrics.impl.domain.recorder;
+
+import io.forge.kit.metrics.api.domain.MetricsRecorder;
+import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.forge.kit.metrics.impl.domain.support.MeterWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Opt-in recorder that publishes a per-method latency timer using the duration measured by the
+ * {@code ServiceMetricsInterceptor}.
+ *
+ * <p>Records {@code service.method.duration} and {@code service.method.calls}, both tagged with:
+ * <ul>
+ * <li>{@code class} - simple name of the declaring class</li>
+ * <li>{@code method} - method name</li>
+ * <li>{@code type} - the {@code ServiceMetrics#type()} value, or {@code none}</li>
+ * <li>{@code outcome} - {@code success}, {@code failure} (indicator reported failure) or {@code exception}</li>
+ * </ul>
+ *
+ * <p>With {@code ServiceMetrics#sampleRate()} below 1.0 the timer only sees sampled successes but every failure, so
+ * its counts are skewed towards errors. {@code service.method.calls} is incremented by each invocation's
+ * {@link MetricsRecorder#sampleWeight sample weight} and is the series to use for call rates and error ratios; the
+ * timer remains the source for the latency distribution.
+ *
+ * <p>SLO bucket boundaries are configurable; timers are resolved once per method and outcome, and pinned against idle
+ * expiry since they are held for the life of the recorder:
+ * <pre>{@code
+ * forge.metrics.service.timer.slos=PT0.01S,PT0.05S,PT0.1S,PT0.5S,PT1S
+ * }</pre>
+ *
+ * <p>Example:
+ * <pre>{@code
+ * @ServiceMetrics(MethodTimerMetricsRecorder.class)
+ * public Quote price(final QuoteRequest request) { ... }
+ * }</pre>
+ */
+@ApplicationScoped
+public final class MethodTimerMetricsRecorder implements MetricsRecorder
+{
+    private static final String SLOS_PROPERTY = "forge.metrics.service.timer.slos";
+    private static final List<Duration> DEFAULT_SLOS = List.of(Duration.ofMillis(5L), Duration.ofMillis(10L),
+        Duration.ofMillis(25L), Duration.ofMillis(50L), Duration.ofMillis(100L), Duration.ofMillis(250L),
+        Duration.ofMillis(500L), Duration.ofSeconds(1L), Duration.ofMillis(2_500L), Duration.ofSeconds(5L));
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+    private static final int EXCEPTION = 2;
+    private static final String[] OUTCOMES = {"success", "failure", "exception"};
+
+    private final MeterHandleCache meterHandleCache;
+    private final MeterWriter meterWriter;
+    private final Duration[] slos;
+    private final ConcurrentMap<Method, MethodMeters> metersByMethod = new ConcurrentHashMap<>();
+
+    @Inject
+    public MethodTimerMetricsRecorder(final MeterHandleCache meterHandleCache, final MeterWriter meterWriter)
+    {
+        this(meterHandleCache, meterWriter,
+            ConfigProvider.getConfig().getOptionalValues(SLOS_PROPERTY, Duration.class).orElse(DEFAULT_SLOS));
+    }
+
+    MethodTimerMetricsRecorder(final MeterHandleCache meterHandleCache, final MeterWriter meterWriter,
+                               final List<Duration> slos)
+    {
+        this.meterHandleCache = meterHandleCache;
+        this.meterWriter = meterWriter;
+        this.slos = slos.toArray(Duration[]::new);
+    }
+
+    @Override
+    public void recordMetrics(final InvocationContext context, final MetricsResultIndicator metricsResultIndicator,
+                              final long durationNanos)
+    {
+        final int outcome = metricsResultIndicator == null || metricsResultIndicator.success() ? SUCCESS : FAILURE;
+        record(context, outcome, durationNanos);
+    }
+
+    @Override
+    public void recordException(final InvocationContext context, final Exception exception, final long durationNanos)
+    {
+        record(context, EXCEPTION, durationNanos);
+    }
+
+    /**
+     * Untimed callbacks are only reached when invoked outside the interceptor; there is no duration to record.
+     */
+    @Override
+    public void recordMetrics(final InvocationContext context, final MetricsResultIndicator metricsResultIndicator)
+    {
+        // No duration available
+    }
+
+    @Override
+    public void recordException(final InvocationContext context, final Exception exception)
+    {
+        // No duration available
+    }
+
+    private void record(final InvocationContext context, final int outcome, final long durationNanos)
+    {
+        final MethodMeters meters = metersFor(context);
+        meterWriter.record(meters.timers()[outcome], durationNanos);
+        meterWriter.increment(meters.calls()[outcome], MetricsRecorder.sampleWeight(context));
+    }
+
+    private MethodMeters metersFor(final InvocationContext context)
+    {
+        final Method method = context.getMethod();
+        final MethodMeters meters = metersByMethod.get(method);
+        if (meters != null)
+        {
+            return meters;
+        }
+
+        // The type tag comes from the method's annotation, so it is fixed per method
+        final Object type = context.getContextData().get("metrics.type");
+        return metersByMethod.computeIfAbsent(method, m -> registerMeters(m, type instanceof String s ? s : "none"));
+    }
+
+    private MethodMeters registerMeters(final Method method, final String type)
+    {
+        final Timer[] timers = new Timer[OUTCOMES.length];
+        final Counter[] calls = new Counter[OUTCOMES.length];
+        for (int i = 0; i < OUTCOMES.length; i++)
+        {
+            timers[i] = meterHandleCache.pin(meterHandleCache.timer("service.method.duration",
+                "Duration of service method invocations",
+                builder -> builder.serviceLevelObjectives(slos),
+                "class", method.getDeclaringClass().getSimpleName(),
+                "method", method.getName(),
+                "type", type,
+                "outcome", OUTCOMES[i]));
+            calls[i] = meterHandleCache.pin(meterHandleCache.counter("service.method.calls",
+                "Service method invocations, weighted by their sample weight",
+                "class", method.getDeclaringClass().getSimpleName(),
+                "method", method.getName(),
+                "type", type,
+                "outcome", OUTCOMES[i]));
+        }
+        return new MethodMeters(timers, calls);
+    }
+
+    private record MethodMeters(Timer[] timers, Counter[] calls)
+    {}
+}
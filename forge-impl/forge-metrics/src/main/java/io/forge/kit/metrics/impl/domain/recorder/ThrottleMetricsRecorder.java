@@ -2,84 +2,137 @@ package io.forge.kit.metrics.impl.domain.recorder;
 
 import io.forge.kit.metrics.api.domain.MetricsRecorder;
 import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.forge.kit.metrics.impl.domain.support.MeterWriter;
+import io.forge.kit.metrics.impl.domain.support.MetricsTagSanitizer;
 import io.forge.kit.metrics.impl.infrastructure.throttle.RateLimitKeyParser;
+import io.forge.kit.throttle.api.infrastructure.RateLimitContext;
 import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.DistributionSummary;
-import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.interceptor.InvocationContext;
 import jakarta.ws.rs.container.ContainerRequestContext;
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.jboss.logging.Logger;
 
 /**
  * Metrics recorder for rate limiting operations.
- * Records rate limit metrics based on data stored in request context properties.
+ * Records rate limit metrics based on the request's {@link RateLimitContext}.
  *
- * <p>This recorder extracts rate limit key and status from request context properties
- * set by the rate limiting filter ({@code RateLimitingFilter} in the security library).
- * The recorder is invoked via the {@code ServiceMetricsInterceptor}
- * for void filter methods.
+ * <p>The rate limiting filter (such as the {@code ReferenceRateLimitingFilter}) records the rate limit
+ * key and status into the request-scoped context. The recorder is invoked via the
+ * {@code ServiceMetricsInterceptor} for void filter methods.
+ *
+ * <p>Filters written before {@link RateLimitContext} existed - including the security library's
+ * {@code RateLimitingFilter} up to its current release - still set the deprecated
+ * {@code RateLimitKeyParser.RATE_LIMIT_*_PROPERTY} request properties instead. For one release those are read as a
+ * fallback when the context holds no check, with a single warning asking the filter to migrate.
  *
  * <p>Unlike other recorders, this recorder does not rely on a return value
- * (since filters return void), but instead reads data from request context properties
- * that are set before the interceptor is invoked. The filter stores the rate limit key
- * and status as separate properties to avoid cross-library dependencies.
+ * (since filters return void), but instead reads the key and status from the context
+ * as primitive fields, with no request property lookups or boxing on the request path.
+ *
+ * <p>Bucket utilization is not recorded per request; it is sampled in the background by
+ * {@link io.forge.kit.metrics.impl.infrastructure.throttle.RateLimitOccupancySampler}.
  */
 @ApplicationScoped
 public final class ThrottleMetricsRecorder implements MetricsRecorder
 {
     private static final Logger LOGGER = Logger.getLogger(ThrottleMetricsRecorder.class);
 
+    private static final String REQUESTS_DESCRIPTION = "Rate limit check results - tracks allowed and blocked requests";
+
+    private final MeterHandleCache meterHandleCache;
+    private final MeterWriter meterWriter;
+    private final RateLimitContext rateLimitContext;
+
+    /**
+     * Pre-registered {@code rate.limit.requests} counters for every key type, so the hot path is a map read. Pinned,
+     * since idle expiry would leave these fields pointing at removed meters.
+     */
+    private final Map<String, Counter> allowedCounters;
+    private final Map<String, Counter> blockedCounters;
+
+    private final AtomicBoolean legacyPropertiesWarned = new AtomicBoolean();
+
     @Inject
-    MeterRegistry meterRegistry;
+    public ThrottleMetricsRecorder(final MeterHandleCache meterHandleCache, final MeterWriter meterWriter,
+                                   final RateLimitContext rateLimitContext)
+    {
+        this.meterHandleCache = meterHandleCache;
+        this.meterWriter = meterWriter;
+        this.rateLimitContext = rateLimitContext;
+        this.allowedCounters = requestCounters(meterHandleCache, "allowed");
+        this.blockedCounters = requestCounters(meterHandleCache, "blocked");
+    }
+
+    private static Map<String, Counter> requestCounters(final MeterHandleCache meterHandleCache, final String status)
+    {
+        return RateLimitKeyParser.KEY_TYPES.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(),
+                keyType -> meterHandleCache.pin(meterHandleCache.counter("rate.limit.requests", REQUESTS_DESCRIPTION,
+                    "key_type", keyType, "status", status))));
+    }
 
     /**
-     * Records rate limiting metrics based on data stored in request context properties.
+     * Records rate limiting metrics from the request's {@link RateLimitContext}.
      *
      * <p>For rate limiting filters (which return void), the metricsResultIndicator will be null.
-     * This method extracts rate limit key and status from request context properties set by
-     * the rate limiting filter ({@code RateLimitingFilter} in the security library).
-     *
-     * <p>Extracts the ContainerRequestContext from the method parameters via InvocationContext,
-     * since filter methods receive the request context as their first parameter.
+     * The filter records the rate limit key and status into the request-scoped context before
+     * returning, so they are available here without touching the request properties.
      *
-     * @param context                The invocation context containing method parameters
+     * @param context                The invocation context, used for the sample weight
      * @param metricsResultIndicator Always null for void filter methods
      */
     @Override
     public void recordMetrics(final InvocationContext context, final MetricsResultIndicator metricsResultIndicator)
     {
         // For rate limiting, metricsResultIndicator will be null (void method)
-        // Extract data from request context properties instead
-        // The request context is passed as the first parameter to filter methods
-        final ContainerRequestContext requestContext = extractRequestContext(context);
-        if (requestContext != null)
+        if (rateLimitContext.checked())
         {
-            final String key = (String) requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_KEY_PROPERTY);
-            final Boolean allowed = (Boolean) requestContext.getProperty(
-                RateLimitKeyParser.RATE_LIMIT_STATUS_ALLOWED_PROPERTY);
-            final Long limit = (Long) requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_STATUS_LIMIT_PROPERTY);
-            final Long remaining = (Long) requestContext.getProperty(
-                RateLimitKeyParser.RATE_LIMIT_STATUS_REMAINING_PROPERTY);
-
-            if (Stream.of(key, allowed, limit, remaining).allMatch(Objects::nonNull))
-            {
-                final String keyType = RateLimitKeyParser.extractKeyType(key);
-                final String identifier = RateLimitKeyParser.extractIdentifier(key);
+            recordRateLimitCheck(rateLimitContext.key(), rateLimitContext.allowed(), rateLimitContext.limit(),
+                rateLimitContext.remaining(), MetricsRecorder.sampleWeight(context));
+        }
+        else if (!recordLegacyProperties(context))
+        {
+            LOGGER.warn("ThrottleMetricsRecorder: No rate limit check recorded in the request's RateLimitContext");
+        }
+    }
 
-                recordRateLimitCheck(keyType, identifier, allowed, limit, remaining);
-                recordRateLimitUtilization(keyType, limit, remaining);
-            }
-            else
+    /**
+     * Records a check from the request properties set by filters that predate {@link RateLimitContext}. The filter
+     * receives the request context as its first parameter.
+     *
+     * @return true if all four properties were present and the check was recorded
+     */
+    @SuppressWarnings("removal")
+    private boolean recordLegacyProperties(final InvocationContext context)
+    {
+        final Object[] parameters = context.getParameters();
+        if (parameters == null || parameters.length == 0
+            || !(parameters[0] instanceof final ContainerRequestContext requestContext))
+        {
+            return false;
+        }
+
+        if (requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_KEY_PROPERTY) instanceof final String key
+            && requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_STATUS_ALLOWED_PROPERTY) instanceof final Boolean allowed
+            && requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_STATUS_LIMIT_PROPERTY) instanceof final Long limit
+            && requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_STATUS_REMAINING_PROPERTY) instanceof final Long remaining)
+        {
+            if (legacyPropertiesWarned.compareAndSet(false, true))
             {
-                LOGGER.warnf(
-                    "ThrottleMetricsRecorder: Missing rate limit properties - key=%s, allowed=%s, limit=%s, remaining=%s",
-                    key, allowed, limit, remaining);
+                LOGGER.warn("ThrottleMetricsRecorder: The rate limiting filter passes its check through the deprecated "
+                    + "rateLimit* request properties, which are read for one more release - record it with "
+                    + "RateLimitContext.record instead");
             }
+            recordRateLimitCheck(key, allowed, limit, remaining, MetricsRecorder.sampleWeight(context));
+            return true;
         }
+        return false;
     }
 
     @Override
@@ -91,6 +144,24 @@ public final class ThrottleMetricsRecorder implements MetricsRecorder
         recordRateLimitFailure(exception);
     }
 
+    /**
+     * Records the outcome of a rate limit check for the given key. Used by {@link #recordMetrics} and by
+     * {@link io.forge.kit.metrics.impl.infrastructure.throttle.RateLimitMetricsListener}, which receives decisions
+     * straight from the rate limiter.
+     *
+     * @param key       The rate limit key (e.g., "user:john", "ip:192.168.1.1")
+     * @param allowed   Whether the request was allowed
+     * @param limit     The rate limit capacity
+     * @param remaining The remaining tokens in the bucket
+     * @param weight    Checks this one stands for when sampled, otherwise 1
+     */
+    public void recordRateLimitCheck(final String key, final boolean allowed, final long limit, final long remaining,
+                                     final long weight)
+    {
+        recordRateLimitCheck(RateLimitKeyParser.extractKeyType(key), RateLimitKeyParser.extractIdentifier(key), allowed,
+            limit, remaining, weight);
+    }
+
     /**
      * Records a rate limiting failure.
      * This indicates the rate limiting mechanism itself failed, not that a limit was exceeded.
@@ -100,11 +171,9 @@ public final class ThrottleMetricsRecorder implements MetricsRecorder
     private void recordRateLimitFailure(final Exception exception)
     {
         final String exceptionType = exception.getClass().getSimpleName();
-        Counter.builder("rate.limit.failures")
-            .tag("exception_type", exceptionType)
-            .description("Rate limiting mechanism failures - indicates the throttling system itself failed")
-            .register(meterRegistry)
-            .increment();
+        meterWriter.increment(meterHandleCache.counter("rate.limit.failures",
+            "Rate limiting mechanism failures - indicates the throttling system itself failed",
+            "exception_type", exceptionType));
     }
 
     /**
@@ -116,19 +185,19 @@ public final class ThrottleMetricsRecorder implements MetricsRecorder
      * @param allowed    Whether the request was allowed
      * @param limit      The rate limit capacity
      * @param remaining  The remaining tokens in the bucket
+     * @param weight     Invocations this check stands for when the filter is sampled
      */
-    private void recordRateLimitCheck(final String keyType, final String identifier, final boolean allowed, final long limit, final long remaining)
+    private void recordRateLimitCheck(final String keyType, final String identifier, final boolean allowed, final long limit,
+                                      final long remaining, final long weight)
     {
-        Counter.builder("rate.limit.requests")
-            .tag("key_type", keyType)
-            .tag("status", allowed ? "allowed" : "blocked")
-            .description("Rate limit check results - tracks allowed and blocked requests")
-            .register(meterRegistry)
-            .increment();
+        final Counter counter = (allowed ? allowedCounters : blockedCounters).get(keyType);
+        meterWriter.increment(counter != null ? counter
+            : meterHandleCache.counter("rate.limit.requests", REQUESTS_DESCRIPTION, "key_type", keyType,
+                "status", allowed ? "allowed" : "blocked"), weight);
 
         if (!allowed)
         {
-            recordRateLimitViolation(keyType, identifier, limit, remaining);
+            recordRateLimitViolation(keyType, identifier, limit, remaining, weight);
         }
     }
 
@@ -140,92 +209,17 @@ public final class ThrottleMetricsRecorder implements MetricsRecorder
      * @param identifier The specific identifier that violated the limit (username, serviceId, IP address)
      * @param limit      The rate limit capacity that was exceeded
      * @param remaining  The remaining tokens (should be 0 or negative when blocked)
+     * @param weight     Invocations this violation stands for when the filter is sampled
      */
-    private void recordRateLimitViolation(final String keyType, final String identifier, final long limit, final long remaining)
+    private void recordRateLimitViolation(final String keyType, final String identifier, final long limit, final long remaining,
+                                          final long weight)
     {
+        final String sanitizedIdentifier = MetricsTagSanitizer.sanitize(identifier);
         LOGGER.debugf("Recording rate limit violation - keyType=%s, identifier=%s, limit=%d, remaining=%d",
-            keyType, sanitizeIdentifier(identifier), limit, remaining);
-
-        Counter.builder("rate.limit.violations")
-            .tag("key_type", keyType)
-            .tag("identifier", sanitizeIdentifier(identifier))
-            .description("Rate limit violations - tracks specific IPs or user IDs that exceeded limits")
-            .register(meterRegistry)
-            .increment();
-    }
-
-    /**
-     * Records rate limit utilization percentage.
-     * This provides a generic overview of how close entities are to their limits.
-     * Utilization is calculated as (limit - remaining) / limit, giving a percentage of capacity used.
-     * This metric helps identify if limits are reasonable or being approached.
-     *
-     * @param keyType   The type of rate limit key (e.g., "user", "service", "ip", "auth")
-     * @param limit     The rate limit capacity
-     * @param remaining The remaining tokens in the bucket
-     */
-    private void recordRateLimitUtilization(final String keyType, final long limit, final long remaining)
-    {
-        if (limit > 0)
-        {
-            final double utilization = ((double) (limit - remaining)) / limit * 100.0;
-
-            DistributionSummary.builder("rate.limit.utilization")
-                .tag("key_type", keyType)
-                .description(
-                    "Rate limit utilization percentage (0-100) - indicates how close entities are to their limits")
-                .register(meterRegistry)
-                .record(utilization);
-        }
-    }
-
-    /**
-     * Sanitizes identifier for use in metrics tags.
-     * Removes or truncates identifiers that might be too long or contain special characters.
-     * IP addresses and usernames are kept as-is, but very long identifiers are truncated.
-     *
-     * @param identifier The identifier to sanitize
-     * @return Sanitized identifier safe for use in metrics tags
-     */
-    private String sanitizeIdentifier(final String identifier)
-    {
-        if (identifier == null)
-        {
-            return "unknown";
-        }
-
-        // Truncate very long identifiers to prevent metric cardinality explosion
-        final int maxLength = 100;
-        if (identifier.length() > maxLength)
-        {
-            return identifier.substring(0, maxLength) + "...";
-        }
-
-        return identifier;
-    }
-
-    /**
-     * Extracts ContainerRequestContext from the method parameters via InvocationContext.
-     * Filter methods receive the request context as their first (and typically only) parameter.
-     *
-     * @param context The invocation context
-     * @return The ContainerRequestContext if found, null otherwise
-     */
-    private ContainerRequestContext extractRequestContext(final InvocationContext context)
-    {
-        final Object[] parameters = context.getParameters();
-        if (parameters == null || parameters.length == 0)
-        {
-            return null;
-        }
-
-        // Filter methods receive ContainerRequestContext (or ResteasyReactiveContainerRequestContext) as first parameter
-        final Object firstParam = parameters[0];
-        if (firstParam instanceof ContainerRequestContext)
-        {
-            return (ContainerRequestContext) firstParam;
-        }
+            keyType, sanitizedIdentifier, limit, remaining);
 
-        return null;
+        meterWriter.increment(meterHandleCache.counter("rate.limit.violations",
+            "Rate limit violations - tracks specific IPs or user IDs that exceeded limits",
+            "key_type", keyType, "identifier", sanitizedIdentifier), weight);
     }
 }
@@ -0,0 +1,192 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.jboss.logging.Logger;
+
+/**
+ * Attaches metrics recording to the completion of asynchronous return values.
+ *
+ * <p>For reactive methods {@code proceed()} returns as soon as the pipeline is assembled, so recording at that point
+ * reports ~0 latency and misses failures. This helper defers recording until the result actually terminates:
+ * <ul>
+ * <li>{@link CompletionStage} - on completion, timed from the invocation start</li>
+ * <li>{@link Uni} - on termination of each subscription, timed from subscription</li>
+ * <li>{@link Multi} - on termination of each subscription, passing the last emitted item</li>
+ * </ul>
+ *
+ * <p>Mutiny types are lazy, so they are returned wrapped; a {@code CompletionStage} is returned as-is with a
+ * side-effect stage attached. Failures thrown by the callback are logged and never alter the caller's result.
+ *
+ * <p>State that must be released on termination - a circuit breaker admission, an open span - cannot be taken when a
+ * lazy result is returned: a result that is never subscribed never terminates, and one subscribed twice terminates
+ * twice. Methods declaring a lazy return type (see {@link #isLazy(Method)}) take such state per subscription with
+ * {@link #onSubscription} instead.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * final Object result = context.proceed();
+ * if (AsyncResultSupport.isAsync(result))
+ * {
+ *     return AsyncResultSupport.onCompletion(result, start, completion);
+ * }
+ * }</pre>
+ */
+public final class AsyncResultSupport
+{
+    private static final Logger LOGGER = Logger.getLogger(AsyncResultSupport.class);
+
+    private AsyncResultSupport()
+    {
+        // Utility class
+    }
+
+    /**
+     * Callback invoked once an asynchronous result terminates.
+     */
+    public interface AsyncCompletion
+    {
+        /**
+         * Called when the result completes normally.
+         *
+         * @param lastItem      the completed value, or the last item emitted by a {@code Multi}; may be null
+         * @param durationNanos elapsed time until completion
+         */
+        void onItem(Object lastItem, long durationNanos);
+
+        /**
+         * Called when the result completes with a failure.
+         *
+         * @param failure       the failure, unwrapped from {@link CompletionException}
+         * @param durationNanos elapsed time until failure
+         */
+        void onFailure(Throwable failure, long durationNanos);
+
+        /**
+         * Called when the subscriber cancels before termination. Ignored by default - a cancelled call is neither a
+         * success nor a failure of the operation.
+         *
+         * @param durationNanos elapsed time until cancellation
+         */
+        default void onCancellation(final long durationNanos)
+        {
+            // Ignored by default
+        }
+    }
+
+    /**
+     * Returns whether the value is an asynchronous result supported by {@link #onCompletion}.
+     *
+     * @param result the intercepted method's return value
+     * @return true for {@link CompletionStage}, {@link Uni} and {@link Multi}
+     */
+    public static boolean isAsync(final Object result)
+    {
+        return result instanceof CompletionStage<?> || result instanceof Uni<?> || result instanceof Multi<?>;
+    }
+
+    /**
+     * Returns whether the method declares a lazy asynchronous return type, whose work only starts on subscription.
+     *
+     * @param method the intercepted method
+     * @return true for methods returning {@link Uni} or {@link Multi}
+     */
+    public static boolean isLazy(final Method method)
+    {
+        final Class<?> returnType = method.getReturnType();
+        return Uni.class.isAssignableFrom(returnType) || Multi.class.isAssignableFrom(returnType);
+    }
+
+    /**
+     * Attaches a completion created on each subscription of a lazy result.
+     *
+     * <p>{@code subscription} runs when the result is subscribed, once per subscription, and the completion it returns
+     * is called when that subscription terminates. It may throw to fail the subscription without subscribing to the
+     * result, e.g. when a circuit breaker rejects the call. A result that is never subscribed never calls it.
+     *
+     * @param result       the value returned by a method for which {@link #isLazy(Method)} holds
+     * @param subscription creates the completion of one subscription
+     * @return the value to return to the caller in place of {@code result}; anything other than a {@link Uni} or
+     * {@link Multi} is returned as-is
+     */
+    public static Object onSubscription(final Object result, final Supplier<AsyncCompletion> subscription)
+    {
+        if (result instanceof final Uni<?> uni)
+        {
+            return Uni.createFrom().deferred(() ->
+            {
+                final AsyncCompletion completion = subscription.get();
+                final long subscribed = System.nanoTime();
+                return uni.onTermination().invoke((item, failure, cancelled) ->
+                    terminate(completion, item, failure, cancelled, subscribed));
+            });
+        }
+        if (result instanceof final Multi<?> multi)
+        {
+            return Multi.createFrom().deferred(() ->
+            {
+                final AsyncCompletion completion = subscription.get();
+                final long subscribed = System.nanoTime();
+                final AtomicReference<Object> lastItem = new AtomicReference<>();
+                return multi.onItem().invoke(lastItem::set)
+                    .onTermination().invoke((failure, cancelled) ->
+                        terminate(completion, lastItem.get(), failure, cancelled, subscribed));
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Attaches {@code completion} to the termination of an asynchronous result.
+     *
+     * @param result     an asynchronous result, see {@link #isAsync(Object)}
+     * @param startNanos {@link System#nanoTime()} at invocation, used for eagerly-started {@code CompletionStage}s
+     * @param completion callback to run on termination
+     * @return the value to return to the caller in place of {@code result}
+     */
+    public static Object onCompletion(final Object result, final long startNanos, final AsyncCompletion completion)
+    {
+        if (result instanceof final CompletionStage<?> stage)
+        {
+            stage.whenComplete((item, failure) -> terminate(completion, item, failure, false, startNanos));
+            return stage;
+        }
+        return onSubscription(result, () -> completion);
+    }
+
+    private static void terminate(final AsyncCompletion completion, final Object item, final Throwable failure,
+                                  final boolean cancelled, final long startNanos)
+    {
+        final long durationNanos = System.nanoTime() - startNanos;
+        try
+        {
+            if (cancelled)
+            {
+                completion.onCancellation(durationNanos);
+            }
+            else if (failure != null)
+            {
+                completion.onFailure(unwrap(failure), durationNanos);
+            }
+            else
+            {
+                completion.onItem(item, durationNanos);
+            }
+        }
+        catch (final RuntimeException e)
+        {
+            // Metrics must never fail the caller's pipeline
+            LOGGER.warnf(e, "Failed to record metrics for asynchronous result");
+        }
+    }
+
+    private static Throwable unwrap(final Throwable failure)
+    {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
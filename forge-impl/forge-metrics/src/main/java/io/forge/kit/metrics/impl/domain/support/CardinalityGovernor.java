@@ -0,0 +1,187 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+/**
+ * {@link MeterFilter} capping the number of distinct values per tag per meter name.
+ *
+ * <p>{@link MetricsTagSanitizer} bounds the length of a tag value, not how many there are; a meter tagged by identifier
+ * or circuit name grows by one time series per distinct value for the lifetime of the pod. The governor admits the
+ * first {@code forge.metrics.cardinality.max-tag-values} values of each (meter, tag) pair and maps every further
+ * value to {@value #OVERFLOW_VALUE}, so registry memory and scrape time stay bounded. Admitted values are released by
+ * {@link IdleMeterSweeper} once no meter uses them any more.
+ *
+ * <p>The filter is installed on the whole registry but only governs meters whose name starts with one of the kit's
+ * prefixes; meters of Quarkus and other libraries ({@code http.server.requests}, {@code jvm.*}) pass through unchanged.
+ * Applications that register their own tagged meters can add prefixes:
+ * <pre>{@code
+ * # distinct values per tag per meter, 0 disables the cap
+ * forge.metrics.cardinality.max-tag-values=1000
+ * forge.metrics.cardinality.governed-prefixes=circuit.breaker.,database.,forge.metrics.,rate.limit.,retry.budget.,service.method.
+ * }</pre>
+ *
+ * <p>Folded registrations are counted in {@code forge.metrics.cardinality.folded}; a rising count means a tag needs a
+ * coarser value.
+ */
+@ApplicationScoped
+public class CardinalityGovernor implements MeterFilter
+{
+    private static final Logger LOGGER = Logger.getLogger(CardinalityGovernor.class);
+
+    static final String MAX_TAG_VALUES_PROPERTY = "forge.metrics.cardinality.max-tag-values";
+    static final String GOVERNED_PREFIXES_PROPERTY = "forge.metrics.cardinality.governed-prefixes";
+
+    static final String OVERFLOW_VALUE = "other";
+
+    private static final int DEFAULT_MAX_TAG_VALUES = 1000;
+    static final List<String> DEFAULT_GOVERNED_PREFIXES = List.of("circuit.breaker.", "database.", "forge.metrics.",
+        "rate.limit.", "retry.budget.", "service.method.");
+
+    private final int maxTagValues;
+    private final String[] governedPrefixes;
+    private final ConcurrentMap<TagSlot, Set<String>> admitted = new ConcurrentHashMap<>();
+    private final LongAdder folded = new LongAdder();
+
+    public CardinalityGovernor()
+    {
+        this(ConfigProvider.getConfig().getOptionalValue(MAX_TAG_VALUES_PROPERTY, Integer.class)
+                .orElse(DEFAULT_MAX_TAG_VALUES),
+            ConfigProvider.getConfig().getOptionalValues(GOVERNED_PREFIXES_PROPERTY, String.class)
+                .orElse(DEFAULT_GOVERNED_PREFIXES));
+    }
+
+    CardinalityGovernor(final int maxTagValues)
+    {
+        this(maxTagValues, DEFAULT_GOVERNED_PREFIXES);
+    }
+
+    CardinalityGovernor(final int maxTagValues, final List<String> governedPrefixes)
+    {
+        this.maxTagValues = maxTagValues;
+        this.governedPrefixes = governedPrefixes.toArray(String[]::new);
+    }
+
+    void onStart(@Observes final StartupEvent event, final MeterRegistry meterRegistry)
+    {
+        FunctionCounter.builder("forge.metrics.cardinality.folded", folded, LongAdder::sum)
+            .description("Meter registrations whose tag value was folded into '" + OVERFLOW_VALUE + "' by the cardinality cap")
+            .register(meterRegistry);
+        Gauge.builder("forge.metrics.cardinality.tag.values", admitted, CardinalityGovernor::countValues)
+            .description("Distinct tag values currently admitted across all meters")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Meter.Id map(final Meter.Id id)
+    {
+        if (maxTagValues <= 0 || id.getTags().isEmpty() || !governs(id.getName()))
+        {
+            return id;
+        }
+
+        List<Tag> governed = null;
+        final List<Tag> tags = id.getTags();
+        for (int i = 0; i < tags.size(); i++)
+        {
+            final Tag tag = tags.get(i);
+            if (!admit(new TagSlot(id.getName(), tag.getKey()), tag.getValue()))
+            {
+                if (governed == null)
+                {
+                    governed = new ArrayList<>(tags);
+                }
+                governed.set(i, Tag.of(tag.getKey(), OVERFLOW_VALUE));
+            }
+        }
+
+        if (governed == null)
+        {
+            return id;
+        }
+        folded.increment();
+        LOGGER.debugf("Folded tag values of meter %s into '%s' - more than %d distinct values", id, OVERFLOW_VALUE,
+            maxTagValues);
+        return id.replaceTags(governed);
+    }
+
+    /**
+     * Releases an admitted tag value so a new value can take its slot. Called once no meter carries the value.
+     *
+     * @param meterName meter name
+     * @param tagKey    tag key
+     * @param tagValue  tag value
+     */
+    public void release(final String meterName, final String tagKey, final String tagValue)
+    {
+        final Set<String> values = admitted.get(new TagSlot(meterName, tagKey));
+        if (values != null)
+        {
+            values.remove(tagValue);
+        }
+    }
+
+    private boolean governs(final String meterName)
+    {
+        for (final String prefix : governedPrefixes)
+        {
+            if (meterName.startsWith(prefix))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean admit(final TagSlot slot, final String value)
+    {
+        if (OVERFLOW_VALUE.equals(value))
+        {
+            return true;
+        }
+
+        final Set<String> values = admitted.computeIfAbsent(slot, s -> ConcurrentHashMap.newKeySet());
+        if (values.contains(value))
+        {
+            return true;
+        }
+        synchronized (values)
+        {
+            // Checked under the lock so concurrent registrations cannot overshoot the cap
+            if (values.size() >= maxTagValues)
+            {
+                return values.contains(value);
+            }
+            values.add(value);
+            return true;
+        }
+    }
+
+    private static double countValues(final ConcurrentMap<TagSlot, Set<String>> admitted)
+    {
+        long count = 0L;
+        for (final Set<String> values : admitted.values())
+        {
+            count += values.size();
+        }
+        return count;
+    }
+
+    private record TagSlot(String meterName, String tagKey)
+    {}
+}
@@ -0,0 +1,148 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+/**
+ * Periodically removes meters that have been idle longer than a TTL, so tag values that stop occurring (a departed
+ * tenant, a renamed circuit) do not stay in the registry - and in every scrape - for the lifetime of the pod.
+ *
+ * <p>Only counters and timers owned by {@link MeterHandleCache} and not pinned expire (see
+ * {@link MeterHandleCache#expireIdle}). Before an idle meter is removed the {@link MeterWriter} flushes and drops its
+ * pending state, so values still buffered for it are not lost; a meter that gains counts that way is kept. For each
+ * removed meter the {@link CardinalityGovernor} releases tag values no other meter still uses.
+ *
+ * <pre>{@code
+ * # 0 disables expiry
+ * forge.metrics.cardinality.idle-ttl=15m
+ * forge.metrics.cardinality.sweep-interval=1m
+ * }</pre>
+ */
+@ApplicationScoped
+public class IdleMeterSweeper
+{
+    private static final Logger LOGGER = Logger.getLogger(IdleMeterSweeper.class);
+
+    static final String IDLE_TTL_PROPERTY = "forge.metrics.cardinality.idle-ttl";
+    static final String SWEEP_INTERVAL_PROPERTY = "forge.metrics.cardinality.sweep-interval";
+
+    private static final Duration DEFAULT_IDLE_TTL = Duration.ofMinutes(15L);
+    private static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofMinutes(1L);
+
+    private final MeterHandleCache meterHandleCache;
+    private final CardinalityGovernor governor;
+    private final MeterWriter meterWriter;
+    private final MeterRegistry meterRegistry;
+    private final Duration idleTtl;
+    private final Duration sweepInterval;
+    private final LongSupplier nanoClock;
+    private final LongAdder expired = new LongAdder();
+
+    private ScheduledExecutorService executor;
+
+    @Inject
+    public IdleMeterSweeper(final MeterHandleCache meterHandleCache, final CardinalityGovernor governor,
+                            final MeterWriter meterWriter, final MeterRegistry meterRegistry)
+    {
+        this(meterHandleCache, governor, meterWriter, meterRegistry,
+            ConfigProvider.getConfig().getOptionalValue(IDLE_TTL_PROPERTY, Duration.class).orElse(DEFAULT_IDLE_TTL),
+            ConfigProvider.getConfig().getOptionalValue(SWEEP_INTERVAL_PROPERTY, Duration.class).orElse(DEFAULT_SWEEP_INTERVAL),
+            System::nanoTime);
+    }
+
+    IdleMeterSweeper(final MeterHandleCache meterHandleCache, final CardinalityGovernor governor,
+                     final MeterWriter meterWriter, final MeterRegistry meterRegistry, final Duration idleTtl,
+                     final Duration sweepInterval, final LongSupplier nanoClock)
+    {
+        this.meterHandleCache = meterHandleCache;
+        this.governor = governor;
+        this.meterWriter = meterWriter;
+        this.meterRegistry = meterRegistry;
+        this.idleTtl = idleTtl;
+        this.sweepInterval = sweepInterval;
+        this.nanoClock = nanoClock;
+    }
+
+    void onStart(@Observes final StartupEvent event)
+    {
+        if (idleTtl.isZero() || idleTtl.isNegative())
+        {
+            LOGGER.debug("Idle meter expiry disabled");
+            return;
+        }
+
+        FunctionCounter.builder("forge.metrics.cardinality.expired", expired, LongAdder::sum)
+            .description("Meters removed from the registry after being idle longer than the TTL")
+            .register(meterRegistry);
+
+        executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("forge-metrics-idle-sweeper").factory());
+        executor.scheduleWithFixedDelay(this::sweepSafely, sweepInterval.toMillis(), sweepInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        if (executor != null)
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a single sweep. Package-private for testing.
+     *
+     * @return the number of meters removed
+     */
+    int sweep()
+    {
+        final List<Meter> removed = meterHandleCache.expireIdle(idleTtl, nanoClock.getAsLong(), meterWriter::release);
+        for (final Meter meter : removed)
+        {
+            final Meter.Id id = meter.getId();
+            for (final Tag tag : id.getTags())
+            {
+                if (meterRegistry.find(id.getName()).tag(tag.getKey(), tag.getValue()).meters().isEmpty())
+                {
+                    governor.release(id.getName(), tag.getKey(), tag.getValue());
+                }
+            }
+        }
+        expired.add(removed.size());
+        return removed.size();
+    }
+
+    private void sweepSafely()
+    {
+        try
+        {
+            final int removed = sweep();
+            if (removed > 0)
+            {
+                LOGGER.debugf("Removed %d idle meters", removed);
+            }
+        }
+        catch (final RuntimeException e)
+        {
+            // A failing sweep must not cancel the schedule
+            LOGGER.warnf(e, "Idle meter sweep failed");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MeterWriter} that updates meters directly on the calling thread.
+ */
+public final class InlineMeterWriter implements MeterWriter
+{
+    @Override
+    public void increment(final Counter counter)
+    {
+        counter.increment();
+    }
+
+    @Override
+    public void increment(final Counter counter, final long amount)
+    {
+        counter.increment(amount);
+    }
+
+    @Override
+    public void record(final Timer timer, final long durationNanos)
+    {
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,298 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caches registered meter handles keyed by meter name and tag key/value pairs.
+ *
+ * <p>{@code Counter.builder(...).tag(...).register(registry)} builds a {@code Meter.Id}, a tag list and performs a
+ * registry lookup on every call. Recorders go through this cache instead, so repeat events cost a lock-free
+ * {@link ConcurrentHashMap#get(Object)} and the increment itself. Meters are only built and registered on the first
+ * event for a given name and tag combination.
+ *
+ * <p>Recorders with a fixed set of tag combinations should resolve their handles once up front and keep them in
+ * fields, leaving the cache for dynamic tag values (circuit names, entities, identifiers). Only meters owned by the cache
+ * are subject to {@link #expireIdle(Duration, long)}, since the cache re-registers them on their next event. A handle
+ * resolved through the cache but kept in a field would go on recording into a removed meter, so such handles must be
+ * passed through {@link #pin(Meter)}, which exempts them from expiry.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * meterHandleCache.counter("circuit.breaker.state.changes", "Circuit breaker state changes",
+ *     "circuit", circuitName, "state", state).increment();
+ * }</pre>
+ */
+@ApplicationScoped
+public class MeterHandleCache
+{
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<MeterKey, Meter> meters = new ConcurrentHashMap<>();
+    private final Set<Meter> pinned = ConcurrentHashMap.newKeySet();
+
+    // Last observed count per cached meter, only touched by expireIdle
+    private Map<Meter, Activity> activity = new IdentityHashMap<>();
+
+    @Inject
+    public MeterHandleCache(final MeterRegistry meterRegistry)
+    {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the counter for the given name and tags, registering it on first use.
+     *
+     * @param name         meter name
+     * @param description  meter description, applied on registration only
+     * @param tagKeyValues alternating tag keys and values
+     * @return cached counter handle
+     */
+    public Counter counter(final String name, final String description, final String... tagKeyValues)
+    {
+        final MeterKey key = new MeterKey(name, tagKeyValues);
+        final Meter meter = meters.get(key);
+        if (meter != null)
+        {
+            return (Counter) meter;
+        }
+
+        return (Counter) meters.computeIfAbsent(key, k ->
+        {
+            Counter.Builder builder = Counter.builder(name);
+            for (int i = 0; i < tagKeyValues.length; i += 2)
+            {
+                builder = builder.tag(tagKeyValues[i], tagKeyValues[i + 1]);
+            }
+            return builder.description(description).register(meterRegistry);
+        });
+    }
+
+    /**
+     * Returns the timer for the given name and tags, registering it on first use.
+     *
+     * @param name         meter name
+     * @param description  meter description, applied on registration only
+     * @param tagKeyValues alternating tag keys and values
+     * @return cached timer handle
+     */
+    public Timer timer(final String name, final String description, final String... tagKeyValues)
+    {
+        return timer(name, description, builder -> builder, tagKeyValues);
+    }
+
+    /**
+     * Returns the timer for the given name and tags, registering it on first use with additional builder settings
+     * (SLO buckets, percentile histograms). The configurer only runs on registration, and timers sharing a name and
+     * tags must be configured identically.
+     *
+     * @param name         meter name
+     * @param description  meter description, applied on registration only
+     * @param configurer   applies distribution settings to the builder, applied on registration only
+     * @param tagKeyValues alternating tag keys and values
+     * @return cached timer handle
+     */
+    public Timer timer(final String name, final String description, final UnaryOperator<Timer.Builder> configurer,
+                       final String... tagKeyValues)
+    {
+        final MeterKey key = new MeterKey(name, tagKeyValues);
+        final Meter meter = meters.get(key);
+        if (meter != null)
+        {
+            return (Timer) meter;
+        }
+
+        return (Timer) meters.computeIfAbsent(key, k ->
+        {
+            Timer.Builder builder = Timer.builder(name);
+            for (int i = 0; i < tagKeyValues.length; i += 2)
+            {
+                builder = builder.tag(tagKeyValues[i], tagKeyValues[i + 1]);
+            }
+            return configurer.apply(builder.description(description)).register(meterRegistry);
+        });
+    }
+
+    /**
+     * Returns the distribution summary for the given name and tags, registering it on first use with the given builder
+     * settings. The configurer only runs on registration, and summaries sharing a name and tags must be configured
+     * identically.
+     *
+     * @param name         meter name
+     * @param description  meter description, applied on registration only
+     * @param configurer   applies distribution settings to the builder, applied on registration only
+     * @param tagKeyValues alternating tag keys and values
+     * @return cached distribution summary handle
+     */
+    public DistributionSummary summary(final String name, final String description,
+                                       final UnaryOperator<DistributionSummary.Builder> configurer,
+                                       final String... tagKeyValues)
+    {
+        final MeterKey key = new MeterKey(name, tagKeyValues);
+        final Meter meter = meters.get(key);
+        if (meter != null)
+        {
+            return (DistributionSummary) meter;
+        }
+
+        return (DistributionSummary) meters.computeIfAbsent(key, k ->
+        {
+            DistributionSummary.Builder builder = DistributionSummary.builder(name);
+            for (int i = 0; i < tagKeyValues.length; i += 2)
+            {
+                builder = builder.tag(tagKeyValues[i], tagKeyValues[i + 1]);
+            }
+            return configurer.apply(builder.description(description)).register(meterRegistry);
+        });
+    }
+
+    /**
+     * Exempts a handle from {@link #expireIdle(Duration, long)}, for callers that keep it beyond a single event.
+     *
+     * @param meter a handle returned by this cache
+     * @param <M>   meter type
+     * @return the same handle
+     */
+    public <M extends Meter> M pin(final M meter)
+    {
+        pinned.add(meter);
+        return meter;
+    }
+
+    /**
+     * Removes cached counters, timers and summaries whose count has not changed for at least {@code idleTtl} from the
+     * cache and the registry. A meter is only considered idle after it was seen unchanged by calls spanning the TTL, so
+     * the first call after registration never expires it.
+     *
+     * <p>An event racing with the removal may land on the removed meter and be lost; for a meter idle for a whole TTL
+     * that is at most one event. The next event re-registers the meter, starting from zero like a restarted counter.
+     *
+     * @param idleTtl  how long a meter's count must stay unchanged
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return the meters removed from the registry
+     */
+    public List<Meter> expireIdle(final Duration idleTtl, final long nowNanos)
+    {
+        return expireIdle(idleTtl, nowNanos, meter ->
+        {
+        });
+    }
+
+    /**
+     * Like {@link #expireIdle(Duration, long)}, handing each idle meter to {@code beforeRemoval} first so state held
+     * outside the meter (a {@link MeterWriter}'s pending values) can be flushed into it. A meter whose count changes
+     * in that step is kept.
+     *
+     * @param idleTtl       how long a meter's count must stay unchanged
+     * @param nowNanos      current {@link System#nanoTime()}
+     * @param beforeRemoval called for each idle meter before it is removed
+     * @return the meters removed from the registry
+     */
+    public synchronized List<Meter> expireIdle(final Duration idleTtl, final long nowNanos,
+                                               final Consumer<Meter> beforeRemoval)
+    {
+        final long ttlNanos = idleTtl.toNanos();
+        final Map<Meter, Activity> active = new IdentityHashMap<>();
+        final Set<Meter> expired = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (final Meter meter : meters.values())
+        {
+            if (active.containsKey(meter) || expired.contains(meter) || pinned.contains(meter))
+            {
+                // Shared by several keys, e.g. after tag values were folded by the cardinality governor
+                continue;
+            }
+            final double count = countOf(meter);
+            final Activity previous = activity.get(meter);
+            final Activity current = previous != null && previous.count() == count ? previous : new Activity(count, nowNanos);
+            if (nowNanos - current.sinceNanos() < ttlNanos)
+            {
+                active.put(meter, current);
+                continue;
+            }
+            beforeRemoval.accept(meter);
+            final double flushed = countOf(meter);
+            if (flushed == count)
+            {
+                expired.add(meter);
+            }
+            else
+            {
+                active.put(meter, new Activity(flushed, nowNanos));
+            }
+        }
+        activity = active;
+
+        if (expired.isEmpty())
+        {
+            return List.of();
+        }
+        meters.values().removeIf(expired::contains);
+        expired.forEach(meterRegistry::remove);
+        return new ArrayList<>(expired);
+    }
+
+    private static double countOf(final Meter meter)
+    {
+        if (meter instanceof final Timer timer)
+        {
+            return timer.count();
+        }
+        if (meter instanceof final DistributionSummary summary)
+        {
+            return summary.count();
+        }
+        return ((Counter) meter).count();
+    }
+
+    private record Activity(double count, long sinceNanos)
+    {}
+
+    /**
+     * Cache key - array contents participate in equality, so callers may pass a fresh varargs array per event.
+     */
+    private record MeterKey(String name, String[] tagKeyValues)
+    {
+        private MeterKey
+        {
+            if (tagKeyValues.length % 2 != 0)
+            {
+                throw new IllegalArgumentException("Tags must be alternating key/value pairs for meter " + name);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object other)
+        {
+            return other instanceof final MeterKey that && name.equals(that.name) && Arrays.equals(tagKeyValues, that.tagKeyValues);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * name.hashCode() + Arrays.hashCode(tagKeyValues);
+        }
+
+        @Override
+        public String toString()
+        {
+            return name + Arrays.toString(tagKeyValues);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Write path from recorders to meter handles.
+ *
+ * <p>Recorders resolve handles through {@link MeterHandleCache} and hand updates to the writer, which decides when and
+ * on which thread they reach the meter. The implementation is selected with {@code forge.metrics.recording.mode}
+ * (see {@link MeterWriterProducer}):
+ * <ul>
+ * <li>{@code inline} (default) - {@link InlineMeterWriter}, updates meters on the calling thread</li>
+ * <li>{@code ring-buffer} - {@link RingBufferMeterWriter}, publishes to a pre-allocated ring drained by a single
+ * consumer thread, dropping (and counting) updates when full</li>
+ * <li>{@code striped} - {@link StripedMeterWriter}, accumulates into striped cells flushed to the meters on a
+ * schedule</li>
+ * </ul>
+ *
+ * <p>Implementations must be thread-safe and must never block the caller.
+ */
+public interface MeterWriter
+{
+    /**
+     * Increments the counter by one.
+     *
+     * @param counter counter handle
+     */
+    void increment(Counter counter);
+
+    /**
+     * Increments the counter by the given amount, e.g. the weight of a sampled invocation.
+     *
+     * @param counter counter handle
+     * @param amount  amount to add
+     */
+    void increment(Counter counter, long amount);
+
+    /**
+     * Records a duration on the timer.
+     *
+     * @param timer         timer handle
+     * @param durationNanos duration in nanoseconds
+     */
+    void record(Timer timer, long durationNanos);
+
+    /**
+     * Flushes and drops any state held for a meter that is about to be removed from the registry. No-op by default.
+     *
+     * @param meter the meter being removed
+     */
+    default void release(final Meter meter)
+    {
+        // Nothing held by default
+    }
+}
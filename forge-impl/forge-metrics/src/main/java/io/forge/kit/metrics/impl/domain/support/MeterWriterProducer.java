@@ -0,0 +1,90 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import java.time.Duration;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+/**
+ * Produces the {@link MeterWriter} used by forge-metrics recorders.
+ *
+ * <p>The mode is selected with:
+ * <pre>{@code
+ * # inline (default) | ring-buffer | striped
+ * forge.metrics.recording.mode=ring-buffer
+ * forge.metrics.recording.ring-buffer.capacity=65536
+ * forge.metrics.recording.striped.flush-interval=1s
+ * }</pre>
+ *
+ * <p>The ring-buffer mode exports {@code forge.metrics.recording.dropped} and {@code forge.metrics.recording.backlog}
+ * so back-pressure is observable.
+ */
+@ApplicationScoped
+public class MeterWriterProducer
+{
+    private static final Logger LOGGER = Logger.getLogger(MeterWriterProducer.class);
+
+    static final String MODE_PROPERTY = "forge.metrics.recording.mode";
+    static final String RING_BUFFER_CAPACITY_PROPERTY = "forge.metrics.recording.ring-buffer.capacity";
+    static final String STRIPED_FLUSH_INTERVAL_PROPERTY = "forge.metrics.recording.striped.flush-interval";
+
+    private static final int DEFAULT_RING_BUFFER_CAPACITY = 65_536;
+    private static final Duration DEFAULT_STRIPED_FLUSH_INTERVAL = Duration.ofSeconds(1L);
+
+    @Produces
+    @ApplicationScoped
+    public MeterWriter produceMeterWriter(final MeterRegistry meterRegistry)
+    {
+        final Config config = ConfigProvider.getConfig();
+        final String mode = config.getOptionalValue(MODE_PROPERTY, String.class).orElse("inline");
+
+        return switch (mode)
+        {
+            case "ring-buffer" -> ringBuffer(meterRegistry,
+                config.getOptionalValue(RING_BUFFER_CAPACITY_PROPERTY, Integer.class).orElse(DEFAULT_RING_BUFFER_CAPACITY));
+            case "striped" -> new StripedMeterWriter(
+                config.getOptionalValue(STRIPED_FLUSH_INTERVAL_PROPERTY, Duration.class).orElse(DEFAULT_STRIPED_FLUSH_INTERVAL));
+            case "inline" -> new InlineMeterWriter();
+            default ->
+            {
+                LOGGER.warnf("Unknown %s '%s' - falling back to inline recording", MODE_PROPERTY, mode);
+                yield new InlineMeterWriter();
+            }
+        };
+    }
+
+    void closeMeterWriter(@Disposes final MeterWriter meterWriter)
+    {
+        if (meterWriter instanceof final AutoCloseable closeable)
+        {
+            try
+            {
+                closeable.close();
+            }
+            catch (final Exception e)
+            {
+                LOGGER.warnf(e, "Failed to close meter writer");
+            }
+        }
+    }
+
+    private static MeterWriter ringBuffer(final MeterRegistry meterRegistry, final int capacity)
+    {
+        LOGGER.debugf("Metrics recording mode: ring-buffer (capacity=%d)", capacity);
+
+        final RingBufferMeterWriter writer = new RingBufferMeterWriter(capacity);
+        FunctionCounter.builder("forge.metrics.recording.dropped", writer, RingBufferMeterWriter::droppedCount)
+            .description("Metrics updates dropped because the recording ring buffer was full")
+            .register(meterRegistry);
+        Gauge.builder("forge.metrics.recording.backlog", writer, RingBufferMeterWriter::backlog)
+            .description("Metrics updates published but not yet applied")
+            .register(meterRegistry);
+        return writer;
+    }
+}
@@ -4,11 +4,21 @@ package io.forge.kit.metrics.impl.domain.support;
  * Utility class for sanitizing tag values for Prometheus metrics.
  * Prometheus tag values must be valid UTF-8 and should not contain certain special characters
  * that can cause export issues.
+ *
+ * <p>Runs on the recording path, so it scans the value once and returns it unchanged - without allocating - when
+ * nothing needs replacing. Values that do need rewriting are remembered in a small direct-mapped cache, so a hot
+ * identifier is rewritten once rather than on every event.
  */
 public final class MetricsTagSanitizer
 {
     private static final int MAX_TAG_VALUE_LENGTH = 100;
     private static final String TRUNCATION_SUFFIX = "...";
+    private static final String UNKNOWN = "unknown";
+
+    // Direct-mapped: a colliding value overwrites the slot, so the cache always holds recently sanitized values
+    private static final int CACHE_SIZE = 256;
+    private static final int MAX_CACHED_LENGTH = 256;
+    private static final Entry[] CACHE = new Entry[CACHE_SIZE];
 
     private MetricsTagSanitizer()
     {
@@ -17,33 +27,72 @@ public final class MetricsTagSanitizer
 
     /**
      * Sanitizes a tag value for use in Prometheus metrics.
-     * Replaces problematic characters and truncates long values to prevent export issues.
+     * Replaces problematic characters (colons, spaces, newlines, carriage returns and tabs) with underscores and
+     * truncates values longer than 100 characters to prevent export issues.
      *
      * @param value The tag value to sanitize
-     * @return Sanitized tag value safe for use in Prometheus metrics
+     * @return Sanitized tag value safe for use in Prometheus metrics; {@code value} itself if already safe
      */
     public static String sanitize(final String value)
     {
         if (value == null || value.isEmpty())
         {
-            return "unknown";
+            return UNKNOWN;
         }
 
-        // Replace problematic characters that can cause Prometheus export issues
-        String sanitized = value
-            .replace(":", "_")  // Colons can cause issues in Prometheus
-            .replace(" ", "_")  // Spaces should be underscores
-            .replace("\n", "_")  // Newlines should be removed
-            .replace("\r", "_")  // Carriage returns should be removed
-            .replace("\t", "_"); // Tabs should be removed
+        final int length = value.length();
+        final boolean truncate = length > MAX_TAG_VALUE_LENGTH;
+        final int kept = truncate ? MAX_TAG_VALUE_LENGTH - TRUNCATION_SUFFIX.length() : length;
 
-        // Truncate very long values to prevent metric cardinality explosion
-        if (sanitized.length() > MAX_TAG_VALUE_LENGTH)
+        int first = 0;
+        while (first < kept && !isReplaced(value.charAt(first)))
+        {
+            first++;
+        }
+        if (first == kept && !truncate)
         {
-            final int maxLength = MAX_TAG_VALUE_LENGTH - TRUNCATION_SUFFIX.length();
-            sanitized = sanitized.substring(0, maxLength) + TRUNCATION_SUFFIX;
+            return value;
         }
 
-        return sanitized;
+        final boolean cacheable = length <= MAX_CACHED_LENGTH;
+        final int slot = cacheable ? value.hashCode() & (CACHE_SIZE - 1) : 0;
+        if (cacheable)
+        {
+            final Entry cached = CACHE[slot];
+            if (cached != null && cached.raw().equals(value))
+            {
+                return cached.sanitized();
+            }
+        }
+
+        final char[] sanitized = new char[truncate ? MAX_TAG_VALUE_LENGTH : length];
+        value.getChars(0, kept, sanitized, 0);
+        for (int i = first; i < kept; i++)
+        {
+            if (isReplaced(sanitized[i]))
+            {
+                sanitized[i] = '_';
+            }
+        }
+        if (truncate)
+        {
+            TRUNCATION_SUFFIX.getChars(0, TRUNCATION_SUFFIX.length(), sanitized, kept);
+        }
+
+        final String result = new String(sanitized);
+        if (cacheable)
+        {
+            // Entry is immutable, so a racy publication is safe; at worst another thread misses and recomputes
+            CACHE[slot] = new Entry(value, result);
+        }
+        return result;
     }
+
+    private static boolean isReplaced(final char c)
+    {
+        return c == ':' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private record Entry(String raw, String sanitized)
+    {}
 }
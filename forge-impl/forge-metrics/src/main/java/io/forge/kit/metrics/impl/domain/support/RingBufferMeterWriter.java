@@ -0,0 +1,262 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.jboss.logging.Logger;
+
+/**
+ * {@link MeterWriter} that moves meter updates off the request thread.
+ *
+ * <p>Producers claim a slot in a pre-allocated, power-of-two ring with a single CAS and write the meter handle and a
+ * primitive value into it. Nothing is allocated per event. A single consumer thread drains published slots in
+ * batches, sums counter increments per meter and applies them to the meters.
+ *
+ * <p>Back-pressure policy is drop-and-count: when the ring is full the update is discarded and
+ * {@link #droppedCount()} is incremented, so recording can never stall a request.
+ *
+ * <p>Updates become visible in the registry after the consumer's next drain. While events keep arriving that is well
+ * under a millisecond; an idle consumer backs off from spinning to yielding to parking for up to
+ * {@value #MAX_IDLE_PARK_MILLIS} ms, so the first update after a quiet period can take that long to show up.
+ */
+public final class RingBufferMeterWriter implements MeterWriter, AutoCloseable
+{
+    private static final Logger LOGGER = Logger.getLogger(RingBufferMeterWriter.class);
+
+    private static final int MAX_BATCH = 1_024;
+    private static final int IDLE_SPINS = 100;
+    private static final int IDLE_YIELDS = 10;
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    private static final long MAX_IDLE_PARK_MILLIS = 5L;
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(MAX_IDLE_PARK_MILLIS);
+
+    private final int mask;
+    private final Meter[] meters;
+    private final long[] values;
+
+    /**
+     * Per-slot publication marker: a slot holding sequence {@code s} is readable once its marker equals {@code s + 1}.
+     */
+    private final AtomicLongArray published;
+    private final AtomicLong producerSequence = new AtomicLong();
+    private final AtomicLong consumerSequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<Counter, long[]> counterBatch = new IdentityHashMap<>();
+    private final Thread consumer;
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates and starts the writer.
+     *
+     * @param capacity ring capacity, rounded up to a power of two
+     */
+    public RingBufferMeterWriter(final int capacity)
+    {
+        this(capacity, true);
+    }
+
+    /**
+     * Creates the writer; without a consumer thread the ring is drained only via {@link #drain()}.
+     */
+    RingBufferMeterWriter(final int capacity, final boolean startConsumer)
+    {
+        final int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = size - 1;
+        this.meters = new Meter[size];
+        this.values = new long[size];
+        this.published = new AtomicLongArray(size);
+        this.consumer = startConsumer
+            ? Thread.ofPlatform().daemon().name("forge-metrics-ring-buffer").start(this::drainLoop)
+            : null;
+    }
+
+    @Override
+    public void increment(final Counter counter)
+    {
+        publish(counter, 1L);
+    }
+
+    @Override
+    public void increment(final Counter counter, final long amount)
+    {
+        publish(counter, amount);
+    }
+
+    @Override
+    public void record(final Timer timer, final long durationNanos)
+    {
+        publish(timer, durationNanos);
+    }
+
+    /**
+     * Returns the number of updates discarded because the ring was full.
+     */
+    public long droppedCount()
+    {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of published updates not yet applied.
+     */
+    public long backlog()
+    {
+        return producerSequence.get() - consumerSequence.get();
+    }
+
+    /**
+     * Stops the consumer after draining updates already published.
+     */
+    @Override
+    public void close()
+    {
+        running = false;
+        if (consumer == null)
+        {
+            return;
+        }
+        LockSupport.unpark(consumer);
+        try
+        {
+            consumer.join(TimeUnit.SECONDS.toMillis(5L));
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(final Meter meter, final long value)
+    {
+        long sequence;
+        do
+        {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence.get() > mask)
+            {
+                dropped.increment();
+                return;
+            }
+        }
+        while (!producerSequence.compareAndSet(sequence, sequence + 1L));
+
+        final int index = (int) sequence & mask;
+        meters[index] = meter;
+        values[index] = value;
+        // Volatile store publishes the plain writes above to the consumer
+        published.set(index, sequence + 1L);
+    }
+
+    private void drainLoop()
+    {
+        int idlePasses = 0;
+        long parkNanos = MIN_IDLE_PARK_NANOS;
+        while (running || backlog() > 0L)
+        {
+            if (drain() > 0)
+            {
+                idlePasses = 0;
+                parkNanos = MIN_IDLE_PARK_NANOS;
+                continue;
+            }
+
+            // Back off progressively so an idle writer does not wake up thousands of times per second
+            idlePasses++;
+            if (idlePasses <= IDLE_SPINS)
+            {
+                Thread.onSpinWait();
+            }
+            else if (idlePasses <= IDLE_SPINS + IDLE_YIELDS)
+            {
+                Thread.yield();
+            }
+            else
+            {
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos << 1, MAX_IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Applies up to one batch of published updates. Must only be called from a single thread.
+     *
+     * @return number of updates drained
+     */
+    int drain()
+    {
+        long next = consumerSequence.get();
+        int drained = 0;
+
+        while (drained < MAX_BATCH)
+        {
+            final int index = (int) next & mask;
+            if (published.get(index) != next + 1L)
+            {
+                // Not yet published (or a producer is mid-write) - stop here and retry on the next pass
+                break;
+            }
+
+            final Meter meter = meters[index];
+            final long value = values[index];
+            meters[index] = null;
+
+            if (meter instanceof final Counter counter)
+            {
+                counterBatch.computeIfAbsent(counter, c -> new long[1])[0] += value;
+            }
+            else if (meter instanceof final Timer timer)
+            {
+                applyRecord(timer, value);
+            }
+
+            next++;
+            drained++;
+        }
+
+        // Release the drained slots to producers before touching the registry
+        consumerSequence.set(next);
+
+        for (final Map.Entry<Counter, long[]> entry : counterBatch.entrySet())
+        {
+            applyIncrement(entry.getKey(), entry.getValue()[0]);
+        }
+        counterBatch.clear();
+
+        return drained;
+    }
+
+    private static void applyRecord(final Timer timer, final long durationNanos)
+    {
+        try
+        {
+            timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+        catch (final RuntimeException e)
+        {
+            // A failing meter must not kill the consumer thread
+            LOGGER.warnf(e, "Failed to apply metrics update");
+        }
+    }
+
+    private static void applyIncrement(final Counter counter, final long amount)
+    {
+        try
+        {
+            counter.increment(amount);
+        }
+        catch (final RuntimeException e)
+        {
+            // A failing meter must not kill the consumer thread
+            LOGGER.warnf(e, "Failed to apply metrics update");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.forge.kit.metrics.impl.aggregation.StripedCounter;
+import io.forge.kit.metrics.impl.aggregation.StripedHistogram;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jboss.logging.Logger;
+
+/**
+ * {@link MeterWriter} that accumulates into registry-independent striped cells and flushes them to the meters on a
+ * schedule.
+ *
+ * <p>The request path is a map read plus a {@link java.util.concurrent.atomic.LongAdder} add, so contended meters no
+ * longer serialize callers. Counter deltas are flushed exactly; timer samples are aggregated in a
+ * {@link StripedHistogram} and replayed at their bucket midpoint, so recorded durations carry at most 6.25% relative
+ * error.
+ *
+ * <p>Micrometer's {@link Timer} has no bulk record, so a flush still replays one {@code record} per sample. That work
+ * runs on the single flush thread, off the request path, and replays each bucket as a tight loop of identical values
+ * against a meter no other thread is writing.
+ *
+ * <p>Meter values lag by up to one flush interval. Pending values are flushed on {@link #close()}.
+ */
+public final class StripedMeterWriter implements MeterWriter, AutoCloseable
+{
+    private static final Logger LOGGER = Logger.getLogger(StripedMeterWriter.class);
+
+    private final ConcurrentMap<Counter, StripedCounter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Timer, StripedHistogram> timers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final TimerReplay timerReplay = new TimerReplay();
+
+    /**
+     * Creates the writer and schedules flushing.
+     *
+     * @param flushInterval interval between flushes
+     */
+    public StripedMeterWriter(final Duration flushInterval)
+    {
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("forge-metrics-striped-flush").factory());
+        final long intervalNanos = flushInterval.toNanos();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates the writer without a flush schedule; values reach the meters only via {@link #flush()}.
+     */
+    StripedMeterWriter()
+    {
+        this.flusher = null;
+    }
+
+    @Override
+    public void increment(final Counter counter)
+    {
+        cellFor(counter).increment();
+    }
+
+    @Override
+    public void increment(final Counter counter, final long amount)
+    {
+        cellFor(counter).add(amount);
+    }
+
+    @Override
+    public void record(final Timer timer, final long durationNanos)
+    {
+        StripedHistogram cell = timers.get(timer);
+        if (cell == null)
+        {
+            cell = timers.computeIfAbsent(timer, t -> new StripedHistogram());
+        }
+        cell.record(durationNanos);
+    }
+
+    /**
+     * Applies the meter's pending values before dropping its cell, under the flush lock so the scheduled flush cannot
+     * drain the same cell concurrently.
+     */
+    @Override
+    public synchronized void release(final Meter meter)
+    {
+        final StripedCounter counterCell = counters.remove(meter);
+        if (counterCell != null)
+        {
+            final long delta = counterCell.drain();
+            if (delta > 0L)
+            {
+                ((Counter) meter).increment(delta);
+            }
+        }
+        final StripedHistogram timerCell = timers.remove(meter);
+        if (timerCell != null)
+        {
+            timerReplay.timer = (Timer) meter;
+            timerCell.drain(timerReplay);
+            timerReplay.timer = null;
+        }
+    }
+
+    /**
+     * Applies everything accumulated since the previous flush to the meters.
+     */
+    public synchronized void flush()
+    {
+        counters.forEach((counter, cell) ->
+        {
+            final long delta = cell.drain();
+            if (delta > 0L)
+            {
+                counter.increment(delta);
+            }
+        });
+        for (final Map.Entry<Timer, StripedHistogram> entry : timers.entrySet())
+        {
+            timerReplay.timer = entry.getKey();
+            entry.getValue().drain(timerReplay);
+        }
+        timerReplay.timer = null;
+    }
+
+    /**
+     * Stops the schedule and flushes pending values.
+     */
+    @Override
+    public void close()
+    {
+        if (flusher != null)
+        {
+            flusher.shutdown();
+            try
+            {
+                flusher.awaitTermination(5L, TimeUnit.SECONDS);
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushQuietly();
+    }
+
+    private StripedCounter cellFor(final Counter counter)
+    {
+        final StripedCounter cell = counters.get(counter);
+        return cell != null ? cell : counters.computeIfAbsent(counter, c -> new StripedCounter());
+    }
+
+    private void flushQuietly()
+    {
+        try
+        {
+            flush();
+        }
+        catch (final RuntimeException e)
+        {
+            // A failing meter must not cancel the schedule
+            LOGGER.warnf(e, "Failed to flush striped metrics");
+        }
+    }
+
+    /**
+     * Replays drained buckets into one timer; reused across timers and flushes instead of a capturing lambda per timer.
+     */
+    private static final class TimerReplay implements StripedHistogram.BucketConsumer
+    {
+        private Timer timer;
+
+        @Override
+        public void accept(final long value, final long count)
+        {
+            for (long i = 0; i < count; i++)
+            {
+                timer.record(value, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
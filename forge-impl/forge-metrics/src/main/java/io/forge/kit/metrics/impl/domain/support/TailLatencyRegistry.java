@@ -0,0 +1,143 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import io.forge.kit.common.impl.interceptor.InvocationContextParameterExtractor;
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.domain.TailLatencyCapture;
+import io.forge.kit.metrics.impl.aggregation.SlowestInvocationReservoir;
+import io.forge.kit.metrics.impl.dto.SlowInvocation;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-method reservoirs of the slowest invocations for methods annotated with {@link TailLatencyCapture}.
+ *
+ * <p>The metrics interceptors call {@link #offer(InvocationContext, long)} with every measured duration. Methods
+ * without the annotation resolve to a shared sentinel on their first call, so afterwards they cost one map read.
+ * Annotated methods pay one comparison against their reservoir's N-th slowest; only qualifying invocations extract
+ * and stringify their arguments.
+ */
+@ApplicationScoped
+public class TailLatencyRegistry
+{
+    private static final Capture NOT_CAPTURED = new Capture(null, null);
+
+    /**
+     * Longest argument snapshot kept, so a large argument cannot pin memory in the reservoir.
+     */
+    private static final int MAX_ARGUMENT_LENGTH = 256;
+
+    private final ConcurrentMap<Method, Capture> captures = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final Clock wallClock;
+    private final AnnotationResolver annotationResolver;
+
+    @Inject
+    public TailLatencyRegistry(final AnnotationResolver annotationResolver)
+    {
+        this(System::nanoTime, Clock.systemUTC(), annotationResolver);
+    }
+
+    TailLatencyRegistry(final LongSupplier nanoClock, final Clock wallClock, final AnnotationResolver annotationResolver)
+    {
+        this.nanoClock = nanoClock;
+        this.wallClock = wallClock;
+        this.annotationResolver = annotationResolver;
+    }
+
+    /**
+     * Offers a finished invocation to its method's reservoir, if the method captures tail latency.
+     *
+     * @param context       the invocation context
+     * @param durationNanos elapsed time of the invocation
+     */
+    public void offer(final InvocationContext context, final long durationNanos)
+    {
+        final Method method = context.getMethod();
+        Capture capture = captures.get(method);
+        if (capture == null)
+        {
+            capture = captures.computeIfAbsent(method, this::createCapture);
+        }
+        if (capture == NOT_CAPTURED)
+        {
+            return;
+        }
+
+        if (capture.reservoir().qualifies(durationNanos, nanoClock.getAsLong()))
+        {
+            capture.reservoir().offer(new SlowInvocation(durationNanos, wallClock.instant(),
+                Thread.currentThread().getName(), snapshotArguments(context, capture.argPaths())));
+        }
+    }
+
+    /**
+     * Returns the slowest recent invocations of every capturing method, keyed by {@code ClassName#methodName}.
+     */
+    public Map<String, List<SlowInvocation>> snapshot()
+    {
+        final long now = nanoClock.getAsLong();
+        final Map<String, List<SlowInvocation>> snapshot = new TreeMap<>();
+        captures.forEach((method, capture) ->
+        {
+            if (capture != NOT_CAPTURED)
+            {
+                snapshot.merge(method.getDeclaringClass().getSimpleName() + "#" + method.getName(),
+                    capture.reservoir().snapshot(now), TailLatencyRegistry::concat);
+            }
+        });
+        return snapshot;
+    }
+
+    private Capture createCapture(final Method method)
+    {
+        final TailLatencyCapture annotation = annotationResolver.resolve(method, TailLatencyCapture.class);
+        if (annotation == null)
+        {
+            return NOT_CAPTURED;
+        }
+        return new Capture(new SlowestInvocationReservoir(annotation.size(),
+            Duration.ofSeconds(annotation.windowSeconds()), nanoClock.getAsLong()), annotation.argPaths());
+    }
+
+    private static List<String> snapshotArguments(final InvocationContext context, final String[] argPaths)
+    {
+        if (argPaths.length == 0)
+        {
+            return List.of();
+        }
+
+        final Object[] values = InvocationContextParameterExtractor.extractParameterValues(context, argPaths);
+        final List<String> arguments = new ArrayList<>(values.length);
+        for (final Object value : values)
+        {
+            final String text = String.valueOf(value);
+            arguments.add(text.length() > MAX_ARGUMENT_LENGTH ? text.substring(0, MAX_ARGUMENT_LENGTH) + "..." : text);
+        }
+        return List.copyOf(arguments);
+    }
+
+    /**
+     * Overloads share a name; their captures are listed together.
+     */
+    private static List<SlowInvocation> concat(final List<SlowInvocation> first, final List<SlowInvocation> second)
+    {
+        final List<SlowInvocation> merged = new ArrayList<>(first);
+        merged.addAll(second);
+        return merged;
+    }
+
+    private record Capture(SlowestInvocationReservoir reservoir, String[] argPaths)
+    {
+    }
+}
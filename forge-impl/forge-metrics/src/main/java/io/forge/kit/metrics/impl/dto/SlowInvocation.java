@@ -0,0 +1,16 @@
+package io.forge.kit.metrics.impl.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One captured slow invocation, see {@code TailLatencyCapture}.
+ *
+ * @param durationNanos elapsed time of the invocation
+ * @param timestamp     when the invocation finished
+ * @param thread        name of the thread that finished it
+ * @param arguments     string snapshots of the configured argument paths, in order
+ */
+public record SlowInvocation(long durationNanos, Instant timestamp, String thread, List<String> arguments)
+{
+}
@@ -1,13 +1,15 @@
 package io.forge.kit.metrics.impl.faulttolerance;
 
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import io.forge.kit.metrics.api.faulttolerance.CircuitBreakerMetrics;
-import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.forge.kit.metrics.impl.domain.support.AsyncResultSupport;
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
 
 /**
  * CDI interceptor that automatically collects circuit breaker state change metrics for methods annotated with both
@@ -16,14 +18,17 @@ import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
  * <p>The interceptor:
  * <ul>
  * <li>Detects methods with {@link CircuitBreaker} annotation</li>
- * <li>Tracks circuit breaker state before and after method execution</li>
- * <li>Records state transitions (closed → open, open → half_open, half_open → closed)</li>
- * <li>Uses SmallRye Fault Tolerance API to query circuit breaker state</li>
+ * <li>Subscribes the circuit breaker to SmallRye Fault Tolerance state-change events on first invocation</li>
+ * <li>Records state transitions (closed → open, open → half_open, half_open → closed) as they happen</li>
  * </ul>
  *
- * <p>This interceptor works with any return type and records state changes regardless
- * of success or failure. State changes are detected by querying the circuit breaker
- * state before and after method execution.
+ * <p>This interceptor works with any return type, including {@code CompletionStage}, {@code Uni} and {@code Multi}.
+ * After the first invocation of a circuit it adds no work to the call: transitions are pushed by the circuit breaker,
+ * so transitions between calls (e.g. open → half_open after the delay) are recorded too.
+ *
+ * <p>Because it runs outside the SmallRye Fault Tolerance interceptor, it also sees calls the circuit breaker rejects
+ * with {@link CircuitBreakerOpenException} (thrown, or as the failure of an asynchronous result) and counts them as
+ * {@code circuit.breaker.calls.rejected}.
  *
  * <p>Example:
  * <pre>
@@ -50,9 +55,18 @@ public final class CircuitBreakerMetricsInterceptor
 {
     private final CircuitBreakerStateTracker stateTracker;
 
+    private final AnnotationResolver annotationResolver;
+
+    private final CircuitBreakerNameResolver circuitBreakerNameResolver;
+
     @Inject
-    public CircuitBreakerMetricsInterceptor(CircuitBreakerStateTracker stateTracker)
-    { this.stateTracker = stateTracker; }
+    public CircuitBreakerMetricsInterceptor(final CircuitBreakerStateTracker stateTracker, final AnnotationResolver annotationResolver,
+                                            final CircuitBreakerNameResolver circuitBreakerNameResolver)
+    {
+        this.stateTracker = stateTracker;
+        this.annotationResolver = annotationResolver;
+        this.circuitBreakerNameResolver = circuitBreakerNameResolver;
+    }
 
     @AroundInvoke
     public Object collectCircuitBreakerMetrics(final InvocationContext context) throws Exception
@@ -64,23 +78,38 @@ public final class CircuitBreakerMetricsInterceptor
             return context.proceed();
         }
 
-        final String circuitName = CircuitBreakerNameResolver.resolve(context);
-        final CircuitBreakerState stateBefore = stateTracker.getPreviousState(circuitName);
+        final String circuitName = circuitBreakerNameResolver.resolve(context.getMethod());
+        stateTracker.track(circuitName);
 
-        return proceedAndRecordState(context, circuitName, stateBefore);
-    }
-
-    private Object proceedAndRecordState(final InvocationContext context, final String circuitName, final CircuitBreakerState stateBefore) throws Exception
-    {
         try
         {
             final Object result = context.proceed();
-            stateTracker.recordStateTransition(circuitName, stateBefore);
+            if (AsyncResultSupport.isAsync(result))
+            {
+                // Asynchronous rejections surface as a failed result rather than a thrown exception
+                return AsyncResultSupport.onCompletion(result, 0L, new AsyncResultSupport.AsyncCompletion()
+                {
+                    @Override
+                    public void onItem(final Object lastItem, final long durationNanos)
+                    {
+                        // Not rejected
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable failure, final long durationNanos)
+                    {
+                        if (failure instanceof CircuitBreakerOpenException)
+                        {
+                            stateTracker.recordRejection(circuitName);
+                        }
+                    }
+                });
+            }
             return result;
         }
-        catch (final Exception e)
+        catch (final CircuitBreakerOpenException e)
         {
-            stateTracker.recordStateTransition(circuitName, stateBefore);
+            stateTracker.recordRejection(circuitName);
             throw e;
         }
     }
@@ -93,8 +122,6 @@ public final class CircuitBreakerMetricsInterceptor
      */
     private CircuitBreaker findCircuitBreakerAnnotation(final InvocationContext context)
     {
-        final CircuitBreaker methodAnnotation = context.getMethod().getAnnotation(CircuitBreaker.class);
-        return methodAnnotation != null ? methodAnnotation : context.getMethod().getDeclaringClass().getAnnotation(
-            CircuitBreaker.class);
+        return annotationResolver.resolve(context.getMethod(), CircuitBreaker.class);
     }
 }
@@ -1,7 +1,10 @@
 package io.forge.kit.metrics.impl.faulttolerance;
 
+import io.forge.kit.common.impl.reflect.MethodMetadataCache;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
 
 /**
  * Resolves circuit breaker names from method annotations or class/method names.
@@ -13,30 +16,49 @@ import jakarta.interceptor.InvocationContext;
  * {@link io.smallrye.faulttolerance.api.CircuitBreakerMaintenance} when
  * they are explicitly named. If the derived name doesn't work, the interceptor will fail fast
  * when attempting to query the circuit breaker state.
+ *
+ * <p>Names are memoized per method on this bean, so a dev-mode reload discards them with the application classes.
  */
+@ApplicationScoped
 public final class CircuitBreakerNameResolver
 {
-    private CircuitBreakerNameResolver()
-    {
-        // Utility class
-    }
+    private final MethodMetadataCache<String> names = new MethodMetadataCache<>(CircuitBreakerNameResolver::resolveUncached);
 
     /**
      * Builds the circuit breaker name from the class and method name, or from explicit {@link CircuitBreakerName}
-     * annotation.
+     * annotation, without memoizing.
      *
      * @param context The invocation context
      * @return The circuit breaker name (from annotation or derived from class#method)
+     * @deprecated reflects on every call; inject this bean and use {@link #resolve(Method)} with
+     * {@code context.getMethod()} instead. Kept for callers of the former static utility and removed in the next
+     * release.
      */
+    @Deprecated(forRemoval = true)
     public static String resolve(final InvocationContext context)
     {
-        final CircuitBreakerName methodAnnotation = context.getMethod().getAnnotation(CircuitBreakerName.class);
-        final CircuitBreakerName classAnnotation = context.getMethod().getDeclaringClass().getAnnotation(
-            CircuitBreakerName.class);
-        return resolveAnnotationValue(methodAnnotation, classAnnotation, context);
+        return resolveUncached(context.getMethod());
+    }
+
+    /**
+     * Resolves the circuit breaker name for a method. Names are memoized, so reflection only happens on first use.
+     *
+     * @param method The circuit breaker guarded method
+     * @return The circuit breaker name (from annotation or derived from class#method)
+     */
+    public String resolve(final Method method)
+    {
+        return names.get(method);
+    }
+
+    private static String resolveUncached(final Method method)
+    {
+        final CircuitBreakerName methodAnnotation = method.getAnnotation(CircuitBreakerName.class);
+        final CircuitBreakerName classAnnotation = method.getDeclaringClass().getAnnotation(CircuitBreakerName.class);
+        return resolveAnnotationValue(methodAnnotation, classAnnotation, method);
     }
 
-    private static String resolveAnnotationValue(final CircuitBreakerName methodAnnotation, final CircuitBreakerName classAnnotation, final InvocationContext context)
+    private static String resolveAnnotationValue(final CircuitBreakerName methodAnnotation, final CircuitBreakerName classAnnotation, final Method method)
     {
         if (methodAnnotation != null && !methodAnnotation.value().isEmpty())
         {
@@ -44,8 +66,8 @@ public final class CircuitBreakerNameResolver
         }
         if (classAnnotation != null && !classAnnotation.value().isEmpty())
         {
-            return classAnnotation.value() + "#" + context.getMethod().getName();
+            return classAnnotation.value() + "#" + method.getName();
         }
-        return context.getMethod().getDeclaringClass().getName() + "#" + context.getMethod().getName();
+        return method.getDeclaringClass().getName() + "#" + method.getName();
     }
 }
@@ -0,0 +1,111 @@
+package io.forge.kit.metrics.impl.faulttolerance;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Current state and cumulative time spent in each state for one circuit breaker.
+ *
+ * <p>Updated only on state-change events; gauges and time-in-state counters read it lazily at scrape time, so the
+ * call path does no work for these metrics.
+ */
+public final class CircuitBreakerStateClock
+{
+    private final LongSupplier nanoClock;
+    private final long[] accumulatedNanos = new long[CircuitBreakerState.values().length];
+
+    private CircuitBreakerState state;
+    private long enteredAtNanos;
+
+    /**
+     * @param initialState the state observed when tracking started, or null if unknown
+     * @param nanoClock    monotonic clock, {@code System::nanoTime} outside tests
+     */
+    public CircuitBreakerStateClock(final CircuitBreakerState initialState, final LongSupplier nanoClock)
+    {
+        this.nanoClock = nanoClock;
+        this.state = initialState;
+        this.enteredAtNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Moves to a new state, closing the time slice of the current one.
+     *
+     * @param newState the state the circuit breaker moved to
+     * @return the previous state, or null if it was unknown
+     */
+    public synchronized CircuitBreakerState transitionTo(final CircuitBreakerState newState)
+    {
+        final CircuitBreakerState previous = state;
+        if (previous == newState)
+        {
+            return previous;
+        }
+
+        final long now = nanoClock.getAsLong();
+        if (previous != null)
+        {
+            accumulatedNanos[previous.ordinal()] += now - enteredAtNanos;
+        }
+        state = newState;
+        enteredAtNanos = now;
+        return previous;
+    }
+
+    /**
+     * Sets the state if it is still unknown, e.g. when a clock created by an early state-change event carried no
+     * state. A known state is kept, since it is at least as recent as the seed.
+     *
+     * @param initialState the state observed when tracking started, or null if unknown
+     */
+    public synchronized void seedIfUnknown(final CircuitBreakerState initialState)
+    {
+        if (state == null && initialState != null)
+        {
+            state = initialState;
+            enteredAtNanos = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * Returns the current state, or null if unknown.
+     */
+    public synchronized CircuitBreakerState state()
+    {
+        return state;
+    }
+
+    /**
+     * Returns the state as a gauge value: {@code 0} closed, {@code 1} open, {@code 2} half-open, {@code NaN} unknown.
+     */
+    public synchronized double stateValue()
+    {
+        if (state == null)
+        {
+            return Double.NaN;
+        }
+        return switch (state)
+        {
+            case CLOSED -> 0.0;
+            case OPEN -> 1.0;
+            case HALF_OPEN -> 2.0;
+        };
+    }
+
+    /**
+     * Returns the total seconds spent in a state, including the ongoing time slice if it is the current state.
+     *
+     * @param target the state to report
+     * @return cumulative seconds in {@code target}
+     */
+    public synchronized double secondsIn(final CircuitBreakerState target)
+    {
+        long nanos = accumulatedNanos[target.ordinal()];
+        if (state == target)
+        {
+            nanos += nanoClock.getAsLong() - enteredAtNanos;
+        }
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1L);
+    }
+}
@@ -4,6 +4,7 @@ import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.util.function.Consumer;
 
 /**
  * Safely fetches circuit breaker state from CircuitBreakerMaintenance.
@@ -41,6 +42,27 @@ public final class CircuitBreakerStateFetcher
         }
     }
 
+    /**
+     * Registers a callback invoked by SmallRye Fault Tolerance whenever the circuit breaker changes state.
+     *
+     * <p>The callback runs synchronously on the thread that caused the transition and must be cheap.
+     *
+     * @param circuitName The circuit breaker name
+     * @param callback    Receives the new state
+     * @throws IllegalStateException if the circuit breaker is not accessible through CircuitBreakerMaintenance
+     */
+    public void subscribe(final String circuitName, final Consumer<CircuitBreakerState> callback)
+    {
+        try
+        {
+            circuitBreakerMaintenance.onStateChange(circuitName, callback);
+        }
+        catch (final Exception e)
+        {
+            handleStateAccessException(circuitName, e);
+        }
+    }
+
     private void handleStateAccessException(final String circuitName, final Exception e)
     {
         // Circuit breakers created via annotations (without @CircuitBreakerName) are not
@@ -1,10 +1,12 @@
 package io.forge.kit.metrics.impl.faulttolerance;
 
 import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import io.forge.kit.metrics.impl.jfr.CircuitStateTransitionEvent;
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import org.jboss.logging.Logger;
@@ -12,8 +14,14 @@ import org.jboss.logging.Logger;
 /**
  * Tracks circuit breaker state transitions and records metrics when state changes occur.
  *
- * <p>This class maintains a cache of previous states per circuit breaker and detects
- * transitions (closed → open, open → half_open, half_open → closed).
+ * <p>Each circuit breaker is subscribed once, on first use, to SmallRye Fault Tolerance state-change events via
+ * {@link CircuitBreakerStateFetcher#subscribe}. Transitions (closed → open, open → half_open, half_open → closed) are
+ * then recorded when they happen - including transitions between calls - and calls that change nothing do no
+ * state lookups at all.
+ *
+ * <p>Each tracked circuit also gets a {@link CircuitBreakerStateClock} backing the state gauge and time-in-state
+ * counters, which are evaluated only when metrics are scraped. Transitions are also emitted as
+ * {@link CircuitStateTransitionEvent}s for JDK Flight Recorder.
  */
 @ApplicationScoped
 public final class CircuitBreakerStateTracker
@@ -26,7 +34,9 @@ public final class CircuitBreakerStateTracker
         CircuitBreakerState.HALF_OPEN, "half_open"
     );
 
-    private final ConcurrentMap<String, CircuitBreakerState> previousStates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CircuitBreakerStateClock> clocks = new ConcurrentHashMap<>();
+
+    private final Set<String> subscribedCircuits = ConcurrentHashMap.newKeySet();
 
     private final CircuitBreakerMetricsRecorder recorder;
 
@@ -40,31 +50,70 @@ public final class CircuitBreakerStateTracker
     }
 
     /**
-     * Records a circuit breaker state transition if the state has changed.
+     * Ensures state changes of the circuit breaker are tracked. Only the first call per circuit does any work.
      *
      * @param circuitName The circuit breaker name
-     * @param stateBefore The state before method execution (may be null on first invocation)
+     * @throws IllegalStateException if the circuit breaker is not accessible through CircuitBreakerMaintenance
      */
-    public void recordStateTransition(final String circuitName, final CircuitBreakerState stateBefore)
+    public void track(final String circuitName)
     {
-        final CircuitBreakerState stateAfter = stateFetcher.getCurrentState(circuitName);
-        if (stateAfter == null)
+        if (subscribedCircuits.contains(circuitName) || !subscribedCircuits.add(circuitName))
         {
             return;
         }
 
-        previousStates.put(circuitName, stateAfter);
-        if (stateBefore == null)
+        try
+        {
+            stateFetcher.subscribe(circuitName, state -> onStateChange(circuitName, state));
+        }
+        catch (final RuntimeException e)
+        {
+            // Allow a later call to retry, and fail this one fast like any other misconfiguration
+            subscribedCircuits.remove(circuitName);
+            throw e;
+        }
+
+        // Seed after subscribing so a transition racing with the subscription is not overwritten
+        final CircuitBreakerState initialState = stateFetcher.getCurrentState(circuitName);
+        final CircuitBreakerStateClock clock = clocks.computeIfAbsent(circuitName,
+            name -> new CircuitBreakerStateClock(initialState, System::nanoTime));
+        // A clock created earlier by a state-change event may still have no state; fill it in rather than report NaN
+        clock.seedIfUnknown(initialState);
+        recorder.registerStateMeters(circuitName, clock);
+    }
+
+    /**
+     * Records a call rejected because the circuit breaker was open.
+     *
+     * @param circuitName The circuit breaker name
+     */
+    public void recordRejection(final String circuitName)
+    {
+        recorder.recordCircuitBreakerRejection(circuitName);
+    }
+
+    /**
+     * Records a state-change event.
+     *
+     * @param circuitName The circuit breaker name
+     * @param newState    The state the circuit breaker moved to
+     */
+    void onStateChange(final String circuitName, final CircuitBreakerState newState)
+    {
+        if (newState == null)
         {
-            // First invocation - no previous state to compare, so no transition to record
             return;
         }
-        if (stateBefore == stateAfter)
+
+        final CircuitBreakerState previousState = clocks
+            .computeIfAbsent(circuitName, name -> new CircuitBreakerStateClock(null, System::nanoTime))
+            .transitionTo(newState);
+        if (previousState == newState)
         {
             return;
         }
 
-        logAndRecord(circuitName, stateBefore, stateAfter);
+        logAndRecord(circuitName, previousState, newState);
     }
 
     private void logAndRecord(final String circuitName, final CircuitBreakerState stateBefore, final CircuitBreakerState stateAfter)
@@ -72,17 +121,19 @@ public final class CircuitBreakerStateTracker
         LOGGER.debugf("Circuit breaker %s state transition: %s → %s",
             circuitName, stateToLabel(stateBefore), stateToLabel(stateAfter));
         recorder.recordCircuitBreakerStateChange(circuitName, stateToLabel(stateAfter));
+        CircuitStateTransitionEvent.emit(circuitName, stateToLabel(stateBefore), stateToLabel(stateAfter));
     }
 
     /**
-     * Gets the previous state for a circuit breaker (if any).
+     * Gets the last state observed for a circuit breaker (if any).
      *
      * @param circuitName The circuit breaker name
-     * @return The previous state, or null if this is the first invocation
+     * @return The last known state, or null if the circuit breaker is not tracked yet
      */
-    public CircuitBreakerState getPreviousState(final String circuitName)
+    public CircuitBreakerState getLastKnownState(final String circuitName)
     {
-        return previousStates.get(circuitName);
+        final CircuitBreakerStateClock clock = clocks.get(circuitName);
+        return clock != null ? clock.state() : null;
     }
 
     private static String stateToLabel(final CircuitBreakerState state)
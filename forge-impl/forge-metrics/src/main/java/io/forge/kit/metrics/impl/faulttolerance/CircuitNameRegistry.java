@@ -0,0 +1,75 @@
+package io.forge.kit.metrics.impl.faulttolerance;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Holds one piece of fault-tolerance state per circuit name, created from the annotation configuring it.
+ *
+ * <p>The first annotation seen for a name configures the state, so methods sharing a {@code @CircuitBreakerName}
+ * share - and should declare the same - settings. Each feature extends this class with its factory and the meters it
+ * registers when the state is created.
+ *
+ * @param <A> the annotation configuring the state
+ * @param <T> the per-name state
+ */
+public abstract class CircuitNameRegistry<A extends Annotation, T>
+{
+    private final ConcurrentMap<String, T> entries = new ConcurrentHashMap<>();
+
+    private final Function<A, T> factory;
+
+    protected CircuitNameRegistry(final Function<A, T> factory)
+    {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the state for a name, creating it and registering its meters on first use.
+     *
+     * @param circuitName The circuit breaker name
+     * @param config      The annotation configuring the state
+     * @return the state
+     * @throws IllegalArgumentException if the annotation carries out-of-range settings
+     */
+    public T forCircuit(final String circuitName, final A config)
+    {
+        final T entry = entries.get(circuitName);
+        if (entry != null)
+        {
+            return entry;
+        }
+
+        return entries.computeIfAbsent(circuitName, name ->
+        {
+            final T created = create(name, config);
+            registerMeters(name, config, created);
+            return created;
+        });
+    }
+
+    private T create(final String circuitName, final A config)
+    {
+        try
+        {
+            return factory.apply(config);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            // Nothing is cached, so every call to the misconfigured method fails fast with this message
+            throw new IllegalArgumentException("Invalid @" + config.annotationType().getSimpleName()
+                + " for circuit [" + circuitName + "]: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Registers the meters of newly created state; called once per name.
+     *
+     * @param circuitName The circuit breaker name
+     * @param config      The annotation that configured the state
+     * @param created     The new state
+     */
+    protected abstract void registerMeters(String circuitName, A config, T created);
+}
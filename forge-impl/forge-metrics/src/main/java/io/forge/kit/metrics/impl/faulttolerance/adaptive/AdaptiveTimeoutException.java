@@ -0,0 +1,35 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+
+/**
+ * Exception thrown when a {@link io.forge.kit.metrics.api.faulttolerance.AdaptiveTimeout} call exceeds the timeout
+ * derived for its circuit.
+ *
+ * <p>Extends {@link TimeoutException}, so retries, circuit breakers and fallbacks treat it like a static timeout.
+ */
+public final class AdaptiveTimeoutException extends TimeoutException
+{
+    private final String circuitName;
+
+    private final long timeoutNanos;
+
+    public AdaptiveTimeoutException(final String circuitName, final long timeoutNanos)
+    {
+        super(String.format("Adaptive timeout of %d ms exceeded for circuit [%s]",
+            TimeUnit.NANOSECONDS.toMillis(timeoutNanos), circuitName));
+        this.circuitName = circuitName;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    public String getCircuitName()
+    {
+        return circuitName;
+    }
+
+    public long getTimeoutNanos()
+    {
+        return timeoutNanos;
+    }
+}
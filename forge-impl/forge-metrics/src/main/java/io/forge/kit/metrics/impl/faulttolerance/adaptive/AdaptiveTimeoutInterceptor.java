@@ -0,0 +1,181 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.faulttolerance.AdaptiveTimeout;
+import io.forge.kit.metrics.impl.domain.support.AsyncResultSupport;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerNameResolver;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CDI interceptor that bounds {@link AdaptiveTimeout} methods by a timeout derived from the circuit's observed latency,
+ * failing late calls with {@link AdaptiveTimeoutException}.
+ *
+ * <p>Runs just inside SmallRye Fault Tolerance, so the timeout applies per attempt and a timed-out attempt is seen by
+ * {@code @Retry}, {@code @CircuitBreaker} and {@code @Fallback} like a static {@code @Timeout}. Enforcement depends on
+ * the return type:
+ * <ul>
+ * <li>synchronous - the invoking thread is interrupted when the timeout elapses, like SmallRye's {@code @Timeout}; only
+ * use this on blocking methods. Each call schedules one watchdog task, cancelled (and removed) when it returns in
+ * time</li>
+ * <li>{@code CompletionStage} - a new stage is returned that fails when the timeout elapses</li>
+ * <li>{@code Uni} - each subscription fails if no item arrives within the timeout</li>
+ * <li>{@code Multi} - returned unchanged; a stream has no single latency to bound</li>
+ * </ul>
+ *
+ * <p>Methods declared to return an async type are not given an interrupting watchdog: they are expected to return
+ * without blocking, and their result is bounded instead.
+ */
+@AdaptiveTimeout
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 20) // 4020, inside SmallRye Fault Tolerance (4010)
+public final class AdaptiveTimeoutInterceptor
+{
+    private final AdaptiveTimeoutRegistry registry;
+
+    private final CircuitBreakerMetricsRecorder recorder;
+
+    private final AnnotationResolver annotationResolver;
+
+    private final CircuitBreakerNameResolver circuitBreakerNameResolver;
+
+    @Inject
+    public AdaptiveTimeoutInterceptor(final AdaptiveTimeoutRegistry registry, final CircuitBreakerMetricsRecorder recorder,
+                                      final AnnotationResolver annotationResolver, final CircuitBreakerNameResolver circuitBreakerNameResolver)
+    {
+        this.registry = registry;
+        this.recorder = recorder;
+        this.annotationResolver = annotationResolver;
+        this.circuitBreakerNameResolver = circuitBreakerNameResolver;
+    }
+
+    @AroundInvoke
+    public Object enforce(final InvocationContext context) throws Exception
+    {
+        final AdaptiveTimeout config = annotationResolver.resolve(context.getMethod(), AdaptiveTimeout.class);
+        if (config == null)
+        {
+            return context.proceed();
+        }
+
+        final String circuitName = circuitBreakerNameResolver.resolve(context.getMethod());
+        final AdaptiveTimeoutPolicy policy = registry.forCircuit(circuitName, config);
+        final long timeoutNanos = policy.timeoutNanos();
+
+        final long start = System.nanoTime();
+        final TimeoutWatchdog watchdog = isAsyncReturnType(context.getMethod().getReturnType())
+            ? null
+            : TimeoutWatchdog.arm(registry.scheduler(), timeoutNanos);
+        final Object result;
+        try
+        {
+            result = context.proceed();
+        }
+        catch (final Exception | Error e)
+        {
+            if (watchdog == null || watchdog.disarm())
+            {
+                policy.record(System.nanoTime() - start);
+                throw e;
+            }
+            final AdaptiveTimeoutException timeout = timedOut(watchdog, circuitName, policy, timeoutNanos);
+            timeout.initCause(e);
+            throw timeout;
+        }
+
+        if (watchdog != null && !watchdog.disarm())
+        {
+            throw timedOut(watchdog, circuitName, policy, timeoutNanos);
+        }
+
+        if (result instanceof final CompletionStage<?> stage)
+        {
+            return track(bound(stage, circuitName, timeoutNanos, start), start, circuitName, policy);
+        }
+        if (result instanceof final Uni<?> uni)
+        {
+            return track(uni.ifNoItem().after(Duration.ofNanos(timeoutNanos))
+                .failWith(() -> new AdaptiveTimeoutException(circuitName, timeoutNanos)), start, circuitName, policy);
+        }
+        if (AsyncResultSupport.isAsync(result))
+        {
+            return result;
+        }
+
+        policy.record(System.nanoTime() - start);
+        return result;
+    }
+
+    private static boolean isAsyncReturnType(final Class<?> returnType)
+    {
+        return CompletionStage.class.isAssignableFrom(returnType) || Uni.class.isAssignableFrom(returnType)
+            || Multi.class.isAssignableFrom(returnType);
+    }
+
+    private AdaptiveTimeoutException timedOut(final TimeoutWatchdog watchdog, final String circuitName,
+                                              final AdaptiveTimeoutPolicy policy, final long timeoutNanos)
+    {
+        // The watchdog interrupted this thread; do not leak the interrupt to the caller
+        watchdog.clearInterrupt();
+        policy.record(timeoutNanos);
+        recorder.recordTimeout(circuitName);
+        return new AdaptiveTimeoutException(circuitName, timeoutNanos);
+    }
+
+    private CompletionStage<Object> bound(final CompletionStage<?> stage, final String circuitName, final long timeoutNanos,
+                                         final long start)
+    {
+        // The stage started eagerly at invocation, so only the remainder of the timeout is left
+        final long remainingNanos = Math.max(0L, timeoutNanos - (System.nanoTime() - start));
+        final CompletableFuture<Object> bounded = new CompletableFuture<>();
+        final ScheduledFuture<?> timer = registry.scheduler().schedule(
+            () -> bounded.completeExceptionally(new AdaptiveTimeoutException(circuitName, timeoutNanos)),
+            remainingNanos, TimeUnit.NANOSECONDS);
+        stage.whenComplete((value, failure) ->
+        {
+            timer.cancel(false);
+            if (failure != null)
+            {
+                bounded.completeExceptionally(failure);
+            }
+            else
+            {
+                bounded.complete(value);
+            }
+        });
+        return bounded;
+    }
+
+    private Object track(final Object result, final long start, final String circuitName, final AdaptiveTimeoutPolicy policy)
+    {
+        return AsyncResultSupport.onCompletion(result, start, new AsyncResultSupport.AsyncCompletion()
+        {
+            @Override
+            public void onItem(final Object lastItem, final long durationNanos)
+            {
+                policy.record(durationNanos);
+            }
+
+            @Override
+            public void onFailure(final Throwable failure, final long durationNanos)
+            {
+                policy.record(durationNanos);
+                if (failure instanceof AdaptiveTimeoutException)
+                {
+                    recorder.recordTimeout(circuitName);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import io.forge.kit.metrics.impl.aggregation.RollingLatencySketch;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive timeout state for one circuit.
+ *
+ * <p>Call durations go into a {@link RollingLatencySketch}. At most once per {@link #RECOMPUTE_INTERVAL} a recording
+ * call recomputes the timeout as {@code quantile × factor}, clamped to {@code [min, max]}. While the window holds fewer
+ * than {@code minimumSamples} calls the timeout is {@code max}, so a cold or idle circuit is never cut short by a
+ * handful of fast calls.
+ *
+ * <p>Calls that time out should be recorded with the timeout they hit: the sample is a lower bound of the real latency,
+ * which lets the timeout grow back when a downstream slows down for good instead of ratcheting further down.
+ */
+public final class AdaptiveTimeoutPolicy
+{
+    static final Duration RECOMPUTE_INTERVAL = Duration.ofSeconds(1L);
+
+    private static final int WINDOWS = 6;
+
+    private final LongSupplier nanoClock;
+    private final RollingLatencySketch recent;
+    private final double quantile;
+    private final double factor;
+    private final int minimumSamples;
+    private final long minNanos;
+    private final long maxNanos;
+
+    private final AtomicLong nextRecomputeNanos;
+
+    private volatile long timeoutNanos;
+
+    /**
+     * @param quantile       latency quantile the timeout is derived from, in {@code (0, 1]}
+     * @param factor         multiplier applied to the quantile, positive
+     * @param minimumSamples calls required in the window before the timeout adapts
+     * @param min            lower bound of the timeout
+     * @param max            upper bound of the timeout, used until enough samples are available
+     * @param window         rolling window of the quantile
+     * @param nanoClock      monotonic clock, {@code System::nanoTime} outside tests
+     */
+    public AdaptiveTimeoutPolicy(final double quantile, final double factor, final int minimumSamples,
+                                 final Duration min, final Duration max, final Duration window,
+                                 final LongSupplier nanoClock)
+    {
+        if (quantile <= 0.0 || quantile > 1.0)
+        {
+            throw new IllegalArgumentException("Quantile must be in (0, 1]: " + quantile);
+        }
+        if (!(factor > 0.0))
+        {
+            throw new IllegalArgumentException("Factor must be positive: " + factor);
+        }
+        if (min.compareTo(max) > 0)
+        {
+            throw new IllegalArgumentException("Minimum timeout " + min + " exceeds maximum " + max);
+        }
+        this.nanoClock = nanoClock;
+        this.recent = new RollingLatencySketch(window, WINDOWS, nanoClock);
+        this.quantile = quantile;
+        this.factor = factor;
+        this.minimumSamples = minimumSamples;
+        this.minNanos = min.toNanos();
+        this.maxNanos = max.toNanos();
+        this.timeoutNanos = maxNanos;
+        this.nextRecomputeNanos = new AtomicLong(nanoClock.getAsLong() + RECOMPUTE_INTERVAL.toNanos());
+    }
+
+    /**
+     * Returns the timeout to apply to the next call.
+     *
+     * @return timeout in nanoseconds
+     */
+    public long timeoutNanos()
+    {
+        return timeoutNanos;
+    }
+
+    /**
+     * Records the duration of a completed, failed or timed-out call.
+     *
+     * @param durationNanos the call duration
+     */
+    public void record(final long durationNanos)
+    {
+        recent.record(durationNanos);
+
+        final long now = nanoClock.getAsLong();
+        final long next = nextRecomputeNanos.get();
+        if (now - next >= 0L && nextRecomputeNanos.compareAndSet(next, now + RECOMPUTE_INTERVAL.toNanos()))
+        {
+            recompute();
+        }
+    }
+
+    private void recompute()
+    {
+        if (recent.count() < minimumSamples)
+        {
+            timeoutNanos = maxNanos;
+            return;
+        }
+
+        final long observed = recent.quantile(quantile);
+        if (observed < 0L)
+        {
+            timeoutNanos = maxNanos;
+            return;
+        }
+
+        final double scaled = observed * factor;
+        timeoutNanos = scaled >= maxNanos ? maxNanos : Math.max(minNanos, (long) scaled);
+    }
+}
@@ -0,0 +1,71 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import io.forge.kit.metrics.api.faulttolerance.AdaptiveTimeout;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitNameRegistry;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Function;
+
+/**
+ * Holds one {@link AdaptiveTimeoutPolicy} per circuit name, configured by the first {@link AdaptiveTimeout} seen for
+ * it, and the scheduler enforcing the timeouts.
+ */
+@ApplicationScoped
+public class AdaptiveTimeoutRegistry extends CircuitNameRegistry<AdaptiveTimeout, AdaptiveTimeoutPolicy>
+{
+    private final CircuitBreakerMetricsRecorder recorder;
+
+    private final ScheduledExecutorService scheduler;
+
+    @Inject
+    public AdaptiveTimeoutRegistry(final CircuitBreakerMetricsRecorder recorder)
+    {
+        this(recorder, config -> new AdaptiveTimeoutPolicy(config.quantile(), config.factor(), config.minimumSamples(),
+            Duration.ofMillis(config.minMillis()), Duration.ofMillis(config.maxMillis()),
+            Duration.ofSeconds(config.windowSeconds()), System::nanoTime), newScheduler());
+    }
+
+    AdaptiveTimeoutRegistry(final CircuitBreakerMetricsRecorder recorder,
+                            final Function<AdaptiveTimeout, AdaptiveTimeoutPolicy> policyFactory,
+                            final ScheduledExecutorService scheduler)
+    {
+        super(policyFactory);
+        this.recorder = recorder;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void registerMeters(final String circuitName, final AdaptiveTimeout config,
+                                  final AdaptiveTimeoutPolicy created)
+    {
+        recorder.registerAdaptiveTimeoutMeters(circuitName, created);
+    }
+
+    /**
+     * Returns the scheduler that fires timeouts. Tasks must be short - they only interrupt or fail the timed-out call.
+     */
+    public ScheduledExecutorService scheduler()
+    {
+        return scheduler;
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        scheduler.shutdownNow();
+    }
+
+    private static ScheduledExecutorService newScheduler()
+    {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+            Thread.ofPlatform().daemon().name("forge-adaptive-timeout").factory());
+        // Nearly every timeout is cancelled; drop cancelled tasks instead of keeping them queued until their deadline
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
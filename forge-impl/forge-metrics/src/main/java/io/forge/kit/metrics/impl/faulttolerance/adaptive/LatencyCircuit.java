@@ -0,0 +1,266 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import io.forge.kit.metrics.impl.aggregation.RollingLatencySketch;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Latency-adaptive breaker state for one circuit.
+ *
+ * <p>Completed call durations go into a {@link RollingLatencySketch}. At most once per {@link #EVALUATION_INTERVAL}
+ * a completing call evaluates the recent p99 against the baseline:
+ * <ul>
+ * <li>below {@code thresholdMultiplier × baseline} - the baseline moves towards the recent p99 (exponential moving
+ * average with the configured time constant)</li>
+ * <li>above it, with at least {@code minimumSamples} recent calls - the circuit opens</li>
+ * </ul>
+ *
+ * <p>An open circuit rejects calls until the delay has elapsed, then admits a single probe. A probe within the
+ * threshold closes the circuit and starts a fresh window; a slow probe re-opens it.
+ *
+ * <p>Only completed calls are measured. Calls that hang never reach {@link #onComplete}, so they cannot trip the
+ * circuit on their own; bound them with {@code @Timeout} or {@code @AdaptiveTimeout} so they complete (exceptionally)
+ * and count as slow calls.
+ */
+public final class LatencyCircuit
+{
+    static final Duration EVALUATION_INTERVAL = Duration.ofSeconds(1L);
+
+    private static final int WINDOWS = 6;
+
+    /**
+     * Breaker states; ordinals match the {@code circuit.breaker.state} gauge values (0 closed, 1 open, 2 half-open).
+     */
+    public enum State
+    {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Outcome of {@link #tryAcquire()}.
+     */
+    public enum Admission
+    {
+        /** The call may proceed normally. */
+        ADMITTED,
+        /** The call is the single probe of a half-open circuit. */
+        PROBE,
+        /** The circuit is open; the call must not proceed. */
+        REJECTED
+    }
+
+    private final LongSupplier nanoClock;
+    private final RollingLatencySketch recent;
+    private final double thresholdMultiplier;
+    private final int minimumSamples;
+    private final long delayNanos;
+    private final double baselineAlpha;
+
+    private final AtomicLong nextEvaluationNanos;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final LongAdder trips = new LongAdder();
+
+    private volatile long openedAtNanos;
+    private volatile double baselineNanos = Double.NaN;
+    private volatile double recentP99Nanos = Double.NaN;
+
+    /**
+     * @param thresholdMultiplier recent p99 / baseline ratio that opens the circuit
+     * @param minimumSamples      recent calls required before the circuit can open
+     * @param window              rolling window of the recent p99
+     * @param baselineTimeConstant time constant of the baseline moving average
+     * @param delay               how long the circuit stays open before a probe
+     * @param nanoClock           monotonic clock, {@code System::nanoTime} outside tests
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public LatencyCircuit(final double thresholdMultiplier, final int minimumSamples, final Duration window,
+                          final Duration baselineTimeConstant, final Duration delay, final LongSupplier nanoClock)
+    {
+        if (!(thresholdMultiplier > 1.0))
+        {
+            throw new IllegalArgumentException("Threshold multiplier must be greater than 1: " + thresholdMultiplier);
+        }
+        if (minimumSamples < 1)
+        {
+            throw new IllegalArgumentException("Minimum samples must be positive: " + minimumSamples);
+        }
+        if (window.isZero() || window.isNegative())
+        {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        if (baselineTimeConstant.isZero() || baselineTimeConstant.isNegative())
+        {
+            throw new IllegalArgumentException("Baseline time constant must be positive: " + baselineTimeConstant);
+        }
+        if (delay.isNegative())
+        {
+            throw new IllegalArgumentException("Delay must not be negative: " + delay);
+        }
+        this.nanoClock = nanoClock;
+        this.recent = new RollingLatencySketch(window, WINDOWS, nanoClock);
+        this.thresholdMultiplier = thresholdMultiplier;
+        this.minimumSamples = minimumSamples;
+        this.delayNanos = delay.toNanos();
+        this.baselineAlpha = 1.0 - Math.exp(-(double) EVALUATION_INTERVAL.toNanos() / baselineTimeConstant.toNanos());
+        this.nextEvaluationNanos = new AtomicLong(nanoClock.getAsLong() + EVALUATION_INTERVAL.toNanos());
+    }
+
+    /**
+     * Decides whether a call may proceed.
+     *
+     * @return the admission; every non-rejected admission must be followed by exactly one {@link #onComplete} or
+     * {@link #onCancelled}
+     */
+    public Admission tryAcquire()
+    {
+        final State current = state.get();
+        if (current == State.CLOSED)
+        {
+            return Admission.ADMITTED;
+        }
+        // Only the caller that moves OPEN to HALF_OPEN probes, so a stale read of OPEN cannot start a second probe
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= delayNanos
+            && state.compareAndSet(State.OPEN, State.HALF_OPEN))
+        {
+            return Admission.PROBE;
+        }
+        return Admission.REJECTED;
+    }
+
+    /**
+     * Records a completed call, successful or not.
+     *
+     * @param admission     the admission returned by {@link #tryAcquire()}
+     * @param durationNanos the call duration
+     */
+    public void onComplete(final Admission admission, final long durationNanos)
+    {
+        if (admission == Admission.PROBE)
+        {
+            completeProbe(durationNanos);
+            return;
+        }
+        if (admission != Admission.ADMITTED)
+        {
+            return;
+        }
+
+        recent.record(durationNanos);
+
+        final long now = nanoClock.getAsLong();
+        final long next = nextEvaluationNanos.get();
+        if (now - next >= 0L && nextEvaluationNanos.compareAndSet(next, now + EVALUATION_INTERVAL.toNanos()))
+        {
+            evaluate(now);
+        }
+    }
+
+    /**
+     * Releases an admission whose call was cancelled before completing.
+     *
+     * @param admission the admission returned by {@link #tryAcquire()}
+     */
+    public void onCancelled(final Admission admission)
+    {
+        if (admission == Admission.PROBE)
+        {
+            // No verdict - let the next call probe again
+            state.compareAndSet(State.HALF_OPEN, State.OPEN);
+        }
+    }
+
+    public State state()
+    {
+        return state.get();
+    }
+
+    /**
+     * Returns the baseline p99 in nanoseconds, or {@code NaN} before the first evaluation with enough samples.
+     */
+    public double baselineNanos()
+    {
+        return baselineNanos;
+    }
+
+    /**
+     * Returns the recent p99 in nanoseconds as of the last evaluation, or {@code NaN} if unknown.
+     */
+    public double recentP99Nanos()
+    {
+        return recentP99Nanos;
+    }
+
+    /**
+     * Returns how many times the circuit opened because of latency.
+     */
+    public long trips()
+    {
+        return trips.sum();
+    }
+
+    private void evaluate(final long now)
+    {
+        if (state.get() != State.CLOSED)
+        {
+            return;
+        }
+
+        final long p99 = recent.quantile(0.99);
+        if (p99 < 0L)
+        {
+            return;
+        }
+        recentP99Nanos = p99;
+
+        if (recent.count() < minimumSamples)
+        {
+            // Too few calls to judge - neither trip nor let a handful of outliers move the baseline
+            return;
+        }
+
+        final double baseline = baselineNanos;
+        if (Double.isNaN(baseline))
+        {
+            baselineNanos = p99;
+            return;
+        }
+
+        if (p99 > thresholdMultiplier * baseline)
+        {
+            open(State.CLOSED, now);
+            return;
+        }
+
+        baselineNanos = baseline + baselineAlpha * (p99 - baseline);
+    }
+
+    private void completeProbe(final long durationNanos)
+    {
+        final double baseline = baselineNanos;
+        if (!Double.isNaN(baseline) && durationNanos > thresholdMultiplier * baseline)
+        {
+            open(State.HALF_OPEN, nanoClock.getAsLong());
+        }
+        else
+        {
+            // Start a fresh window so the slow period does not immediately trip the circuit again
+            recent.reset();
+            recentP99Nanos = Double.NaN;
+            nextEvaluationNanos.set(nanoClock.getAsLong() + EVALUATION_INTERVAL.toNanos());
+            state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    private void open(final State from, final long now)
+    {
+        // Publish the opening time before the state, which tryAcquire reads first
+        openedAtNanos = now;
+        if (state.compareAndSet(from, State.OPEN))
+        {
+            trips.increment();
+        }
+    }
+}
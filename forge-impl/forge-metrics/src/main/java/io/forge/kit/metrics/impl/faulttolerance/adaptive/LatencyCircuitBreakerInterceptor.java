@@ -0,0 +1,127 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.faulttolerance.LatencyCircuitBreaker;
+import io.forge.kit.metrics.impl.domain.support.AsyncResultSupport;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerNameResolver;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * CDI interceptor that opens a circuit when the recent p99 latency of {@link LatencyCircuitBreaker} methods exceeds
+ * a multiple of its baseline, failing calls fast with {@link LatencyCircuitBreakerOpenException}.
+ *
+ * <p>Runs just outside {@code CircuitBreakerMetricsInterceptor} (and therefore outside SmallRye Fault Tolerance), so
+ * the measured latency covers the whole guarded call including retries, and rejections are counted once as
+ * {@code circuit.breaker.calls.rejected}. For {@code CompletionStage}, {@code Uni} and {@code Multi} results the
+ * latency is taken when the result terminates.
+ *
+ * <p>Methods declaring a {@code Uni} or {@code Multi} return type are admitted on each subscription rather than when
+ * called: the returned result fails with {@link LatencyCircuitBreakerOpenException} on subscription while the circuit
+ * is open, a result that is never subscribed takes no admission, and each resubscription (e.g. by a retry) is a
+ * separate call - so a dropped result cannot hold the half-open probe, nor can one probe complete more than once.
+ */
+@LatencyCircuitBreaker
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_AFTER - 10) // 2990, outside CircuitBreakerMetricsInterceptor
+public final class LatencyCircuitBreakerInterceptor
+{
+    private final LatencyCircuitRegistry registry;
+
+    private final CircuitBreakerMetricsRecorder recorder;
+
+    private final AnnotationResolver annotationResolver;
+
+    private final CircuitBreakerNameResolver circuitBreakerNameResolver;
+
+    @Inject
+    public LatencyCircuitBreakerInterceptor(final LatencyCircuitRegistry registry, final CircuitBreakerMetricsRecorder recorder,
+                                            final AnnotationResolver annotationResolver, final CircuitBreakerNameResolver circuitBreakerNameResolver)
+    {
+        this.registry = registry;
+        this.recorder = recorder;
+        this.annotationResolver = annotationResolver;
+        this.circuitBreakerNameResolver = circuitBreakerNameResolver;
+    }
+
+    @AroundInvoke
+    public Object guard(final InvocationContext context) throws Exception
+    {
+        final LatencyCircuitBreaker config = annotationResolver.resolve(context.getMethod(), LatencyCircuitBreaker.class);
+        if (config == null)
+        {
+            return context.proceed();
+        }
+
+        final String circuitName = circuitBreakerNameResolver.resolve(context.getMethod());
+        final LatencyCircuit circuit = registry.forCircuit(circuitName, config);
+        if (AsyncResultSupport.isLazy(context.getMethod()))
+        {
+            // Admit each subscription rather than the call, so an unsubscribed result cannot hold the half-open probe
+            return AsyncResultSupport.onSubscription(context.proceed(),
+                () -> completionOf(circuit, acquire(circuitName, circuit)));
+        }
+
+        final LatencyCircuit.Admission admission = acquire(circuitName, circuit);
+        final long start = System.nanoTime();
+        final Object result;
+        try
+        {
+            result = context.proceed();
+        }
+        catch (final Exception | Error e)
+        {
+            // Always complete the admission, otherwise a failed probe would leave the circuit half-open for good
+            circuit.onComplete(admission, System.nanoTime() - start);
+            throw e;
+        }
+
+        if (AsyncResultSupport.isAsync(result))
+        {
+            return AsyncResultSupport.onCompletion(result, start, completionOf(circuit, admission));
+        }
+
+        circuit.onComplete(admission, System.nanoTime() - start);
+        return result;
+    }
+
+    private LatencyCircuit.Admission acquire(final String circuitName, final LatencyCircuit circuit)
+    {
+        final LatencyCircuit.Admission admission = circuit.tryAcquire();
+        if (admission == LatencyCircuit.Admission.REJECTED)
+        {
+            recorder.recordCircuitBreakerRejection(circuitName);
+            throw new LatencyCircuitBreakerOpenException(circuitName);
+        }
+        return admission;
+    }
+
+    private static AsyncResultSupport.AsyncCompletion completionOf(final LatencyCircuit circuit,
+                                                                   final LatencyCircuit.Admission admission)
+    {
+        return new AsyncResultSupport.AsyncCompletion()
+        {
+            @Override
+            public void onItem(final Object lastItem, final long durationNanos)
+            {
+                circuit.onComplete(admission, durationNanos);
+            }
+
+            @Override
+            public void onFailure(final Throwable failure, final long durationNanos)
+            {
+                circuit.onComplete(admission, durationNanos);
+            }
+
+            @Override
+            public void onCancellation(final long durationNanos)
+            {
+                circuit.onCancelled(admission);
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+
+/**
+ * Exception thrown when a {@link io.forge.kit.metrics.api.faulttolerance.LatencyCircuitBreaker} circuit is open
+ * because recent latency exceeded its baseline. The guarded method is never invoked when this exception is thrown.
+ *
+ * <p>Extends {@link CircuitBreakerOpenException}, so it is mapped and counted like any other open circuit.
+ */
+public final class LatencyCircuitBreakerOpenException extends CircuitBreakerOpenException
+{
+    private final String circuitName;
+
+    public LatencyCircuitBreakerOpenException(final String circuitName)
+    {
+        super(String.format("Latency circuit breaker [%s] is open", circuitName));
+        this.circuitName = circuitName;
+    }
+
+    public String getCircuitName()
+    {
+        return circuitName;
+    }
+}
@@ -0,0 +1,40 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import io.forge.kit.metrics.api.faulttolerance.LatencyCircuitBreaker;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitNameRegistry;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Holds one {@link LatencyCircuit} per circuit name, configured by the first {@link LatencyCircuitBreaker} seen for it.
+ */
+@ApplicationScoped
+public class LatencyCircuitRegistry extends CircuitNameRegistry<LatencyCircuitBreaker, LatencyCircuit>
+{
+    private final CircuitBreakerMetricsRecorder recorder;
+
+    @Inject
+    public LatencyCircuitRegistry(final CircuitBreakerMetricsRecorder recorder)
+    {
+        this(recorder, config -> new LatencyCircuit(config.thresholdMultiplier(), config.minimumSamples(),
+            Duration.ofSeconds(config.windowSeconds()), Duration.ofSeconds(config.baselineSeconds()),
+            Duration.ofMillis(config.delayMillis()), System::nanoTime));
+    }
+
+    LatencyCircuitRegistry(final CircuitBreakerMetricsRecorder recorder,
+                           final Function<LatencyCircuitBreaker, LatencyCircuit> circuitFactory)
+    {
+        super(circuitFactory);
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void registerMeters(final String circuitName, final LatencyCircuitBreaker config,
+                                  final LatencyCircuit created)
+    {
+        recorder.registerLatencyCircuitMeters(circuitName, created);
+    }
+}
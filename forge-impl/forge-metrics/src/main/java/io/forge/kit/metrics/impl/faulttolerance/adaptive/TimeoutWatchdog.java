@@ -0,0 +1,89 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interrupts a thread blocked in a synchronous call once its timeout elapses.
+ *
+ * <p>The caller and the watchdog race on a single state transition, so exactly one of them wins: either the call
+ * {@link #disarm() disarms} the watchdog in time, or the watchdog fires and interrupts the thread. A caller that loses
+ * the race must {@link #clearInterrupt() clear the interrupt} before reporting the timeout; the watchdog may have won
+ * the transition but not yet delivered the interrupt, so clearing waits for delivery first.
+ */
+final class TimeoutWatchdog implements Runnable
+{
+    private static final int ARMED = 0;
+    private static final int DISARMED = 1;
+    private static final int FIRED = 2;
+    private static final int INTERRUPTED = 3;
+
+    private final Thread thread;
+    private final AtomicInteger state = new AtomicInteger(ARMED);
+
+    private volatile ScheduledFuture<?> future;
+
+    private TimeoutWatchdog(final Thread thread)
+    {
+        this.thread = thread;
+    }
+
+    /**
+     * Arms a watchdog for the current thread.
+     *
+     * @param scheduler    the scheduler running the watchdog
+     * @param timeoutNanos the timeout
+     * @return the armed watchdog
+     */
+    static TimeoutWatchdog arm(final ScheduledExecutorService scheduler, final long timeoutNanos)
+    {
+        final TimeoutWatchdog watchdog = new TimeoutWatchdog(Thread.currentThread());
+        watchdog.future = scheduler.schedule(watchdog, timeoutNanos, TimeUnit.NANOSECONDS);
+        return watchdog;
+    }
+
+    @Override
+    public void run()
+    {
+        if (state.compareAndSet(ARMED, FIRED))
+        {
+            thread.interrupt();
+            state.set(INTERRUPTED);
+        }
+    }
+
+    /**
+     * Disarms the watchdog.
+     *
+     * @return true if the call finished in time, false if the watchdog already fired
+     */
+    boolean disarm()
+    {
+        if (state.compareAndSet(ARMED, DISARMED))
+        {
+            final ScheduledFuture<?> scheduled = future;
+            if (scheduled != null)
+            {
+                scheduled.cancel(false);
+            }
+            return true;
+        }
+        return state.get() == DISARMED;
+    }
+
+    /**
+     * Clears the interrupt delivered by a fired watchdog. Must only be called by the armed thread after
+     * {@link #disarm()} returned false.
+     */
+    void clearInterrupt()
+    {
+        // The window between winning the transition and interrupting is a few instructions, so spinning is cheap
+        while (state.get() != INTERRUPTED)
+        {
+            Thread.onSpinWait();
+        }
+        Thread.interrupted();
+    }
+}
@@ -0,0 +1,150 @@
+package io.forge.kit.metrics.impl.faulttolerance.keyed;
+
+/**
+ * Failure-ratio breaker state for a single key.
+ *
+ * <p>Outcomes of the last {@code requestVolumeThreshold} calls are kept in a ring; once the ring is full and the failure
+ * ratio reaches the threshold the breaker opens. After the delay a single probe is admitted: success closes the breaker
+ * with an empty ring, failure re-opens it. All methods are synchronized on the instance - contention is limited to calls
+ * for the same key.
+ */
+public final class KeyedCircuit
+{
+    /**
+     * Breaker states; ordinals match the {@code circuit.breaker.state} gauge values (0 closed, 1 open, 2 half-open).
+     */
+    public enum State
+    {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Outcome of {@link #tryAcquire(long)}.
+     */
+    public enum Admission
+    {
+        /** The call may proceed normally. */
+        ADMITTED,
+        /** The call is the single probe of a half-open breaker. */
+        PROBE,
+        /** The breaker is open; the call must not proceed. */
+        REJECTED
+    }
+
+    private final boolean[] failures;
+    private final int failureThreshold;
+    private final long delayNanos;
+
+    private int next;
+    private int recorded;
+    private int failed;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+
+    /**
+     * @param requestVolumeThreshold calls in the rolling window
+     * @param failureRatio           failure ratio that opens the breaker
+     * @param delayNanos             how long the breaker stays open before a probe
+     */
+    KeyedCircuit(final int requestVolumeThreshold, final double failureRatio, final long delayNanos)
+    {
+        this.failures = new boolean[requestVolumeThreshold];
+        this.failureThreshold = Math.max(1, (int) Math.ceil(failureRatio * requestVolumeThreshold));
+        this.delayNanos = delayNanos;
+    }
+
+    /**
+     * Decides whether a call may proceed.
+     *
+     * @param now current {@link System#nanoTime()}
+     * @return the admission; every non-rejected admission must be followed by exactly one {@link #onComplete} or
+     * {@link #onCancelled}
+     */
+    synchronized Admission tryAcquire(final long now)
+    {
+        if (state == State.CLOSED)
+        {
+            return Admission.ADMITTED;
+        }
+        if (state == State.OPEN && now - openedAtNanos >= delayNanos)
+        {
+            state = State.HALF_OPEN;
+            return Admission.PROBE;
+        }
+        return Admission.REJECTED;
+    }
+
+    /**
+     * Records the outcome of an admitted call.
+     *
+     * @param admission the admission returned by {@link #tryAcquire(long)}
+     * @param failure   whether the call counts as a failure
+     * @param now       current {@link System#nanoTime()}
+     * @return true if this outcome opened the breaker
+     */
+    synchronized boolean onComplete(final Admission admission, final boolean failure, final long now)
+    {
+        if (admission == Admission.PROBE)
+        {
+            if (failure)
+            {
+                return open(now);
+            }
+            reset();
+            state = State.CLOSED;
+            return false;
+        }
+        if (admission != Admission.ADMITTED || state != State.CLOSED)
+        {
+            return false;
+        }
+
+        if (recorded == failures.length)
+        {
+            failed -= failures[next] ? 1 : 0;
+        }
+        else
+        {
+            recorded++;
+        }
+        failures[next] = failure;
+        failed += failure ? 1 : 0;
+        next = (next + 1) % failures.length;
+
+        return recorded == failures.length && failed >= failureThreshold && open(now);
+    }
+
+    /**
+     * Releases an admission whose call was cancelled before completing.
+     *
+     * @param admission the admission returned by {@link #tryAcquire(long)}
+     */
+    synchronized void onCancelled(final Admission admission)
+    {
+        if (admission == Admission.PROBE && state == State.HALF_OPEN)
+        {
+            // No verdict - let the next call probe again
+            state = State.OPEN;
+        }
+    }
+
+    public synchronized State state()
+    {
+        return state;
+    }
+
+    private boolean open(final long now)
+    {
+        reset();
+        openedAtNanos = now;
+        state = State.OPEN;
+        return true;
+    }
+
+    private void reset()
+    {
+        next = 0;
+        recorded = 0;
+        failed = 0;
+    }
+}
@@ -0,0 +1,193 @@
+package io.forge.kit.metrics.impl.faulttolerance.keyed;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.common.impl.reflect.MethodMetadataCache;
+import io.forge.kit.common.impl.reflect.ReflectionPath;
+import io.forge.kit.metrics.api.faulttolerance.KeyedCircuitBreaker;
+import io.forge.kit.metrics.impl.domain.support.AsyncResultSupport;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerNameResolver;
+import io.forge.kit.metrics.impl.faulttolerance.retry.RetryBudgetExhaustedException;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import org.jboss.logging.Logger;
+
+/**
+ * CDI interceptor that keeps an independent breaker per key of {@link KeyedCircuitBreaker} methods, failing calls for
+ * an open key fast with {@link KeyedCircuitBreakerOpenException}.
+ *
+ * <p>Runs just inside SmallRye Fault Tolerance - where SmallRye places its own circuit breaker - so failures are seen
+ * before {@code @Fallback} masks them, every {@code @Retry} attempt is guarded, and {@code @Timeout} and adaptive
+ * timeouts count as failures. For {@code CompletionStage}, {@code Uni} and {@code Multi} results the outcome is taken
+ * when the result terminates.
+ *
+ * <p>The retry budget interceptor runs inside this one, so a retry it refuses surfaces here as a
+ * {@link RetryBudgetExhaustedException} although the guarded method never ran; it is never counted as a failure of the
+ * key, whether or not {@code skipOn} lists it.
+ *
+ * <p>Methods declaring a {@code Uni} or {@code Multi} return type are admitted on each subscription rather than when
+ * called, so a result that is never subscribed cannot hold a key's half-open probe and each resubscription is a
+ * separate call.
+ *
+ * <p>Each method's key path is parsed once; a path that does not parse leaves the method unguarded with a warning.
+ */
+@KeyedCircuitBreaker
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 12) // 4012, inside SmallRye Fault Tolerance (4010)
+public final class KeyedCircuitBreakerInterceptor
+{
+    private static final Logger LOGGER = Logger.getLogger(KeyedCircuitBreakerInterceptor.class);
+
+    private final KeyedCircuitRegistry registry;
+
+    private final AnnotationResolver annotationResolver;
+
+    private final CircuitBreakerNameResolver circuitBreakerNameResolver;
+
+    private final MethodMetadataCache<ReflectionPath> keyPaths = new MethodMetadataCache<>(this::parseKeyPath);
+
+    @Inject
+    public KeyedCircuitBreakerInterceptor(final KeyedCircuitRegistry registry,
+                                          final AnnotationResolver annotationResolver, final CircuitBreakerNameResolver circuitBreakerNameResolver)
+    {
+        this.registry = registry;
+        this.annotationResolver = annotationResolver;
+        this.circuitBreakerNameResolver = circuitBreakerNameResolver;
+    }
+
+    @AroundInvoke
+    public Object guard(final InvocationContext context) throws Exception
+    {
+        final KeyedCircuitBreaker config = annotationResolver.resolve(context.getMethod(), KeyedCircuitBreaker.class);
+        if (config == null)
+        {
+            return context.proceed();
+        }
+
+        final String key = resolveKey(context, config);
+        if (key == null)
+        {
+            return context.proceed();
+        }
+
+        final String circuitName = circuitBreakerNameResolver.resolve(context.getMethod());
+        final KeyedCircuitGroup group = registry.forCircuit(circuitName, config);
+        if (AsyncResultSupport.isLazy(context.getMethod()))
+        {
+            // Admit each subscription rather than the call, so an unsubscribed result cannot hold the key's probe
+            return AsyncResultSupport.onSubscription(context.proceed(),
+                () -> completionOf(acquire(group, circuitName, config, key), config));
+        }
+
+        final KeyedCircuitGroup.Permit permit = acquire(group, circuitName, config, key);
+        final Object result;
+        try
+        {
+            result = context.proceed();
+        }
+        catch (final Exception | Error e)
+        {
+            permit.onComplete(isFailure(e, config));
+            throw e;
+        }
+
+        if (AsyncResultSupport.isAsync(result))
+        {
+            return AsyncResultSupport.onCompletion(result, System.nanoTime(), completionOf(permit, config));
+        }
+
+        permit.onComplete(false);
+        return result;
+    }
+
+    private static KeyedCircuitGroup.Permit acquire(final KeyedCircuitGroup group, final String circuitName,
+                                                    final KeyedCircuitBreaker config, final String key)
+    {
+        final KeyedCircuitGroup.Permit permit = group.tryAcquire(key);
+        if (permit.rejected())
+        {
+            throw new KeyedCircuitBreakerOpenException(circuitName, config.keyClass(), key);
+        }
+        return permit;
+    }
+
+    private static AsyncResultSupport.AsyncCompletion completionOf(final KeyedCircuitGroup.Permit permit,
+                                                                   final KeyedCircuitBreaker config)
+    {
+        return new AsyncResultSupport.AsyncCompletion()
+        {
+            @Override
+            public void onItem(final Object lastItem, final long durationNanos)
+            {
+                permit.onComplete(false);
+            }
+
+            @Override
+            public void onFailure(final Throwable failure, final long durationNanos)
+            {
+                permit.onComplete(isFailure(failure, config));
+            }
+
+            @Override
+            public void onCancellation(final long durationNanos)
+            {
+                permit.onCancelled();
+            }
+        };
+    }
+
+    private String resolveKey(final InvocationContext context, final KeyedCircuitBreaker config)
+    {
+        final ReflectionPath keyPath = keyPaths.get(context.getMethod());
+        if (keyPath == null)
+        {
+            return null;
+        }
+        try
+        {
+            final Object key = keyPath.extract(context.getParameters());
+            return key == null ? null : String.valueOf(key);
+        }
+        catch (final Exception e)
+        {
+            LOGGER.debugf(e, "Failed to resolve circuit breaker key '%s' for %s - call is not guarded", config.keyPath(),
+                context.getMethod().getName());
+            return null;
+        }
+    }
+
+    private ReflectionPath parseKeyPath(final Method method)
+    {
+        final KeyedCircuitBreaker config = annotationResolver.resolve(method, KeyedCircuitBreaker.class);
+        try
+        {
+            return ReflectionPath.parse(config.keyPath());
+        }
+        catch (final IllegalArgumentException e)
+        {
+            LOGGER.warnf("Invalid @KeyedCircuitBreaker key path '%s' on %s#%s - calls are not guarded: %s",
+                config.keyPath(), method.getDeclaringClass().getSimpleName(), method.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isFailure(final Throwable failure, final KeyedCircuitBreaker config)
+    {
+        // RetryBudgetInterceptor runs inside this one; a refused retry never reached the guarded method
+        if (failure instanceof RetryBudgetExhaustedException)
+        {
+            return false;
+        }
+        for (final Class<? extends Throwable> skipped : config.skipOn())
+        {
+            if (skipped.isInstance(failure))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package io.forge.kit.metrics.impl.faulttolerance.keyed;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+
+/**
+ * Exception thrown when the {@link io.forge.kit.metrics.api.faulttolerance.KeyedCircuitBreaker} breaker of a key is
+ * open. The guarded method is never invoked when this exception is thrown.
+ *
+ * <p>Extends {@link CircuitBreakerOpenException}, so it is mapped and counted like any other open circuit.
+ */
+public final class KeyedCircuitBreakerOpenException extends CircuitBreakerOpenException
+{
+    private final String circuitName;
+
+    private final String keyClass;
+
+    public KeyedCircuitBreakerOpenException(final String circuitName, final String keyClass, final String key)
+    {
+        super(String.format("Circuit breaker [%s] is open for %s [%s]", circuitName, keyClass, key));
+        this.circuitName = circuitName;
+        this.keyClass = keyClass;
+    }
+
+    public String getCircuitName()
+    {
+        return circuitName;
+    }
+
+    public String getKeyClass()
+    {
+        return keyClass;
+    }
+}
@@ -0,0 +1,215 @@
+package io.forge.kit.metrics.impl.faulttolerance.keyed;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The per-key breakers of one circuit, bounded to about {@code maxKeys} entries by approximate least-recently-used
+ * eviction.
+ *
+ * <p>Lookups are lock-free: each key's breaker sits in a {@link ConcurrentHashMap} with the clock reading of its last
+ * call. Once a new key takes the group over {@code maxKeys}, a single thread evicts the least recently called keys in
+ * one batch, bringing the group down to {@code maxKeys} minus a sixteenth, so the scan runs once per that many new
+ * keys rather than on every call. Keys added while a batch runs may briefly exceed the bound.
+ *
+ * <p>Evicting a key forgets its state; an evicted open key starts closed when it is seen again. With {@code maxKeys}
+ * sized above the number of partitions that are active at once, only idle keys are evicted.
+ */
+public final class KeyedCircuitGroup
+{
+    private final int requestVolumeThreshold;
+    private final double failureRatio;
+    private final long delayNanos;
+    private final LongSupplier nanoClock;
+    private final int maxKeys;
+    private final int evictionTarget;
+    private final ConcurrentMap<String, TrackedCircuit> circuits = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder trips = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param requestVolumeThreshold calls in each key's rolling window
+     * @param failureRatio           failure ratio that opens a key's breaker
+     * @param delayNanos             how long a key's breaker stays open before a probe
+     * @param maxKeys                maximum keys tracked
+     * @param nanoClock              monotonic clock, {@code System::nanoTime} outside tests
+     */
+    public KeyedCircuitGroup(final int requestVolumeThreshold, final double failureRatio, final long delayNanos,
+                             final int maxKeys, final LongSupplier nanoClock)
+    {
+        if (requestVolumeThreshold < 1)
+        {
+            throw new IllegalArgumentException("Request volume threshold must be positive: " + requestVolumeThreshold);
+        }
+        if (failureRatio <= 0.0 || failureRatio > 1.0)
+        {
+            throw new IllegalArgumentException("Failure ratio must be in (0, 1]: " + failureRatio);
+        }
+        if (maxKeys < 1)
+        {
+            throw new IllegalArgumentException("Max keys must be positive: " + maxKeys);
+        }
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.failureRatio = failureRatio;
+        this.delayNanos = delayNanos;
+        this.nanoClock = nanoClock;
+        this.maxKeys = maxKeys;
+        this.evictionTarget = maxKeys - maxKeys / 16;
+    }
+
+    /**
+     * Decides whether a call for a key may proceed.
+     *
+     * @param key the resolved key
+     * @return the key's breaker and admission
+     */
+    public Permit tryAcquire(final String key)
+    {
+        final long now = nanoClock.getAsLong();
+        TrackedCircuit tracked = circuits.get(key);
+        if (tracked == null)
+        {
+            tracked = circuits.computeIfAbsent(key,
+                k -> new TrackedCircuit(new KeyedCircuit(requestVolumeThreshold, failureRatio, delayNanos), now));
+            evictIfFull();
+        }
+        else
+        {
+            tracked.lastAccessNanos = now;
+        }
+
+        final KeyedCircuit circuit = tracked.circuit;
+        final KeyedCircuit.Admission admission = circuit.tryAcquire(now);
+        if (admission == KeyedCircuit.Admission.REJECTED)
+        {
+            rejections.increment();
+        }
+        return new Permit(circuit, admission);
+    }
+
+    /**
+     * Returns the number of keys currently tracked.
+     */
+    public int trackedKeys()
+    {
+        return circuits.size();
+    }
+
+    /**
+     * Returns the number of tracked keys whose breaker is open or half-open.
+     */
+    public int openKeys()
+    {
+        int open = 0;
+        for (final TrackedCircuit tracked : circuits.values())
+        {
+            open += tracked.circuit.state() == KeyedCircuit.State.CLOSED ? 0 : 1;
+        }
+        return open;
+    }
+
+    // Rechecks after each batch so a key added while another thread held the flag is not left over the bound.
+    private void evictIfFull()
+    {
+        while (circuits.size() > maxKeys && evicting.compareAndSet(false, true))
+        {
+            try
+            {
+                evictLeastRecentlyUsed();
+            }
+            finally
+            {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed()
+    {
+        final List<Map.Entry<String, TrackedCircuit>> entries = new ArrayList<>(circuits.entrySet());
+        final int excess = entries.size() - evictionTarget;
+        if (excess <= 0)
+        {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos));
+        for (int i = 0; i < excess; i++)
+        {
+            final Map.Entry<String, TrackedCircuit> eldest = entries.get(i);
+            if (circuits.remove(eldest.getKey(), eldest.getValue()))
+            {
+                evictions.increment();
+            }
+        }
+    }
+
+    public long trips()
+    {
+        return trips.sum();
+    }
+
+    public long rejections()
+    {
+        return rejections.sum();
+    }
+
+    public long evictions()
+    {
+        return evictions.sum();
+    }
+
+    private static final class TrackedCircuit
+    {
+        private final KeyedCircuit circuit;
+        private volatile long lastAccessNanos;
+
+        private TrackedCircuit(final KeyedCircuit circuit, final long lastAccessNanos)
+        {
+            this.circuit = circuit;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    /**
+     * A key's admission; completed through {@link #onComplete(boolean)} or {@link #onCancelled()}.
+     */
+    public final class Permit
+    {
+        private final KeyedCircuit circuit;
+        private final KeyedCircuit.Admission admission;
+
+        private Permit(final KeyedCircuit circuit, final KeyedCircuit.Admission admission)
+        {
+            this.circuit = circuit;
+            this.admission = admission;
+        }
+
+        public boolean rejected()
+        {
+            return admission == KeyedCircuit.Admission.REJECTED;
+        }
+
+        public void onComplete(final boolean failure)
+        {
+            if (circuit.onComplete(admission, failure, nanoClock.getAsLong()))
+            {
+                trips.increment();
+            }
+        }
+
+        public void onCancelled()
+        {
+            circuit.onCancelled(admission);
+        }
+    }
+}
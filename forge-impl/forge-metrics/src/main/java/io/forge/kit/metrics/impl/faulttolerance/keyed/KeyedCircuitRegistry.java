@@ -0,0 +1,40 @@
+package io.forge.kit.metrics.impl.faulttolerance.keyed;
+
+import io.forge.kit.metrics.api.faulttolerance.KeyedCircuitBreaker;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitNameRegistry;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Holds one {@link KeyedCircuitGroup} per circuit name, configured by the first {@link KeyedCircuitBreaker} seen for
+ * it.
+ */
+@ApplicationScoped
+public class KeyedCircuitRegistry extends CircuitNameRegistry<KeyedCircuitBreaker, KeyedCircuitGroup>
+{
+    private final CircuitBreakerMetricsRecorder recorder;
+
+    @Inject
+    public KeyedCircuitRegistry(final CircuitBreakerMetricsRecorder recorder)
+    {
+        this(recorder, config -> new KeyedCircuitGroup(config.requestVolumeThreshold(), config.failureRatio(),
+            TimeUnit.MILLISECONDS.toNanos(config.delayMillis()), config.maxKeys(), System::nanoTime));
+    }
+
+    KeyedCircuitRegistry(final CircuitBreakerMetricsRecorder recorder,
+                         final Function<KeyedCircuitBreaker, KeyedCircuitGroup> groupFactory)
+    {
+        super(groupFactory);
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void registerMeters(final String circuitName, final KeyedCircuitBreaker config,
+                                  final KeyedCircuitGroup created)
+    {
+        recorder.registerKeyedCircuitMeters(circuitName, config.keyClass(), created);
+    }
+}
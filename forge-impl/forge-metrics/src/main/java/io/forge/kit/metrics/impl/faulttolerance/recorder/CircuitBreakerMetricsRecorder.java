@@ -1,18 +1,34 @@
 package io.forge.kit.metrics.impl.faulttolerance.recorder;
 
-import io.micrometer.core.instrument.Counter;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.forge.kit.metrics.impl.domain.support.MeterWriter;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerStateClock;
+import io.forge.kit.metrics.impl.faulttolerance.adaptive.AdaptiveTimeoutPolicy;
+import io.forge.kit.metrics.impl.faulttolerance.adaptive.LatencyCircuit;
+import io.forge.kit.metrics.impl.faulttolerance.keyed.KeyedCircuitGroup;
+import io.forge.kit.metrics.impl.faulttolerance.retry.RetryTokenBucket;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 @ApplicationScoped
 public final class CircuitBreakerMetricsRecorder
 {
+    private final MeterHandleCache meterHandleCache;
+    private final MeterWriter meterWriter;
     private final MeterRegistry meterRegistry;
 
     @Inject
-    public CircuitBreakerMetricsRecorder(final MeterRegistry meterRegistry)
+    public CircuitBreakerMetricsRecorder(final MeterHandleCache meterHandleCache, final MeterWriter meterWriter,
+                                         final MeterRegistry meterRegistry)
     {
+        this.meterHandleCache = meterHandleCache;
+        this.meterWriter = meterWriter;
         this.meterRegistry = meterRegistry;
     }
 
@@ -24,11 +40,184 @@ public final class CircuitBreakerMetricsRecorder
      */
     public void recordCircuitBreakerStateChange(final String circuitName, final String state)
     {
-        Counter.builder("circuit.breaker.state.changes")
+        meterWriter.increment(meterHandleCache.counter("circuit.breaker.state.changes", "Circuit breaker state changes",
+            "circuit", circuitName, "state", state));
+    }
+
+    /**
+     * Records a call rejected because the circuit breaker was open.
+     *
+     * @param circuitName The name of the circuit breaker
+     */
+    public void recordCircuitBreakerRejection(final String circuitName)
+    {
+        meterWriter.increment(meterHandleCache.counter("circuit.breaker.calls.rejected",
+            "Calls rejected without invoking the guarded method because the circuit breaker was open",
+            "circuit", circuitName));
+    }
+
+    /**
+     * Records a call that exceeded its adaptive timeout.
+     *
+     * @param circuitName The name of the circuit breaker
+     */
+    public void recordTimeout(final String circuitName)
+    {
+        meterWriter.increment(meterHandleCache.counter("circuit.breaker.calls.timed.out",
+            "Calls that exceeded the adaptive timeout derived from observed latency", "circuit", circuitName));
+    }
+
+    /**
+     * Registers the scrape-time meters backed by a circuit's state clock:
+     * <ul>
+     * <li>{@code circuit.breaker.state{circuit}} - 0 closed, 1 open, 2 half-open</li>
+     * <li>{@code circuit.breaker.state.duration{circuit,state}} - cumulative seconds spent in each state</li>
+     * </ul>
+     *
+     * @param circuitName The name of the circuit breaker
+     * @param clock       The circuit's state clock, read lazily when meters are published
+     */
+    public void registerStateMeters(final String circuitName, final CircuitBreakerStateClock clock)
+    {
+        Gauge.builder("circuit.breaker.state", clock, CircuitBreakerStateClock::stateValue)
+            .tag("circuit", circuitName)
+            .description("Current circuit breaker state (0 = closed, 1 = open, 2 = half-open)")
+            .register(meterRegistry);
+
+        for (final CircuitBreakerState state : CircuitBreakerState.values())
+        {
+            FunctionCounter.builder("circuit.breaker.state.duration", clock, c -> c.secondsIn(state))
+                .tag("circuit", circuitName)
+                .tag("state", state.name().toLowerCase(Locale.ROOT))
+                .baseUnit("seconds")
+                .description("Cumulative time the circuit breaker has spent in each state")
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Registers the scrape-time meters of a latency-adaptive circuit:
+     * <ul>
+     * <li>{@code circuit.breaker.latency.baseline{circuit}} - baseline p99 in seconds</li>
+     * <li>{@code circuit.breaker.latency.p99{circuit}} - recent p99 in seconds, as of the last evaluation</li>
+     * <li>{@code circuit.breaker.latency.state{circuit}} - 0 closed, 1 open, 2 half-open</li>
+     * <li>{@code circuit.breaker.latency.trips{circuit}} - times the circuit opened because of latency</li>
+     * </ul>
+     *
+     * @param circuitName The name of the circuit breaker
+     * @param circuit     The latency circuit, read lazily when meters are published
+     */
+    public void registerLatencyCircuitMeters(final String circuitName, final LatencyCircuit circuit)
+    {
+        Gauge.builder("circuit.breaker.latency.baseline", circuit, c -> toSeconds(c.baselineNanos()))
+            .tag("circuit", circuitName)
+            .baseUnit("seconds")
+            .description("Baseline p99 latency the latency circuit breaker compares against")
+            .register(meterRegistry);
+        Gauge.builder("circuit.breaker.latency.p99", circuit, c -> toSeconds(c.recentP99Nanos()))
             .tag("circuit", circuitName)
-            .tag("state", state)
-            .description("Circuit breaker state changes")
-            .register(meterRegistry)
-            .increment();
+            .baseUnit("seconds")
+            .description("Recent p99 latency as of the last latency circuit breaker evaluation")
+            .register(meterRegistry);
+        Gauge.builder("circuit.breaker.latency.state", circuit, c -> c.state().ordinal())
+            .tag("circuit", circuitName)
+            .description("Current latency circuit breaker state (0 = closed, 1 = open, 2 = half-open)")
+            .register(meterRegistry);
+        FunctionCounter.builder("circuit.breaker.latency.trips", circuit, LatencyCircuit::trips)
+            .tag("circuit", circuitName)
+            .description("Times the latency circuit breaker opened because recent p99 exceeded the baseline threshold")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Registers {@code circuit.breaker.timeout.adaptive{circuit}}, the adaptive timeout currently applied to calls, in
+     * seconds.
+     *
+     * @param circuitName The name of the circuit breaker
+     * @param policy      The adaptive timeout policy, read lazily when meters are published
+     */
+    public void registerAdaptiveTimeoutMeters(final String circuitName, final AdaptiveTimeoutPolicy policy)
+    {
+        Gauge.builder("circuit.breaker.timeout.adaptive", policy, p -> toSeconds(p.timeoutNanos()))
+            .tag("circuit", circuitName)
+            .baseUnit("seconds")
+            .description("Timeout currently applied to calls, derived from the observed latency quantile")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Registers the scrape-time meters of a retry budget:
+     * <ul>
+     * <li>{@code retry.budget.tokens{circuit}} - retries that could proceed right now</li>
+     * <li>{@code retry.budget.attempts{circuit}} - first attempts, each funding the budget</li>
+     * <li>{@code retry.budget.retries{circuit,outcome}} - retries allowed or rejected by the budget</li>
+     * </ul>
+     *
+     * @param circuitName The name of the circuit breaker
+     * @param bucket      The retry token bucket, read lazily when meters are published
+     */
+    public void registerRetryBudgetMeters(final String circuitName, final RetryTokenBucket bucket)
+    {
+        Gauge.builder("retry.budget.tokens", bucket, RetryTokenBucket::availableTokens)
+            .tag("circuit", circuitName)
+            .description("Retry tokens currently available in the retry budget")
+            .register(meterRegistry);
+        FunctionCounter.builder("retry.budget.attempts", bucket, RetryTokenBucket::firstAttempts)
+            .tag("circuit", circuitName)
+            .description("First attempts counted towards the retry budget")
+            .register(meterRegistry);
+        FunctionCounter.builder("retry.budget.retries", bucket, RetryTokenBucket::retriesAllowed)
+            .tag("circuit", circuitName)
+            .tag("outcome", "allowed")
+            .description("Retries allowed or rejected by the retry budget")
+            .register(meterRegistry);
+        FunctionCounter.builder("retry.budget.retries", bucket, RetryTokenBucket::retriesRejected)
+            .tag("circuit", circuitName)
+            .tag("outcome", "rejected")
+            .description("Retries allowed or rejected by the retry budget")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Registers the scrape-time meters of a keyed circuit breaker, tagged by circuit and key class (never by key):
+     * <ul>
+     * <li>{@code circuit.breaker.keyed.keys{circuit,key_class}} - keys currently tracked</li>
+     * <li>{@code circuit.breaker.keyed.open{circuit,key_class}} - tracked keys whose breaker is open or half-open</li>
+     * <li>{@code circuit.breaker.keyed.trips{circuit,key_class}} - times a key's breaker opened</li>
+     * <li>{@code circuit.breaker.keyed.calls.rejected{circuit,key_class}} - calls rejected by an open key</li>
+     * <li>{@code circuit.breaker.keyed.evictions{circuit,key_class}} - keys evicted to stay within the bound</li>
+     * </ul>
+     *
+     * @param circuitName The name of the circuit breaker
+     * @param keyClass    What the keys identify, e.g. {@code "tenant"}
+     * @param group       The per-key breakers, read lazily when meters are published
+     */
+    public void registerKeyedCircuitMeters(final String circuitName, final String keyClass, final KeyedCircuitGroup group)
+    {
+        Gauge.builder("circuit.breaker.keyed.keys", group, KeyedCircuitGroup::trackedKeys)
+            .tags("circuit", circuitName, "key_class", keyClass)
+            .description("Keys currently tracked by the keyed circuit breaker")
+            .register(meterRegistry);
+        Gauge.builder("circuit.breaker.keyed.open", group, KeyedCircuitGroup::openKeys)
+            .tags("circuit", circuitName, "key_class", keyClass)
+            .description("Tracked keys whose circuit breaker is open or half-open")
+            .register(meterRegistry);
+        FunctionCounter.builder("circuit.breaker.keyed.trips", group, KeyedCircuitGroup::trips)
+            .tags("circuit", circuitName, "key_class", keyClass)
+            .description("Times a key's circuit breaker opened")
+            .register(meterRegistry);
+        FunctionCounter.builder("circuit.breaker.keyed.calls.rejected", group, KeyedCircuitGroup::rejections)
+            .tags("circuit", circuitName, "key_class", keyClass)
+            .description("Calls rejected without invoking the guarded method because the key's circuit breaker was open")
+            .register(meterRegistry);
+        FunctionCounter.builder("circuit.breaker.keyed.evictions", group, KeyedCircuitGroup::evictions)
+            .tags("circuit", circuitName, "key_class", keyClass)
+            .description("Keys evicted from the keyed circuit breaker to stay within maxKeys")
+            .register(meterRegistry);
+    }
+
+    private static double toSeconds(final double nanos)
+    {
+        return nanos / TimeUnit.SECONDS.toNanos(1L);
     }
 }
@@ -0,0 +1,26 @@
+package io.forge.kit.metrics.impl.faulttolerance.retry;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+
+/**
+ * Exception thrown instead of a retry when the {@link io.forge.kit.metrics.api.faulttolerance.RetryBudget} of its
+ * circuit is spent. The guarded method is not invoked; the cause is the failure of the previous attempt, if known.
+ *
+ * <p>Add this exception to {@code @Retry(abortOn = ...)} so SmallRye stops retrying as soon as the budget is spent,
+ * and to {@code @CircuitBreaker(skipOn = ...)} so it does not count as a circuit breaker failure.
+ */
+public final class RetryBudgetExhaustedException extends FaultToleranceException
+{
+    private final String circuitName;
+
+    public RetryBudgetExhaustedException(final String circuitName, final Throwable lastFailure)
+    {
+        super(String.format("Retry budget of circuit [%s] is exhausted", circuitName), lastFailure);
+        this.circuitName = circuitName;
+    }
+
+    public String getCircuitName()
+    {
+        return circuitName;
+    }
+}
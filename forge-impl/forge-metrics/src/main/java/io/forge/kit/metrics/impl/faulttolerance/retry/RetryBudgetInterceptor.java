@@ -0,0 +1,182 @@
+package io.forge.kit.metrics.impl.faulttolerance.retry;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.faulttolerance.RetryBudget;
+import io.forge.kit.metrics.impl.domain.support.AsyncResultSupport;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerNameResolver;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.jboss.logging.Logger;
+
+/**
+ * CDI interceptor that enforces a {@link RetryBudget} on SmallRye {@code @Retry}.
+ *
+ * <p>Runs just inside SmallRye Fault Tolerance, which re-invokes {@code proceed()} on the same invocation context for
+ * every retry. The first pass through this interceptor is the first attempt and funds the budget; every later pass is a
+ * retry and must withdraw a token, otherwise it fails with {@link RetryBudgetExhaustedException} without invoking the
+ * method. Attempts are told apart through the invocation's context data, so this also holds when SmallRye retries
+ * asynchronous methods on another thread.
+ *
+ * <p>Because it runs inside SmallRye, SmallRye sees {@link RetryBudgetExhaustedException} like any other failure: it
+ * keeps retrying unless the exception is listed in {@code @Retry(abortOn)}, and a {@code @CircuitBreaker} counts it as
+ * a failure unless it is listed in {@code skipOn}. Annotations cannot be amended at runtime, so the first call of each
+ * method logs a warning for every missing entry:
+ * <pre>{@code
+ * @Retry(maxRetries = 2, abortOn = RetryBudgetExhaustedException.class)
+ * @CircuitBreaker(skipOn = RetryBudgetExhaustedException.class)
+ * @RetryBudget(ratio = 0.1)
+ * }</pre>
+ */
+@RetryBudget
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 15) // 4015, inside SmallRye Fault Tolerance (4010)
+public final class RetryBudgetInterceptor
+{
+    private static final Logger LOGGER = Logger.getLogger(RetryBudgetInterceptor.class);
+
+    private static final String ATTEMPTS_KEY = RetryBudgetInterceptor.class.getName() + ".attempts";
+
+    private final Set<Method> checkedMethods = ConcurrentHashMap.newKeySet();
+
+    private final RetryBudgetRegistry registry;
+
+    private final AnnotationResolver annotationResolver;
+
+    private final CircuitBreakerNameResolver circuitBreakerNameResolver;
+
+    @Inject
+    public RetryBudgetInterceptor(final RetryBudgetRegistry registry,
+                                  final AnnotationResolver annotationResolver, final CircuitBreakerNameResolver circuitBreakerNameResolver)
+    {
+        this.registry = registry;
+        this.annotationResolver = annotationResolver;
+        this.circuitBreakerNameResolver = circuitBreakerNameResolver;
+    }
+
+    @AroundInvoke
+    public Object limit(final InvocationContext context) throws Exception
+    {
+        final RetryBudget config = annotationResolver.resolve(context.getMethod(), RetryBudget.class);
+        if (config == null)
+        {
+            return context.proceed();
+        }
+
+        final Method method = context.getMethod();
+        if (!checkedMethods.contains(method) && checkedMethods.add(method))
+        {
+            missingFaultToleranceSettings(method, annotationResolver).forEach(LOGGER::warn);
+        }
+
+        final String circuitName = circuitBreakerNameResolver.resolve(context.getMethod());
+        final RetryTokenBucket bucket = registry.forCircuit(circuitName, config);
+
+        final Attempts attempts = (Attempts) context.getContextData().get(ATTEMPTS_KEY);
+        if (attempts == null)
+        {
+            context.getContextData().put(ATTEMPTS_KEY, new Attempts());
+            bucket.onFirstAttempt();
+        }
+        else if (!bucket.tryAcquireRetry())
+        {
+            throw new RetryBudgetExhaustedException(circuitName, attempts.lastFailure);
+        }
+
+        final Object result;
+        try
+        {
+            result = context.proceed();
+        }
+        catch (final Exception e)
+        {
+            remember(context, e);
+            throw e;
+        }
+
+        if (AsyncResultSupport.isAsync(result))
+        {
+            return AsyncResultSupport.onCompletion(result, System.nanoTime(), new AsyncResultSupport.AsyncCompletion()
+            {
+                @Override
+                public void onItem(final Object lastItem, final long durationNanos)
+                {
+                    // Nothing to remember - a successful attempt is not retried
+                }
+
+                @Override
+                public void onFailure(final Throwable failure, final long durationNanos)
+                {
+                    remember(context, failure);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Lists the SmallRye settings a {@link RetryBudget} method needs but does not declare.
+     *
+     * @param method             the budgeted method
+     * @param annotationResolver resolves method annotations with a class-level fallback
+     * @return one message per missing setting, empty if the method is configured correctly
+     */
+    static List<String> missingFaultToleranceSettings(final Method method, final AnnotationResolver annotationResolver)
+    {
+        final String target = method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+        final List<String> missing = new ArrayList<>();
+
+        final Retry retry = annotationResolver.resolve(method, Retry.class);
+        if (retry != null && !lists(retry.abortOn()))
+        {
+            missing.add(String.format("@RetryBudget on %s: add RetryBudgetExhaustedException to @Retry(abortOn), "
+                + "otherwise SmallRye keeps retrying after the budget is spent", target));
+        }
+
+        final CircuitBreaker circuitBreaker = annotationResolver.resolve(method, CircuitBreaker.class);
+        if (circuitBreaker != null && !lists(circuitBreaker.skipOn()))
+        {
+            missing.add(String.format("@RetryBudget on %s: add RetryBudgetExhaustedException to @CircuitBreaker(skipOn), "
+                + "otherwise refused retries count as circuit breaker failures", target));
+        }
+        return missing;
+    }
+
+    private static boolean lists(final Class<? extends Throwable>[] exceptions)
+    {
+        for (final Class<? extends Throwable> exception : exceptions)
+        {
+            if (exception.isAssignableFrom(RetryBudgetExhaustedException.class))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void remember(final InvocationContext context, final Throwable failure)
+    {
+        final Attempts attempts = (Attempts) context.getContextData().get(ATTEMPTS_KEY);
+        if (attempts != null)
+        {
+            attempts.lastFailure = failure;
+        }
+    }
+
+    /**
+     * Per-invocation attempt state; attempts are sequential but may run on different threads.
+     */
+    private static final class Attempts
+    {
+        private volatile Throwable lastFailure;
+    }
+}
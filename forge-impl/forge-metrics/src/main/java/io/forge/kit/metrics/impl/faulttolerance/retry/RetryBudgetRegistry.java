@@ -0,0 +1,37 @@
+package io.forge.kit.metrics.impl.faulttolerance.retry;
+
+import io.forge.kit.metrics.api.faulttolerance.RetryBudget;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitNameRegistry;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.function.Function;
+
+/**
+ * Holds one {@link RetryTokenBucket} per circuit name, configured by the first {@link RetryBudget} seen for it.
+ */
+@ApplicationScoped
+public class RetryBudgetRegistry extends CircuitNameRegistry<RetryBudget, RetryTokenBucket>
+{
+    private final CircuitBreakerMetricsRecorder recorder;
+
+    @Inject
+    public RetryBudgetRegistry(final CircuitBreakerMetricsRecorder recorder)
+    {
+        this(recorder, config -> new RetryTokenBucket(config.ratio(), config.minRetriesPerSecond(), config.maxTokens(),
+            System::nanoTime));
+    }
+
+    RetryBudgetRegistry(final CircuitBreakerMetricsRecorder recorder,
+                        final Function<RetryBudget, RetryTokenBucket> bucketFactory)
+    {
+        super(bucketFactory);
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void registerMeters(final String circuitName, final RetryBudget config, final RetryTokenBucket created)
+    {
+        recorder.registerRetryBudgetMeters(circuitName, created);
+    }
+}
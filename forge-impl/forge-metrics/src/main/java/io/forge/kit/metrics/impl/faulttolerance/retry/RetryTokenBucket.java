@@ -0,0 +1,123 @@
+package io.forge.kit.metrics.impl.faulttolerance.retry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Retry budget state for one circuit: a token bucket funded by first attempts and by a time-based floor.
+ *
+ * <p>Every first attempt deposits {@code ratio} tokens and every second deposits {@code minRetriesPerSecond}, up to
+ * {@code maxTokens}. A retry needs one whole token. Over any long period retries are therefore bounded by
+ * {@code ratio × attempts + minRetriesPerSecond × seconds + maxTokens}.
+ *
+ * <p>Updates are a handful of arithmetic operations under the bucket's monitor, far cheaper than the call being guarded.
+ */
+public final class RetryTokenBucket
+{
+    private final LongSupplier nanoClock;
+    private final double ratio;
+    private final double tokensPerNano;
+    private final double maxTokens;
+
+    private final LongAdder firstAttempts = new LongAdder();
+    private final LongAdder retriesAllowed = new LongAdder();
+    private final LongAdder retriesRejected = new LongAdder();
+
+    private double tokens;
+    private long refilledAtNanos;
+
+    /**
+     * @param ratio               tokens deposited per first attempt
+     * @param minRetriesPerSecond tokens deposited per second
+     * @param maxTokens           bucket capacity and initial balance
+     * @param nanoClock           monotonic clock, {@code System::nanoTime} outside tests
+     */
+    public RetryTokenBucket(final double ratio, final double minRetriesPerSecond, final int maxTokens,
+                            final LongSupplier nanoClock)
+    {
+        if (ratio <= 0.0)
+        {
+            throw new IllegalArgumentException("Retry ratio must be positive: " + ratio);
+        }
+        if (maxTokens < 1)
+        {
+            throw new IllegalArgumentException("Retry budget must hold at least one token: " + maxTokens);
+        }
+        this.nanoClock = nanoClock;
+        this.ratio = ratio;
+        this.tokensPerNano = Math.max(0.0, minRetriesPerSecond) / TimeUnit.SECONDS.toNanos(1L);
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+        this.refilledAtNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Records a first attempt, depositing {@code ratio} tokens.
+     */
+    public void onFirstAttempt()
+    {
+        firstAttempts.increment();
+        synchronized (this)
+        {
+            refill();
+            tokens = Math.min(maxTokens, tokens + ratio);
+        }
+    }
+
+    /**
+     * Withdraws a token for a retry.
+     *
+     * @return true if the retry may proceed, false if the budget is spent
+     */
+    public boolean tryAcquireRetry()
+    {
+        final boolean allowed;
+        synchronized (this)
+        {
+            refill();
+            allowed = tokens >= 1.0;
+            if (allowed)
+            {
+                tokens -= 1.0;
+            }
+        }
+        (allowed ? retriesAllowed : retriesRejected).increment();
+        return allowed;
+    }
+
+    /**
+     * Returns the tokens currently available, i.e. how many retries could proceed right now.
+     */
+    public synchronized double availableTokens()
+    {
+        refill();
+        return tokens;
+    }
+
+    public long firstAttempts()
+    {
+        return firstAttempts.sum();
+    }
+
+    public long retriesAllowed()
+    {
+        return retriesAllowed.sum();
+    }
+
+    public long retriesRejected()
+    {
+        return retriesRejected.sum();
+    }
+
+    private void refill()
+    {
+        final long now = nanoClock.getAsLong();
+        final long elapsed = now - refilledAtNanos;
+        if (elapsed > 0L)
+        {
+            tokens = Math.min(maxTokens, tokens + elapsed * tokensPerNano);
+            refilledAtNanos = now;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.forge.kit.metrics.impl.infrastructure.throttle;
+
+import io.forge.kit.throttle.api.event.RateLimitEventStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+/**
+ * Exports the back-pressure of rate limit event delivery as {@code rate.limit.events.dropped}, the events batched
+ * listeners never saw because the dispatcher's queue was full.
+ *
+ * <p>A rising count means batched listeners (such as {@link RateLimitMetricsListener}) under-report; raise
+ * {@code forge.rate-limit.events.queue-capacity} or make the listeners cheaper. Nothing is registered when the rate
+ * limiter is not on the classpath.
+ */
+@ApplicationScoped
+public final class RateLimitEventMetrics
+{
+    private final MeterRegistry meterRegistry;
+    private final Iterable<RateLimitEventStats> sources;
+
+    @Inject
+    public RateLimitEventMetrics(final MeterRegistry meterRegistry, final Instance<RateLimitEventStats> sources)
+    {
+        this(meterRegistry, (Iterable<RateLimitEventStats>) sources);
+    }
+
+    RateLimitEventMetrics(final MeterRegistry meterRegistry, final Iterable<RateLimitEventStats> sources)
+    {
+        this.meterRegistry = meterRegistry;
+        this.sources = sources;
+    }
+
+    void onStart(@Observes final StartupEvent event)
+    {
+        for (final RateLimitEventStats source : sources)
+        {
+            FunctionCounter.builder("rate.limit.events.dropped", source, RateLimitEventStats::droppedCount)
+                .description("Rate limit events dropped because the batched listener queue was full")
+                .register(meterRegistry);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.forge.kit.metrics.impl.infrastructure.throttle;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 
@@ -7,29 +8,42 @@ import org.apache.commons.lang3.StringUtils;
  * Utility class for parsing rate limit keys to extract key type and identifier.
  * Used for metrics tagging and reporting.
  *
- * <p>Also provides constants for request context property names used to pass rate limit data
- * from filters to metrics handlers.
+ * <p>Rate limit data is passed from filters to metrics handlers through the request-scoped
+ * {@link io.forge.kit.throttle.api.infrastructure.RateLimitContext}. The request property names filters used before
+ * are kept, deprecated, for one release so such filters keep producing metrics while they migrate.
  */
 public final class RateLimitKeyParser
 {
     /**
      * Property name for storing rate limit key in request context.
+     *
+     * @deprecated record checks with {@code RateLimitContext.record} instead
      */
+    @Deprecated(forRemoval = true)
     public static final String RATE_LIMIT_KEY_PROPERTY = "rateLimitKey";
 
     /**
      * Property name for storing rate limit status allowed flag in request context.
+     *
+     * @deprecated record checks with {@code RateLimitContext.record} instead
      */
+    @Deprecated(forRemoval = true)
     public static final String RATE_LIMIT_STATUS_ALLOWED_PROPERTY = "rateLimitStatusAllowed";
 
     /**
      * Property name for storing rate limit capacity in request context.
+     *
+     * @deprecated record checks with {@code RateLimitContext.record} instead
      */
+    @Deprecated(forRemoval = true)
     public static final String RATE_LIMIT_STATUS_LIMIT_PROPERTY = "rateLimitStatusLimit";
 
     /**
      * Property name for storing rate limit remaining tokens in request context.
+     *
+     * @deprecated record checks with {@code RateLimitContext.record} instead
      */
+    @Deprecated(forRemoval = true)
     public static final String RATE_LIMIT_STATUS_REMAINING_PROPERTY = "rateLimitStatusRemaining";
 
     private static final String USER_PREFIX = "user:";
@@ -45,6 +59,11 @@ public final class RateLimitKeyParser
         AUTH_PREFIX, "auth"
     );
 
+    /**
+     * Every key type {@link #extractKeyType(String)} can return, for pre-registering per-type meters.
+     */
+    public static final List<String> KEY_TYPES = List.of("user", "service", "ip", "auth", UNKNOWN);
+
     private RateLimitKeyParser()
     {
         // Utility class
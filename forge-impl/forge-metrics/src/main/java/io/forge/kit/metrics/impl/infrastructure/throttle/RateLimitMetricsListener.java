@@ -0,0 +1,46 @@
+package io.forge.kit.metrics.impl.infrastructure.throttle;
+
+import io.forge.kit.metrics.impl.domain.recorder.ThrottleMetricsRecorder;
+import io.forge.kit.throttle.api.event.RateLimitEvent;
+import io.forge.kit.throttle.api.event.RateLimitEventListener;
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Records rate limit metrics from the rate limiter's event stream instead of intercepting the rate limiting filter.
+ *
+ * <p>Publishes the same {@code rate.limit.requests} and {@code rate.limit.violations} counters as
+ * {@link ThrottleMetricsRecorder}, but receives decisions in batches on the event dispatcher's background thread, so
+ * the request path carries no interceptor or recorder work. Enable it at build time and drop
+ * {@code @ServiceMetrics(ThrottleMetricsRecorder.class)} from the filter to avoid counting twice:
+ * <pre>{@code
+ * forge.metrics.rate-limit.events.enabled=true
+ * }</pre>
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "forge.metrics.rate-limit.events.enabled", stringValue = "true")
+public final class RateLimitMetricsListener implements RateLimitEventListener
+{
+    private final ThrottleMetricsRecorder recorder;
+
+    @Inject
+    public RateLimitMetricsListener(final ThrottleMetricsRecorder recorder)
+    {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Delivery delivery()
+    {
+        return Delivery.BATCHED;
+    }
+
+    @Override
+    public void onEvent(final RateLimitEvent event)
+    {
+        final RateLimitStatus status = event.status();
+        recorder.recordRateLimitCheck(event.key(), status.allowed(), status.limit(), status.remaining(), 1L);
+    }
+}
@@ -0,0 +1,230 @@
+package io.forge.kit.metrics.impl.infrastructure.throttle;
+
+import io.forge.kit.throttle.api.infrastructure.BucketOccupancySource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.IllegalProductException;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+/**
+ * Periodically samples live rate-limit buckets and publishes the fill-level distribution per key tier.
+ *
+ * <p>Replaces per-request utilization recording: the request path only consumes tokens, while this sampler reads a
+ * random subset of buckets in the background and publishes cumulative histogram gauges:
+ * <ul>
+ * <li>{@code rate.limit.bucket.utilization{key_type, le}} - sampled buckets with utilization at or below {@code le}</li>
+ * <li>{@code rate.limit.bucket.samples{key_type}} - buckets sampled in the last run</li>
+ * <li>{@code rate.limit.buckets} - live buckets across all engines</li>
+ * </ul>
+ *
+ * <p>Utilization is {@code (capacity - available) / capacity}, so {@code 1.0} is an exhausted bucket. Sampling is
+ * configured with:
+ * <pre>{@code
+ * forge.metrics.rate-limit.occupancy.interval=PT30S
+ * forge.metrics.rate-limit.occupancy.max-samples=1000
+ * }</pre>
+ *
+ * <p>The sampler only runs when at least one {@link BucketOccupancySource} bean (e.g. the Bucket4j rate limiter) is
+ * available. Sources are probed once when the sampler is created; a source whose producer declined to create it (the
+ * Bucket4j limiter without rate limit configuration) is left out rather than failing every pass.
+ */
+@ApplicationScoped
+public final class RateLimitOccupancySampler
+{
+    private static final Logger LOGGER = Logger.getLogger(RateLimitOccupancySampler.class);
+
+    private static final String INTERVAL_PROPERTY = "forge.metrics.rate-limit.occupancy.interval";
+    private static final String MAX_SAMPLES_PROPERTY = "forge.metrics.rate-limit.occupancy.max-samples";
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(30L);
+    private static final int DEFAULT_MAX_SAMPLES = 1_000;
+
+    /**
+     * Cumulative utilization bounds; the final slot of each tier's counts holds the sample total.
+     */
+    private static final double[] UTILIZATION_BOUNDS = {0.1d, 0.25d, 0.5d, 0.75d, 0.9d, 1.0d};
+
+    private final MeterRegistry meterRegistry;
+    private final List<BucketOccupancySource> sources;
+    private final Duration interval;
+    private final int maxSamples;
+    private final ConcurrentMap<String, AtomicLongArray> tierCounts = new ConcurrentHashMap<>();
+    private final AtomicLong liveBuckets = new AtomicLong();
+
+    private ScheduledExecutorService executor;
+
+    @Inject
+    public RateLimitOccupancySampler(final MeterRegistry meterRegistry, final Instance<BucketOccupancySource> sources)
+    {
+        this(meterRegistry, sources,
+            ConfigProvider.getConfig().getOptionalValue(INTERVAL_PROPERTY, Duration.class).orElse(DEFAULT_INTERVAL),
+            ConfigProvider.getConfig().getOptionalValue(MAX_SAMPLES_PROPERTY, Integer.class).orElse(DEFAULT_MAX_SAMPLES));
+    }
+
+    RateLimitOccupancySampler(final MeterRegistry meterRegistry, final Iterable<BucketOccupancySource> sources,
+                              final Duration interval, final int maxSamples)
+    {
+        this.meterRegistry = meterRegistry;
+        this.sources = availableSources(sources);
+        this.interval = interval;
+        this.maxSamples = maxSamples;
+    }
+
+    void onStart(@Observes final StartupEvent event)
+    {
+        if (sources.isEmpty())
+        {
+            LOGGER.debug("No bucket occupancy sources available - rate limit occupancy sampling disabled");
+            return;
+        }
+
+        Gauge.builder("rate.limit.buckets", liveBuckets, AtomicLong::get)
+            .description("Live rate limit buckets across all engines")
+            .register(meterRegistry);
+
+        executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("forge-rate-limit-occupancy").factory());
+        executor.scheduleWithFixedDelay(this::sampleSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        if (executor != null)
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a single sampling pass and publishes the result. Package-private for testing.
+     */
+    void sample()
+    {
+        final Map<String, long[]> run = new HashMap<>();
+        long buckets = 0L;
+
+        for (final BucketOccupancySource source : sources)
+        {
+            buckets += source.bucketCount();
+            source.sampleOccupancy(maxSamples, (key, capacity, available) ->
+                accumulate(run.computeIfAbsent(RateLimitKeyParser.extractKeyType(key), tier -> new long[UTILIZATION_BOUNDS.length + 1]),
+                    capacity, available));
+        }
+
+        liveBuckets.set(buckets);
+        run.forEach((tier, counts) -> publish(tierCountsFor(tier), counts));
+
+        // Tiers absent from this run have no sampled buckets - publish zeros rather than stale values
+        tierCounts.forEach((tier, counts) ->
+        {
+            if (!run.containsKey(tier))
+            {
+                publish(counts, new long[UTILIZATION_BOUNDS.length + 1]);
+            }
+        });
+    }
+
+    private static List<BucketOccupancySource> availableSources(final Iterable<BucketOccupancySource> candidates)
+    {
+        final List<BucketOccupancySource> available = new ArrayList<>();
+        for (final BucketOccupancySource candidate : candidates)
+        {
+            try
+            {
+                candidate.bucketCount();
+                available.add(candidate);
+            }
+            catch (final IllegalProductException e)
+            {
+                // Normal-scoped producers that return null only fail once the instance is first used
+                LOGGER.debugf("Bucket occupancy source not available - skipping: %s", e.getMessage());
+            }
+        }
+        return List.copyOf(available);
+    }
+
+    private void sampleSafely()
+    {
+        try
+        {
+            sample();
+        }
+        catch (final RuntimeException e)
+        {
+            // Never let a failed pass cancel the schedule
+            LOGGER.warnf(e, "Rate limit occupancy sampling failed");
+        }
+    }
+
+    private static void accumulate(final long[] counts, final long capacity, final long available)
+    {
+        if (capacity <= 0L)
+        {
+            return;
+        }
+
+        final double utilization = (double) (capacity - Math.min(capacity, Math.max(0L, available))) / capacity;
+        for (int i = 0; i < UTILIZATION_BOUNDS.length; i++)
+        {
+            if (utilization <= UTILIZATION_BOUNDS[i])
+            {
+                counts[i]++;
+            }
+        }
+        counts[UTILIZATION_BOUNDS.length]++;
+    }
+
+    private static void publish(final AtomicLongArray target, final long[] counts)
+    {
+        for (int i = 0; i < counts.length; i++)
+        {
+            target.set(i, counts[i]);
+        }
+    }
+
+    private AtomicLongArray tierCountsFor(final String tier)
+    {
+        return tierCounts.computeIfAbsent(tier, this::registerTier);
+    }
+
+    private AtomicLongArray registerTier(final String tier)
+    {
+        final AtomicLongArray counts = new AtomicLongArray(UTILIZATION_BOUNDS.length + 1);
+
+        for (int i = 0; i < UTILIZATION_BOUNDS.length; i++)
+        {
+            final int index = i;
+            Gauge.builder("rate.limit.bucket.utilization", counts, c -> c.get(index))
+                .tag("key_type", tier)
+                .tag("le", Double.toString(UTILIZATION_BOUNDS[i]))
+                .description("Sampled rate limit buckets with utilization at or below le (cumulative)")
+                .register(meterRegistry);
+        }
+
+        Gauge.builder("rate.limit.bucket.samples", counts, c -> c.get(UTILIZATION_BOUNDS.length))
+            .tag("key_type", tier)
+            .description("Rate limit buckets sampled in the last occupancy pass")
+            .register(meterRegistry);
+
+        return counts;
+    }
+}
@@ -0,0 +1,48 @@
+package io.forge.kit.metrics.impl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Instant JDK Flight Recorder event for a circuit breaker state transition, so transitions can be lined up with
+ * latency in a recording.
+ */
+@Name("io.forge.kit.CircuitStateTransition")
+@Label("Circuit State Transition")
+@Category({"Forge Kit", "Fault Tolerance"})
+@Description("A circuit breaker moved to a new state")
+@StackTrace(false)
+public final class CircuitStateTransitionEvent extends Event
+{
+    @Label("Circuit")
+    private String circuit;
+
+    @Label("From")
+    private String from;
+
+    @Label("To")
+    private String to;
+
+    /**
+     * Commits a transition if the event is enabled.
+     *
+     * @param circuit the circuit breaker name
+     * @param from    the previous state label
+     * @param to      the new state label
+     */
+    public static void emit(final String circuit, final String from, final String to)
+    {
+        final CircuitStateTransitionEvent event = new CircuitStateTransitionEvent();
+        if (event.shouldCommit())
+        {
+            event.circuit = circuit;
+            event.from = from;
+            event.to = to;
+            event.commit();
+        }
+    }
+}
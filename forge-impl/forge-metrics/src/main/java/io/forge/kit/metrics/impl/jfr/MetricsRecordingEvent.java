@@ -0,0 +1,56 @@
+package io.forge.kit.metrics.impl.jfr;
+
+import jakarta.interceptor.InvocationContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event for the work a metrics interceptor does once the intercepted invocation has finished:
+ * tail latency capture and handing the result to the recorder.
+ *
+ * <p>The event duration is the interceptor's own overhead; {@code invocation} carries the duration of the intercepted
+ * method for comparison. Asynchronous results are recorded when they complete, on the completing thread.
+ */
+@Name("io.forge.kit.MetricsRecording")
+@Label("Metrics Recording")
+@Category({"Forge Kit", "Metrics"})
+@Description("Time a metrics interceptor spends recording after the intercepted method finished")
+@StackTrace(false)
+public final class MetricsRecordingEvent extends Event
+{
+    @Label("Interceptor")
+    @Description("service or database")
+    private String interceptor;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Invocation")
+    @Description("Duration of the intercepted method")
+    @Timespan(Timespan.NANOSECONDS)
+    private long invocation;
+
+    /**
+     * Ends the recording and commits the event if it is enabled and exceeds its threshold.
+     *
+     * @param interceptor   {@code service} or {@code database}
+     * @param context       the intercepted invocation
+     * @param durationNanos duration of the intercepted method
+     */
+    public void complete(final String interceptor, final InvocationContext context, final long durationNanos)
+    {
+        end();
+        if (shouldCommit())
+        {
+            this.interceptor = interceptor;
+            this.operation = context.getMethod().getDeclaringClass().getSimpleName() + "#" + context.getMethod().getName();
+            this.invocation = durationNanos;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.forge.kit.metrics.impl.ops;
+
+import io.forge.kit.metrics.impl.domain.support.TailLatencyRegistry;
+import io.forge.kit.metrics.impl.dto.SlowInvocation;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ops endpoint listing the slowest recent invocations of every method annotated with
+ * {@link io.forge.kit.metrics.api.domain.TailLatencyCapture TailLatencyCapture}, keyed by {@code ClassName#methodName}
+ * and ordered slowest first.
+ *
+ * <p>Captured arguments can contain business data, so the endpoint is only built in when enabled at build time and
+ * only answers authenticated callers holding the configured role (default {@code ops}); anyone else gets 401 or 403:
+ * <pre>{@code
+ * forge.metrics.tail-latency.endpoint.enabled=true
+ * forge.metrics.tail-latency.endpoint.role=ops
+ * }</pre>
+ */
+@Path("/ops/tail-latency")
+@IfBuildProperty(name = "forge.metrics.tail-latency.endpoint.enabled", stringValue = "true")
+@Produces(MediaType.APPLICATION_JSON)
+public final class TailLatencyResource
+{
+    private final TailLatencyRegistry tailLatencyRegistry;
+
+    @Inject
+    public TailLatencyResource(final TailLatencyRegistry tailLatencyRegistry)
+    {
+        this.tailLatencyRegistry = tailLatencyRegistry;
+    }
+
+    @GET
+    @RolesAllowed("${forge.metrics.tail-latency.endpoint.role:ops}")
+    public Map<String, List<SlowInvocation>> slowestInvocations()
+    {
+        return tailLatencyRegistry.snapshot();
+    }
+}
@@ -1,8 +1,15 @@
 package io.forge.kit.metrics.impl.persistence;
 
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import io.forge.kit.metrics.api.persistence.DatabaseMetrics;
 import io.forge.kit.metrics.api.persistence.MetricsRecord;
+import io.forge.kit.metrics.impl.domain.support.AsyncResultSupport;
+import io.forge.kit.metrics.impl.domain.support.TailLatencyRegistry;
+import io.forge.kit.metrics.impl.jfr.MetricsRecordingEvent;
 import io.forge.kit.metrics.impl.persistence.recorder.DatabaseMetricsRecorder;
+import io.forge.kit.metrics.impl.persistence.request.DatabaseRequestTracker;
+import io.forge.kit.metrics.impl.tracing.InvocationSpan;
+import io.forge.kit.metrics.impl.tracing.InvocationTracer;
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
@@ -16,14 +23,15 @@ import org.jboss.logging.Logger;
  *
  * <p>The interceptor:
  * <ul>
- * <li>Measures method execution time</li>
+ * <li>Measures method execution time in nanoseconds</li>
  * <li>Extracts operation name from method name</li>
  * <li>Extracts entity type from annotation</li>
  * <li>Records metrics directly via Micrometer</li>
  * </ul>
  *
  * <p>This interceptor works with any return type (void, Optional, domain objects, etc.)
- * and records timing regardless of success or failure. Exceptions are re-thrown after
+ * and records timing regardless of success or failure. For {@code CompletionStage}, {@code Uni} and
+ * {@code Multi} results, timing is recorded when the result terminates rather than when it is returned. Exceptions are re-thrown after
  * metrics are recorded.
  *
  * <p>Example:
@@ -38,6 +46,22 @@ import org.jboss.logging.Logger;
  * }
  * </pre>
  * The operation name ("save") is automatically extracted from the method name.
+ *
+ * <p>Methods also annotated with {@link io.forge.kit.metrics.api.domain.TailLatencyCapture TailLatencyCapture} keep
+ * their slowest invocations in the {@link TailLatencyRegistry}. Recording is timed as a
+ * {@link MetricsRecordingEvent} for JDK Flight Recorder.
+ *
+ * <p>Within a sampled trace, each operation also gets a span from the {@link InvocationTracer} carrying
+ * {@code metrics.entity}; the timer is recorded while that span is current so it can reference it as an exemplar.
+ * Exemplars only link with the inline meter writer - the ring-buffer and striped writers apply updates on their flush
+ * thread, where no span is current. The span is ended even if recording fails; a recorder failure is logged and never
+ * fails the operation.
+ *
+ * <p>For methods returning {@code Uni} or {@code Multi} the span is started when the result is subscribed, once per
+ * subscription, since a result that is never subscribed never terminates and would never end it.
+ *
+ * <p>Operations running within an inbound request are also added to that request's totals by the
+ * {@link DatabaseRequestTracker}, which reveals endpoints issuing many repeated queries.
  */
 @DatabaseMetrics(entity = MetricsRecord.class)
 @Interceptor
@@ -47,11 +71,22 @@ public final class DatabaseMetricsInterceptor
     private static final Logger LOGGER = Logger.getLogger(DatabaseMetricsInterceptor.class);
 
     private final DatabaseMetricsRecorder databaseMetricsRecorder;
+    private final TailLatencyRegistry tailLatencyRegistry;
+    private final InvocationTracer tracer;
+    private final DatabaseRequestTracker requestTracker;
+    private final AnnotationResolver annotationResolver;
 
     @Inject
-    public DatabaseMetricsInterceptor(DatabaseMetricsRecorder databaseMetricsRecorder)
+    public DatabaseMetricsInterceptor(final DatabaseMetricsRecorder databaseMetricsRecorder,
+                                      final TailLatencyRegistry tailLatencyRegistry, final InvocationTracer tracer,
+                                      final DatabaseRequestTracker requestTracker,
+                                      final AnnotationResolver annotationResolver)
     {
         this.databaseMetricsRecorder = databaseMetricsRecorder;
+        this.tailLatencyRegistry = tailLatencyRegistry;
+        this.tracer = tracer;
+        this.requestTracker = requestTracker;
+        this.annotationResolver = annotationResolver;
     }
 
     @AroundInvoke
@@ -70,42 +105,175 @@ public final class DatabaseMetricsInterceptor
 
         LOGGER.debugf("Found @DatabaseMetrics annotation with entity: %s", annotation.entity().getSimpleName());
 
-        final Class<? extends MetricsRecord> entity = annotation.entity();
+        if (AsyncResultSupport.isLazy(context.getMethod()))
+        {
+            return proceedLazily(context, annotation.entity());
+        }
+
+        final InvocationSpan span = startSpan(context, annotation.entity());
+        try (InvocationSpan.Scope ignored = span.makeCurrent())
+        {
+            return proceedWithMetrics(context, annotation.entity(), span);
+        }
+    }
+
+    private InvocationSpan startSpan(final InvocationContext context, final Class<? extends MetricsRecord> entity)
+    {
+        final InvocationSpan span = tracer.startSpan(context);
+        if (span != InvocationSpan.NOOP)
+        {
+            span.setAttribute("metrics.entity", MetricsRecord.metricsLabelFor(entity));
+        }
+        return span;
+    }
+
+    private Object proceedWithMetrics(final InvocationContext context, final Class<? extends MetricsRecord> entity,
+                                      final InvocationSpan span) throws Exception
+    {
         final String operation = context.getMethod().getName();
         final long startTime = System.nanoTime();
 
+        final Object result;
         try
         {
-            final Object result = context.proceed();
-            final long durationMs = (System.nanoTime() - startTime) / 1_000_000;
-            databaseMetricsRecorder.recordDatabaseOperation(operation, entity, durationMs);
-
-            return result;
+            result = context.proceed();
         }
         catch (final Exception e)
         {
             // Still record timing even on failure - useful for identifying slow failing operations
-            final long durationMs = (System.nanoTime() - startTime) / 1_000_000;
-            databaseMetricsRecorder.recordDatabaseOperation(operation, entity, durationMs);
+            complete(context, operation, entity, System.nanoTime() - startTime, span, e);
+            throw e;
+        }
+
+        if (AsyncResultSupport.isAsync(result))
+        {
+            return AsyncResultSupport.onCompletion(result, startTime, completion(context, operation, entity, span));
+        }
+
+        complete(context, operation, entity, System.nanoTime() - startTime, span, null);
+        return result;
+    }
+
+    /**
+     * Proceeds with a method returning {@code Uni} or {@code Multi}, starting the span on each subscription. A failure
+     * to assemble the result, or a result that is not lazy after all, is recorded under a span covering the call.
+     */
+    private Object proceedLazily(final InvocationContext context, final Class<? extends MetricsRecord> entity)
+        throws Exception
+    {
+        final String operation = context.getMethod().getName();
+        final long startTime = System.nanoTime();
 
+        final Object result;
+        try
+        {
+            result = context.proceed();
+        }
+        catch (final Exception e)
+        {
+            final InvocationSpan span = startSpan(context, entity);
+            try (InvocationSpan.Scope ignored = span.makeCurrent())
+            {
+                complete(context, operation, entity, System.nanoTime() - startTime, span, e);
+            }
             throw e;
         }
+
+        if (AsyncResultSupport.isAsync(result))
+        {
+            return AsyncResultSupport.onSubscription(result,
+                () -> completion(context, operation, entity, startSpan(context, entity)));
+        }
+
+        final InvocationSpan span = startSpan(context, entity);
+        try (InvocationSpan.Scope ignored = span.makeCurrent())
+        {
+            complete(context, operation, entity, System.nanoTime() - startTime, span, null);
+        }
+        return result;
     }
 
-    private DatabaseMetrics findAnnotation(final InvocationContext context)
+    /**
+     * Completes the operation once its asynchronous result terminates, with the span current on the completing
+     * thread. A cancelled result only ends the span.
+     */
+    private AsyncResultSupport.AsyncCompletion completion(final InvocationContext context, final String operation,
+                                                         final Class<? extends MetricsRecord> entity,
+                                                         final InvocationSpan span)
     {
-        // Check method-level annotation first
-        final DatabaseMetrics methodAnnotation = context.getMethod()
-            .getAnnotation(DatabaseMetrics.class);
-        if (methodAnnotation != null)
+        return new AsyncResultSupport.AsyncCompletion()
         {
-            return methodAnnotation;
+            @Override
+            public void onItem(final Object lastItem, final long durationNanos)
+            {
+                try (InvocationSpan.Scope ignored = span.makeCurrent())
+                {
+                    complete(context, operation, entity, durationNanos, span, null);
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable failure, final long durationNanos)
+            {
+                try (InvocationSpan.Scope ignored = span.makeCurrent())
+                {
+                    complete(context, operation, entity, durationNanos, span, failure);
+                }
+            }
+
+            @Override
+            public void onCancellation(final long durationNanos)
+            {
+                span.end();
+            }
+        };
+    }
+
+    /**
+     * Records the operation and ends the span. A recorder failure is logged rather than thrown, so it never fails the
+     * database call or masks its outcome, and the span is ended either way.
+     */
+    private void complete(final InvocationContext context, final String operation,
+                          final Class<? extends MetricsRecord> entity, final long durationNanos,
+                          final InvocationSpan span, final Throwable failure)
+    {
+        try
+        {
+            recordOperation(context, operation, entity, durationNanos);
+        }
+        catch (final RuntimeException e)
+        {
+            LOGGER.warnf(e, "Failed to record database metrics for %s.%s", entity.getSimpleName(), operation);
+        }
+        finally
+        {
+            if (failure == null)
+            {
+                span.end();
+            }
+            else
+            {
+                span.end(failure);
+            }
         }
+    }
 
-        // Fall back to class-level annotation
-        // Use getDeclaringClass() instead of getTarget().getClass() because
-        // Quarkus creates proxy subclasses (e.g., ActorRepository_Subclass)
-        // and the annotation is on the original class
-        return context.getMethod().getDeclaringClass().getAnnotation(DatabaseMetrics.class);
+    private void recordOperation(final InvocationContext context, final String operation,
+                                 final Class<? extends MetricsRecord> entity, final long durationNanos)
+    {
+        final MetricsRecordingEvent event = new MetricsRecordingEvent();
+        event.begin();
+        tailLatencyRegistry.offer(context, durationNanos);
+        databaseMetricsRecorder.recordDatabaseOperation(operation, entity, durationNanos);
+        requestTracker.record(MetricsRecord.metricsLabelFor(entity), operation, durationNanos);
+        event.complete("database", context, durationNanos);
+    }
+
+    private DatabaseMetrics findAnnotation(final InvocationContext context)
+    {
+        // Method-level first, then the declaring class - not getTarget().getClass(), because
+        // Quarkus creates proxy subclasses (e.g., ActorRepository_Subclass) and the annotation
+        // is on the original class. Memoized per method.
+        return annotationResolver.resolve(context.getMethod(), DatabaseMetrics.class);
     }
 }
@@ -1,35 +1,99 @@
 package io.forge.kit.metrics.impl.persistence.recorder;
 
 import io.forge.kit.metrics.api.persistence.MetricsRecord;
+import io.forge.kit.metrics.impl.domain.support.MeterWriter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.eclipse.microprofile.config.ConfigProvider;
 
+/**
+ * Records {@code database.operation.duration{operation,entity}} in nanoseconds.
+ *
+ * <p>Entities and operations are fixed by code, so timers are registered once per entity and operation and kept here;
+ * a repeat operation costs two map lookups and the record. Distribution settings (SLO buckets, percentile histogram,
+ * log-spaced sketch buckets) are read once per entity, see {@link DatabaseTimerSettings}, and validated for every
+ * configured entity at startup.
+ */
 @ApplicationScoped
 public final class DatabaseMetricsRecorder
 {
+    private final MeterRegistry meterRegistry;
+    private final MeterWriter meterWriter;
+    private final Function<String, DatabaseTimerSettings> settingsResolver;
+    private final ConcurrentMap<Class<? extends MetricsRecord>, EntityTimers> timersByEntity = new ConcurrentHashMap<>();
 
     @Inject
-    MeterRegistry meterRegistry;
+    public DatabaseMetricsRecorder(final MeterRegistry meterRegistry, final MeterWriter meterWriter)
+    {
+        this(meterRegistry, meterWriter, DatabaseTimerSettings::forEntity);
+    }
+
+    DatabaseMetricsRecorder(final MeterRegistry meterRegistry, final MeterWriter meterWriter,
+                            final Function<String, DatabaseTimerSettings> settingsResolver)
+    {
+        this.meterRegistry = meterRegistry;
+        this.meterWriter = meterWriter;
+        this.settingsResolver = settingsResolver;
+    }
+
+    void onStart(@Observes final StartupEvent event)
+    {
+        DatabaseTimerSettings.validate(ConfigProvider.getConfig());
+    }
 
     /**
      * Records a database operation duration.
      *
-     * @param operation The database operation (e.g., "save", "findByCandidateId", "delete")
-     * @param entity    The entity type class
-     * @param duration  The duration in milliseconds
+     * @param operation     The database operation (e.g., "save", "findByCandidateId", "delete")
+     * @param entity        The entity type class
+     * @param durationNanos The duration in nanoseconds
      */
-    public void recordDatabaseOperation(final String operation, final Class<? extends MetricsRecord> entity, final long duration)
+    public void recordDatabaseOperation(final String operation, final Class<? extends MetricsRecord> entity,
+                                        final long durationNanos)
+    {
+        meterWriter.record(timerFor(operation, entity), durationNanos);
+    }
+
+    private Timer timerFor(final String operation, final Class<? extends MetricsRecord> entity)
+    {
+        EntityTimers timers = timersByEntity.get(entity);
+        if (timers == null)
+        {
+            timers = timersByEntity.computeIfAbsent(entity, this::createEntityTimers);
+        }
+
+        final Timer timer = timers.byOperation().get(operation);
+        if (timer != null)
+        {
+            return timer;
+        }
+        final EntityTimers entityTimers = timers;
+        return timers.byOperation().computeIfAbsent(operation, op -> register(op, entityTimers));
+    }
+
+    private EntityTimers createEntityTimers(final Class<? extends MetricsRecord> entity)
     {
         final String entityLabel = MetricsRecord.metricsLabelFor(entity);
+        return new EntityTimers(entityLabel, settingsResolver.apply(entityLabel), new ConcurrentHashMap<>());
+    }
 
-        Timer.builder("database.operation.duration")
-            .tag("operation", operation)
-            .tag("entity", entityLabel)
+    private Timer register(final String operation, final EntityTimers timers)
+    {
+        return timers.settings().configure(Timer.builder("database.operation.duration"))
             .description("Duration of database operations")
-            .register(meterRegistry)
-            .record(duration, TimeUnit.MILLISECONDS);
+            .tag("operation", operation)
+            .tag("entity", timers.entityLabel())
+            .register(meterRegistry);
+    }
+
+    private record EntityTimers(String entityLabel, DatabaseTimerSettings settings, ConcurrentMap<String, Timer> byOperation)
+    {
     }
 }
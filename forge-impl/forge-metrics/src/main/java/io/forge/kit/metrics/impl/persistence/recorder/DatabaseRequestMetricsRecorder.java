@@ -0,0 +1,68 @@
+package io.forge.kit.metrics.impl.persistence.recorder;
+
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.forge.kit.metrics.impl.domain.support.MeterWriter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+
+/**
+ * Records per-request database load, tagged by the endpoint that handled the request:
+ * <ul>
+ * <li>{@code database.request.operations{endpoint}} - database operations per request</li>
+ * <li>{@code database.request.duration{endpoint}} - summed database time per request</li>
+ * <li>{@code database.request.repeated.operations{endpoint,entity,operation}} - requests that repeated one operation
+ * more than the threshold, likely N+1 queries</li>
+ * </ul>
+ */
+@ApplicationScoped
+public final class DatabaseRequestMetricsRecorder
+{
+    private static final double[] OPERATION_BUCKETS = {1, 2, 5, 10, 20, 50, 100, 200, 500};
+
+    private static final Duration[] DURATION_SLOS = {
+        Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+        Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+        Duration.ofMillis(2_500)
+    };
+
+    private final MeterHandleCache meterHandleCache;
+    private final MeterWriter meterWriter;
+
+    @Inject
+    public DatabaseRequestMetricsRecorder(final MeterHandleCache meterHandleCache, final MeterWriter meterWriter)
+    {
+        this.meterHandleCache = meterHandleCache;
+        this.meterWriter = meterWriter;
+    }
+
+    /**
+     * Records the database load of one finished request.
+     *
+     * @param endpoint       The endpoint that handled the request (e.g. {@code "ActorResource.getActor"})
+     * @param operationCount Number of database operations the request ran
+     * @param totalNanos     Summed duration of those operations in nanoseconds
+     */
+    public void recordRequest(final String endpoint, final int operationCount, final long totalNanos)
+    {
+        // Recorded directly - once per request, off the repository call path
+        meterHandleCache.summary("database.request.operations", "Database operations per inbound request",
+            builder -> builder.serviceLevelObjectives(OPERATION_BUCKETS), "endpoint", endpoint).record(operationCount);
+        meterWriter.record(meterHandleCache.timer("database.request.duration", "Summed database time per inbound request",
+            builder -> builder.serviceLevelObjectives(DURATION_SLOS), "endpoint", endpoint), totalNanos);
+    }
+
+    /**
+     * Records a request that repeated one database operation more than the threshold.
+     *
+     * @param endpoint  The endpoint that handled the request
+     * @param entity    The entity label
+     * @param operation The repeated operation
+     */
+    public void recordRepeatedOperation(final String endpoint, final String entity, final String operation)
+    {
+        meterWriter.increment(meterHandleCache.counter("database.request.repeated.operations",
+            "Requests that repeated one database operation more than the threshold, likely N+1 queries",
+            "endpoint", endpoint, "entity", entity, "operation", operation));
+    }
+}
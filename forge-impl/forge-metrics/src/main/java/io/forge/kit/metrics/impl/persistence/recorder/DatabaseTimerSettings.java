@@ -0,0 +1,167 @@
+package io.forge.kit.metrics.impl.persistence.recorder;
+
+import io.forge.kit.metrics.impl.aggregation.LogarithmicBuckets;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Distribution settings of the {@code database.operation.duration} timers of one entity.
+ *
+ * <p>Every key can be set for all entities and overridden per entity label (the entity's simple class name):
+ * <pre>{@code
+ * forge.metrics.database.timer.slos=PT0.0005S,PT0.001S,PT0.005S,PT0.025S
+ * forge.metrics.database.timer.percentile-histogram=false
+ * forge.metrics.database.timer.minimum-expected-value=PT0.00005S
+ * forge.metrics.database.timer.maximum-expected-value=PT10S
+ * # Log-spaced buckets with 5% relative accuracy, mergeable across pods
+ * forge.metrics.database.timer.ActorRecord.sketch-accuracy=0.05
+ * }</pre>
+ *
+ * @param slos                 explicit SLO bucket boundaries
+ * @param percentileHistogram  whether to publish Micrometer's percentile histogram
+ * @param sketchAccuracy       relative accuracy of {@link LogarithmicBuckets} boundaries, or 0 for none
+ * @param minimumExpectedValue lower end of the percentile histogram and sketch range
+ * @param maximumExpectedValue upper end of the percentile histogram and sketch range
+ * @throws IllegalArgumentException if the sketch accuracy is outside [0, 1) or, with a sketch, the expected range is
+ *                                  empty
+ */
+record DatabaseTimerSettings(List<Duration> slos, boolean percentileHistogram, double sketchAccuracy,
+                             Duration minimumExpectedValue, Duration maximumExpectedValue)
+{
+    static final String PROPERTY_PREFIX = "forge.metrics.database.timer.";
+
+    private static final List<String> KEYS = List.of("slos", "percentile-histogram", "sketch-accuracy",
+        "minimum-expected-value", "maximum-expected-value");
+
+    /**
+     * Plain timers without buckets, as recorded before distribution settings existed.
+     */
+    static final DatabaseTimerSettings DEFAULTS = new DatabaseTimerSettings(List.of(), false, 0.0d,
+        Duration.ofNanos(50_000L), Duration.ofSeconds(10L));
+
+    DatabaseTimerSettings
+    {
+        if (!(sketchAccuracy >= 0.0d && sketchAccuracy < 1.0d))
+        {
+            throw new IllegalArgumentException("Sketch accuracy must be 0 (none) or between 0 and 1 exclusive: " + sketchAccuracy);
+        }
+        if (sketchAccuracy > 0.0d && (minimumExpectedValue.toNanos() <= 0L || maximumExpectedValue.compareTo(minimumExpectedValue) <= 0))
+        {
+            throw new IllegalArgumentException("Sketch range must be positive and increasing: " + minimumExpectedValue + " to " + maximumExpectedValue);
+        }
+    }
+
+    /**
+     * Reads the settings for an entity, falling back to the settings for all entities and then to {@link #DEFAULTS}.
+     *
+     * @param entityLabel the entity label
+     * @return the entity's settings
+     */
+    static DatabaseTimerSettings forEntity(final String entityLabel)
+    {
+        return forEntity(ConfigProvider.getConfig(), entityLabel);
+    }
+
+    /**
+     * Reads the settings for all entities and for every entity label that overrides them, so invalid values fail at
+     * startup instead of on an entity's first database operation.
+     *
+     * @param config the configuration
+     * @throws IllegalArgumentException naming the offending entity label if any settings are invalid
+     */
+    static void validate(final Config config)
+    {
+        final Set<String> entityLabels = new TreeSet<>();
+        for (final String name : config.getPropertyNames())
+        {
+            for (final String key : KEYS)
+            {
+                if (name.startsWith(PROPERTY_PREFIX) && name.endsWith("." + key)
+                    && name.length() > PROPERTY_PREFIX.length() + key.length() + 1)
+                {
+                    entityLabels.add(name.substring(PROPERTY_PREFIX.length(), name.length() - key.length() - 1));
+                }
+            }
+        }
+
+        validate(config, "");
+        for (final String entityLabel : entityLabels)
+        {
+            validate(config, entityLabel);
+        }
+    }
+
+    private static void validate(final Config config, final String entityLabel)
+    {
+        try
+        {
+            forEntity(config, entityLabel);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            final String scope = entityLabel.isEmpty() ? "all entities" : "entity " + entityLabel;
+            throw new IllegalArgumentException("Invalid " + PROPERTY_PREFIX + "* settings for " + scope + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static DatabaseTimerSettings forEntity(final Config config, final String entityLabel)
+    {
+        return new DatabaseTimerSettings(
+            values(config, entityLabel, "slos").orElse(DEFAULTS.slos()),
+            value(config, entityLabel, "percentile-histogram", Boolean.class).orElse(DEFAULTS.percentileHistogram()),
+            value(config, entityLabel, "sketch-accuracy", Double.class).orElse(DEFAULTS.sketchAccuracy()),
+            value(config, entityLabel, "minimum-expected-value", Duration.class).orElse(DEFAULTS.minimumExpectedValue()),
+            value(config, entityLabel, "maximum-expected-value", Duration.class).orElse(DEFAULTS.maximumExpectedValue()));
+    }
+
+    /**
+     * Applies the settings to a timer builder; SLOs and sketch boundaries are combined.
+     */
+    Timer.Builder configure(final Timer.Builder builder)
+    {
+        Timer.Builder configured = builder
+            .publishPercentileHistogram(percentileHistogram)
+            .minimumExpectedValue(minimumExpectedValue)
+            .maximumExpectedValue(maximumExpectedValue);
+
+        if (!slos.isEmpty())
+        {
+            configured = configured.serviceLevelObjectives(slos.toArray(Duration[]::new));
+        }
+        if (sketchAccuracy > 0.0d)
+        {
+            final long[] bounds = LogarithmicBuckets.boundaries(minimumExpectedValue.toNanos(),
+                maximumExpectedValue.toNanos(), sketchAccuracy);
+            final Duration[] sketchSlos = new Duration[bounds.length + slos.size()];
+            for (int i = 0; i < bounds.length; i++)
+            {
+                sketchSlos[i] = Duration.ofNanos(bounds[i]);
+            }
+            for (int i = 0; i < slos.size(); i++)
+            {
+                sketchSlos[bounds.length + i] = slos.get(i);
+            }
+            configured = configured.serviceLevelObjectives(sketchSlos);
+        }
+        return configured;
+    }
+
+    private static <T> Optional<T> value(final Config config, final String entityLabel, final String key,
+                                         final Class<T> type)
+    {
+        return config.getOptionalValue(PROPERTY_PREFIX + entityLabel + "." + key, type)
+            .or(() -> config.getOptionalValue(PROPERTY_PREFIX + key, type));
+    }
+
+    private static Optional<List<Duration>> values(final Config config, final String entityLabel, final String key)
+    {
+        return config.getOptionalValues(PROPERTY_PREFIX + entityLabel + "." + key, Duration.class)
+            .or(() -> config.getOptionalValues(PROPERTY_PREFIX + key, Duration.class));
+    }
+}
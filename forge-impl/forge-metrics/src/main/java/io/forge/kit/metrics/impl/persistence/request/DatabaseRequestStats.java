@@ -0,0 +1,105 @@
+package io.forge.kit.metrics.impl.persistence.request;
+
+import jakarta.enterprise.context.RequestScoped;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request-scoped tally of the {@link io.forge.kit.metrics.api.persistence.DatabaseMetrics DatabaseMetrics} operations
+ * of the current inbound request: how many ran, how long they took in total, and how often each entity and operation
+ * pair was repeated.
+ *
+ * <p>Filled by the {@link DatabaseRequestTracker} and read once by the {@link DatabaseRequestStatsFilter} when the
+ * response is written. A request touches a handful of distinct operations, so they are kept in a short list scanned
+ * linearly; a repeated operation costs one increment and does not allocate. Async results of one request may complete on
+ * different threads, so access is synchronized.
+ */
+@RequestScoped
+public class DatabaseRequestStats
+{
+    private final List<OperationTally> tallies = new ArrayList<>(4);
+    private int operationCount;
+    private long totalNanos;
+
+    /**
+     * Adds one finished operation to this request's tally.
+     *
+     * @param entity        the entity label (e.g. {@code "ActorRecord"})
+     * @param operation     the operation name (e.g. {@code "findByCandidateId"})
+     * @param durationNanos elapsed time of the operation
+     */
+    public synchronized void record(final String entity, final String operation, final long durationNanos)
+    {
+        operationCount++;
+        totalNanos += durationNanos;
+
+        for (int i = 0; i < tallies.size(); i++)
+        {
+            final OperationTally tally = tallies.get(i);
+            if (tally.matches(entity, operation))
+            {
+                tally.count++;
+                return;
+            }
+        }
+        tallies.add(new OperationTally(entity, operation));
+    }
+
+    /**
+     * @return number of operations recorded for this request
+     */
+    public synchronized int operationCount()
+    {
+        return operationCount;
+    }
+
+    /**
+     * @return summed duration of the operations recorded for this request, in nanoseconds
+     */
+    public synchronized long totalNanos()
+    {
+        return totalNanos;
+    }
+
+    /**
+     * @return how often each entity and operation pair ran in this request, in order of first use
+     */
+    public synchronized List<OperationCount> operationCounts()
+    {
+        final List<OperationCount> counts = new ArrayList<>(tallies.size());
+        for (final OperationTally tally : tallies)
+        {
+            counts.add(new OperationCount(tally.entity, tally.operation, tally.count));
+        }
+        return counts;
+    }
+
+    /**
+     * Number of times one entity and operation pair ran in a request.
+     *
+     * @param entity    the entity label
+     * @param operation the operation name
+     * @param count     number of invocations
+     */
+    public record OperationCount(String entity, String operation, int count)
+    {
+    }
+
+    private static final class OperationTally
+    {
+        private final String entity;
+        private final String operation;
+        private int count = 1;
+
+        private OperationTally(final String entity, final String operation)
+        {
+            this.entity = entity;
+            this.operation = operation;
+        }
+
+        private boolean matches(final String otherEntity, final String otherOperation)
+        {
+            return entity.equals(otherEntity) && operation.equals(otherOperation);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.forge.kit.metrics.impl.persistence.request;
+
+import io.forge.kit.metrics.impl.persistence.recorder.DatabaseRequestMetricsRecorder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+
+/**
+ * Publishes the {@link DatabaseRequestStats} of each inbound request when its response is written.
+ *
+ * <p>Requests that ran at least one database operation record their operation count and summed database time, tagged
+ * by endpoint ({@code ResourceClass.method}). Any entity and operation pair that ran more than the threshold in one
+ * request is counted as a likely N+1; the first occurrence per endpoint, entity and operation is also logged, later
+ * ones only increment the counter. The summed database time can also be returned to the client as a
+ * {@code Server-Timing} header, e.g. {@code db;dur=12.345;desc="42 operations"}, which browser dev tools display:
+ * <pre>{@code
+ * forge.metrics.database.request.repeated-threshold=20
+ * forge.metrics.database.request.server-timing.enabled=false
+ * }</pre>
+ *
+ * <p>Operations of async results that complete after the response is written are not counted.
+ */
+@ApplicationScoped
+public final class DatabaseRequestStatsFilter
+{
+    private static final Logger LOGGER = Logger.getLogger(DatabaseRequestStatsFilter.class);
+
+    private static final String REPEATED_THRESHOLD_PROPERTY = "forge.metrics.database.request.repeated-threshold";
+    private static final String SERVER_TIMING_PROPERTY = "forge.metrics.database.request.server-timing.enabled";
+    private static final int DEFAULT_REPEATED_THRESHOLD = 20;
+    private static final String UNMATCHED_ENDPOINT = "unmatched";
+
+    private final DatabaseRequestTracker tracker;
+    private final DatabaseRequestMetricsRecorder recorder;
+    private final int repeatedThreshold;
+    private final boolean serverTiming;
+    private final Set<String> warnedRepeatedOperations = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    public DatabaseRequestStatsFilter(final DatabaseRequestTracker tracker, final DatabaseRequestMetricsRecorder recorder)
+    {
+        this(tracker, recorder,
+            ConfigProvider.getConfig().getOptionalValue(REPEATED_THRESHOLD_PROPERTY, Integer.class).orElse(DEFAULT_REPEATED_THRESHOLD),
+            ConfigProvider.getConfig().getOptionalValue(SERVER_TIMING_PROPERTY, Boolean.class).orElse(false));
+    }
+
+    DatabaseRequestStatsFilter(final DatabaseRequestTracker tracker, final DatabaseRequestMetricsRecorder recorder,
+                               final int repeatedThreshold, final boolean serverTiming)
+    {
+        this.tracker = tracker;
+        this.recorder = recorder;
+        this.repeatedThreshold = repeatedThreshold;
+        this.serverTiming = serverTiming;
+    }
+
+    @ServerResponseFilter
+    public void filter(final SimpleResourceInfo resourceInfo, final ContainerResponseContext responseContext)
+    {
+        final DatabaseRequestStats stats = tracker.currentRequest();
+        if (stats == null)
+        {
+            return;
+        }
+        final int operationCount = stats.operationCount();
+        if (operationCount == 0)
+        {
+            return;
+        }
+
+        final long totalNanos = stats.totalNanos();
+        final String endpoint = endpointOf(resourceInfo);
+        recorder.recordRequest(endpoint, operationCount, totalNanos);
+
+        for (final DatabaseRequestStats.OperationCount count : stats.operationCounts())
+        {
+            if (count.count() > repeatedThreshold)
+            {
+                recorder.recordRepeatedOperation(endpoint, count.entity(), count.operation());
+                // Endpoints, entities and operations are fixed by code, so the set stays bounded
+                if (warnedRepeatedOperations.add(endpoint + " " + count.entity() + "." + count.operation()))
+                {
+                    LOGGER.warnf("%s ran %s.%s %d times in one request (threshold %d) - likely N+1 queries; "
+                            + "further occurrences are only counted in database.request.repeated.operations",
+                        endpoint, count.entity(), count.operation(), count.count(), repeatedThreshold);
+                }
+            }
+        }
+
+        if (serverTiming)
+        {
+            responseContext.getHeaders().add("Server-Timing", serverTimingOf(operationCount, totalNanos));
+        }
+    }
+
+    static String serverTimingOf(final int operationCount, final long totalNanos)
+    {
+        return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d operations\"",
+            (double) totalNanos / TimeUnit.MILLISECONDS.toNanos(1L), operationCount);
+    }
+
+    private static String endpointOf(final SimpleResourceInfo resourceInfo)
+    {
+        if (resourceInfo == null || resourceInfo.getResourceClass() == null)
+        {
+            return UNMATCHED_ENDPOINT;
+        }
+        return resourceInfo.getResourceClass().getSimpleName() + "." + resourceInfo.getMethodName();
+    }
+}
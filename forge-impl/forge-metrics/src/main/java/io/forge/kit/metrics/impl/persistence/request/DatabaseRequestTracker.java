@@ -0,0 +1,64 @@
+package io.forge.kit.metrics.impl.persistence.request;
+
+import io.quarkus.arc.Arc;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.function.BooleanSupplier;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Adds {@link io.forge.kit.metrics.api.persistence.DatabaseMetrics DatabaseMetrics} operations to the
+ * {@link DatabaseRequestStats} of the inbound request they run in.
+ *
+ * <p>Repository calls outside a request (scheduled jobs, consumers, startup) have no request context and are skipped,
+ * so the interceptor can call {@link #record(String, String, long)} unconditionally. Tracking is on by default:
+ * <pre>{@code
+ * forge.metrics.database.request.enabled=true
+ * }</pre>
+ */
+@ApplicationScoped
+public final class DatabaseRequestTracker
+{
+    private static final String ENABLED_PROPERTY = "forge.metrics.database.request.enabled";
+
+    private final boolean enabled;
+    private final BooleanSupplier requestActive;
+    private final DatabaseRequestStats stats;
+
+    @Inject
+    public DatabaseRequestTracker(final DatabaseRequestStats stats)
+    {
+        this(ConfigProvider.getConfig().getOptionalValue(ENABLED_PROPERTY, Boolean.class).orElse(true),
+            Arc.container().requestContext()::isActive, stats);
+    }
+
+    DatabaseRequestTracker(final boolean enabled, final BooleanSupplier requestActive, final DatabaseRequestStats stats)
+    {
+        this.enabled = enabled;
+        this.requestActive = requestActive;
+        this.stats = stats;
+    }
+
+    /**
+     * Adds a finished operation to the current request's stats, if tracking is enabled and a request is active.
+     *
+     * @param entity        the entity label
+     * @param operation     the operation name
+     * @param durationNanos elapsed time of the operation
+     */
+    public void record(final String entity, final String operation, final long durationNanos)
+    {
+        if (enabled && requestActive.getAsBoolean())
+        {
+            stats.record(entity, operation, durationNanos);
+        }
+    }
+
+    /**
+     * Returns the current request's stats, or null if tracking is disabled or no request is active.
+     */
+    public DatabaseRequestStats currentRequest()
+    {
+        return enabled && requestActive.getAsBoolean() ? stats : null;
+    }
+}
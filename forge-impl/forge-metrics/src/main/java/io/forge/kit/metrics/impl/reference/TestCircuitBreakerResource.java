@@ -1,6 +1,8 @@
 package io.forge.kit.metrics.impl.reference;
 
 import io.forge.kit.metrics.api.faulttolerance.CircuitBreakerMetrics;
+import io.forge.kit.metrics.api.faulttolerance.RetryBudget;
+import io.forge.kit.metrics.impl.faulttolerance.retry.RetryBudgetExhaustedException;
 import io.quarkus.arc.profile.IfBuildProfile;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
 import jakarta.annotation.security.PermitAll;
@@ -49,7 +51,8 @@ public final class TestCircuitBreakerResource
     @POST
     @Path("/trigger")
     @Timeout(1000)
-    @Retry(maxRetries = 2, delay = 150, jitter = 50)
+    @Retry(maxRetries = 2, delay = 150, jitter = 50, abortOn = RetryBudgetExhaustedException.class)
+    @RetryBudget
     @CircuitBreaker(delay = 1000)
     @CircuitBreakerName("io.forge.metrics.presentation.rest.TestCircuitBreakerResource#triggerCircuitBreaker")
     public Response triggerCircuitBreaker(@QueryParam("fail") final Boolean shouldFail, @QueryParam("count") final Integer count)
@@ -0,0 +1,81 @@
+package io.forge.kit.metrics.impl.tracing;
+
+import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
+
+/**
+ * Span around one intercepted invocation, started by an {@link InvocationTracer}.
+ *
+ * <p>Meters recorded while the span is current (see {@link #makeCurrent()}) carry it as their exemplar. Invocations
+ * outside a sampled trace get {@link #NOOP}, so untraced calls allocate nothing.
+ */
+public interface InvocationSpan
+{
+    /**
+     * Span used when tracing is disabled or the current trace is not sampled.
+     */
+    InvocationSpan NOOP = new InvocationSpan()
+    {
+        @Override
+        public Scope makeCurrent()
+        {
+            return Scope.NOOP;
+        }
+
+        @Override
+        public void setAttribute(final String key, final String value)
+        {
+        }
+
+        @Override
+        public void end(final MetricsResultIndicator indicator)
+        {
+        }
+
+        @Override
+        public void end(final Throwable failure)
+        {
+        }
+    };
+
+    /**
+     * Makes this span the current span on the calling thread until the returned scope is closed.
+     */
+    Scope makeCurrent();
+
+    void setAttribute(String key, String value);
+
+    /**
+     * Ends the span of a successful invocation without a result indicator.
+     */
+    default void end()
+    {
+        end((MetricsResultIndicator) null);
+    }
+
+    /**
+     * Ends the span with the invocation's result.
+     *
+     * @param indicator the result indicator, or null for void and non-indicator results
+     */
+    void end(MetricsResultIndicator indicator);
+
+    /**
+     * Ends the span as failed.
+     *
+     * @param failure the exception the invocation threw
+     */
+    void end(Throwable failure);
+
+    /**
+     * Restores the previously current span when closed.
+     */
+    interface Scope extends AutoCloseable
+    {
+        Scope NOOP = () ->
+        {
+        };
+
+        @Override
+        void close();
+    }
+}
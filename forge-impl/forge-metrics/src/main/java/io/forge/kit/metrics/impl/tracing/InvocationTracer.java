@@ -0,0 +1,23 @@
+package io.forge.kit.metrics.impl.tracing;
+
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Starts spans for invocations intercepted by the metrics interceptors.
+ *
+ * <p>{@link NoopInvocationTracer} is used unless tracing is enabled at build time, in which case
+ * {@link OpenTelemetryInvocationTracer} replaces it:
+ * <pre>{@code
+ * forge.metrics.tracing.enabled=true
+ * }</pre>
+ */
+public interface InvocationTracer
+{
+    /**
+     * Starts a child span for the invocation if the current trace is sampled.
+     *
+     * @param context the intercepted invocation
+     * @return the started span, or {@link InvocationSpan#NOOP}
+     */
+    InvocationSpan startSpan(InvocationContext context);
+}
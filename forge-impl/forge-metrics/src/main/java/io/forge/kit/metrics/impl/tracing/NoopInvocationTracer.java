@@ -0,0 +1,19 @@
+package io.forge.kit.metrics.impl.tracing;
+
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Default {@link InvocationTracer} that never starts spans.
+ */
+@ApplicationScoped
+@UnlessBuildProperty(name = "forge.metrics.tracing.enabled", stringValue = "true", enableIfMissing = true)
+public final class NoopInvocationTracer implements InvocationTracer
+{
+    @Override
+    public InvocationSpan startSpan(final InvocationContext context)
+    {
+        return InvocationSpan.NOOP;
+    }
+}
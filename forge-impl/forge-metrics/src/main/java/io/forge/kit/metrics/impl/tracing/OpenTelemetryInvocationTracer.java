@@ -0,0 +1,101 @@
+package io.forge.kit.metrics.impl.tracing;
+
+import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+
+/**
+ * {@link InvocationTracer} emitting OpenTelemetry spans, enabled with {@code forge.metrics.tracing.enabled=true}.
+ *
+ * <p>Spans are only created as children of a sampled span - typically the server span of the current request - so
+ * unsampled and untraced invocations cost one context lookup. Each span is named {@code ClassName.method} and carries:
+ * <ul>
+ * <li>{@code code.namespace} and {@code code.function}</li>
+ * <li>{@code metrics.type} or {@code metrics.entity}, set by the interceptor</li>
+ * <li>{@code metrics.result} - {@code success}, {@code failure} (indicator reported failure) or {@code exception}</li>
+ * </ul>
+ * Failures and exceptions set the span status to error.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "forge.metrics.tracing.enabled", stringValue = "true")
+public final class OpenTelemetryInvocationTracer implements InvocationTracer
+{
+    static final String RESULT_ATTRIBUTE = "metrics.result";
+
+    private final Tracer tracer;
+
+    @Inject
+    public OpenTelemetryInvocationTracer(final Tracer tracer)
+    {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public InvocationSpan startSpan(final InvocationContext context)
+    {
+        if (!Span.current().getSpanContext().isSampled())
+        {
+            return InvocationSpan.NOOP;
+        }
+
+        final Method method = context.getMethod();
+        final Class<?> declaringClass = method.getDeclaringClass();
+        return new OpenTelemetrySpan(tracer.spanBuilder(declaringClass.getSimpleName() + "." + method.getName())
+            .setAttribute("code.namespace", declaringClass.getName())
+            .setAttribute("code.function", method.getName())
+            .startSpan());
+    }
+
+    private record OpenTelemetrySpan(Span span) implements InvocationSpan
+    {
+        @Override
+        public Scope makeCurrent()
+        {
+            final io.opentelemetry.context.Scope scope = span.makeCurrent();
+            return scope::close;
+        }
+
+        @Override
+        public void setAttribute(final String key, final String value)
+        {
+            span.setAttribute(key, value);
+        }
+
+        @Override
+        public void end(final MetricsResultIndicator indicator)
+        {
+            if (indicator != null && !indicator.success())
+            {
+                span.setAttribute(RESULT_ATTRIBUTE, "failure");
+                if (indicator.errorMessage() != null)
+                {
+                    span.setStatus(StatusCode.ERROR, indicator.errorMessage());
+                }
+                else
+                {
+                    span.setStatus(StatusCode.ERROR);
+                }
+            }
+            else
+            {
+                span.setAttribute(RESULT_ATTRIBUTE, "success");
+            }
+            span.end();
+        }
+
+        @Override
+        public void end(final Throwable failure)
+        {
+            span.setAttribute(RESULT_ATTRIBUTE, "exception");
+            span.recordException(failure);
+            span.setStatus(StatusCode.ERROR, failure.getClass().getSimpleName());
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogarithmicBucketsTest
+{
+    private static final long MIN = 50_000L;
+    private static final long MAX = 10_000_000_000L;
+
+    @Test
+    @DisplayName("boundaries cover the range with strictly increasing bounds")
+    void boundaries_CoverRange()
+    {
+        final long[] bounds = LogarithmicBuckets.boundaries(MIN, MAX, 0.1d);
+
+        assertTrue(bounds[0] >= MIN && bounds[0] < MIN * LogarithmicBuckets.gamma(0.1d));
+        assertTrue(bounds[bounds.length - 1] >= MAX);
+        for (int i = 1; i < bounds.length; i++)
+        {
+            assertTrue(bounds[i] > bounds[i - 1]);
+        }
+        assertEquals(62, bounds.length);
+    }
+
+    @Test
+    @DisplayName("every value is within the relative accuracy of its bucket estimate")
+    void boundaries_BoundRelativeError()
+    {
+        final double accuracy = 0.05d;
+        final double gamma = LogarithmicBuckets.gamma(accuracy);
+        final long[] bounds = LogarithmicBuckets.boundaries(MIN, MAX, accuracy);
+
+        for (long value = MIN * 2L; value < MAX; value = value * 17L / 16L)
+        {
+            int index = Arrays.binarySearch(bounds, value);
+            index = index >= 0 ? index : -index - 1;
+            final double estimate = 2.0d * bounds[index] / (gamma + 1.0d);
+            assertTrue(Math.abs(estimate - value) / value <= accuracy + 1e-6, "value " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("boundaries do not depend on the range, so pods with different ranges merge")
+    void boundaries_AreAnchoredIndependentlyOfRange()
+    {
+        final long[] wide = LogarithmicBuckets.boundaries(MIN, MAX, 0.1d);
+        final long[] narrow = LogarithmicBuckets.boundaries(1_000_000L, 2_000_000_000L, 0.1d);
+
+        final int offset = Arrays.binarySearch(wide, narrow[0]);
+        assertTrue(offset > 0);
+        assertArrayEquals(narrow, Arrays.copyOfRange(wide, offset, offset + narrow.length));
+    }
+
+    @Test
+    @DisplayName("boundaries rejects invalid arguments")
+    void boundaries_RejectsInvalidArguments()
+    {
+        assertThrows(IllegalArgumentException.class, () -> LogarithmicBuckets.boundaries(0L, MAX, 0.1d));
+        assertThrows(IllegalArgumentException.class, () -> LogarithmicBuckets.boundaries(MAX, MIN, 0.1d));
+        assertThrows(IllegalArgumentException.class, () -> LogarithmicBuckets.boundaries(MIN, MAX, 1.0d));
+        assertThrows(IllegalArgumentException.class, () -> LogarithmicBuckets.boundaries(MIN, MAX, Double.NaN));
+    }
+}
@@ -0,0 +1,99 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RollingLatencySketchTest
+{
+    private final AtomicLong nanos = new AtomicLong(-TimeUnit.SECONDS.toNanos(5L));
+
+    private final RollingLatencySketch sketch = new RollingLatencySketch(Duration.ofSeconds(60L), 6, nanos::get);
+
+    private void advanceSeconds(final long seconds)
+    {
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    @DisplayName("quantile returns -1 when nothing was recorded")
+    void quantile_ReturnsMinusOne_WhenEmpty()
+    {
+        assertEquals(-1L, sketch.quantile(0.99));
+        assertEquals(0L, sketch.count());
+    }
+
+    @Test
+    @DisplayName("quantile estimates within histogram precision")
+    void quantile_EstimatesWithinPrecision()
+    {
+        for (long millis = 1L; millis <= 1_000L; millis++)
+        {
+            sketch.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertEquals(1_000L, sketch.count());
+        assertWithin(TimeUnit.MILLISECONDS.toNanos(500L), sketch.quantile(0.5));
+        assertWithin(TimeUnit.MILLISECONDS.toNanos(990L), sketch.quantile(0.99));
+    }
+
+    @Test
+    @DisplayName("values age out once their window leaves the rolling span")
+    void record_AgesOut_AfterSpan()
+    {
+        sketch.record(TimeUnit.MILLISECONDS.toNanos(10L));
+        advanceSeconds(30L);
+        sketch.record(TimeUnit.SECONDS.toNanos(5L));
+
+        assertEquals(2L, sketch.count());
+
+        advanceSeconds(35L);
+        assertEquals(1L, sketch.count());
+        assertWithin(TimeUnit.SECONDS.toNanos(5L), sketch.quantile(0.5));
+
+        advanceSeconds(60L);
+        assertEquals(0L, sketch.count());
+        assertEquals(-1L, sketch.quantile(0.5));
+    }
+
+    @Test
+    @DisplayName("a reused window slot is cleared before new values are counted")
+    void record_ClearsReusedWindow()
+    {
+        sketch.record(1_000L);
+        advanceSeconds(60L);
+        sketch.record(2_000L);
+
+        assertEquals(1L, sketch.count());
+    }
+
+    @Test
+    @DisplayName("reset discards everything")
+    void reset_DiscardsEverything()
+    {
+        sketch.record(1_000L);
+        sketch.reset();
+
+        assertEquals(0L, sketch.count());
+        assertEquals(-1L, sketch.quantile(0.99));
+    }
+
+    @Test
+    @DisplayName("constructor rejects non-positive span or window count")
+    void constructor_RejectsInvalidArguments()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new RollingLatencySketch(Duration.ZERO, 6, nanos::get));
+        assertThrows(IllegalArgumentException.class, () -> new RollingLatencySketch(Duration.ofSeconds(1L), 0, nanos::get));
+    }
+
+    private static void assertWithin(final long expected, final long actual)
+    {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, "expected ~" + expected + " but was " + actual);
+    }
+}
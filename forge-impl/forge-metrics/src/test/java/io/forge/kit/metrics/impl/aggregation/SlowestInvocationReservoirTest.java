@@ -0,0 +1,95 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.forge.kit.metrics.impl.dto.SlowInvocation;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlowestInvocationReservoirTest
+{
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(60L);
+
+    private final SlowestInvocationReservoir reservoir = new SlowestInvocationReservoir(3, Duration.ofSeconds(60L), 0L);
+
+    private void record(final long durationNanos, final long nowNanos)
+    {
+        if (reservoir.qualifies(durationNanos, nowNanos))
+        {
+            reservoir.offer(new SlowInvocation(durationNanos, Instant.EPOCH, "test", List.of()));
+        }
+    }
+
+    private static List<Long> durations(final List<SlowInvocation> invocations)
+    {
+        return invocations.stream().map(SlowInvocation::durationNanos).toList();
+    }
+
+    @Test
+    @DisplayName("snapshot keeps the N slowest invocations, slowest first")
+    void snapshot_KeepsSlowest_SlowestFirst()
+    {
+        for (final long duration : new long[] {5L, 1L, 9L, 3L, 7L, 2L})
+        {
+            record(duration, 1L);
+        }
+
+        assertEquals(List.of(9L, 7L, 5L), durations(reservoir.snapshot(1L)));
+    }
+
+    @Test
+    @DisplayName("qualifies accepts everything until full, then only invocations slower than the N-th slowest")
+    void qualifies_ComparesAgainstNthSlowest_OnceFull()
+    {
+        assertTrue(reservoir.qualifies(1L, 1L));
+        record(10L, 1L);
+        record(20L, 1L);
+        assertTrue(reservoir.qualifies(1L, 1L));
+        record(30L, 1L);
+
+        assertFalse(reservoir.qualifies(10L, 1L));
+        assertTrue(reservoir.qualifies(11L, 1L));
+    }
+
+    @Test
+    @DisplayName("a new window accepts invocations again and keeps the previous window visible")
+    void qualifies_StartsNewWindow_AfterDeadline()
+    {
+        record(10L, 1L);
+        record(20L, 1L);
+        record(30L, 1L);
+
+        assertTrue(reservoir.qualifies(1L, WINDOW_NANOS));
+        record(1L, WINDOW_NANOS);
+        record(40L, WINDOW_NANOS);
+
+        assertEquals(List.of(40L, 30L, 20L), durations(reservoir.snapshot(WINDOW_NANOS)));
+    }
+
+    @Test
+    @DisplayName("windows age out of the snapshot one window length after they end")
+    void snapshot_AgesOutFinishedWindows()
+    {
+        record(10L, 1L);
+        record(20L, WINDOW_NANOS);
+
+        assertEquals(List.of(20L, 10L), durations(reservoir.snapshot(WINDOW_NANOS + 1L)));
+        assertEquals(List.of(20L), durations(reservoir.snapshot(2L * WINDOW_NANOS)));
+        assertEquals(List.of(), durations(reservoir.snapshot(3L * WINDOW_NANOS)));
+    }
+
+    @Test
+    @DisplayName("constructor rejects a non-positive size or window")
+    void constructor_RejectsInvalidArguments()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new SlowestInvocationReservoir(0, Duration.ofSeconds(1L), 0L));
+        assertThrows(IllegalArgumentException.class, () -> new SlowestInvocationReservoir(1, Duration.ZERO, 0L));
+    }
+}
@@ -0,0 +1,49 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedCounterTest
+{
+    @Test
+    @DisplayName("drain returns the delta since the previous drain")
+    void drain_ReturnsDeltaSincePreviousDrain()
+    {
+        final StripedCounter counter = new StripedCounter();
+
+        counter.increment();
+        counter.add(4L);
+        assertEquals(5L, counter.drain());
+
+        counter.increment();
+        assertEquals(1L, counter.drain());
+        assertEquals(0L, counter.drain());
+    }
+
+    @Test
+    @DisplayName("concurrent increments are not lost")
+    void increment_IsNotLost_UnderContention()
+    {
+        final StripedCounter counter = new StripedCounter();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8))
+        {
+            for (int t = 0; t < 8; t++)
+            {
+                executor.submit(() ->
+                {
+                    for (int i = 0; i < 10_000; i++)
+                    {
+                        counter.increment();
+                    }
+                });
+            }
+        }
+
+        assertEquals(80_000L, counter.drain());
+    }
+}
@@ -0,0 +1,71 @@
+package io.forge.kit.metrics.impl.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedHistogramTest
+{
+    @Test
+    @DisplayName("small values are recorded exactly")
+    void record_KeepsSmallValuesExact()
+    {
+        for (int value = 0; value < StripedHistogram.SUB_BUCKETS * 2; value++)
+        {
+            assertEquals(value, StripedHistogram.representativeValue(StripedHistogram.indexOf(value)));
+        }
+    }
+
+    @Test
+    @DisplayName("bucket indexes are contiguous and representatives stay within 1/16 relative error")
+    void indexOf_IsContiguous_WithBoundedError()
+    {
+        int previous = -1;
+        for (long value = 0L; value < 1_000_000L; value++)
+        {
+            final int index = StripedHistogram.indexOf(value);
+            assertTrue(index == previous || index == previous + 1, "gap at " + value);
+            previous = index;
+
+            final long representative = StripedHistogram.representativeValue(index);
+            assertTrue(Math.abs(representative - value) <= value / 16.0, "error too large at " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("the largest long maps into the last bucket")
+    void indexOf_HandlesLongMaxValue()
+    {
+        final int index = StripedHistogram.indexOf(Long.MAX_VALUE);
+
+        assertTrue(StripedHistogram.representativeValue(index) > 0L);
+    }
+
+    @Test
+    @DisplayName("drain reports non-empty buckets in ascending order and resets them")
+    void drain_ReportsAndResetsBuckets()
+    {
+        final StripedHistogram histogram = new StripedHistogram();
+        histogram.record(1_000L);
+        histogram.record(1_000L);
+        histogram.record(5L);
+        histogram.record(-3L);
+
+        final List<long[]> buckets = new ArrayList<>();
+        histogram.drain((value, count) -> buckets.add(new long[]{value, count}));
+
+        assertEquals(3, buckets.size());
+        assertEquals(0L, buckets.get(0)[0]);
+        assertEquals(5L, buckets.get(1)[0]);
+        assertEquals(2L, buckets.get(2)[1]);
+        assertTrue(Math.abs(buckets.get(2)[0] - 1_000L) <= 1_000L / 16);
+
+        final List<long[]> second = new ArrayList<>();
+        histogram.drain((value, count) -> second.add(new long[]{value, count}));
+        assertTrue(second.isEmpty());
+    }
+}
@@ -0,0 +1,93 @@
+package io.forge.kit.metrics.impl.benchmark;
+
+import io.forge.kit.metrics.impl.domain.support.InlineMeterWriter;
+import io.forge.kit.metrics.impl.domain.support.MeterWriter;
+import io.forge.kit.metrics.impl.domain.support.RingBufferMeterWriter;
+import io.forge.kit.metrics.impl.domain.support.StripedMeterWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Caller-side latency of the {@link MeterWriter} modes under contention.
+ *
+ * <p>{@link Mode#SampleTime} reports the latency distribution, so compare the {@code p0.99} rows across
+ * {@code mode} values. Each operation is what a recorder does per request: one counter increment and one timer
+ * record against shared handles. The ring is sized so the consumer keeps up; a full ring drops updates, which would
+ * make {@code ring-buffer} look cheaper than it is.
+ *
+ * <p>Run with {@code -Pbenchmark} (see the forge-metrics pom), e.g.
+ * {@code -Djmh.args="MeterWriterBenchmark -t 16"} to change the thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class MeterWriterBenchmark
+{
+    @Param({"inline", "ring-buffer", "striped"})
+    public String mode;
+
+    private MeterWriter writer;
+    private Counter counter;
+    private Timer timer;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        counter = meterRegistry.counter("benchmark.requests", "status", "allowed");
+        timer = Timer.builder("benchmark.duration")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        writer = switch (mode)
+        {
+            case "ring-buffer" -> new RingBufferMeterWriter(1 << 16);
+            case "striped" -> new StripedMeterWriter(Duration.ofSeconds(1L));
+            default -> new InlineMeterWriter();
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        if (writer instanceof final AutoCloseable closeable)
+        {
+            try
+            {
+                closeable.close();
+            }
+            catch (final Exception e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void recordRequest()
+    {
+        writer.increment(counter);
+        writer.record(timer, 1_250_000L);
+    }
+}
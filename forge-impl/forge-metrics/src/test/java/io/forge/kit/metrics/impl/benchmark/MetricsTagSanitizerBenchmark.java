@@ -0,0 +1,54 @@
+package io.forge.kit.metrics.impl.benchmark;
+
+import io.forge.kit.metrics.impl.domain.support.MetricsTagSanitizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MetricsTagSanitizer} on typical tag values: an already-safe identifier (returned as-is), an exception reason
+ * needing replacements (served from the cache after the first call) and an over-long value (truncated, not cached).
+ *
+ * <p>Values are copied per invocation so string hash codes are not cached across calls, as with values read from
+ * requests. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsTagSanitizerBenchmark
+{
+    @Param({"safe", "replaced", "truncated"})
+    public String shape;
+
+    private char[] value;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        value = switch (shape)
+        {
+            case "safe" -> "user-7f3a9c41.eu-west-1".toCharArray();
+            case "replaced" -> "exception: CircuitBreakerOpenException".toCharArray();
+            default -> ("GET /api/v1/tenants/" + "x".repeat(120)).toCharArray();
+        };
+    }
+
+    @Benchmark
+    public String sanitize()
+    {
+        return MetricsTagSanitizer.sanitize(new String(value));
+    }
+}
@@ -0,0 +1,80 @@
+package io.forge.kit.metrics.impl.benchmark;
+
+import io.forge.kit.metrics.impl.domain.support.StripedMeterWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Direct registry writes versus {@link StripedMeterWriter} accumulation on shared meters at 32 threads.
+ *
+ * <p>Reports throughput and the sampled latency distribution; raise contention further with {@code -t 64}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class StripedAggregationBenchmark
+{
+    @Param({"registry", "striped"})
+    public String mode;
+
+    private Counter counter;
+    private Timer timer;
+    private StripedMeterWriter striped;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        counter = meterRegistry.counter("benchmark.requests", "status", "allowed");
+        timer = Timer.builder("benchmark.duration")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        striped = "striped".equals(mode) ? new StripedMeterWriter(Duration.ofSeconds(1L)) : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        if (striped != null)
+        {
+            striped.close();
+        }
+    }
+
+    @Benchmark
+    public void recordRequest()
+    {
+        if (striped != null)
+        {
+            striped.increment(counter);
+            striped.record(timer, 1_250_000L);
+        }
+        else
+        {
+            counter.increment();
+            timer.record(1_250_000L, TimeUnit.NANOSECONDS);
+        }
+    }
+}
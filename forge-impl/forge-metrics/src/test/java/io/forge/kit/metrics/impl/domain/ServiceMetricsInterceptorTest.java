@@ -1,31 +1,49 @@
 package io.forge.kit.metrics.impl.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import io.forge.kit.metrics.api.domain.MetricsRecorder;
 import io.forge.kit.metrics.api.domain.ServiceMetrics;
+import io.forge.kit.metrics.api.domain.TailLatencyCapture;
 import io.forge.kit.metrics.api.domain.support.MetricsRecorderResolver;
 import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
+import io.forge.kit.metrics.impl.domain.support.TailLatencyRegistry;
 import io.forge.kit.metrics.impl.dto.OptionalEmptyResult;
 import io.forge.kit.metrics.impl.dto.OptionalPresentResult;
+import io.forge.kit.metrics.impl.dto.SlowInvocation;
+import io.forge.kit.metrics.impl.tracing.InvocationSpan;
+import io.forge.kit.metrics.impl.tracing.InvocationTracer;
+import io.forge.kit.metrics.impl.tracing.NoopInvocationTracer;
+import io.smallrye.mutiny.Uni;
 import jakarta.interceptor.InvocationContext;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 class ServiceMetricsInterceptorTest
 {
     private final MetricsRecorderResolver recorderResolver = mock(MetricsRecorderResolver.class);
 
-    private final MetricsRecorder recorder = mock(MetricsRecorder.class);
+    // Real default methods, so the timed callbacks delegate to the untimed ones verified below
+    private final MetricsRecorder recorder = mock(MetricsRecorder.class, CALLS_REAL_METHODS);
 
     private final InvocationContext context = mock(InvocationContext.class);
 
+    private final TailLatencyRegistry tailLatencyRegistry = new TailLatencyRegistry(new AnnotationResolver());
+
+    private final InvocationTracer tracer = new NoopInvocationTracer();
+
     @SuppressWarnings("unchecked")
     private final Map<String, Object> contextData = mock(Map.class);
 
@@ -38,7 +56,7 @@ class ServiceMetricsInterceptorTest
         when(context.getTarget()).thenReturn(target);
         when(context.proceed()).thenReturn("result");
 
-        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
         final Object result = interceptor.collectMetrics(context);
 
         assertEquals("result", result);
@@ -60,7 +78,7 @@ class ServiceMetricsInterceptorTest
         when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
         when(context.proceed()).thenReturn(result);
 
-        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
         final Object actualResult = interceptor.collectMetrics(context);
 
         assertEquals(result, actualResult);
@@ -83,7 +101,7 @@ class ServiceMetricsInterceptorTest
 
         try
         {
-            final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+            final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
             interceptor.collectMetrics(context);
         }
         catch (final RuntimeException e)
@@ -109,7 +127,7 @@ class ServiceMetricsInterceptorTest
         when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
         when(context.proceed()).thenReturn(optionalResult);
 
-        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
         final Object result = interceptor.collectMetrics(context);
 
         assertEquals(optionalResult, result);
@@ -129,7 +147,7 @@ class ServiceMetricsInterceptorTest
         when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
         when(context.proceed()).thenReturn(emptyOptional);
 
-        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
         final Object result = interceptor.collectMetrics(context);
 
         assertEquals(emptyOptional, result);
@@ -149,7 +167,7 @@ class ServiceMetricsInterceptorTest
         when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
         when(context.proceed()).thenReturn(optionalString);
 
-        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
         final Object result = interceptor.collectMetrics(context);
 
         assertEquals(optionalString, result);
@@ -168,7 +186,7 @@ class ServiceMetricsInterceptorTest
         when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
         when(context.proceed()).thenReturn(null);
 
-        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
         interceptor.collectMetrics(context);
 
         verify(recorder).recordMetrics(any(), eq(null));
@@ -189,7 +207,7 @@ class ServiceMetricsInterceptorTest
         when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
         when(context.proceed()).thenReturn(result);
 
-        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
         interceptor.collectMetrics(context);
 
         verify(contextData).put("metrics.type", "user");
@@ -209,10 +227,240 @@ class ServiceMetricsInterceptorTest
         when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
         when(context.proceed()).thenReturn(result);
 
-        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver);
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
+        interceptor.collectMetrics(context);
+
+        verify(recorder).recordMetrics(context, result);
+    }
+
+    @Test
+    @DisplayName("collectMetrics passes elapsed nanos to the timed recordMetrics callback")
+    void collectMetrics_PassesElapsedNanos_ToTimedRecordMetrics() throws Exception
+    {
+        final MetricsResultIndicator result = new TestMetricsResult(true, null);
+
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenAnswer(invocation ->
+        {
+            Thread.sleep(5L);
+            return result;
+        });
+
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
+        interceptor.collectMetrics(context);
+
+        verify(recorder).recordMetrics(eq(context), eq(result), longThat(nanos -> nanos >= 5_000_000L));
+    }
+
+    @Test
+    @DisplayName("collectMetrics passes elapsed nanos to the timed recordException callback")
+    void collectMetrics_PassesElapsedNanos_ToTimedRecordException() throws Exception
+    {
+        final RuntimeException exception = new RuntimeException("boom");
+
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenThrow(exception);
+
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
+
+        assertThrows(RuntimeException.class, () -> interceptor.collectMetrics(context));
+
+        verify(recorder).recordException(eq(context), eq(exception), longThat(nanos -> nanos >= 0L));
+    }
+
+    @Test
+    @DisplayName("collectMetrics records CompletionStage result only once it completes")
+    void collectMetrics_RecordsCompletionStageResult_OnCompletion() throws Exception
+    {
+        final CompletableFuture<MetricsResultIndicator> future = new CompletableFuture<>();
+        final MetricsResultIndicator indicator = new TestMetricsResult(false, "error");
+
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenReturn(future);
+
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
+        assertEquals(future, interceptor.collectMetrics(context));
+
+        verify(recorder, never()).recordMetrics(any(), any());
+
+        future.complete(indicator);
+
+        verify(recorder).recordMetrics(context, indicator);
+    }
+
+    @Test
+    @DisplayName("collectMetrics records Uni failure as exception when it terminates")
+    void collectMetrics_RecordsUniFailure_AsException() throws Exception
+    {
+        final IllegalStateException failure = new IllegalStateException("boom");
+
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenReturn(Uni.createFrom().failure(failure));
+
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
+        final Uni<?> result = (Uni<?>) interceptor.collectMetrics(context);
+
+        verify(recorder, never()).recordException(any(), any());
+        assertThrows(IllegalStateException.class, () -> result.await().indefinitely());
+        verify(recorder).recordException(context, failure);
+    }
+
+    @Test
+    @DisplayName("sampleWeight rounds the sampling rate to a whole-number weight")
+    void sampleWeight_RoundsRateToWholeNumberWeight()
+    {
+        assertEquals(1L, ServiceMetricsInterceptor.sampleWeight(1.0d));
+        assertEquals(1L, ServiceMetricsInterceptor.sampleWeight(Double.NaN));
+        assertEquals(100L, ServiceMetricsInterceptor.sampleWeight(0.01d));
+        assertEquals(33L, ServiceMetricsInterceptor.sampleWeight(0.03d));
+        assertEquals(0L, ServiceMetricsInterceptor.sampleWeight(0.0d));
+    }
+
+    @Test
+    @DisplayName("collectMetrics records only sampled successes and publishes their weight")
+    void collectMetrics_RecordsSampledSuccesses_WithWeight() throws Exception
+    {
+        final MetricsResultIndicator result = new TestMetricsResult(true, null);
+        final Map<String, Object> data = new HashMap<>();
+
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("sampledMethod"));
+        when(context.getContextData()).thenReturn(data);
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenReturn(result);
+
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
+        for (int i = 0; i < 1_000; i++)
+        {
+            interceptor.collectMetrics(context);
+        }
+
+        // One call in four on average; the bounds are far outside any plausible run
+        verify(recorder, atLeast(100)).recordMetrics(context, result);
+        verify(recorder, atMost(400)).recordMetrics(context, result);
+        assertEquals(4L, MetricsRecorder.sampleWeight(context));
+    }
+
+    @Test
+    @DisplayName("collectMetrics always records failed indicators and exceptions when sampling")
+    void collectMetrics_AlwaysRecordsFailures_WhenSampling() throws Exception
+    {
+        final MetricsResultIndicator failure = new TestMetricsResult(false, "error");
+        final RuntimeException exception = new RuntimeException("boom");
+
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("failuresOnlyMethod"));
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenReturn(new TestMetricsResult(true, null), failure).thenThrow(exception);
+
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
         interceptor.collectMetrics(context);
+        interceptor.collectMetrics(context);
+        assertThrows(RuntimeException.class, () -> interceptor.collectMetrics(context));
+
+        verify(recorder, times(1)).recordMetrics(any(), any());
+        verify(recorder).recordMetrics(context, failure);
+        verify(recorder).recordException(context, exception);
+        assertEquals(1L, MetricsRecorder.sampleWeight(context));
+    }
+
+    @Test
+    @DisplayName("collectMetrics captures slow invocations of TailLatencyCapture methods with argument snapshots")
+    void collectMetrics_CapturesSlowInvocations_ForTailLatencyCaptureMethods() throws Exception
+    {
+        final IllegalStateException exception = new IllegalStateException("boom");
+
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("capturedMethod", String.class));
+        when(context.getParameters()).thenReturn(new Object[]{"order-42"});
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenReturn(new TestMetricsResult(true, null)).thenThrow(exception);
+
+        final ServiceMetricsInterceptor interceptor = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, tracer, new AnnotationResolver());
+        interceptor.collectMetrics(context);
+        assertThrows(IllegalStateException.class, () -> interceptor.collectMetrics(context));
+
+        final List<SlowInvocation> captured = tailLatencyRegistry.snapshot().get("TestTarget#capturedMethod");
+        assertEquals(2, captured.size());
+        assertEquals(List.of("order-42"), captured.get(0).arguments());
+    }
+
+    @Test
+    @DisplayName("collectMetrics records while the invocation span is current and ends it with the result")
+    void collectMetrics_RecordsWithinSpan_AndEndsItWithResult() throws Exception
+    {
+        final InvocationTracer sampledTracer = mock(InvocationTracer.class);
+        final InvocationSpan span = mock(InvocationSpan.class);
+        final InvocationSpan.Scope scope = mock(InvocationSpan.Scope.class);
+        final MetricsResultIndicator result = new TestMetricsResult(false, "denied");
+
+        when(sampledTracer.startSpan(context)).thenReturn(span);
+        when(span.makeCurrent()).thenReturn(scope);
+        when(context.getMethod()).thenReturn(TestTargetWithType.class.getMethod("methodWithType"));
+        when(context.getContextData()).thenReturn(contextData);
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenReturn(result);
+
+        new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, sampledTracer, new AnnotationResolver()).collectMetrics(context);
+
+        final InOrder order = inOrder(span, recorder, scope);
+        order.verify(span).makeCurrent();
+        order.verify(recorder).recordMetrics(context, result);
+        order.verify(span).end(result);
+        order.verify(scope).close();
+        verify(span).setAttribute("metrics.type", "user");
+    }
+
+    @Test
+    @DisplayName("collectMetrics returns the result and ends the span when the recorder throws")
+    void collectMetrics_ReturnsResultAndEndsSpan_WhenRecorderThrows() throws Exception
+    {
+        final InvocationTracer sampledTracer = mock(InvocationTracer.class);
+        final InvocationSpan span = mock(InvocationSpan.class);
+        final MetricsResultIndicator result = new TestMetricsResult(true, null);
+
+        when(sampledTracer.startSpan(context)).thenReturn(span);
+        when(span.makeCurrent()).thenReturn(InvocationSpan.Scope.NOOP);
+        when(context.getMethod()).thenReturn(TestTargetWithType.class.getMethod("methodWithType"));
+        when(context.getContextData()).thenReturn(contextData);
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenReturn(result);
+        doThrow(new IllegalStateException("registry closed")).when(recorder).recordMetrics(context, result);
+
+        final Object returned = new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, sampledTracer, new AnnotationResolver()).collectMetrics(context);
 
+        assertEquals(result, returned);
+        verify(recorder, never()).recordException(any(), any());
+        verify(span).end(result);
+        verify(span, never()).end(any(Throwable.class));
+    }
+
+    @Test
+    @DisplayName("collectMetrics starts the span on subscription, so a Uni that is never subscribed starts none")
+    void collectMetrics_StartsSpanOnSubscription_ForLazyResults() throws Exception
+    {
+        final InvocationTracer sampledTracer = mock(InvocationTracer.class);
+        final InvocationSpan span = mock(InvocationSpan.class);
+        final MetricsResultIndicator result = new TestMetricsResult(true, null);
+
+        when(sampledTracer.startSpan(context)).thenReturn(span);
+        when(span.makeCurrent()).thenReturn(InvocationSpan.Scope.NOOP);
+        when(context.getMethod()).thenReturn(TestTargetWithType.class.getMethod("loadAsync"));
+        when(context.getContextData()).thenReturn(contextData);
+        when(recorderResolver.resolve(any())).thenReturn(Optional.of(recorder));
+        when(context.proceed()).thenReturn(Uni.createFrom().item(result));
+
+        final Uni<?> returned = (Uni<?>) new ServiceMetricsInterceptor(recorderResolver, tailLatencyRegistry, sampledTracer, new AnnotationResolver()).collectMetrics(context);
+
+        verify(sampledTracer, never()).startSpan(any());
+        verify(contextData).put("metrics.type", "user");
+
+        assertEquals(result, returned.await().indefinitely());
+        verify(sampledTracer).startSpan(context);
+        verify(span).setAttribute("metrics.type", "user");
         verify(recorder).recordMetrics(context, result);
+        verify(span).end(result);
     }
 
     // Test helper classes
@@ -235,6 +483,25 @@ class ServiceMetricsInterceptorTest
         {
             // void method
         }
+
+        @ServiceMetrics(TestMetricsRecorder.class)
+        @TailLatencyCapture(argPaths = "0")
+        public MetricsResultIndicator capturedMethod(final String orderId)
+        {
+            return new TestMetricsResult(true, null);
+        }
+
+        @ServiceMetrics(value = TestMetricsRecorder.class, sampleRate = 0.25d)
+        public MetricsResultIndicator sampledMethod()
+        {
+            return new TestMetricsResult(true, null);
+        }
+
+        @ServiceMetrics(value = TestMetricsRecorder.class, sampleRate = 0.0d)
+        public MetricsResultIndicator failuresOnlyMethod()
+        {
+            return new TestMetricsResult(true, null);
+        }
     }
 
     @ServiceMetrics(TestMetricsRecorder.class)
@@ -255,6 +522,12 @@ class ServiceMetricsInterceptorTest
         {
             return new TestMetricsResult(true, null);
         }
+
+        @ServiceMetrics(value = TestMetricsRecorder.class, type = "user")
+        public Uni<MetricsResultIndicator> loadAsync()
+        {
+            return Uni.createFrom().item(new TestMetricsResult(true, null));
+        }
     }
 
     record TestMetricsResult(boolean success, String errorMessage) implements MetricsResultIndicator
@@ -0,0 +1,152 @@
+package io.forge.kit.metrics.impl.domain.recorder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.forge.kit.metrics.api.domain.MetricsRecorder;
+import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
+import io.forge.kit.metrics.impl.domain.support.InlineMeterWriter;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.interceptor.InvocationContext;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MethodTimerMetricsRecorderTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MethodTimerMetricsRecorder recorder = new MethodTimerMetricsRecorder(new MeterHandleCache(meterRegistry),
+        new InlineMeterWriter(), List.of(Duration.ofMillis(10L), Duration.ofMillis(100L)));
+
+    @Test
+    @DisplayName("recordMetrics records elapsed nanos with success outcome")
+    void recordMetrics_RecordsElapsedNanos_WithSuccessOutcome() throws Exception
+    {
+        final InvocationContext context = contextFor("operation", Map.of());
+
+        recorder.recordMetrics(context, new TestResult(true), TimeUnit.MILLISECONDS.toNanos(7L));
+
+        final Timer timer = timer("operation", "success");
+        assertEquals(1L, timer.count());
+        assertEquals(7.0d, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("recordMetrics uses failure outcome when indicator reports failure")
+    void recordMetrics_UsesFailureOutcome_WhenIndicatorFails() throws Exception
+    {
+        recorder.recordMetrics(contextFor("operation", Map.of()), new TestResult(false), 1_000L);
+
+        assertEquals(1L, timer("operation", "failure").count());
+    }
+
+    @Test
+    @DisplayName("recordException records elapsed nanos with exception outcome")
+    void recordException_RecordsElapsedNanos_WithExceptionOutcome() throws Exception
+    {
+        recorder.recordException(contextFor("operation", Map.of()), new IllegalStateException(), 1_000L);
+
+        assertEquals(1L, timer("operation", "exception").count());
+    }
+
+    @Test
+    @DisplayName("recordMetrics tags timer with metrics type from context data")
+    void recordMetrics_TagsTimer_WithMetricsType() throws Exception
+    {
+        recorder.recordMetrics(contextFor("operation", new HashMap<>(Map.of("metrics.type", "user"))), null, 1_000L);
+
+        assertEquals(1L, meterRegistry.get("service.method.duration").tag("type", "user").timer().count());
+    }
+
+    @Test
+    @DisplayName("recordMetrics publishes configured SLO buckets")
+    void recordMetrics_PublishesConfiguredSloBuckets() throws Exception
+    {
+        recorder.recordMetrics(contextFor("operation", Map.of()), null, TimeUnit.MILLISECONDS.toNanos(50L));
+
+        final CountAtBucket[] buckets = timer("operation", "success").takeSnapshot().histogramCounts();
+        assertEquals(2, buckets.length);
+        assertEquals(0.0d, buckets[0].count());
+        assertEquals(1.0d, buckets[1].count());
+    }
+
+    @Test
+    @DisplayName("recordMetrics counts a sampled success by its sample weight")
+    void recordMetrics_CountsSampledSuccess_BySampleWeight() throws Exception
+    {
+        final InvocationContext context = contextFor("operation",
+            new HashMap<>(Map.of(MetricsRecorder.SAMPLE_WEIGHT_KEY, 100L)));
+
+        recorder.recordMetrics(context, new TestResult(true), 1_000L);
+        recorder.recordException(contextFor("operation", Map.of()), new IllegalStateException(), 1_000L);
+
+        assertEquals(1L, timer("operation", "success").count());
+        assertEquals(100.0d, calls("operation", "success").count());
+        assertEquals(1.0d, calls("operation", "exception").count());
+    }
+
+    @Test
+    @DisplayName("untimed callbacks record nothing")
+    void untimedCallbacks_RecordNothing() throws Exception
+    {
+        recorder.recordMetrics(contextFor("operation", Map.of()), null);
+
+        assertTrue(meterRegistry.find("service.method.duration").timers().isEmpty());
+    }
+
+    private Timer timer(final String method, final String outcome)
+    {
+        return meterRegistry.get("service.method.duration")
+            .tag("class", "TestService")
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .timer();
+    }
+
+    private Counter calls(final String method, final String outcome)
+    {
+        return meterRegistry.get("service.method.calls")
+            .tag("class", "TestService")
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .counter();
+    }
+
+    private static InvocationContext contextFor(final String methodName, final Map<String, Object> contextData)
+        throws NoSuchMethodException
+    {
+        final InvocationContext context = mock(InvocationContext.class);
+        when(context.getMethod()).thenReturn(TestService.class.getMethod(methodName));
+        when(context.getContextData()).thenReturn(contextData);
+        return context;
+    }
+
+    @SuppressWarnings("unused")
+    static class TestService
+    {
+        public void operation()
+        {
+        }
+    }
+
+    record TestResult(boolean success) implements MetricsResultIndicator
+    {
+        @Override
+        public String errorMessage()
+        {
+            return null;
+        }
+    }
+}
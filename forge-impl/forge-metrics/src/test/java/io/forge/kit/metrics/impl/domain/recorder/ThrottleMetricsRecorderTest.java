@@ -0,0 +1,124 @@
+package io.forge.kit.metrics.impl.domain.recorder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.forge.kit.metrics.api.domain.MetricsRecorder;
+import io.forge.kit.metrics.impl.domain.support.InlineMeterWriter;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.forge.kit.metrics.impl.infrastructure.throttle.RateLimitKeyParser;
+import io.forge.kit.throttle.api.infrastructure.RateLimitContext;
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThrottleMetricsRecorderTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RateLimitContext rateLimitContext = new RateLimitContext();
+
+    private final ThrottleMetricsRecorder recorder = new ThrottleMetricsRecorder(new MeterHandleCache(meterRegistry),
+        new InlineMeterWriter(), rateLimitContext);
+
+    @Test
+    @DisplayName("constructor pre-registers allowed and blocked counters for every key type")
+    void constructor_PreRegistersRequestCounters_ForEveryKeyType()
+    {
+        for (final String keyType : RateLimitKeyParser.KEY_TYPES)
+        {
+            assertEquals(0.0d, requests(keyType, "allowed"));
+            assertEquals(0.0d, requests(keyType, "blocked"));
+        }
+    }
+
+    @Test
+    @DisplayName("recordMetrics increments the allowed counter for allowed requests")
+    void recordMetrics_IncrementsAllowedCounter_WhenAllowed()
+    {
+        rateLimitContext.record("user:alice", new RateLimitStatus(true, 10L, 9L, 0L));
+        recorder.recordMetrics(mock(InvocationContext.class), null);
+
+        assertEquals(1.0d, requests("user", "allowed"));
+        assertEquals(0.0d, requests("user", "blocked"));
+    }
+
+    @Test
+    @DisplayName("recordMetrics increments blocked and violation counters for blocked requests")
+    void recordMetrics_IncrementsBlockedAndViolationCounters_WhenBlocked()
+    {
+        rateLimitContext.record("ip:10.0.0.1", new RateLimitStatus(false, 10L, 0L, 6L));
+        recorder.recordMetrics(mock(InvocationContext.class), null);
+
+        assertEquals(1.0d, requests("ip", "blocked"));
+        assertEquals(1.0d, meterRegistry.get("rate.limit.violations").tag("key_type", "ip").tag("identifier", "10.0.0.1")
+            .counter().count());
+    }
+
+    @Test
+    @DisplayName("recordMetrics increments counters by the sample weight of a sampled invocation")
+    void recordMetrics_IncrementsBySampleWeight_WhenSampled()
+    {
+        final InvocationContext context = mock(InvocationContext.class);
+        rateLimitContext.record("ip:10.0.0.1", new RateLimitStatus(false, 10L, 0L, 6L));
+        when(context.getContextData()).thenReturn(Map.of(MetricsRecorder.SAMPLE_WEIGHT_KEY, 100L));
+
+        recorder.recordMetrics(context, null);
+
+        assertEquals(100.0d, requests("ip", "blocked"));
+        assertEquals(100.0d, meterRegistry.get("rate.limit.violations").tag("key_type", "ip").tag("identifier", "10.0.0.1")
+            .counter().count());
+    }
+
+    @Test
+    @DisplayName("recordMetrics records nothing when no rate limit check was recorded")
+    void recordMetrics_RecordsNothing_WhenNotChecked()
+    {
+        recorder.recordMetrics(mock(InvocationContext.class), null);
+
+        assertEquals(0.0d, requests("user", "allowed"));
+        assertEquals(0.0d, requests("user", "blocked"));
+    }
+
+    @Test
+    @SuppressWarnings("removal")
+    @DisplayName("recordMetrics falls back to the deprecated request properties when the context holds no check")
+    void recordMetrics_FallsBackToDeprecatedRequestProperties_WhenNotChecked()
+    {
+        final InvocationContext context = mock(InvocationContext.class);
+        final ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+        when(context.getParameters()).thenReturn(new Object[]{requestContext});
+        when(requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_KEY_PROPERTY)).thenReturn("user:alice");
+        when(requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_STATUS_ALLOWED_PROPERTY)).thenReturn(false);
+        when(requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_STATUS_LIMIT_PROPERTY)).thenReturn(10L);
+        when(requestContext.getProperty(RateLimitKeyParser.RATE_LIMIT_STATUS_REMAINING_PROPERTY)).thenReturn(0L);
+
+        recorder.recordMetrics(context, null);
+        recorder.recordMetrics(context, null);
+
+        assertEquals(2.0d, requests("user", "blocked"));
+        assertEquals(2.0d, meterRegistry.get("rate.limit.violations").tag("key_type", "user").tag("identifier", "alice")
+            .counter().count());
+    }
+
+    @Test
+    @DisplayName("recordException increments failure counter by exception type")
+    void recordException_IncrementsFailureCounter_ByExceptionType()
+    {
+        recorder.recordException(mock(InvocationContext.class), new IllegalStateException("boom"));
+
+        assertEquals(1.0d, meterRegistry.get("rate.limit.failures").tag("exception_type", "IllegalStateException")
+            .counter().count());
+    }
+
+    private double requests(final String keyType, final String status)
+    {
+        return meterRegistry.get("rate.limit.requests").tag("key_type", keyType).tag("status", status).counter().count();
+    }
+}
@@ -0,0 +1,160 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncResultSupportTest
+{
+    private final RecordingCompletion completion = new RecordingCompletion();
+
+    @Test
+    @DisplayName("isAsync detects CompletionStage, Uni and Multi only")
+    void isAsync_DetectsSupportedTypes()
+    {
+        assertTrue(AsyncResultSupport.isAsync(CompletableFuture.completedFuture("x")));
+        assertTrue(AsyncResultSupport.isAsync(Uni.createFrom().item("x")));
+        assertTrue(AsyncResultSupport.isAsync(Multi.createFrom().item("x")));
+        assertFalse(AsyncResultSupport.isAsync("x"));
+        assertFalse(AsyncResultSupport.isAsync(null));
+    }
+
+    @Test
+    @DisplayName("onCompletion records CompletionStage item only once the stage completes")
+    void onCompletion_RecordsCompletionStageItem_OnCompletion()
+    {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        final Object returned = AsyncResultSupport.onCompletion(future, System.nanoTime(), completion);
+
+        assertSame(future, returned);
+        assertEquals(0, completion.calls);
+
+        future.complete("done");
+
+        assertEquals("done", completion.item);
+        assertEquals(1, completion.calls);
+    }
+
+    @Test
+    @DisplayName("onCompletion unwraps CompletionException failures")
+    void onCompletion_UnwrapsCompletionExceptionFailures()
+    {
+        final IllegalStateException cause = new IllegalStateException("boom");
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        AsyncResultSupport.onCompletion(future, System.nanoTime(), completion);
+        future.completeExceptionally(new CompletionException(cause));
+
+        assertSame(cause, completion.failure);
+    }
+
+    @Test
+    @DisplayName("onCompletion times Uni from subscription to item")
+    void onCompletion_TimesUni_FromSubscriptionToItem()
+    {
+        final Uni<String> uni = Uni.createFrom().item("done").onItem().delayIt().by(Duration.ofMillis(20L));
+
+        @SuppressWarnings("unchecked") final Uni<String> wrapped = (Uni<String>) AsyncResultSupport.onCompletion(uni, 0L, completion);
+
+        // Lazy - nothing recorded until subscription
+        assertEquals(0, completion.calls);
+        assertEquals("done", wrapped.await().atMost(Duration.ofSeconds(5L)));
+        assertEquals("done", completion.item);
+        assertTrue(completion.durationNanos >= 20_000_000L);
+    }
+
+    @Test
+    @DisplayName("onCompletion records Uni failure and propagates it to the caller")
+    void onCompletion_RecordsUniFailure_AndPropagates()
+    {
+        final IllegalStateException failure = new IllegalStateException("boom");
+
+        @SuppressWarnings("unchecked") final Uni<String> wrapped = (Uni<String>) AsyncResultSupport.onCompletion(
+            Uni.createFrom().failure(failure), 0L, completion);
+
+        assertThrows(IllegalStateException.class, () -> wrapped.await().indefinitely());
+        assertSame(failure, completion.failure);
+    }
+
+    @Test
+    @DisplayName("onCompletion passes the last Multi item on completion")
+    void onCompletion_PassesLastMultiItem_OnCompletion()
+    {
+        @SuppressWarnings("unchecked") final Multi<Integer> wrapped = (Multi<Integer>) AsyncResultSupport.onCompletion(
+            Multi.createFrom().items(1, 2, 3), 0L, completion);
+
+        assertEquals(List.of(1, 2, 3), wrapped.collect().asList().await().indefinitely());
+        assertEquals(3, completion.item);
+        assertEquals(1, completion.calls);
+    }
+
+    @Test
+    @DisplayName("onCompletion does not fail the pipeline when the callback throws")
+    void onCompletion_DoesNotFailPipeline_WhenCallbackThrows()
+    {
+        final AsyncResultSupport.AsyncCompletion throwing = new AsyncResultSupport.AsyncCompletion()
+        {
+            @Override
+            public void onItem(final Object lastItem, final long durationNanos)
+            {
+                throw new IllegalStateException("recorder failure");
+            }
+
+            @Override
+            public void onFailure(final Throwable failure, final long durationNanos)
+            {
+                throw new IllegalStateException("recorder failure");
+            }
+        };
+
+        @SuppressWarnings("unchecked") final Uni<String> wrapped = (Uni<String>) AsyncResultSupport.onCompletion(
+            Uni.createFrom().item("done"), 0L, throwing);
+
+        assertEquals("done", wrapped.await().indefinitely());
+    }
+
+    @Test
+    @DisplayName("onCompletion returns non-async results unchanged")
+    void onCompletion_ReturnsNonAsyncResultsUnchanged()
+    {
+        assertEquals("x", AsyncResultSupport.onCompletion("x", 0L, completion));
+        assertNull(completion.item);
+    }
+
+    private static final class RecordingCompletion implements AsyncResultSupport.AsyncCompletion
+    {
+        private Object item;
+        private Throwable failure;
+        private long durationNanos;
+        private int calls;
+
+        @Override
+        public void onItem(final Object lastItem, final long durationNanos)
+        {
+            this.item = lastItem;
+            this.durationNanos = durationNanos;
+            calls++;
+        }
+
+        @Override
+        public void onFailure(final Throwable failure, final long durationNanos)
+        {
+            this.failure = failure;
+            this.durationNanos = durationNanos;
+            calls++;
+        }
+    }
+}
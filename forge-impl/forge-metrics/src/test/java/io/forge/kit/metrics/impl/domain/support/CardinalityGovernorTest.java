@@ -0,0 +1,126 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CardinalityGovernorTest
+{
+    private final CardinalityGovernor governor = new CardinalityGovernor(2);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    {
+        registry.config().meterFilter(governor);
+    }
+
+    @Test
+    @DisplayName("values beyond the cap are folded into 'other'")
+    void map_FoldsValuesBeyondCap()
+    {
+        registry.counter("rate.limit.violations", "identifier", "a").increment();
+        registry.counter("rate.limit.violations", "identifier", "b").increment();
+        registry.counter("rate.limit.violations", "identifier", "c").increment();
+        registry.counter("rate.limit.violations", "identifier", "d").increment();
+
+        assertEquals(3, registry.find("rate.limit.violations").counters().size());
+        assertEquals(2.0, registry.get("rate.limit.violations").tag("identifier", "other").counter().count());
+    }
+
+    @Test
+    @DisplayName("admitted values keep their own meter")
+    void map_KeepsAdmittedValues()
+    {
+        registry.counter("rate.limit.violations", "identifier", "a");
+        registry.counter("rate.limit.violations", "identifier", "b");
+        registry.counter("rate.limit.violations", "identifier", "c");
+        registry.counter("rate.limit.violations", "identifier", "a").increment();
+
+        assertEquals(1.0, registry.get("rate.limit.violations").tag("identifier", "a").counter().count());
+    }
+
+    @Test
+    @DisplayName("the cap applies per meter name and tag key")
+    void map_CapsPerMeterAndTag()
+    {
+        registry.counter("rate.limit.violations", "identifier", "a");
+        registry.counter("rate.limit.violations", "identifier", "b");
+        registry.counter("circuit.breaker.state.changes", "circuit", "a", "state", "open");
+        registry.counter("circuit.breaker.state.changes", "circuit", "b", "state", "open");
+
+        assertNotNull(registry.find("circuit.breaker.state.changes").tag("circuit", "b").counter());
+    }
+
+    @Test
+    @DisplayName("only the overflowing tag is folded")
+    void map_FoldsOnlyOverflowingTag()
+    {
+        registry.counter("circuit.breaker.state.changes", "circuit", "a", "state", "open");
+        registry.counter("circuit.breaker.state.changes", "circuit", "b", "state", "open");
+        registry.counter("circuit.breaker.state.changes", "circuit", "c", "state", "closed").increment();
+
+        assertEquals(1.0, registry.get("circuit.breaker.state.changes").tags("circuit", "other", "state", "closed")
+            .counter().count());
+    }
+
+    @Test
+    @DisplayName("released values free their slot")
+    void release_FreesSlot()
+    {
+        registry.counter("rate.limit.violations", "identifier", "a");
+        registry.counter("rate.limit.violations", "identifier", "b");
+
+        governor.release("rate.limit.violations", "identifier", "a");
+        registry.counter("rate.limit.violations", "identifier", "c");
+
+        assertNotNull(registry.find("rate.limit.violations").tag("identifier", "c").counter());
+    }
+
+    @Test
+    @DisplayName("meters outside the kit's prefixes are not governed")
+    void map_IgnoresMetersOutsideGovernedPrefixes()
+    {
+        for (int i = 0; i < 5; i++)
+        {
+            registry.counter("http.server.requests", "uri", "/actors/" + i);
+        }
+
+        assertEquals(5, registry.find("http.server.requests").counters().size());
+    }
+
+    @Test
+    @DisplayName("configured prefixes replace the defaults")
+    void map_GovernsConfiguredPrefixes()
+    {
+        final MeterRegistry custom = new SimpleMeterRegistry();
+        custom.config().meterFilter(new CardinalityGovernor(1, List.of("orders.")));
+
+        custom.counter("orders.placed", "customer", "a");
+        custom.counter("orders.placed", "customer", "b");
+        custom.counter("rate.limit.violations", "identifier", "a");
+        custom.counter("rate.limit.violations", "identifier", "b");
+
+        assertNotNull(custom.find("orders.placed").tag("customer", "other").counter());
+        assertEquals(2, custom.find("rate.limit.violations").counters().size());
+    }
+
+    @Test
+    @DisplayName("a non-positive cap disables the governor")
+    void map_IsDisabled_WhenCapNotPositive()
+    {
+        final MeterRegistry unlimited = new SimpleMeterRegistry();
+        unlimited.config().meterFilter(new CardinalityGovernor(0));
+
+        for (int i = 0; i < 10; i++)
+        {
+            unlimited.counter("rate.limit.violations", "identifier", "id-" + i);
+        }
+
+        assertEquals(10, unlimited.find("rate.limit.violations").counters().size());
+    }
+}
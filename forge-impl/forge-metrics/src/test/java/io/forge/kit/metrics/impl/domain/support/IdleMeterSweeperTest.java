@@ -0,0 +1,77 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdleMeterSweeperTest
+{
+    private static final Duration TTL = Duration.ofMinutes(15L);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CardinalityGovernor governor = new CardinalityGovernor(1);
+
+    private final MeterHandleCache cache = new MeterHandleCache(registry);
+
+    private final MeterWriter meterWriter = mock(MeterWriter.class);
+
+    private final IdleMeterSweeper sweeper = new IdleMeterSweeper(cache, governor, meterWriter, registry, TTL,
+        Duration.ofMinutes(1L), nanos::get);
+
+    {
+        registry.config().meterFilter(governor);
+    }
+
+    @Test
+    @DisplayName("sweep removes idle meters and releases writer state")
+    void sweep_RemovesIdleMeters_AndReleasesWriterState()
+    {
+        final Counter idle = cache.counter("rate.limit.violations", "desc", "identifier", "tenant-a");
+        sweeper.sweep();
+        nanos.addAndGet(TTL.toNanos());
+
+        assertEquals(1, sweeper.sweep());
+        assertNull(registry.find("rate.limit.violations").counter());
+        verify(meterWriter).release(idle);
+    }
+
+    @Test
+    @DisplayName("sweep keeps meters that saw events within the TTL")
+    void sweep_KeepsActiveMeters()
+    {
+        final Counter active = cache.counter("rate.limit.violations", "desc", "identifier", "tenant-a");
+        sweeper.sweep();
+        nanos.addAndGet(TTL.toNanos());
+        active.increment();
+
+        assertEquals(0, sweeper.sweep());
+        verify(meterWriter, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("sweep releases tag values of removed meters so new values are admitted")
+    void sweep_ReleasesTagValues_OfRemovedMeters()
+    {
+        cache.counter("rate.limit.violations", "desc", "identifier", "tenant-a");
+        sweeper.sweep();
+        nanos.addAndGet(TTL.toNanos());
+        sweeper.sweep();
+
+        cache.counter("rate.limit.violations", "desc", "identifier", "tenant-b");
+
+        assertNotNull(registry.find("rate.limit.violations").tag("identifier", "tenant-b").counter());
+    }
+}
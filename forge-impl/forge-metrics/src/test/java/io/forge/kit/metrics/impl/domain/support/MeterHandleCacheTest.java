@@ -0,0 +1,154 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MeterHandleCacheTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MeterHandleCache cache = new MeterHandleCache(meterRegistry);
+
+    @Test
+    @DisplayName("counter returns the same handle for equal name and tags")
+    void counter_ReturnsSameHandle_ForEqualNameAndTags()
+    {
+        final Counter first = cache.counter("test.counter", "desc", "a", "1", "b", "2");
+        final Counter second = cache.counter("test.counter", "desc", new String[]{"a", "1", "b", "2"});
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("counter returns distinct handles for different tag values")
+    void counter_ReturnsDistinctHandles_ForDifferentTagValues()
+    {
+        final Counter first = cache.counter("test.counter", "desc", "a", "1");
+        final Counter second = cache.counter("test.counter", "desc", "a", "2");
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    @DisplayName("counter registers meter with tags and description in the registry")
+    void counter_RegistersMeter_WithTagsAndDescription()
+    {
+        cache.counter("test.counter", "Test counter", "status", "allowed").increment();
+        cache.counter("test.counter", "Test counter", "status", "allowed").increment();
+
+        final Counter registered = meterRegistry.get("test.counter").tag("status", "allowed").counter();
+        assertEquals(2.0d, registered.count());
+        assertEquals("Test counter", registered.getId().getDescription());
+    }
+
+    @Test
+    @DisplayName("timer returns cached handle and records into the registry")
+    void timer_ReturnsCachedHandle_AndRecords()
+    {
+        final Timer first = cache.timer("test.timer", "desc", "entity", "ActorRecord");
+        first.record(5L, TimeUnit.MILLISECONDS);
+
+        assertSame(first, cache.timer("test.timer", "desc", "entity", "ActorRecord"));
+        assertEquals(1L, meterRegistry.get("test.timer").tag("entity", "ActorRecord").timer().count());
+    }
+
+    @Test
+    @DisplayName("summary returns cached handle, applies the configurer once and can expire when idle")
+    void summary_ReturnsCachedHandle_AndExpiresWhenIdle()
+    {
+        final Duration ttl = Duration.ofMinutes(1L);
+        final DistributionSummary first = cache.summary("test.summary", "desc",
+            builder -> builder.serviceLevelObjectives(1.0d, 10.0d), "endpoint", "ActorResource.get");
+        first.record(5.0d);
+
+        assertSame(first, cache.summary("test.summary", "desc", builder ->
+        {
+            throw new AssertionError("configurer must only run on registration");
+        }, "endpoint", "ActorResource.get"));
+        assertEquals(2, first.takeSnapshot().histogramCounts().length);
+
+        cache.expireIdle(ttl, 0L);
+        assertEquals(1, cache.expireIdle(ttl, ttl.toNanos()).size());
+        assertNull(meterRegistry.find("test.summary").summary());
+    }
+
+    @Test
+    @DisplayName("counter rejects odd number of tag arguments")
+    void counter_RejectsOddTagArguments()
+    {
+        assertThrows(IllegalArgumentException.class, () -> cache.counter("test.counter", "desc", "dangling"));
+    }
+
+    @Test
+    @DisplayName("expireIdle removes meters whose count did not change for the TTL")
+    void expireIdle_RemovesIdleMeters()
+    {
+        final Duration ttl = Duration.ofMinutes(1L);
+        final Counter idle = cache.counter("test.counter", "desc", "tenant", "idle");
+        final Counter busy = cache.counter("test.counter", "desc", "tenant", "busy");
+
+        assertEquals(0, cache.expireIdle(ttl, 0L).size());
+        busy.increment();
+        final var removed = cache.expireIdle(ttl, ttl.toNanos());
+
+        assertEquals(1, removed.size());
+        assertSame(idle, removed.get(0));
+        assertNull(meterRegistry.find("test.counter").tag("tenant", "idle").counter());
+        assertSame(busy, cache.counter("test.counter", "desc", "tenant", "busy"));
+    }
+
+    @Test
+    @DisplayName("expireIdle keeps pinned meters however long they are idle")
+    void expireIdle_KeepsPinnedMeters()
+    {
+        final Duration ttl = Duration.ofMinutes(1L);
+        final Counter pinned = cache.pin(cache.counter("test.counter", "desc", "tenant", "pinned"));
+
+        cache.expireIdle(ttl, 0L);
+
+        assertEquals(0, cache.expireIdle(ttl, ttl.toNanos()).size());
+        assertSame(pinned, meterRegistry.get("test.counter").tag("tenant", "pinned").counter());
+    }
+
+    @Test
+    @DisplayName("expireIdle keeps an idle meter whose count changes when its pending values are flushed")
+    void expireIdle_KeepsMeter_WhenFlushBeforeRemovalChangesCount()
+    {
+        final Duration ttl = Duration.ofMinutes(1L);
+        final Counter buffered = cache.counter("test.counter", "desc", "tenant", "buffered");
+        cache.expireIdle(ttl, 0L);
+
+        assertEquals(0, cache.expireIdle(ttl, ttl.toNanos(), meter -> ((Counter) meter).increment()).size());
+        assertEquals(1.0, meterRegistry.get("test.counter").tag("tenant", "buffered").counter().count());
+        assertEquals(0, cache.expireIdle(ttl, 2 * ttl.toNanos() - 1L).size());
+    }
+
+    @Test
+    @DisplayName("expireIdle lets the cache re-register an expired meter on its next event")
+    void expireIdle_ReRegistersExpiredMeter_OnNextEvent()
+    {
+        final Duration ttl = Duration.ofMinutes(1L);
+        final Timer expired = cache.timer("test.timer", "desc", "tenant", "a");
+        cache.expireIdle(ttl, 0L);
+        cache.expireIdle(ttl, ttl.toNanos());
+
+        final Timer recreated = cache.timer("test.timer", "desc", "tenant", "a");
+        recreated.record(5L, TimeUnit.MILLISECONDS);
+
+        assertNotSame(expired, recreated);
+        assertEquals(1L, meterRegistry.get("test.timer").tag("tenant", "a").timer().count());
+    }
+}
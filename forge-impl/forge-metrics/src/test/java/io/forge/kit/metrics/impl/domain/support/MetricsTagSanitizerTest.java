@@ -1,6 +1,7 @@
 package io.forge.kit.metrics.impl.domain.support;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -165,4 +166,33 @@ class MetricsTagSanitizerTest
         assertEquals("value.with.dots", MetricsTagSanitizer.sanitize("value.with.dots"));
         assertEquals("test_underscore", MetricsTagSanitizer.sanitize("test_underscore"));
     }
+
+    @Test
+    @DisplayName("sanitize returns the same instance when nothing needs replacing")
+    void sanitize_ReturnsSameInstance_WhenAlreadySafe()
+    {
+        final String value = "tenant-42.eu_west";
+
+        assertSame(value, MetricsTagSanitizer.sanitize(value));
+    }
+
+    @Test
+    @DisplayName("sanitize returns the cached result for a repeated value")
+    void sanitize_ReturnsCachedResult_ForRepeatedValue()
+    {
+        final String first = MetricsTagSanitizer.sanitize(new String("exception: TimeoutException"));
+        final String second = MetricsTagSanitizer.sanitize(new String("exception: TimeoutException"));
+
+        assertEquals("exception__TimeoutException", first);
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("sanitize replaces characters only within the kept prefix of truncated values")
+    void sanitize_ReplacesWithinKeptPrefix_OfTruncatedValues()
+    {
+        final String value = "a".repeat(96) + " " + ":".repeat(10);
+
+        assertEquals("a".repeat(96) + "_...", MetricsTagSanitizer.sanitize(value));
+    }
 }
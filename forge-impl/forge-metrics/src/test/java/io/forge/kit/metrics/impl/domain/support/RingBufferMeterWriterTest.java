@@ -0,0 +1,121 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RingBufferMeterWriterTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Counter counter = meterRegistry.counter("test.counter");
+    private final Timer timer = meterRegistry.timer("test.timer");
+
+    @Test
+    @DisplayName("drain applies published counter increments and timer records")
+    void drain_AppliesPublishedUpdates()
+    {
+        final RingBufferMeterWriter writer = new RingBufferMeterWriter(8, false);
+
+        writer.increment(counter);
+        writer.increment(counter);
+        writer.record(timer, TimeUnit.MILLISECONDS.toNanos(5L));
+
+        assertEquals(0.0, counter.count());
+        assertEquals(3, writer.drain());
+        assertEquals(2.0, counter.count());
+        assertEquals(1L, timer.count());
+        assertEquals(5.0, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(0L, writer.backlog());
+    }
+
+    @Test
+    @DisplayName("drain sums weighted counter increments")
+    void drain_SumsWeightedCounterIncrements()
+    {
+        final RingBufferMeterWriter writer = new RingBufferMeterWriter(8, false);
+
+        writer.increment(counter, 100L);
+        writer.increment(counter, 50L);
+
+        assertEquals(2, writer.drain());
+        assertEquals(150.0, counter.count());
+    }
+
+    @Test
+    @DisplayName("publish drops and counts updates when the ring is full")
+    void publish_DropsAndCounts_WhenRingIsFull()
+    {
+        final RingBufferMeterWriter writer = new RingBufferMeterWriter(4, false);
+
+        for (int i = 0; i < 6; i++)
+        {
+            writer.increment(counter);
+        }
+
+        assertEquals(4L, writer.backlog());
+        assertEquals(2L, writer.droppedCount());
+
+        writer.drain();
+        writer.increment(counter);
+        writer.drain();
+
+        assertEquals(5.0, counter.count());
+        assertEquals(2L, writer.droppedCount());
+    }
+
+    @Test
+    @DisplayName("capacity is rounded up to a power of two")
+    void capacity_IsRoundedUpToPowerOfTwo()
+    {
+        final RingBufferMeterWriter writer = new RingBufferMeterWriter(5, false);
+
+        for (int i = 0; i < 10; i++)
+        {
+            writer.increment(counter);
+        }
+
+        assertEquals(8L, writer.backlog());
+        assertEquals(2L, writer.droppedCount());
+    }
+
+    @Test
+    @DisplayName("close drains updates published by concurrent producers")
+    void close_DrainsConcurrentProducers() throws Exception
+    {
+        final int threads = 4;
+        final int perThread = 10_000;
+        final RingBufferMeterWriter writer = new RingBufferMeterWriter(1 << 16);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads))
+        {
+            for (int t = 0; t < threads; t++)
+            {
+                executor.submit(() ->
+                {
+                    start.await();
+                    for (int i = 0; i < perThread; i++)
+                    {
+                        writer.increment(counter);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+        writer.close();
+
+        assertEquals(threads * perThread, counter.count() + writer.droppedCount());
+        assertEquals(0L, writer.backlog());
+    }
+}
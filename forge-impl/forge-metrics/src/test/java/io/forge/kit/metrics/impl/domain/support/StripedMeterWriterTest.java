@@ -0,0 +1,93 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedMeterWriterTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Counter counter = meterRegistry.counter("test.counter");
+    private final Timer timer = meterRegistry.timer("test.timer");
+
+    @Test
+    @DisplayName("flush applies accumulated counter deltas")
+    void flush_AppliesCounterDeltas()
+    {
+        final StripedMeterWriter writer = new StripedMeterWriter();
+
+        writer.increment(counter);
+        writer.increment(counter);
+        assertEquals(0.0, counter.count());
+
+        writer.flush();
+        assertEquals(2.0, counter.count());
+
+        writer.flush();
+        assertEquals(2.0, counter.count());
+    }
+
+    @Test
+    @DisplayName("flush applies weighted counter increments")
+    void flush_AppliesWeightedCounterIncrements()
+    {
+        final StripedMeterWriter writer = new StripedMeterWriter();
+
+        writer.increment(counter, 100L);
+        writer.increment(counter);
+        writer.flush();
+
+        assertEquals(101.0, counter.count());
+    }
+
+    @Test
+    @DisplayName("flush replays timer samples within histogram precision")
+    void flush_ReplaysTimerSamples()
+    {
+        final StripedMeterWriter writer = new StripedMeterWriter();
+
+        writer.record(timer, TimeUnit.MILLISECONDS.toNanos(10L));
+        writer.record(timer, TimeUnit.MILLISECONDS.toNanos(10L));
+        writer.record(timer, TimeUnit.MILLISECONDS.toNanos(40L));
+        writer.flush();
+
+        assertEquals(3L, timer.count());
+        final double total = timer.totalTime(TimeUnit.MILLISECONDS);
+        assertTrue(Math.abs(total - 60.0) <= 60.0 / 16, "total " + total);
+    }
+
+    @Test
+    @DisplayName("close flushes pending values")
+    void close_FlushesPendingValues()
+    {
+        final StripedMeterWriter writer = new StripedMeterWriter(Duration.ofHours(1L));
+
+        writer.increment(counter);
+        writer.close();
+
+        assertEquals(1.0, counter.count());
+    }
+
+    @Test
+    @DisplayName("release flushes pending values into the meter before dropping its cell")
+    void release_FlushesPendingValues_BeforeDroppingCell()
+    {
+        final StripedMeterWriter writer = new StripedMeterWriter();
+
+        writer.increment(counter, 3L);
+        writer.release(counter);
+        assertEquals(3.0, counter.count());
+
+        writer.flush();
+        assertEquals(3.0, counter.count());
+    }
+}
@@ -0,0 +1,106 @@
+package io.forge.kit.metrics.impl.domain.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.domain.TailLatencyCapture;
+import io.forge.kit.metrics.impl.dto.SlowInvocation;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TailLatencyRegistryTest
+{
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final TailLatencyRegistry registry =
+        new TailLatencyRegistry(nanos::get, Clock.fixed(NOW, ZoneOffset.UTC), new AnnotationResolver());
+
+    private static InvocationContext contextFor(final String methodName, final Object... args) throws NoSuchMethodException
+    {
+        final Method method = Target.class.getDeclaredMethod(methodName, String.class);
+        final InvocationContext context = mock(InvocationContext.class);
+        when(context.getMethod()).thenReturn(method);
+        when(context.getParameters()).thenReturn(args);
+        return context;
+    }
+
+    @Test
+    @DisplayName("offer ignores methods without @TailLatencyCapture")
+    void offer_Ignores_WhenNotAnnotated() throws NoSuchMethodException
+    {
+        registry.offer(contextFor("plain", "a"), TimeUnit.SECONDS.toNanos(1L));
+
+        assertTrue(registry.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("offer keeps the slowest invocations with their argument snapshots")
+    void offer_KeepsSlowest_WithArguments() throws NoSuchMethodException
+    {
+        registry.offer(contextFor("captured", "fast"), 10L);
+        registry.offer(contextFor("captured", "slow"), 30L);
+        registry.offer(contextFor("captured", "medium"), 20L);
+
+        final Map<String, List<SlowInvocation>> snapshot = registry.snapshot();
+        final List<SlowInvocation> invocations = snapshot.get("Target#captured");
+
+        assertEquals(1, snapshot.size());
+        assertEquals(2, invocations.size());
+        assertEquals(List.of("slow"), invocations.get(0).arguments());
+        assertEquals(30L, invocations.get(0).durationNanos());
+        assertEquals(NOW, invocations.get(0).timestamp());
+        assertEquals(Thread.currentThread().getName(), invocations.get(0).thread());
+        assertEquals(List.of("medium"), invocations.get(1).arguments());
+    }
+
+    @Test
+    @DisplayName("offer truncates long arguments")
+    void offer_TruncatesLongArguments() throws NoSuchMethodException
+    {
+        registry.offer(contextFor("captured", "x".repeat(1_000)), 10L);
+
+        final String argument = registry.snapshot().get("Target#captured").get(0).arguments().get(0);
+        assertEquals(256 + "...".length(), argument.length());
+        assertTrue(argument.endsWith("..."));
+    }
+
+    @Test
+    @DisplayName("offer captures no arguments when argPaths is empty")
+    void offer_CapturesNoArguments_WhenArgPathsEmpty() throws NoSuchMethodException
+    {
+        registry.offer(contextFor("withoutArguments", "secret"), 10L);
+
+        assertEquals(List.of(), registry.snapshot().get("Target#withoutArguments").get(0).arguments());
+    }
+
+    static class Target
+    {
+        public void plain(final String value)
+        {
+        }
+
+        @TailLatencyCapture(size = 2, argPaths = "0")
+        public void captured(final String value)
+        {
+        }
+
+        @TailLatencyCapture
+        public void withoutArguments(final String value)
+        {
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package io.forge.kit.metrics.impl.faulttolerance;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import jakarta.interceptor.InvocationContext;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -26,103 +29,116 @@ class CircuitBreakerMetricsInterceptorTest
         lenient().when(context.getTarget()).thenReturn(target);
         when(context.proceed()).thenReturn("result");
 
-        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker);
+        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker, new AnnotationResolver(), new CircuitBreakerNameResolver());
         final Object result = interceptor.collectCircuitBreakerMetrics(context);
 
         assertEquals("result", result);
         verify(context).proceed();
-        verify(stateTracker, never()).recordStateTransition(any(), any());
+        verify(stateTracker, never()).track(any());
     }
 
     @Test
-    @DisplayName("collectCircuitBreakerMetrics records state transition when state changes")
-    void collectCircuitBreakerMetrics_RecordsStateTransition_WhenStateChanges() throws Exception
+    @DisplayName("collectCircuitBreakerMetrics tracks the resolved circuit and proceeds")
+    void collectCircuitBreakerMetrics_TracksCircuit_AndProceeds() throws Exception
     {
-        final TestTarget target = new TestTarget();
         final Method method = TestTarget.class.getMethod("methodWithCircuitBreaker");
         final String circuitName = TestTarget.class.getName() + "#methodWithCircuitBreaker";
 
         when(context.getMethod()).thenReturn(method);
-        lenient().when(context.getTarget()).thenReturn(target);
         when(context.proceed()).thenReturn("result");
-        when(stateTracker.getPreviousState(circuitName))
-            .thenReturn(CircuitBreakerState.CLOSED);
 
-        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker);
+        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker, new AnnotationResolver(), new CircuitBreakerNameResolver());
         final Object result = interceptor.collectCircuitBreakerMetrics(context);
 
         assertEquals("result", result);
-        verify(stateTracker).recordStateTransition(circuitName, CircuitBreakerState.CLOSED);
+        verify(stateTracker).track(circuitName);
+        verifyNoMoreInteractions(stateTracker);
     }
 
     @Test
-    @DisplayName("collectCircuitBreakerMetrics records state transition even when state unchanged")
-    void collectCircuitBreakerMetrics_RecordsStateTransition_EvenWhenStateUnchanged() throws Exception
+    @DisplayName("collectCircuitBreakerMetrics propagates exceptions without further state work")
+    void collectCircuitBreakerMetrics_PropagatesExceptions() throws Exception
     {
-        final TestTarget target = new TestTarget();
         final Method method = TestTarget.class.getMethod("methodWithCircuitBreaker");
         final String circuitName = TestTarget.class.getName() + "#methodWithCircuitBreaker";
+        final RuntimeException exception = new RuntimeException("Test exception");
 
         when(context.getMethod()).thenReturn(method);
-        lenient().when(context.getTarget()).thenReturn(target);
-        when(context.proceed()).thenReturn("result");
-        when(stateTracker.getPreviousState(circuitName))
-            .thenReturn(CircuitBreakerState.CLOSED);
+        when(context.proceed()).thenThrow(exception);
 
-        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker);
-        final Object result = interceptor.collectCircuitBreakerMetrics(context);
+        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker, new AnnotationResolver(), new CircuitBreakerNameResolver());
+        final RuntimeException thrown = assertThrows(RuntimeException.class,
+            () -> interceptor.collectCircuitBreakerMetrics(context));
 
-        assertEquals("result", result);
-        verify(stateTracker).recordStateTransition(circuitName, CircuitBreakerState.CLOSED);
+        assertEquals(exception, thrown);
+        verify(stateTracker).track(circuitName);
+        verifyNoMoreInteractions(stateTracker);
     }
 
     @Test
-    @DisplayName("collectCircuitBreakerMetrics handles exceptions and still records state")
-    void collectCircuitBreakerMetrics_HandlesExceptions_AndStillRecordsState() throws Exception
+    @DisplayName("collectCircuitBreakerMetrics fails fast when the circuit cannot be tracked")
+    void collectCircuitBreakerMetrics_FailsFast_WhenCircuitCannotBeTracked() throws Exception
     {
-        final TestTarget target = new TestTarget();
         final Method method = TestTarget.class.getMethod("methodWithCircuitBreaker");
         final String circuitName = TestTarget.class.getName() + "#methodWithCircuitBreaker";
-        final RuntimeException exception = new RuntimeException("Test exception");
 
         when(context.getMethod()).thenReturn(method);
-        lenient().when(context.getTarget()).thenReturn(target);
+        doThrow(new IllegalStateException("not accessible")).when(stateTracker).track(circuitName);
+
+        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker, new AnnotationResolver(), new CircuitBreakerNameResolver());
+
+        assertThrows(IllegalStateException.class, () -> interceptor.collectCircuitBreakerMetrics(context));
+        verify(context, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("collectCircuitBreakerMetrics records rejection when the circuit breaker is open")
+    void collectCircuitBreakerMetrics_RecordsRejection_WhenCircuitBreakerOpen() throws Exception
+    {
+        final Method method = TestTarget.class.getMethod("methodWithCircuitBreaker");
+        final String circuitName = TestTarget.class.getName() + "#methodWithCircuitBreaker";
+        final CircuitBreakerOpenException exception = new CircuitBreakerOpenException("open");
+
+        when(context.getMethod()).thenReturn(method);
         when(context.proceed()).thenThrow(exception);
-        when(stateTracker.getPreviousState(circuitName))
-            .thenReturn(CircuitBreakerState.CLOSED);
 
-        try
-        {
-            final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker);
-            interceptor.collectCircuitBreakerMetrics(context);
-        }
-        catch (final RuntimeException e)
-        {
-            assertEquals(exception, e);
-        }
+        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker, new AnnotationResolver(), new CircuitBreakerNameResolver());
+        final CircuitBreakerOpenException thrown = assertThrows(CircuitBreakerOpenException.class,
+            () -> interceptor.collectCircuitBreakerMetrics(context));
 
-        verify(stateTracker).recordStateTransition(circuitName, CircuitBreakerState.CLOSED);
+        assertEquals(exception, thrown);
+        verify(stateTracker).recordRejection(circuitName);
     }
 
     @Test
-    @DisplayName("collectCircuitBreakerMetrics handles null previous state")
-    void collectCircuitBreakerMetrics_HandlesNullPreviousState() throws Exception
+    @DisplayName("collectCircuitBreakerMetrics records rejection for an asynchronously failed result")
+    void collectCircuitBreakerMetrics_RecordsRejection_ForAsyncFailure() throws Exception
     {
-        final TestTarget target = new TestTarget();
         final Method method = TestTarget.class.getMethod("methodWithCircuitBreaker");
         final String circuitName = TestTarget.class.getName() + "#methodWithCircuitBreaker";
 
         when(context.getMethod()).thenReturn(method);
-        lenient().when(context.getTarget()).thenReturn(target);
-        when(context.proceed()).thenReturn("result");
-        when(stateTracker.getPreviousState(circuitName))
-            .thenReturn(null);
+        when(context.proceed()).thenReturn(CompletableFuture.failedFuture(new CircuitBreakerOpenException("open")));
 
-        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker);
-        final Object result = interceptor.collectCircuitBreakerMetrics(context);
+        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker, new AnnotationResolver(), new CircuitBreakerNameResolver());
+        interceptor.collectCircuitBreakerMetrics(context);
 
-        assertEquals("result", result);
-        verify(stateTracker).recordStateTransition(circuitName, null);
+        verify(stateTracker).recordRejection(circuitName);
+    }
+
+    @Test
+    @DisplayName("collectCircuitBreakerMetrics does not record rejection for other failures")
+    void collectCircuitBreakerMetrics_DoesNotRecordRejection_ForOtherFailures() throws Exception
+    {
+        final Method method = TestTarget.class.getMethod("methodWithCircuitBreaker");
+
+        when(context.getMethod()).thenReturn(method);
+        when(context.proceed()).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        final CircuitBreakerMetricsInterceptor interceptor = new CircuitBreakerMetricsInterceptor(stateTracker, new AnnotationResolver(), new CircuitBreakerNameResolver());
+        interceptor.collectCircuitBreakerMetrics(context);
+
+        verify(stateTracker, never()).recordRejection(any());
     }
 
     // Test helper class
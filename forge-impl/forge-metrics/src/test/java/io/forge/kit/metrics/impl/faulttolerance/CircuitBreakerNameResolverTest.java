@@ -14,6 +14,8 @@ class CircuitBreakerNameResolverTest
 {
     private final InvocationContext context = mock(InvocationContext.class);
 
+    private final CircuitBreakerNameResolver resolver = new CircuitBreakerNameResolver();
+
     @Test
     @DisplayName("resolve returns method annotation value when present")
     void resolve_ReturnsMethodAnnotationValue_WhenPresent() throws Exception
@@ -21,7 +23,7 @@ class CircuitBreakerNameResolverTest
         final Method method = TestTarget.class.getMethod("methodWithCircuitBreakerName");
         when(context.getMethod()).thenReturn(method);
 
-        final String result = CircuitBreakerNameResolver.resolve(context);
+        final String result = resolver.resolve(context.getMethod());
 
         assertEquals("method-level-name", result);
     }
@@ -33,7 +35,7 @@ class CircuitBreakerNameResolverTest
         final Method method = NoAnnotationTarget.class.getMethod("someMethod");
         when(context.getMethod()).thenReturn(method);
 
-        final String result = CircuitBreakerNameResolver.resolve(context);
+        final String result = resolver.resolve(context.getMethod());
 
         assertEquals(NoAnnotationTarget.class.getName() + "#someMethod", result);
     }
@@ -45,11 +47,21 @@ class CircuitBreakerNameResolverTest
         final Method method = TestTarget.class.getMethod("methodWithEmptyCircuitBreakerName");
         when(context.getMethod()).thenReturn(method);
 
-        final String result = CircuitBreakerNameResolver.resolve(context);
+        final String result = resolver.resolve(context.getMethod());
 
         assertEquals(TestTarget.class.getName() + "#methodWithEmptyCircuitBreakerName", result);
     }
 
+    @Test
+    @SuppressWarnings("removal")
+    @DisplayName("the deprecated static resolve still resolves for callers of the former utility")
+    void resolve_ResolvesStatically_ForCallersOfTheFormerUtility() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithCircuitBreakerName"));
+
+        assertEquals("method-level-name", CircuitBreakerNameResolver.resolve(context));
+    }
+
     // Test helper classes
     @SuppressWarnings("unused")
     static class TestTarget
@@ -0,0 +1,102 @@
+package io.forge.kit.metrics.impl.faulttolerance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerStateClockTest
+{
+    private final AtomicLong nanos = new AtomicLong(1_000L);
+
+    private void advanceSeconds(final long seconds)
+    {
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    @DisplayName("transitionTo returns the previous state")
+    void transitionTo_ReturnsPreviousState()
+    {
+        final CircuitBreakerStateClock clock = new CircuitBreakerStateClock(CircuitBreakerState.CLOSED, nanos::get);
+
+        assertEquals(CircuitBreakerState.CLOSED, clock.transitionTo(CircuitBreakerState.OPEN));
+        assertEquals(CircuitBreakerState.OPEN, clock.transitionTo(CircuitBreakerState.OPEN));
+        assertEquals(CircuitBreakerState.OPEN, clock.state());
+    }
+
+    @Test
+    @DisplayName("stateValue maps closed, open and half-open to 0, 1 and 2")
+    void stateValue_MapsStates()
+    {
+        final CircuitBreakerStateClock clock = new CircuitBreakerStateClock(CircuitBreakerState.CLOSED, nanos::get);
+        assertEquals(0.0, clock.stateValue());
+
+        clock.transitionTo(CircuitBreakerState.OPEN);
+        assertEquals(1.0, clock.stateValue());
+
+        clock.transitionTo(CircuitBreakerState.HALF_OPEN);
+        assertEquals(2.0, clock.stateValue());
+    }
+
+    @Test
+    @DisplayName("stateValue is NaN while the state is unknown")
+    void stateValue_IsNaN_WhenStateUnknown()
+    {
+        final CircuitBreakerStateClock clock = new CircuitBreakerStateClock(null, nanos::get);
+
+        assertNull(clock.state());
+        assertTrue(Double.isNaN(clock.stateValue()));
+    }
+
+    @Test
+    @DisplayName("seedIfUnknown fills in an unknown state and keeps a known one")
+    void seedIfUnknown_FillsUnknownState_AndKeepsKnownState()
+    {
+        final CircuitBreakerStateClock unknown = new CircuitBreakerStateClock(null, nanos::get);
+        unknown.seedIfUnknown(CircuitBreakerState.CLOSED);
+        assertEquals(0.0, unknown.stateValue());
+
+        final CircuitBreakerStateClock known = new CircuitBreakerStateClock(CircuitBreakerState.OPEN, nanos::get);
+        known.seedIfUnknown(CircuitBreakerState.CLOSED);
+        assertEquals(CircuitBreakerState.OPEN, known.state());
+    }
+
+    @Test
+    @DisplayName("secondsIn accumulates closed slices and includes the ongoing slice")
+    void secondsIn_AccumulatesSlices_AndIncludesOngoingSlice()
+    {
+        final CircuitBreakerStateClock clock = new CircuitBreakerStateClock(CircuitBreakerState.CLOSED, nanos::get);
+
+        advanceSeconds(10L);
+        clock.transitionTo(CircuitBreakerState.OPEN);
+        advanceSeconds(5L);
+        clock.transitionTo(CircuitBreakerState.HALF_OPEN);
+        advanceSeconds(1L);
+        clock.transitionTo(CircuitBreakerState.CLOSED);
+        advanceSeconds(4L);
+
+        assertEquals(14.0, clock.secondsIn(CircuitBreakerState.CLOSED), 1e-9);
+        assertEquals(5.0, clock.secondsIn(CircuitBreakerState.OPEN), 1e-9);
+        assertEquals(1.0, clock.secondsIn(CircuitBreakerState.HALF_OPEN), 1e-9);
+    }
+
+    @Test
+    @DisplayName("time before the first known state is not attributed to any state")
+    void secondsIn_IgnoresTimeBeforeFirstKnownState()
+    {
+        final CircuitBreakerStateClock clock = new CircuitBreakerStateClock(null, nanos::get);
+
+        advanceSeconds(7L);
+        clock.transitionTo(CircuitBreakerState.OPEN);
+        advanceSeconds(2L);
+
+        assertEquals(2.0, clock.secondsIn(CircuitBreakerState.OPEN), 1e-9);
+        assertEquals(0.0, clock.secondsIn(CircuitBreakerState.CLOSED), 1e-9);
+    }
+}
@@ -1,11 +1,16 @@
 package io.forge.kit.metrics.impl.faulttolerance;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -114,4 +119,32 @@ class CircuitBreakerStateFetcherTest
 
         assertEquals(originalException, exception.getCause());
     }
+
+    @Test
+    @DisplayName("subscribe registers the callback with CircuitBreakerMaintenance")
+    void subscribe_RegistersCallback()
+    {
+        final String circuitName = "test-circuit";
+        final Consumer<CircuitBreakerState> callback = state -> { };
+
+        final CircuitBreakerStateFetcher stateFetcher = new CircuitBreakerStateFetcher(circuitBreakerMaintenance);
+        stateFetcher.subscribe(circuitName, callback);
+
+        verify(circuitBreakerMaintenance).onStateChange(circuitName, callback);
+    }
+
+    @Test
+    @DisplayName("subscribe throws IllegalStateException when circuit breaker doesn't exist")
+    void subscribe_ThrowsIllegalStateException_WhenCircuitBreakerDoesNotExist()
+    {
+        final String circuitName = "test-circuit";
+        doThrow(new IllegalArgumentException("Circuit breaker test-circuit doesn't exist"))
+            .when(circuitBreakerMaintenance).onStateChange(eq(circuitName), any());
+
+        final CircuitBreakerStateFetcher stateFetcher = new CircuitBreakerStateFetcher(circuitBreakerMaintenance);
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> stateFetcher.subscribe(circuitName, state -> { }));
+
+        assertTrue(exception.getMessage().contains("@CircuitBreakerName"));
+    }
 }
@@ -2,14 +2,17 @@ package io.forge.kit.metrics.impl.faulttolerance;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class CircuitBreakerStateTrackerTest
 {
@@ -17,132 +20,159 @@ class CircuitBreakerStateTrackerTest
 
     private final CircuitBreakerStateFetcher stateFetcher = mock(CircuitBreakerStateFetcher.class);
 
+    @SuppressWarnings("unchecked")
+    private Consumer<CircuitBreakerState> trackAndCaptureListener(final CircuitBreakerStateTracker stateTracker, final String circuitName)
+    {
+        stateTracker.track(circuitName);
+        final ArgumentCaptor<Consumer<CircuitBreakerState>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(stateFetcher).subscribe(eq(circuitName), listener.capture());
+        return listener.getValue();
+    }
+
     @Test
-    @DisplayName("recordStateTransition does nothing when state is null")
-    void recordStateTransition_DoesNothing_WhenStateIsNull()
+    @DisplayName("track subscribes once per circuit and seeds the current state")
+    void track_SubscribesOncePerCircuit_AndSeedsCurrentState()
     {
         final String circuitName = "test-circuit";
-        when(stateFetcher.getCurrentState(circuitName)).thenReturn(null);
+        when(stateFetcher.getCurrentState(circuitName)).thenReturn(CircuitBreakerState.CLOSED);
 
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        stateTracker.recordStateTransition(circuitName, CircuitBreakerState.CLOSED);
-
+        stateTracker.track(circuitName);
+        stateTracker.track(circuitName);
+        stateTracker.track(circuitName);
+
+        verify(stateFetcher, times(1)).subscribe(eq(circuitName), any());
+        verify(stateFetcher, times(1)).getCurrentState(circuitName);
+        verify(recorder, times(1)).registerStateMeters(eq(circuitName), any(CircuitBreakerStateClock.class));
+        assertEquals(CircuitBreakerState.CLOSED, stateTracker.getLastKnownState(circuitName));
         verify(recorder, never()).recordCircuitBreakerStateChange(any(), any());
     }
 
     @Test
-    @DisplayName("recordStateTransition does not record when state unchanged")
-    void recordStateTransition_DoesNotRecord_WhenStateUnchanged()
+    @DisplayName("track rethrows and retries later when subscription fails")
+    void track_RethrowsAndRetriesLater_WhenSubscriptionFails()
     {
         final String circuitName = "test-circuit";
-        final CircuitBreakerState state = CircuitBreakerState.CLOSED;
-        when(stateFetcher.getCurrentState(circuitName)).thenReturn(state);
+        doThrow(new IllegalStateException("not accessible")).doNothing()
+            .when(stateFetcher).subscribe(eq(circuitName), any());
 
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        stateTracker.recordStateTransition(circuitName, state);
+        assertThrows(IllegalStateException.class, () -> stateTracker.track(circuitName));
+        stateTracker.track(circuitName);
 
-        verify(recorder, never()).recordCircuitBreakerStateChange(any(), any());
+        verify(stateFetcher, times(2)).subscribe(eq(circuitName), any());
     }
 
     @Test
-    @DisplayName("recordStateTransition records when state changes from CLOSED to OPEN")
-    void recordStateTransition_Records_WhenStateChangesFromClosedToOpen()
+    @DisplayName("state change event records transition from CLOSED to OPEN")
+    void stateChange_RecordsTransition_FromClosedToOpen()
     {
         final String circuitName = "test-circuit";
-        when(stateFetcher.getCurrentState(circuitName))
-            .thenReturn(CircuitBreakerState.OPEN);
+        when(stateFetcher.getCurrentState(circuitName)).thenReturn(CircuitBreakerState.CLOSED);
 
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        stateTracker.recordStateTransition(circuitName, CircuitBreakerState.CLOSED);
+        trackAndCaptureListener(stateTracker, circuitName).accept(CircuitBreakerState.OPEN);
 
         verify(recorder).recordCircuitBreakerStateChange(circuitName, "open");
+        assertEquals(CircuitBreakerState.OPEN, stateTracker.getLastKnownState(circuitName));
     }
 
     @Test
-    @DisplayName("recordStateTransition records when state changes from OPEN to HALF_OPEN")
-    void recordStateTransition_Records_WhenStateChangesFromOpenToHalfOpen()
+    @DisplayName("state change events record a full open, half_open, closed cycle without any calls")
+    void stateChange_RecordsFullCycle_WithoutCalls()
     {
         final String circuitName = "test-circuit";
-        when(stateFetcher.getCurrentState(circuitName))
-            .thenReturn(CircuitBreakerState.HALF_OPEN);
+        when(stateFetcher.getCurrentState(circuitName)).thenReturn(CircuitBreakerState.CLOSED);
 
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        stateTracker.recordStateTransition(circuitName, CircuitBreakerState.OPEN);
+        final Consumer<CircuitBreakerState> listener = trackAndCaptureListener(stateTracker, circuitName);
+        listener.accept(CircuitBreakerState.OPEN);
+        listener.accept(CircuitBreakerState.HALF_OPEN);
+        listener.accept(CircuitBreakerState.CLOSED);
 
+        verify(recorder).recordCircuitBreakerStateChange(circuitName, "open");
         verify(recorder).recordCircuitBreakerStateChange(circuitName, "half_open");
+        verify(recorder).recordCircuitBreakerStateChange(circuitName, "closed");
     }
 
     @Test
-    @DisplayName("recordStateTransition records when state changes from HALF_OPEN to CLOSED")
-    void recordStateTransition_Records_WhenStateChangesFromHalfOpenToClosed()
+    @DisplayName("state change event does not record when state unchanged")
+    void stateChange_DoesNotRecord_WhenStateUnchanged()
     {
         final String circuitName = "test-circuit";
-        when(stateFetcher.getCurrentState(circuitName))
-            .thenReturn(CircuitBreakerState.CLOSED);
+        when(stateFetcher.getCurrentState(circuitName)).thenReturn(CircuitBreakerState.CLOSED);
 
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        stateTracker.recordStateTransition(circuitName, CircuitBreakerState.HALF_OPEN);
+        trackAndCaptureListener(stateTracker, circuitName).accept(CircuitBreakerState.CLOSED);
 
-        verify(recorder).recordCircuitBreakerStateChange(circuitName, "closed");
+        verify(recorder, never()).recordCircuitBreakerStateChange(any(), any());
     }
 
     @Test
-    @DisplayName("recordStateTransition handles first invocation with null previous state")
-    void recordStateTransition_HandlesFirstInvocation_WithNullPreviousState()
+    @DisplayName("state change event does nothing when state is null")
+    void stateChange_DoesNothing_WhenStateIsNull()
     {
         final String circuitName = "test-circuit";
-        when(stateFetcher.getCurrentState(circuitName))
-            .thenReturn(CircuitBreakerState.CLOSED);
 
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        stateTracker.recordStateTransition(circuitName, null);
+        trackAndCaptureListener(stateTracker, circuitName).accept(null);
 
         verify(recorder, never()).recordCircuitBreakerStateChange(any(), any());
+        assertNull(stateTracker.getLastKnownState(circuitName));
     }
 
     @Test
-    @DisplayName("getPreviousState returns null for first invocation")
-    void getPreviousState_ReturnsNull_ForFirstInvocation()
+    @DisplayName("seeding does not overwrite a transition received during subscription")
+    void track_DoesNotOverwriteTransition_ReceivedDuringSubscription()
     {
         final String circuitName = "test-circuit";
-
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        final CircuitBreakerState result = stateTracker.getPreviousState(circuitName);
+        doAnswer(invocation ->
+        {
+            final Consumer<CircuitBreakerState> listener = invocation.getArgument(1);
+            listener.accept(CircuitBreakerState.OPEN);
+            return null;
+        }).when(stateFetcher).subscribe(eq(circuitName), any());
+        when(stateFetcher.getCurrentState(circuitName)).thenReturn(CircuitBreakerState.CLOSED);
 
-        assertNull(result);
+        stateTracker.track(circuitName);
+
+        assertEquals(CircuitBreakerState.OPEN, stateTracker.getLastKnownState(circuitName));
+        verify(recorder).recordCircuitBreakerStateChange(circuitName, "open");
     }
 
     @Test
-    @DisplayName("getPreviousState returns previous state after recording")
-    void getPreviousState_ReturnsPreviousState_AfterRecording()
+    @DisplayName("getLastKnownState returns null for untracked circuit")
+    void getLastKnownState_ReturnsNull_ForUntrackedCircuit()
     {
-        final String circuitName = "test-circuit";
-        when(stateFetcher.getCurrentState(circuitName))
-            .thenReturn(CircuitBreakerState.OPEN);
-
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        stateTracker.recordStateTransition(circuitName, CircuitBreakerState.CLOSED);
-        final CircuitBreakerState result = stateTracker.getPreviousState(circuitName);
 
-        assertEquals(CircuitBreakerState.OPEN, result);
+        assertNull(stateTracker.getLastKnownState("test-circuit"));
     }
 
     @Test
-    @DisplayName("recordStateTransition handles multiple circuit breakers independently")
-    void recordStateTransition_HandlesMultipleCircuitBreakers_Independently()
+    @DisplayName("state change events are tracked independently per circuit")
+    void stateChange_IsTrackedIndependently_PerCircuit()
     {
         final String circuit1 = "circuit-1";
         final String circuit2 = "circuit-2";
-        when(stateFetcher.getCurrentState(circuit1))
-            .thenReturn(CircuitBreakerState.OPEN);
-        when(stateFetcher.getCurrentState(circuit2))
-            .thenReturn(CircuitBreakerState.CLOSED);
+        when(stateFetcher.getCurrentState(any())).thenReturn(CircuitBreakerState.CLOSED);
 
         final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
-        stateTracker.recordStateTransition(circuit1, CircuitBreakerState.CLOSED);
-        stateTracker.recordStateTransition(circuit2, CircuitBreakerState.CLOSED);
+        trackAndCaptureListener(stateTracker, circuit1).accept(CircuitBreakerState.OPEN);
+        trackAndCaptureListener(stateTracker, circuit2).accept(CircuitBreakerState.CLOSED);
 
         verify(recorder).recordCircuitBreakerStateChange(eq(circuit1), eq("open"));
         verify(recorder, never()).recordCircuitBreakerStateChange(eq(circuit2), any());
     }
+
+    @Test
+    @DisplayName("recordRejection delegates to the recorder")
+    void recordRejection_DelegatesToRecorder()
+    {
+        final CircuitBreakerStateTracker stateTracker = new CircuitBreakerStateTracker(recorder, stateFetcher);
+        stateTracker.recordRejection("test-circuit");
+
+        verify(recorder).recordCircuitBreakerRejection("test-circuit");
+    }
 }
@@ -0,0 +1,190 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.faulttolerance.AdaptiveTimeout;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerNameResolver;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import jakarta.interceptor.InvocationContext;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveTimeoutInterceptorTest
+{
+    private final CircuitBreakerMetricsRecorder recorder = mock(CircuitBreakerMetricsRecorder.class);
+
+    private final AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(0.999, 2.0, 100, Duration.ofMillis(10L),
+        Duration.ofMillis(50L), Duration.ofSeconds(60L), System::nanoTime);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private final AdaptiveTimeoutRegistry registry = new AdaptiveTimeoutRegistry(recorder, config -> policy, scheduler);
+
+    private final InvocationContext context = mock(InvocationContext.class);
+
+    private final AdaptiveTimeoutInterceptor interceptor = new AdaptiveTimeoutInterceptor(registry, recorder, new AnnotationResolver(), new CircuitBreakerNameResolver());
+
+    @AfterEach
+    void tearDown()
+    {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("enforce proceeds without a timeout when the annotation is absent")
+    void enforce_Proceeds_WhenAnnotationAbsent() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("unbounded"));
+        when(context.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.enforce(context));
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    @DisplayName("enforce creates the policy once and registers its gauge")
+    void enforce_CreatesPolicyOnce_AndRegistersGauge() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("bounded"));
+        when(context.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.enforce(context));
+        assertEquals("result", interceptor.enforce(context));
+
+        verify(recorder, times(1)).registerAdaptiveTimeoutMeters(eq("inventory-api"), any(AdaptiveTimeoutPolicy.class));
+        verify(recorder, never()).recordTimeout(any());
+    }
+
+    @Test
+    @DisplayName("enforce interrupts a blocked call and throws AdaptiveTimeoutException")
+    void enforce_InterruptsBlockedCall_WhenTimeoutElapses() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("bounded"));
+        when(context.proceed()).thenAnswer(invocation ->
+        {
+            Thread.sleep(10_000L);
+            return "late";
+        });
+
+        final AdaptiveTimeoutException exception = assertThrows(AdaptiveTimeoutException.class,
+            () -> interceptor.enforce(context));
+
+        assertEquals("inventory-api", exception.getCircuitName());
+        assertInstanceOf(TimeoutException.class, exception);
+        assertInstanceOf(InterruptedException.class, exception.getCause());
+        assertFalse(Thread.currentThread().isInterrupted());
+        verify(recorder).recordTimeout("inventory-api");
+    }
+
+    @Test
+    @DisplayName("enforce propagates exceptions thrown within the timeout")
+    void enforce_PropagatesExceptions() throws Exception
+    {
+        final IllegalStateException failure = new IllegalStateException("boom");
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("bounded"));
+        when(context.proceed()).thenThrow(failure);
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> interceptor.enforce(context)));
+        verify(recorder, never()).recordTimeout(any());
+    }
+
+    @Test
+    @DisplayName("enforce fails a CompletionStage that does not complete within the timeout")
+    void enforce_FailsCompletionStage_WhenTimeoutElapses() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("bounded"));
+        when(context.proceed()).thenReturn(new CompletableFuture<String>());
+
+        final CompletionStage<?> stage = (CompletionStage<?>) interceptor.enforce(context);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class,
+            () -> stage.toCompletableFuture().get(5L, TimeUnit.SECONDS));
+        assertInstanceOf(AdaptiveTimeoutException.class, exception.getCause());
+        verify(recorder, timeout(1000L)).recordTimeout("inventory-api");
+    }
+
+    @Test
+    @DisplayName("enforce passes through a CompletionStage completing within the timeout")
+    void enforce_CompletesCompletionStage_WithinTimeout() throws Exception
+    {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("bounded"));
+        when(context.proceed()).thenReturn(future);
+
+        final CompletionStage<?> stage = (CompletionStage<?>) interceptor.enforce(context);
+        future.complete("done");
+
+        assertEquals("done", stage.toCompletableFuture().get(1L, TimeUnit.SECONDS));
+        verify(recorder, never()).recordTimeout(any());
+    }
+
+    @Test
+    @DisplayName("enforce does not interrupt methods declared to return an async type")
+    void enforce_DoesNotInterrupt_AsyncMethods() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("boundedAsync"));
+        when(context.proceed()).thenAnswer(invocation ->
+        {
+            Thread.sleep(100L);
+            return CompletableFuture.completedFuture("done");
+        });
+
+        assertInstanceOf(CompletionStage.class, interceptor.enforce(context));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    @DisplayName("a watchdog that fired cannot be disarmed and its interrupt is cleared")
+    void clearInterrupt_ClearsInterrupt_OfFiredWatchdog()
+    {
+        final TimeoutWatchdog watchdog = TimeoutWatchdog.arm(scheduler, TimeUnit.HOURS.toNanos(1L));
+        // Fired on the armed thread itself: joining another thread would be cut short by the interrupt it delivers
+        watchdog.run();
+
+        assertFalse(watchdog.disarm());
+        watchdog.clearInterrupt();
+
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @SuppressWarnings("unused")
+    static class TestTarget
+    {
+        public String unbounded()
+        {
+            return "result";
+        }
+
+        @CircuitBreakerName("inventory-api")
+        @AdaptiveTimeout(minMillis = 10L, maxMillis = 50L)
+        public String bounded()
+        {
+            return "result";
+        }
+
+        @CircuitBreakerName("inventory-api")
+        @AdaptiveTimeout(minMillis = 10L, maxMillis = 50L)
+        public CompletionStage<String> boundedAsync()
+        {
+            return CompletableFuture.completedFuture("result");
+        }
+    }
+}
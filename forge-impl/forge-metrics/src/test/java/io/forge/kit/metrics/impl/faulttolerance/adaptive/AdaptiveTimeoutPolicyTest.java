@@ -0,0 +1,110 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveTimeoutPolicyTest
+{
+    private static final long MIN = TimeUnit.MILLISECONDS.toNanos(50L);
+    private static final long MAX = TimeUnit.SECONDS.toNanos(2L);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(0.99, 2.0, 10, Duration.ofNanos(MIN),
+        Duration.ofNanos(MAX), Duration.ofSeconds(60L), nanos::get);
+
+    /**
+     * Records {@code calls} calls of the given latency, then one more after the recompute interval.
+     */
+    private void recordCalls(final int calls, final long durationNanos)
+    {
+        for (int i = 0; i < calls; i++)
+        {
+            policy.record(durationNanos);
+        }
+        nanos.addAndGet(AdaptiveTimeoutPolicy.RECOMPUTE_INTERVAL.toNanos());
+        policy.record(durationNanos);
+    }
+
+    @Test
+    @DisplayName("timeout starts at the maximum")
+    void timeout_StartsAtMaximum()
+    {
+        assertEquals(MAX, policy.timeoutNanos());
+    }
+
+    @Test
+    @DisplayName("timeout stays at the maximum until enough samples were seen")
+    void timeout_StaysAtMaximum_BelowMinimumSamples()
+    {
+        recordCalls(5, TimeUnit.MILLISECONDS.toNanos(100L));
+
+        assertEquals(MAX, policy.timeoutNanos());
+    }
+
+    @Test
+    @DisplayName("timeout is the quantile multiplied by the factor")
+    void timeout_IsQuantileTimesFactor()
+    {
+        final long latency = TimeUnit.MILLISECONDS.toNanos(100L);
+
+        recordCalls(50, latency);
+
+        assertEquals(2.0 * latency, policy.timeoutNanos(), 2.0 * latency / 16);
+    }
+
+    @Test
+    @DisplayName("timeout is clamped to the minimum")
+    void timeout_IsClampedToMinimum()
+    {
+        recordCalls(50, TimeUnit.MILLISECONDS.toNanos(1L));
+
+        assertEquals(MIN, policy.timeoutNanos());
+    }
+
+    @Test
+    @DisplayName("timeout is clamped to the maximum")
+    void timeout_IsClampedToMaximum()
+    {
+        recordCalls(50, TimeUnit.SECONDS.toNanos(5L));
+
+        assertEquals(MAX, policy.timeoutNanos());
+    }
+
+    @Test
+    @DisplayName("timeout is recomputed at most once per interval")
+    void timeout_IsRecomputedAtMostOncePerInterval()
+    {
+        recordCalls(50, TimeUnit.MILLISECONDS.toNanos(100L));
+        final long adapted = policy.timeoutNanos();
+
+        for (int i = 0; i < 1000; i++)
+        {
+            policy.record(TimeUnit.MILLISECONDS.toNanos(500L));
+        }
+
+        assertEquals(adapted, policy.timeoutNanos());
+    }
+
+    @Test
+    @DisplayName("constructor rejects a quantile outside (0, 1]")
+    void constructor_RejectsInvalidQuantile()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveTimeoutPolicy(1.5, 2.0, 10,
+            Duration.ofNanos(MIN), Duration.ofNanos(MAX), Duration.ofSeconds(60L), nanos::get));
+    }
+
+    @Test
+    @DisplayName("constructor rejects a factor that is not positive")
+    void constructor_RejectsNonPositiveFactor()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveTimeoutPolicy(0.99, 0.0, 10,
+            Duration.ofNanos(MIN), Duration.ofNanos(MAX), Duration.ofSeconds(60L), nanos::get));
+    }
+}
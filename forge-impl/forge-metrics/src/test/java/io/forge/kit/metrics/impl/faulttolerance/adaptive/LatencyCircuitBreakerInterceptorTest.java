@@ -0,0 +1,172 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.faulttolerance.LatencyCircuitBreaker;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerNameResolver;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import io.smallrye.mutiny.Uni;
+import jakarta.interceptor.InvocationContext;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyCircuitBreakerInterceptorTest
+{
+    private final CircuitBreakerMetricsRecorder recorder = mock(CircuitBreakerMetricsRecorder.class);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final LatencyCircuit circuit = new LatencyCircuit(3.0, 1, Duration.ofSeconds(6L), Duration.ofSeconds(60L),
+        Duration.ofSeconds(60L), nanos::get);
+
+    private final LatencyCircuitRegistry registry = new LatencyCircuitRegistry(recorder, config -> circuit);
+
+    private final InvocationContext context = mock(InvocationContext.class);
+
+    private final LatencyCircuitBreakerInterceptor interceptor = new LatencyCircuitBreakerInterceptor(registry, recorder, new AnnotationResolver(), new CircuitBreakerNameResolver());
+
+    @Test
+    @DisplayName("guard proceeds without a circuit when the annotation is absent")
+    void guard_Proceeds_WhenAnnotationAbsent() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("unguarded"));
+        when(context.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.guard(context));
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    @DisplayName("guard creates the circuit once and registers its meters")
+    void guard_CreatesCircuitOnce_AndRegistersMeters() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("guarded"));
+        when(context.proceed()).thenReturn("result");
+
+        interceptor.guard(context);
+        interceptor.guard(context);
+
+        verify(recorder, times(1)).registerLatencyCircuitMeters(eq("pricing-api"), any(LatencyCircuit.class));
+    }
+
+    @Test
+    @DisplayName("guard rejects calls with LatencyCircuitBreakerOpenException while the circuit is open")
+    void guard_RejectsCalls_WhileOpen() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("guarded"));
+        when(context.proceed()).thenReturn("result");
+        openCircuit();
+
+        final LatencyCircuitBreakerOpenException exception = assertThrows(LatencyCircuitBreakerOpenException.class,
+            () -> interceptor.guard(context));
+
+        assertEquals("pricing-api", exception.getCircuitName());
+        assertEquals(CircuitBreakerOpenException.class, exception.getClass().getSuperclass());
+        verify(recorder).recordCircuitBreakerRejection("pricing-api");
+        verify(context, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("guard propagates exceptions from the guarded method")
+    void guard_PropagatesExceptions() throws Exception
+    {
+        final IllegalStateException failure = new IllegalStateException("boom");
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("guarded"));
+        when(context.proceed()).thenThrow(failure);
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> interceptor.guard(context)));
+    }
+
+    @Test
+    @DisplayName("guard returns the asynchronous result unchanged")
+    void guard_ReturnsAsyncResult() throws Exception
+    {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("guarded"));
+        when(context.proceed()).thenReturn(future);
+
+        assertSame(future, interceptor.guard(context));
+        future.complete("done");
+    }
+
+    @Test
+    @DisplayName("guard takes no probe for a Uni that is never subscribed")
+    void guard_TakesNoProbe_ForUnsubscribedUni() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("guardedUni"));
+        when(context.proceed()).thenReturn(Uni.createFrom().item("result"));
+        openCircuit();
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(60L));
+
+        interceptor.guard(context);
+        assertEquals(LatencyCircuit.State.OPEN, circuit.state());
+
+        final Uni<?> probe = (Uni<?>) interceptor.guard(context);
+        assertEquals("result", probe.await().atMost(Duration.ofSeconds(5L)));
+        assertEquals(LatencyCircuit.State.CLOSED, circuit.state());
+    }
+
+    @Test
+    @DisplayName("guard rejects a Uni on subscription while the circuit is open")
+    void guard_RejectsUniOnSubscription_WhileOpen() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("guardedUni"));
+        when(context.proceed()).thenReturn(Uni.createFrom().item("result"));
+
+        final Uni<?> result = (Uni<?>) interceptor.guard(context);
+        openCircuit();
+
+        assertThrows(LatencyCircuitBreakerOpenException.class, () -> result.await().atMost(Duration.ofSeconds(5L)));
+        verify(recorder).recordCircuitBreakerRejection("pricing-api");
+    }
+
+    /**
+     * Establishes a 10ms baseline, then reports a 100ms p99 so the next evaluation opens the circuit.
+     */
+    private void openCircuit()
+    {
+        circuit.onComplete(circuit.tryAcquire(), TimeUnit.MILLISECONDS.toNanos(10L));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1L));
+        circuit.onComplete(circuit.tryAcquire(), TimeUnit.MILLISECONDS.toNanos(10L));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10L));
+        circuit.onComplete(circuit.tryAcquire(), TimeUnit.MILLISECONDS.toNanos(100L));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1L));
+        circuit.onComplete(circuit.tryAcquire(), TimeUnit.MILLISECONDS.toNanos(100L));
+        assertEquals(LatencyCircuit.State.OPEN, circuit.state());
+    }
+
+    @SuppressWarnings("unused")
+    static class TestTarget
+    {
+        public String unguarded()
+        {
+            return "result";
+        }
+
+        @CircuitBreakerName("pricing-api")
+        @LatencyCircuitBreaker(delayMillis = 60_000L)
+        public String guarded()
+        {
+            return "result";
+        }
+
+        @CircuitBreakerName("pricing-api")
+        @LatencyCircuitBreaker(delayMillis = 60_000L)
+        public Uni<String> guardedUni()
+        {
+            return Uni.createFrom().item("result");
+        }
+    }
+}
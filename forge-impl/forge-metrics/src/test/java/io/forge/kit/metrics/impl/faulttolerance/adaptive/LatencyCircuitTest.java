@@ -0,0 +1,218 @@
+package io.forge.kit.metrics.impl.faulttolerance.adaptive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.forge.kit.metrics.impl.faulttolerance.adaptive.LatencyCircuit.Admission;
+import io.forge.kit.metrics.impl.faulttolerance.adaptive.LatencyCircuit.State;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyCircuitTest
+{
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10L);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final LatencyCircuit circuit = new LatencyCircuit(3.0, 10, Duration.ofSeconds(6L),
+        Duration.ofSeconds(60L), Duration.ofSeconds(5L), nanos::get);
+
+    private void advanceSeconds(final long seconds)
+    {
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    /**
+     * Completes {@code calls} admitted calls of the given latency, then one more after the evaluation interval.
+     */
+    private void completeCalls(final int calls, final long durationNanos)
+    {
+        for (int i = 0; i < calls; i++)
+        {
+            circuit.onComplete(circuit.tryAcquire(), durationNanos);
+        }
+        advanceSeconds(1L);
+        circuit.onComplete(circuit.tryAcquire(), durationNanos);
+    }
+
+    @Test
+    @DisplayName("baseline is established once enough samples were seen")
+    void baseline_IsEstablished_AfterMinimumSamples()
+    {
+        assertTrue(Double.isNaN(circuit.baselineNanos()));
+
+        completeCalls(20, FAST);
+
+        assertWithin(FAST, circuit.baselineNanos());
+        assertEquals(State.CLOSED, circuit.state());
+    }
+
+    @Test
+    @DisplayName("circuit opens when recent p99 exceeds the baseline multiple")
+    void circuit_Opens_WhenP99ExceedsThreshold()
+    {
+        completeCalls(20, FAST);
+        advanceSeconds(10L);
+
+        completeCalls(20, SLOW);
+
+        assertEquals(State.OPEN, circuit.state());
+        assertEquals(1L, circuit.trips());
+        assertEquals(Admission.REJECTED, circuit.tryAcquire());
+        assertWithin(FAST, circuit.baselineNanos());
+    }
+
+    @Test
+    @DisplayName("circuit stays closed when latency is within the threshold")
+    void circuit_StaysClosed_WithinThreshold()
+    {
+        completeCalls(20, FAST);
+        final double initialBaseline = circuit.baselineNanos();
+        advanceSeconds(10L);
+
+        completeCalls(20, FAST * 2);
+
+        assertEquals(State.CLOSED, circuit.state());
+        assertTrue(circuit.baselineNanos() > initialBaseline, "baseline follows drift");
+        assertTrue(circuit.baselineNanos() < FAST * 2, "baseline moves slowly");
+    }
+
+    @Test
+    @DisplayName("a fast probe after the delay closes the circuit")
+    void probe_ClosesCircuit_WhenFast()
+    {
+        completeCalls(20, FAST);
+        advanceSeconds(10L);
+        completeCalls(20, SLOW);
+
+        advanceSeconds(5L);
+        final Admission probe = circuit.tryAcquire();
+        assertEquals(Admission.PROBE, probe);
+        assertEquals(State.HALF_OPEN, circuit.state());
+        assertEquals(Admission.REJECTED, circuit.tryAcquire());
+
+        circuit.onComplete(probe, FAST);
+
+        assertEquals(State.CLOSED, circuit.state());
+        assertEquals(Admission.ADMITTED, circuit.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("a slow probe re-opens the circuit")
+    void probe_ReopensCircuit_WhenSlow()
+    {
+        completeCalls(20, FAST);
+        advanceSeconds(10L);
+        completeCalls(20, SLOW);
+
+        advanceSeconds(5L);
+        circuit.onComplete(circuit.tryAcquire(), SLOW);
+
+        assertEquals(State.OPEN, circuit.state());
+        assertEquals(2L, circuit.trips());
+        assertEquals(Admission.REJECTED, circuit.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("a cancelled probe lets the next call probe again")
+    void onCancelled_ReleasesProbe()
+    {
+        completeCalls(20, FAST);
+        advanceSeconds(10L);
+        completeCalls(20, SLOW);
+        advanceSeconds(5L);
+
+        circuit.onCancelled(circuit.tryAcquire());
+
+        assertEquals(State.OPEN, circuit.state());
+        assertEquals(Admission.PROBE, circuit.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("circuit does not open before the minimum number of samples")
+    void circuit_DoesNotOpen_BeforeMinimumSamples()
+    {
+        completeCalls(20, FAST);
+        advanceSeconds(10L);
+
+        completeCalls(3, SLOW);
+
+        assertEquals(State.CLOSED, circuit.state());
+    }
+
+    @Test
+    @DisplayName("concurrent callers after the delay admit exactly one probe")
+    void tryAcquire_AdmitsSingleProbe_UnderContention() throws Exception
+    {
+        completeCalls(20, FAST);
+        advanceSeconds(10L);
+        completeCalls(20, SLOW);
+        advanceSeconds(5L);
+
+        final int callers = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger probes = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try
+        {
+            for (int i = 0; i < callers; i++)
+            {
+                executor.execute(() ->
+                {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch (final InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (circuit.tryAcquire() == Admission.PROBE)
+                    {
+                        probes.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        }
+        finally
+        {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5L, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, probes.get());
+        assertEquals(State.HALF_OPEN, circuit.state());
+    }
+
+    @Test
+    @DisplayName("constructor rejects out-of-range settings")
+    void constructor_RejectsOutOfRangeSettings()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyCircuit(1.0, 10, Duration.ofSeconds(6L),
+            Duration.ofSeconds(60L), Duration.ofSeconds(5L), nanos::get));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyCircuit(3.0, 0, Duration.ofSeconds(6L),
+            Duration.ofSeconds(60L), Duration.ofSeconds(5L), nanos::get));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyCircuit(3.0, 10, Duration.ZERO,
+            Duration.ofSeconds(60L), Duration.ofSeconds(5L), nanos::get));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyCircuit(3.0, 10, Duration.ofSeconds(6L),
+            Duration.ZERO, Duration.ofSeconds(5L), nanos::get));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyCircuit(3.0, 10, Duration.ofSeconds(6L),
+            Duration.ofSeconds(60L), Duration.ofSeconds(-1L), nanos::get));
+    }
+
+    private static void assertWithin(final long expected, final double actual)
+    {
+        assertTrue(Math.abs(actual - expected) <= expected / 16.0, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,222 @@
+package io.forge.kit.metrics.impl.faulttolerance.keyed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.faulttolerance.KeyedCircuitBreaker;
+import io.forge.kit.metrics.api.faulttolerance.RetryBudget;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerNameResolver;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import io.forge.kit.metrics.impl.faulttolerance.retry.RetryBudgetExhaustedException;
+import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import io.smallrye.mutiny.Uni;
+import jakarta.interceptor.InvocationContext;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeyedCircuitBreakerInterceptorTest
+{
+    private final CircuitBreakerMetricsRecorder recorder = mock(CircuitBreakerMetricsRecorder.class);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final KeyedCircuitGroup group = new KeyedCircuitGroup(2, 0.5, 60_000_000_000L, 100, nanos::get);
+
+    private final KeyedCircuitRegistry registry = new KeyedCircuitRegistry(recorder, config -> group);
+
+    private final InvocationContext context = mock(InvocationContext.class);
+
+    private final KeyedCircuitBreakerInterceptor interceptor = new KeyedCircuitBreakerInterceptor(registry, new AnnotationResolver(), new CircuitBreakerNameResolver());
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("load", Request.class));
+    }
+
+    @Test
+    @DisplayName("guard proceeds without a breaker when the annotation is absent")
+    void guard_Proceeds_WhenAnnotationAbsent() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("unguarded"));
+        when(context.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.guard(context));
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    @DisplayName("guard registers the group meters once with the key class")
+    void guard_RegistersMetersOnce() throws Exception
+    {
+        when(context.getParameters()).thenReturn(new Object[]{new Request("tenant-a")});
+        when(context.proceed()).thenReturn("result");
+
+        interceptor.guard(context);
+        interceptor.guard(context);
+
+        verify(recorder, times(1)).registerKeyedCircuitMeters(eq("tenant-store"), eq("tenant"), any(KeyedCircuitGroup.class));
+    }
+
+    @Test
+    @DisplayName("guard rejects calls for an open key only")
+    void guard_RejectsCalls_ForOpenKeyOnly() throws Exception
+    {
+        when(context.proceed()).thenThrow(new IllegalStateException("boom")).thenThrow(new IllegalStateException("boom"))
+            .thenReturn("result");
+        when(context.getParameters()).thenReturn(new Object[]{new Request("tenant-a")});
+        assertThrows(IllegalStateException.class, () -> interceptor.guard(context));
+        assertThrows(IllegalStateException.class, () -> interceptor.guard(context));
+
+        final KeyedCircuitBreakerOpenException exception = assertThrows(KeyedCircuitBreakerOpenException.class,
+            () -> interceptor.guard(context));
+        assertEquals("tenant-store", exception.getCircuitName());
+        assertEquals("tenant", exception.getKeyClass());
+        assertInstanceOf(CircuitBreakerOpenException.class, exception);
+
+        when(context.getParameters()).thenReturn(new Object[]{new Request("tenant-b")});
+        assertEquals("result", interceptor.guard(context));
+        verify(context, times(3)).proceed();
+    }
+
+    @Test
+    @DisplayName("guard does not count skipOn exceptions as failures")
+    void guard_DoesNotCountSkipOnExceptions() throws Exception
+    {
+        when(context.getParameters()).thenReturn(new Object[]{new Request("tenant-a")});
+        when(context.proceed()).thenThrow(new IllegalArgumentException("bad request"));
+
+        assertThrows(IllegalArgumentException.class, () -> interceptor.guard(context));
+        assertThrows(IllegalArgumentException.class, () -> interceptor.guard(context));
+        assertThrows(IllegalArgumentException.class, () -> interceptor.guard(context));
+
+        assertEquals(0L, group.trips());
+    }
+
+    @Test
+    @DisplayName("guard does not count retries refused by a retry budget as failures")
+    void guard_DoesNotCountExhaustedRetryBudget() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("loadWithRetryBudget", Request.class));
+        when(context.getParameters()).thenReturn(new Object[]{new Request("tenant-a")});
+        when(context.proceed()).thenThrow(new RetryBudgetExhaustedException("tenant-store", new IllegalStateException("boom")));
+
+        assertThrows(RetryBudgetExhaustedException.class, () -> interceptor.guard(context));
+        assertThrows(RetryBudgetExhaustedException.class, () -> interceptor.guard(context));
+        assertThrows(RetryBudgetExhaustedException.class, () -> interceptor.guard(context));
+
+        assertEquals(0L, group.trips());
+        assertEquals(0, group.openKeys());
+    }
+
+    @Test
+    @DisplayName("guard counts asynchronous failures when the result completes")
+    void guard_CountsAsyncFailures() throws Exception
+    {
+        when(context.getParameters()).thenReturn(new Object[]{new Request("tenant-a")});
+        when(context.proceed()).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        interceptor.guard(context);
+        interceptor.guard(context);
+
+        assertEquals(1, group.openKeys());
+    }
+
+    @Test
+    @DisplayName("guard takes no probe for a Uni that is never subscribed")
+    void guard_TakesNoProbe_ForUnsubscribedUni() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("loadAsync", Request.class));
+        when(context.getParameters()).thenReturn(new Object[]{new Request("tenant-a")});
+        when(context.proceed()).thenReturn(Uni.createFrom().failure(new IllegalStateException("boom")));
+        for (int i = 0; i < 2; i++)
+        {
+            final Uni<?> failing = (Uni<?>) interceptor.guard(context);
+            assertThrows(IllegalStateException.class, () -> failing.await().atMost(Duration.ofSeconds(5L)));
+        }
+        assertEquals(1, group.openKeys());
+        nanos.addAndGet(60_000_000_000L);
+
+        when(context.proceed()).thenReturn(Uni.createFrom().item("result"));
+        interceptor.guard(context);
+        final Uni<?> probe = (Uni<?>) interceptor.guard(context);
+
+        assertEquals("result", probe.await().atMost(Duration.ofSeconds(5L)));
+        assertEquals(0, group.openKeys());
+    }
+
+    @Test
+    @DisplayName("guard proceeds unguarded when the key resolves to null")
+    void guard_ProceedsUnguarded_WhenKeyNull() throws Exception
+    {
+        when(context.getParameters()).thenReturn(new Object[]{new Request(null)});
+        when(context.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.guard(context));
+        assertEquals(0, group.trackedKeys());
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    @DisplayName("guard proceeds unguarded when the key path does not parse")
+    void guard_ProceedsUnguarded_WhenKeyPathInvalid() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("misconfigured", Request.class));
+        when(context.getParameters()).thenReturn(new Object[]{new Request("tenant-a")});
+        when(context.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.guard(context));
+        assertEquals("result", interceptor.guard(context));
+        assertEquals(0, group.trackedKeys());
+    }
+
+    public record Request(String tenantId)
+    {}
+
+    @SuppressWarnings("unused")
+    static class TestTarget
+    {
+        public String unguarded()
+        {
+            return "result";
+        }
+
+        @CircuitBreakerName("tenant-store")
+        @KeyedCircuitBreaker(keyPath = "#tenantId", keyClass = "tenant", skipOn = IllegalArgumentException.class)
+        public String load(final Request request)
+        {
+            return "result";
+        }
+
+        @CircuitBreakerName("tenant-store")
+        @KeyedCircuitBreaker(keyPath = "#tenantId", keyClass = "tenant")
+        public Uni<String> loadAsync(final Request request)
+        {
+            return Uni.createFrom().item("result");
+        }
+
+        @CircuitBreakerName("tenant-store")
+        @RetryBudget
+        @KeyedCircuitBreaker(keyPath = "#tenantId", keyClass = "tenant")
+        public String loadWithRetryBudget(final Request request)
+        {
+            return "result";
+        }
+
+        @KeyedCircuitBreaker(keyPath = "request#tenantId", keyClass = "tenant")
+        public String misconfigured(final Request request)
+        {
+            return "result";
+        }
+    }
+}
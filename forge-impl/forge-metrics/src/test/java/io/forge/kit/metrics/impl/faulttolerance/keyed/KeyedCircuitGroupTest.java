@@ -0,0 +1,124 @@
+package io.forge.kit.metrics.impl.faulttolerance.keyed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeyedCircuitGroupTest
+{
+    private final AtomicLong nanos = new AtomicLong();
+
+    // every clock read advances one nanosecond, so call order is recency order
+    private final KeyedCircuitGroup group = new KeyedCircuitGroup(2, 0.5, 1_000L, 3, nanos::incrementAndGet);
+
+    private void fail(final String key)
+    {
+        group.tryAcquire(key).onComplete(true);
+    }
+
+    @Test
+    @DisplayName("an open key does not affect other keys")
+    void openKey_DoesNotAffectOtherKeys()
+    {
+        fail("tenant-a");
+        fail("tenant-a");
+
+        assertTrue(group.tryAcquire("tenant-a").rejected());
+        assertFalse(group.tryAcquire("tenant-b").rejected());
+        assertEquals(1, group.openKeys());
+        assertEquals(1L, group.trips());
+        assertEquals(1L, group.rejections());
+    }
+
+    @Test
+    @DisplayName("least recently used keys are evicted beyond maxKeys")
+    void keys_AreEvicted_BeyondMaxKeys()
+    {
+        fail("tenant-a");
+        fail("tenant-a");
+        group.tryAcquire("tenant-b");
+        group.tryAcquire("tenant-c");
+        group.tryAcquire("tenant-b");
+        group.tryAcquire("tenant-d");
+
+        assertEquals(3, group.trackedKeys());
+        assertEquals(1L, group.evictions());
+        assertEquals(0, group.openKeys());
+        assertFalse(group.tryAcquire("tenant-a").rejected());
+    }
+
+    @Test
+    @DisplayName("access keeps a key from being evicted")
+    void access_KeepsKeyFromEviction()
+    {
+        fail("tenant-a");
+        fail("tenant-a");
+        group.tryAcquire("tenant-b");
+        group.tryAcquire("tenant-c");
+        group.tryAcquire("tenant-a");
+        group.tryAcquire("tenant-d");
+
+        assertTrue(group.tryAcquire("tenant-a").rejected());
+    }
+
+    @Test
+    @DisplayName("evictions keep the group within maxKeys when new keys arrive concurrently")
+    void evictions_KeepGroupWithinMaxKeys_UnderConcurrency() throws Exception
+    {
+        final KeyedCircuitGroup bounded = new KeyedCircuitGroup(2, 0.5, 1_000L, 100, System::nanoTime);
+        final int threads = 8;
+        final int keysPerThread = 1_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+            {
+                final int thread = t;
+                futures.add(executor.submit(() ->
+                {
+                    for (int i = 0; i < keysPerThread; i++)
+                    {
+                        bounded.tryAcquire("tenant-" + thread + "-" + i).onComplete(false);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures)
+            {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertTrue(bounded.trackedKeys() <= 100);
+        assertEquals(threads * keysPerThread, bounded.trackedKeys() + bounded.evictions());
+    }
+
+    @Test
+    @DisplayName("constructor rejects a non-positive maxKeys")
+    void constructor_RejectsNonPositiveMaxKeys()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new KeyedCircuitGroup(2, 0.5, 1_000L, 0, nanos::get));
+    }
+
+    @Test
+    @DisplayName("constructor rejects a failure ratio outside (0, 1]")
+    void constructor_RejectsInvalidFailureRatio()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new KeyedCircuitGroup(2, 0.0, 1_000L, 3, nanos::get));
+    }
+}
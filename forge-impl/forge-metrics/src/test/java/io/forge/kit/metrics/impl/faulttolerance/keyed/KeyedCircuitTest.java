@@ -0,0 +1,91 @@
+package io.forge.kit.metrics.impl.faulttolerance.keyed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.forge.kit.metrics.impl.faulttolerance.keyed.KeyedCircuit.Admission;
+import io.forge.kit.metrics.impl.faulttolerance.keyed.KeyedCircuit.State;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeyedCircuitTest
+{
+    private static final long DELAY = 1_000L;
+
+    private final KeyedCircuit circuit = new KeyedCircuit(4, 0.5, DELAY);
+
+    private void complete(final boolean... outcomes)
+    {
+        for (final boolean failure : outcomes)
+        {
+            circuit.onComplete(circuit.tryAcquire(0L), failure, 0L);
+        }
+    }
+
+    @Test
+    @DisplayName("breaker stays closed until the rolling window is full")
+    void breaker_StaysClosed_UntilWindowFull()
+    {
+        complete(true, true, true);
+
+        assertEquals(State.CLOSED, circuit.state());
+    }
+
+    @Test
+    @DisplayName("breaker opens when the failure ratio is reached")
+    void breaker_Opens_WhenFailureRatioReached()
+    {
+        complete(false, true, false);
+
+        assertTrue(circuit.onComplete(circuit.tryAcquire(0L), true, 0L));
+        assertEquals(State.OPEN, circuit.state());
+        assertEquals(Admission.REJECTED, circuit.tryAcquire(DELAY - 1L));
+    }
+
+    @Test
+    @DisplayName("rolling window forgets the oldest outcome")
+    void rollingWindow_ForgetsOldestOutcome()
+    {
+        complete(true, false, false, false, false);
+        complete(true);
+
+        assertEquals(State.CLOSED, circuit.state());
+    }
+
+    @Test
+    @DisplayName("a successful probe closes the breaker")
+    void probe_Success_ClosesBreaker()
+    {
+        complete(true, true, true, true);
+
+        final Admission probe = circuit.tryAcquire(DELAY);
+        assertEquals(Admission.PROBE, probe);
+        assertEquals(Admission.REJECTED, circuit.tryAcquire(DELAY));
+
+        assertFalse(circuit.onComplete(probe, false, DELAY));
+        assertEquals(State.CLOSED, circuit.state());
+    }
+
+    @Test
+    @DisplayName("a failed probe re-opens the breaker")
+    void probe_Failure_ReopensBreaker()
+    {
+        complete(true, true, true, true);
+
+        assertTrue(circuit.onComplete(circuit.tryAcquire(DELAY), true, DELAY));
+        assertEquals(State.OPEN, circuit.state());
+        assertEquals(Admission.REJECTED, circuit.tryAcquire(2 * DELAY - 1L));
+    }
+
+    @Test
+    @DisplayName("a cancelled probe lets the next call probe again")
+    void probe_Cancelled_AllowsNextProbe()
+    {
+        complete(true, true, true, true);
+
+        circuit.onCancelled(circuit.tryAcquire(DELAY));
+
+        assertEquals(Admission.PROBE, circuit.tryAcquire(DELAY));
+    }
+}
@@ -1,11 +1,24 @@
 package io.forge.kit.metrics.impl.faulttolerance.recorder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import io.forge.kit.metrics.impl.domain.support.InlineMeterWriter;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerStateClock;
+import io.forge.kit.metrics.impl.faulttolerance.adaptive.AdaptiveTimeoutPolicy;
+import io.forge.kit.metrics.impl.faulttolerance.adaptive.LatencyCircuit;
+import io.forge.kit.metrics.impl.faulttolerance.keyed.KeyedCircuitGroup;
+import io.forge.kit.metrics.impl.faulttolerance.retry.RetryTokenBucket;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
@@ -35,7 +48,8 @@ class CircuitBreakerMetricsRecorderTest
             when(counterBuilder.description(any())).thenReturn(counterBuilder);
             when(counterBuilder.register(eq(meterRegistry))).thenReturn(counter);
 
-            final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(meterRegistry);
+            final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(meterRegistry),
+                new InlineMeterWriter(), meterRegistry);
             recorder.recordCircuitBreakerStateChange(circuitName, state);
 
             counterMock.verify(() -> Counter.builder("circuit.breaker.state.changes"));
@@ -61,7 +75,8 @@ class CircuitBreakerMetricsRecorderTest
             when(counterBuilder.description(any())).thenReturn(counterBuilder);
             when(counterBuilder.register(any())).thenReturn(counter);
 
-            final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(meterRegistry);
+            final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(meterRegistry),
+                new InlineMeterWriter(), meterRegistry);
             for (final String state : states)
             {
                 recorder.recordCircuitBreakerStateChange(circuitName, state);
@@ -85,7 +100,8 @@ class CircuitBreakerMetricsRecorderTest
             when(counterBuilder.description(any())).thenReturn(counterBuilder);
             when(counterBuilder.register(eq(meterRegistry))).thenReturn(counter);
 
-            final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(meterRegistry);
+            final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(meterRegistry),
+                new InlineMeterWriter(), meterRegistry);
             for (final String circuitName : circuitNames)
             {
                 recorder.recordCircuitBreakerStateChange(circuitName, state);
@@ -109,11 +125,154 @@ class CircuitBreakerMetricsRecorderTest
             when(counterBuilder.description(any())).thenReturn(counterBuilder);
             when(counterBuilder.register(any())).thenReturn(counter);
 
-            final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(meterRegistry);
+            final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(meterRegistry),
+                new InlineMeterWriter(), meterRegistry);
             recorder.recordCircuitBreakerStateChange("Test.method", "open");
 
             counterMock.verify(() -> Counter.builder("circuit.breaker.state.changes"));
             verify(counter).increment();
         }
     }
+
+    @Test
+    @DisplayName("recordCircuitBreakerRejection increments the rejected calls counter")
+    void recordCircuitBreakerRejection_IncrementsRejectedCounter()
+    {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(registry),
+            new InlineMeterWriter(), registry);
+
+        recorder.recordCircuitBreakerRejection("payments");
+        recorder.recordCircuitBreakerRejection("payments");
+
+        assertEquals(2.0, registry.get("circuit.breaker.calls.rejected").tag("circuit", "payments").counter().count());
+    }
+
+    @Test
+    @DisplayName("registerStateMeters exposes state gauge and time in state read from the clock")
+    void registerStateMeters_ExposesStateGaugeAndTimeInState()
+    {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final AtomicLong nanos = new AtomicLong();
+        final CircuitBreakerStateClock clock = new CircuitBreakerStateClock(CircuitBreakerState.CLOSED, nanos::get);
+        final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(registry),
+            new InlineMeterWriter(), registry);
+
+        recorder.registerStateMeters("payments", clock);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(3L));
+        clock.transitionTo(CircuitBreakerState.OPEN);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2L));
+
+        assertEquals(1.0, registry.get("circuit.breaker.state").tag("circuit", "payments").gauge().value());
+        assertEquals(3.0, registry.get("circuit.breaker.state.duration").tags("circuit", "payments", "state", "closed")
+            .functionCounter().count(), 1e-9);
+        assertEquals(2.0, registry.get("circuit.breaker.state.duration").tags("circuit", "payments", "state", "open")
+            .functionCounter().count(), 1e-9);
+        assertEquals(0.0, registry.get("circuit.breaker.state.duration").tags("circuit", "payments", "state", "half_open")
+            .functionCounter().count(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("registerLatencyCircuitMeters exposes baseline, p99, state and trips")
+    void registerLatencyCircuitMeters_ExposesBaselineP99StateAndTrips()
+    {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final AtomicLong nanos = new AtomicLong();
+        final LatencyCircuit circuit = new LatencyCircuit(3.0, 1, Duration.ofSeconds(6L), Duration.ofSeconds(60L),
+            Duration.ofSeconds(5L), nanos::get);
+        final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(registry),
+            new InlineMeterWriter(), registry);
+
+        recorder.registerLatencyCircuitMeters("pricing-api", circuit);
+        assertEquals(Double.NaN, registry.get("circuit.breaker.latency.baseline").tag("circuit", "pricing-api").gauge().value());
+
+        circuit.onComplete(circuit.tryAcquire(), TimeUnit.MILLISECONDS.toNanos(10L));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1L));
+        circuit.onComplete(circuit.tryAcquire(), TimeUnit.MILLISECONDS.toNanos(10L));
+
+        final double baselineSeconds = registry.get("circuit.breaker.latency.baseline").tag("circuit", "pricing-api")
+            .gauge().value();
+        assertEquals(0.010, baselineSeconds, 0.010 / 16);
+        assertEquals(baselineSeconds, registry.get("circuit.breaker.latency.p99").tag("circuit", "pricing-api")
+            .gauge().value(), 1e-9);
+        assertEquals(0.0, registry.get("circuit.breaker.latency.state").tag("circuit", "pricing-api").gauge().value());
+        assertEquals(0.0, registry.get("circuit.breaker.latency.trips").tag("circuit", "pricing-api")
+            .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("recordTimeout increments the timed-out counter")
+    void recordTimeout_IncrementsTimedOutCounter()
+    {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(registry),
+            new InlineMeterWriter(), registry);
+
+        recorder.recordTimeout("inventory-api");
+
+        assertEquals(1.0, registry.get("circuit.breaker.calls.timed.out").tag("circuit", "inventory-api").counter().count());
+    }
+
+    @Test
+    @DisplayName("registerAdaptiveTimeoutMeters exposes the current timeout in seconds")
+    void registerAdaptiveTimeoutMeters_ExposesTimeoutGauge()
+    {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(0.999, 2.0, 100, Duration.ofMillis(50L),
+            Duration.ofSeconds(2L), Duration.ofSeconds(60L), System::nanoTime);
+        final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(registry),
+            new InlineMeterWriter(), registry);
+
+        recorder.registerAdaptiveTimeoutMeters("inventory-api", policy);
+
+        assertEquals(2.0, registry.get("circuit.breaker.timeout.adaptive").tag("circuit", "inventory-api").gauge().value());
+    }
+
+    @Test
+    @DisplayName("registerRetryBudgetMeters exposes tokens, attempts and retries by outcome")
+    void registerRetryBudgetMeters_ExposesTokensAttemptsAndRetries()
+    {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final RetryTokenBucket bucket = new RetryTokenBucket(0.1, 0.0, 1, () -> 0L);
+        final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(registry),
+            new InlineMeterWriter(), registry);
+
+        recorder.registerRetryBudgetMeters("inventory-api", bucket);
+        bucket.onFirstAttempt();
+        bucket.tryAcquireRetry();
+        bucket.tryAcquireRetry();
+
+        assertEquals(0.0, registry.get("retry.budget.tokens").tag("circuit", "inventory-api").gauge().value(), 1e-9);
+        assertEquals(1.0, registry.get("retry.budget.attempts").tag("circuit", "inventory-api").functionCounter().count());
+        assertEquals(1.0, registry.get("retry.budget.retries").tags("circuit", "inventory-api", "outcome", "allowed")
+            .functionCounter().count());
+        assertEquals(1.0, registry.get("retry.budget.retries").tags("circuit", "inventory-api", "outcome", "rejected")
+            .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("registerKeyedCircuitMeters exposes keyed breaker meters tagged by key class")
+    void registerKeyedCircuitMeters_ExposesMetersTaggedByKeyClass()
+    {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final KeyedCircuitGroup group = new KeyedCircuitGroup(1, 1.0, 60_000_000_000L, 10, () -> 0L);
+        final CircuitBreakerMetricsRecorder recorder = new CircuitBreakerMetricsRecorder(new MeterHandleCache(registry),
+            new InlineMeterWriter(), registry);
+
+        recorder.registerKeyedCircuitMeters("tenant-store", "tenant", group);
+        group.tryAcquire("tenant-a").onComplete(true);
+        group.tryAcquire("tenant-a");
+        group.tryAcquire("tenant-b");
+
+        assertEquals(2.0, registry.get("circuit.breaker.keyed.keys").tags("circuit", "tenant-store", "key_class", "tenant")
+            .gauge().value());
+        assertEquals(1.0, registry.get("circuit.breaker.keyed.open").tags("circuit", "tenant-store", "key_class", "tenant")
+            .gauge().value());
+        assertEquals(1.0, registry.get("circuit.breaker.keyed.trips").tags("circuit", "tenant-store", "key_class", "tenant")
+            .functionCounter().count());
+        assertEquals(1.0, registry.get("circuit.breaker.keyed.calls.rejected")
+            .tags("circuit", "tenant-store", "key_class", "tenant").functionCounter().count());
+        assertEquals(0.0, registry.get("circuit.breaker.keyed.evictions")
+            .tags("circuit", "tenant-store", "key_class", "tenant").functionCounter().count());
+    }
 }
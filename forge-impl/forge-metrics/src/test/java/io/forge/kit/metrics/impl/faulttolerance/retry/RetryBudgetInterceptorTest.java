@@ -0,0 +1,190 @@
+package io.forge.kit.metrics.impl.faulttolerance.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.metrics.api.faulttolerance.RetryBudget;
+import io.forge.kit.metrics.impl.faulttolerance.CircuitBreakerNameResolver;
+import io.forge.kit.metrics.impl.faulttolerance.recorder.CircuitBreakerMetricsRecorder;
+import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import jakarta.interceptor.InvocationContext;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetInterceptorTest
+{
+    private final CircuitBreakerMetricsRecorder recorder = mock(CircuitBreakerMetricsRecorder.class);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final RetryTokenBucket bucket = new RetryTokenBucket(0.5, 0.0, 1, nanos::get);
+
+    private final RetryBudgetRegistry registry = new RetryBudgetRegistry(recorder, config -> bucket);
+
+    private final InvocationContext context = mock(InvocationContext.class);
+
+    private final RetryBudgetInterceptor interceptor = new RetryBudgetInterceptor(registry, new AnnotationResolver(), new CircuitBreakerNameResolver());
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        when(context.getContextData()).thenReturn(new HashMap<>());
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("budgeted"));
+    }
+
+    @Test
+    @DisplayName("limit proceeds without a budget when the annotation is absent")
+    void limit_Proceeds_WhenAnnotationAbsent() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("unbudgeted"));
+        when(context.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.limit(context));
+        verifyNoInteractions(recorder);
+        assertEquals(0L, bucket.firstAttempts());
+    }
+
+    @Test
+    @DisplayName("limit counts the first pass as a first attempt and registers meters once")
+    void limit_CountsFirstAttempt_AndRegistersMetersOnce() throws Exception
+    {
+        when(context.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.limit(context));
+
+        assertEquals(1L, bucket.firstAttempts());
+        assertEquals(0L, bucket.retriesAllowed());
+        verify(recorder, times(1)).registerRetryBudgetMeters(eq("inventory-api"), any(RetryTokenBucket.class));
+    }
+
+    @Test
+    @DisplayName("limit withdraws a token for each retry of the same invocation")
+    void limit_WithdrawsToken_ForRetry() throws Exception
+    {
+        final IllegalStateException failure = new IllegalStateException("boom");
+        when(context.proceed()).thenThrow(failure).thenReturn("result");
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> interceptor.limit(context)));
+        assertEquals("result", interceptor.limit(context));
+
+        assertEquals(1L, bucket.firstAttempts());
+        assertEquals(1L, bucket.retriesAllowed());
+    }
+
+    @Test
+    @DisplayName("limit refuses a retry once the budget is spent, without invoking the method")
+    void limit_RefusesRetry_WhenBudgetSpent() throws Exception
+    {
+        final IllegalStateException failure = new IllegalStateException("boom");
+        when(context.proceed()).thenThrow(failure);
+
+        assertThrows(IllegalStateException.class, () -> interceptor.limit(context));
+        assertThrows(IllegalStateException.class, () -> interceptor.limit(context));
+        final RetryBudgetExhaustedException exception = assertThrows(RetryBudgetExhaustedException.class,
+            () -> interceptor.limit(context));
+
+        assertEquals("inventory-api", exception.getCircuitName());
+        assertSame(failure, exception.getCause());
+        assertInstanceOf(FaultToleranceException.class, exception);
+        verify(context, times(2)).proceed();
+        assertEquals(1L, bucket.retriesRejected());
+    }
+
+    @Test
+    @DisplayName("limit remembers asynchronous failures as the cause of a refused retry")
+    void limit_RemembersAsyncFailure() throws Exception
+    {
+        final IllegalStateException failure = new IllegalStateException("boom");
+        when(context.proceed()).thenReturn(CompletableFuture.failedFuture(failure));
+
+        interceptor.limit(context);
+        interceptor.limit(context);
+        final RetryBudgetExhaustedException exception = assertThrows(RetryBudgetExhaustedException.class,
+            () -> interceptor.limit(context));
+
+        assertSame(failure, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("@Retry and @CircuitBreaker that abort on and skip an exhausted budget need nothing more")
+    void missingFaultToleranceSettings_IsEmpty_WhenRetryAbortsAndCircuitBreakerSkips() throws Exception
+    {
+        assertEquals(List.of(), RetryBudgetInterceptor.missingFaultToleranceSettings(
+            TestTarget.class.getMethod("guarded"), new AnnotationResolver()));
+    }
+
+    @Test
+    @DisplayName("@Retry without abortOn and @CircuitBreaker without skipOn are reported")
+    void missingFaultToleranceSettings_ReportsRetryAndCircuitBreaker_WhenExceptionNotListed() throws Exception
+    {
+        final List<String> missing = RetryBudgetInterceptor.missingFaultToleranceSettings(
+            TestTarget.class.getMethod("unguarded"), new AnnotationResolver());
+
+        assertEquals(2, missing.size());
+        assertTrue(missing.get(0).contains("@Retry(abortOn)"));
+        assertTrue(missing.get(1).contains("@CircuitBreaker(skipOn)"));
+    }
+
+    @Test
+    @DisplayName("a superclass of the exception in abortOn and skipOn also counts")
+    void missingFaultToleranceSettings_AcceptsSuperclasses() throws Exception
+    {
+        assertEquals(List.of(), RetryBudgetInterceptor.missingFaultToleranceSettings(
+            TestTarget.class.getMethod("guardedBySuperclass"), new AnnotationResolver()));
+    }
+
+    @SuppressWarnings("unused")
+    static class TestTarget
+    {
+        public String unbudgeted()
+        {
+            return "result";
+        }
+
+        @Retry(maxRetries = 2, abortOn = RetryBudgetExhaustedException.class)
+        @CircuitBreaker(skipOn = RetryBudgetExhaustedException.class)
+        @RetryBudget
+        public String guarded()
+        {
+            return "result";
+        }
+
+        @Retry(maxRetries = 2)
+        @CircuitBreaker
+        @RetryBudget
+        public String unguarded()
+        {
+            return "result";
+        }
+
+        @Retry(maxRetries = 2, abortOn = FaultToleranceException.class)
+        @CircuitBreaker(skipOn = FaultToleranceException.class)
+        @RetryBudget
+        public String guardedBySuperclass()
+        {
+            return "result";
+        }
+
+        @CircuitBreakerName("inventory-api")
+        @RetryBudget
+        public String budgeted()
+        {
+            return "result";
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.forge.kit.metrics.impl.faulttolerance.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryTokenBucketTest
+{
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final RetryTokenBucket bucket = new RetryTokenBucket(0.25, 0.0, 2, nanos::get);
+
+    @Test
+    @DisplayName("bucket starts full")
+    void bucket_StartsFull()
+    {
+        assertEquals(2.0, bucket.availableTokens(), 1e-9);
+        assertTrue(bucket.tryAcquireRetry());
+        assertTrue(bucket.tryAcquireRetry());
+        assertFalse(bucket.tryAcquireRetry());
+    }
+
+    @Test
+    @DisplayName("first attempts fund retries at the configured ratio")
+    void firstAttempts_FundRetries_AtRatio()
+    {
+        drain();
+
+        for (int i = 0; i < 3; i++)
+        {
+            bucket.onFirstAttempt();
+        }
+        assertFalse(bucket.tryAcquireRetry());
+
+        bucket.onFirstAttempt();
+        assertTrue(bucket.tryAcquireRetry());
+        assertEquals(4L, bucket.firstAttempts());
+    }
+
+    @Test
+    @DisplayName("deposits never exceed the bucket capacity")
+    void deposits_AreCappedAtMaxTokens()
+    {
+        for (int i = 0; i < 1000; i++)
+        {
+            bucket.onFirstAttempt();
+        }
+
+        assertEquals(2.0, bucket.availableTokens(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("minimum retries per second refill the bucket over time")
+    void minRetriesPerSecond_RefillsOverTime()
+    {
+        final RetryTokenBucket timed = new RetryTokenBucket(0.1, 1.0, 5, nanos::get);
+        while (timed.tryAcquireRetry())
+        {
+            // Drain the initial balance
+        }
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(3L));
+
+        assertEquals(3.0, timed.availableTokens(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("allowed and rejected retries are counted")
+    void retries_AreCounted()
+    {
+        drain();
+        bucket.tryAcquireRetry();
+
+        assertEquals(2L, bucket.retriesAllowed());
+        assertEquals(2L, bucket.retriesRejected());
+    }
+
+    @Test
+    @DisplayName("constructor rejects a non-positive ratio")
+    void constructor_RejectsNonPositiveRatio()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new RetryTokenBucket(0.0, 1.0, 10, nanos::get));
+    }
+
+    private void drain()
+    {
+        assertTrue(bucket.tryAcquireRetry());
+        assertTrue(bucket.tryAcquireRetry());
+        assertFalse(bucket.tryAcquireRetry());
+    }
+}
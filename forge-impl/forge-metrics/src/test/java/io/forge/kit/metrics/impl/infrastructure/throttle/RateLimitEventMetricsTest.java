@@ -0,0 +1,39 @@
+package io.forge.kit.metrics.impl.infrastructure.throttle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.forge.kit.throttle.api.event.RateLimitEventStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitEventMetricsTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("onStart exports the dispatcher's dropped event count")
+    void onStart_ExportsDroppedEventCount()
+    {
+        final AtomicLong dropped = new AtomicLong();
+        final RateLimitEventStats stats = dropped::get;
+
+        new RateLimitEventMetrics(meterRegistry, List.of(stats)).onStart(null);
+        dropped.set(3L);
+
+        assertEquals(3.0d, meterRegistry.get("rate.limit.events.dropped").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("onStart registers nothing without an event dispatcher")
+    void onStart_RegistersNothing_WithoutDispatcher()
+    {
+        new RateLimitEventMetrics(meterRegistry, List.of()).onStart(null);
+
+        assertNull(meterRegistry.find("rate.limit.events.dropped").functionCounter());
+    }
+}
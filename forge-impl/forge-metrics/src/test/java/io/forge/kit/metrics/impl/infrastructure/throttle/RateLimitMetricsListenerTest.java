@@ -0,0 +1,48 @@
+package io.forge.kit.metrics.impl.infrastructure.throttle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.forge.kit.metrics.impl.domain.recorder.ThrottleMetricsRecorder;
+import io.forge.kit.metrics.impl.domain.support.InlineMeterWriter;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.forge.kit.throttle.api.event.RateLimitEvent;
+import io.forge.kit.throttle.api.event.RateLimitEventListener;
+import io.forge.kit.throttle.api.infrastructure.RateLimitContext;
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitMetricsListenerTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RateLimitMetricsListener listener = new RateLimitMetricsListener(
+        new ThrottleMetricsRecorder(new MeterHandleCache(meterRegistry), new InlineMeterWriter(), new RateLimitContext()));
+
+    @Test
+    @DisplayName("delivery is batched so recording stays off the request thread")
+    void delivery_IsBatched()
+    {
+        assertEquals(RateLimitEventListener.Delivery.BATCHED, listener.delivery());
+    }
+
+    @Test
+    @DisplayName("onBatch records request and violation counters for each event")
+    void onBatch_RecordsCounters_ForEachEvent()
+    {
+        listener.onBatch(List.of(
+            new RateLimitEvent("user:alice", new RateLimitStatus(true, 10L, 9L, 0L), 0L),
+            new RateLimitEvent("user:alice", new RateLimitStatus(true, 10L, 8L, 0L), 1L),
+            new RateLimitEvent("ip:10.0.0.1", new RateLimitStatus(false, 5L, 0L, 1L), 2L)));
+
+        assertEquals(2.0d, meterRegistry.get("rate.limit.requests").tag("key_type", "user").tag("status", "allowed")
+            .counter().count());
+        assertEquals(1.0d, meterRegistry.get("rate.limit.requests").tag("key_type", "ip").tag("status", "blocked")
+            .counter().count());
+        assertEquals(1.0d, meterRegistry.get("rate.limit.violations").tag("key_type", "ip").tag("identifier", "10.0.0.1")
+            .counter().count());
+    }
+}
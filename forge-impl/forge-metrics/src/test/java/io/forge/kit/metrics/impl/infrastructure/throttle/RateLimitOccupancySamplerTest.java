@@ -0,0 +1,117 @@
+package io.forge.kit.metrics.impl.infrastructure.throttle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.forge.kit.throttle.api.infrastructure.BucketOccupancySource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.enterprise.inject.IllegalProductException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitOccupancySamplerTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("sample publishes cumulative utilization per key type")
+    void sample_PublishesCumulativeUtilization_PerKeyType()
+    {
+        final FakeSource source = new FakeSource();
+        source.buckets.put("user:alice", 100L); // 0% used
+        source.buckets.put("user:bob", 40L);    // 60% used
+        source.buckets.put("ip:10.0.0.1", 0L);  // exhausted
+
+        final RateLimitOccupancySampler sampler = new RateLimitOccupancySampler(meterRegistry, List.of(source), Duration.ofSeconds(1L), 10);
+        sampler.sample();
+
+        assertEquals(1.0d, gauge("user", "0.1"));
+        assertEquals(1.0d, gauge("user", "0.5"));
+        assertEquals(2.0d, gauge("user", "0.75"));
+        assertEquals(2.0d, gauge("user", "1.0"));
+        assertEquals(0.0d, gauge("ip", "0.9"));
+        assertEquals(1.0d, gauge("ip", "1.0"));
+        assertEquals(2.0d, meterRegistry.get("rate.limit.bucket.samples").tag("key_type", "user").gauge().value());
+    }
+
+    @Test
+    @DisplayName("sample zeroes tiers that were not sampled in the latest run")
+    void sample_ZeroesTiers_WhenNotSampledInLatestRun()
+    {
+        final FakeSource source = new FakeSource();
+        source.buckets.put("service:billing", 10L);
+
+        final RateLimitOccupancySampler sampler = new RateLimitOccupancySampler(meterRegistry, List.of(source), Duration.ofSeconds(1L), 10);
+        sampler.sample();
+        assertEquals(1.0d, gauge("service", "1.0"));
+
+        source.buckets.clear();
+        sampler.sample();
+
+        assertEquals(0.0d, gauge("service", "1.0"));
+    }
+
+    @Test
+    @DisplayName("sample passes the configured sample bound to each source")
+    void sample_PassesSampleBound_ToEachSource()
+    {
+        final FakeSource source = new FakeSource();
+        final RateLimitOccupancySampler sampler = new RateLimitOccupancySampler(meterRegistry, List.of(source), Duration.ofSeconds(1L), 42);
+
+        sampler.sample();
+
+        assertEquals(42, source.lastMaxSamples);
+    }
+
+    @Test
+    @DisplayName("sources whose producer declined to create them are skipped instead of failing each pass")
+    void sample_SkipsSources_WhoseProducerReturnedNull()
+    {
+        final FakeSource source = new FakeSource();
+        source.buckets.put("user:alice", 100L);
+        final BucketOccupancySource unavailable = new FakeSource()
+        {
+            @Override
+            public int bucketCount()
+            {
+                throw new IllegalProductException("Normal scoped producer method may not return null");
+            }
+        };
+
+        final RateLimitOccupancySampler sampler = new RateLimitOccupancySampler(meterRegistry, List.of(unavailable, source), Duration.ofSeconds(1L), 10);
+        sampler.sample();
+
+        assertEquals(1.0d, meterRegistry.get("rate.limit.bucket.samples").tag("key_type", "user").gauge().value());
+    }
+
+    private double gauge(final String keyType, final String le)
+    {
+        return meterRegistry.get("rate.limit.bucket.utilization").tag("key_type", keyType).tag("le", le).gauge().value();
+    }
+
+    /**
+     * Buckets of capacity 100 keyed to their available tokens.
+     */
+    private static class FakeSource implements BucketOccupancySource
+    {
+        private final Map<String, Long> buckets = new LinkedHashMap<>();
+        private int lastMaxSamples;
+
+        @Override
+        public int bucketCount()
+        {
+            return buckets.size();
+        }
+
+        @Override
+        public void sampleOccupancy(final int maxSamples, final OccupancySampler sampler)
+        {
+            lastMaxSamples = maxSamples;
+            buckets.forEach((key, available) -> sampler.accept(key, 100L, available));
+        }
+    }
+}
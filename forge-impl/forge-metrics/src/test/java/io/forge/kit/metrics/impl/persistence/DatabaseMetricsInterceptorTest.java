@@ -1,21 +1,38 @@
 package io.forge.kit.metrics.impl.persistence;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import io.forge.kit.metrics.api.persistence.DatabaseMetrics;
 import io.forge.kit.metrics.api.persistence.MetricsRecord;
+import io.forge.kit.metrics.impl.domain.support.TailLatencyRegistry;
 import io.forge.kit.metrics.impl.persistence.recorder.DatabaseMetricsRecorder;
+import io.forge.kit.metrics.impl.persistence.request.DatabaseRequestTracker;
+import io.forge.kit.metrics.impl.tracing.InvocationSpan;
+import io.forge.kit.metrics.impl.tracing.InvocationTracer;
+import io.forge.kit.metrics.impl.tracing.NoopInvocationTracer;
+import io.smallrye.mutiny.Uni;
 import jakarta.interceptor.InvocationContext;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
 
 class DatabaseMetricsInterceptorTest
 {
     private final DatabaseMetricsRecorder recorder = mock(DatabaseMetricsRecorder.class);
 
+    private final TailLatencyRegistry tailLatencyRegistry = new TailLatencyRegistry(new AnnotationResolver());
+
+    private final InvocationTracer tracer = new NoopInvocationTracer();
+
+    private final DatabaseRequestTracker requestTracker = mock(DatabaseRequestTracker.class);
+
     private final InvocationContext context = mock(InvocationContext.class);
 
     @Test
@@ -27,7 +44,7 @@ class DatabaseMetricsInterceptorTest
         when(context.getTarget()).thenReturn(target);
         when(context.proceed()).thenReturn("result");
 
-        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder);
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, tracer, requestTracker, new AnnotationResolver());
         final Object result = interceptor.collectDatabaseMetrics(context);
 
         assertEquals("result", result);
@@ -48,7 +65,7 @@ class DatabaseMetricsInterceptorTest
         when(context.getTarget()).thenReturn(target);
         when(context.proceed()).thenReturn("result");
 
-        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder);
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, tracer, requestTracker, new AnnotationResolver());
         final Object result = interceptor.collectDatabaseMetrics(context);
 
         assertEquals("result", result);
@@ -71,7 +88,7 @@ class DatabaseMetricsInterceptorTest
 
         try
         {
-            final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder);
+            final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, tracer, requestTracker, new AnnotationResolver());
             interceptor.collectDatabaseMetrics(context);
         }
         catch (final RuntimeException e)
@@ -95,7 +112,7 @@ class DatabaseMetricsInterceptorTest
         when(context.getTarget()).thenReturn(target);
         when(context.proceed()).thenReturn("result");
 
-        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder);
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, tracer, requestTracker, new AnnotationResolver());
         interceptor.collectDatabaseMetrics(context);
 
         verify(recorder).recordDatabaseOperation(eq(operation), eq(entity), anyLong());
@@ -114,7 +131,7 @@ class DatabaseMetricsInterceptorTest
         when(context.getTarget()).thenReturn(target);
         when(context.proceed()).thenReturn("result");
 
-        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder);
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, tracer, requestTracker, new AnnotationResolver());
         interceptor.collectDatabaseMetrics(context);
 
         verify(recorder).recordDatabaseOperation(eq(operation), eq(entity), anyLong());
@@ -137,13 +154,157 @@ class DatabaseMetricsInterceptorTest
             return "result";
         });
 
-        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder);
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, tracer, requestTracker, new AnnotationResolver());
         interceptor.collectDatabaseMetrics(context);
 
-        verify(recorder).recordDatabaseOperation(eq(operation), eq(entity), anyLong());
+        verify(recorder).recordDatabaseOperation(eq(operation), eq(entity),
+            longThat(nanos -> nanos >= TimeUnit.MILLISECONDS.toNanos(10L)));
     }
 
     // Test helper classes
+    @Test
+    @DisplayName("collectDatabaseMetrics records reactive operation when the Uni terminates")
+    void collectDatabaseMetrics_RecordsReactiveOperation_WhenUniTerminates() throws Exception
+    {
+        final Method method = TestTarget.class.getMethod("methodWithAnnotation");
+
+        when(context.getMethod()).thenReturn(method);
+        when(context.getTarget()).thenReturn(new TestTarget());
+        when(context.proceed()).thenReturn(Uni.createFrom().item("result").onItem().delayIt().by(Duration.ofMillis(20L)));
+
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, tracer, requestTracker, new AnnotationResolver());
+        final Uni<?> result = (Uni<?>) interceptor.collectDatabaseMetrics(context);
+
+        verify(recorder, never()).recordDatabaseOperation(any(), any(), anyLong());
+
+        assertEquals("result", result.await().atMost(Duration.ofSeconds(5L)));
+        verify(recorder).recordDatabaseOperation(eq("methodWithAnnotation"), eq(TestMetricsRecord.class), longThat(nanos -> nanos >= TimeUnit.MILLISECONDS.toNanos(20L)));
+    }
+
+    @Test
+    @DisplayName("collectDatabaseMetrics adds the operation to the current request's database totals")
+    void collectDatabaseMetrics_AddsOperationToRequestTotals() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(context.getTarget()).thenReturn(new TestTarget());
+        when(context.proceed()).thenReturn("result");
+
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, tracer, requestTracker, new AnnotationResolver());
+        interceptor.collectDatabaseMetrics(context);
+
+        verify(requestTracker).record(eq("TestMetricsRecord"), eq("methodWithAnnotation"), anyLong());
+    }
+
+    @Test
+    @DisplayName("collectDatabaseMetrics tags the invocation span with the entity and ends it as failed on exception")
+    void collectDatabaseMetrics_TagsSpanWithEntity_AndEndsItOnException() throws Exception
+    {
+        final InvocationTracer sampledTracer = mock(InvocationTracer.class);
+        final InvocationSpan span = mock(InvocationSpan.class);
+        final RuntimeException exception = new RuntimeException("Test exception");
+
+        when(sampledTracer.startSpan(context)).thenReturn(span);
+        when(span.makeCurrent()).thenReturn(InvocationSpan.Scope.NOOP);
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(context.getTarget()).thenReturn(new TestTarget());
+        when(context.proceed()).thenReturn("result").thenThrow(exception);
+
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, sampledTracer, requestTracker, new AnnotationResolver());
+        interceptor.collectDatabaseMetrics(context);
+        assertThrows(RuntimeException.class, () -> interceptor.collectDatabaseMetrics(context));
+
+        verify(span, times(2)).setAttribute("metrics.entity", "TestMetricsRecord");
+        verify(span).end();
+        verify(span).end(exception);
+    }
+
+    @Test
+    @DisplayName("collectDatabaseMetrics returns the result and ends the span when recording throws")
+    void collectDatabaseMetrics_ReturnsResultAndEndsSpan_WhenRecordingThrows() throws Exception
+    {
+        final InvocationTracer sampledTracer = mock(InvocationTracer.class);
+        final InvocationSpan span = mock(InvocationSpan.class);
+
+        when(sampledTracer.startSpan(context)).thenReturn(span);
+        when(span.makeCurrent()).thenReturn(InvocationSpan.Scope.NOOP);
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(context.getTarget()).thenReturn(new TestTarget());
+        when(context.proceed()).thenReturn("result");
+        doThrow(new IllegalStateException("registry closed")).when(recorder).recordDatabaseOperation(any(), any(), anyLong());
+
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, sampledTracer, requestTracker, new AnnotationResolver());
+
+        assertEquals("result", interceptor.collectDatabaseMetrics(context));
+        verify(recorder).recordDatabaseOperation(any(), any(), anyLong());
+        verify(span).end();
+        verify(span, never()).end(any(Throwable.class));
+    }
+
+    @Test
+    @DisplayName("collectDatabaseMetrics ends the span when a reactive operation's recording throws")
+    void collectDatabaseMetrics_EndsSpan_WhenReactiveRecordingThrows() throws Exception
+    {
+        final InvocationTracer sampledTracer = mock(InvocationTracer.class);
+        final InvocationSpan span = mock(InvocationSpan.class);
+
+        when(sampledTracer.startSpan(context)).thenReturn(span);
+        when(span.makeCurrent()).thenReturn(InvocationSpan.Scope.NOOP);
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(context.getTarget()).thenReturn(new TestTarget());
+        when(context.proceed()).thenReturn(Uni.createFrom().item("result"));
+        doThrow(new IllegalStateException("registry closed")).when(recorder).recordDatabaseOperation(any(), any(), anyLong());
+
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, sampledTracer, requestTracker, new AnnotationResolver());
+        final Uni<?> result = (Uni<?>) interceptor.collectDatabaseMetrics(context);
+
+        assertEquals("result", result.await().atMost(Duration.ofSeconds(5L)));
+        verify(span).end();
+    }
+
+    @Test
+    @DisplayName("collectDatabaseMetrics starts no span for a Uni that is never subscribed")
+    void collectDatabaseMetrics_StartsNoSpan_ForUnsubscribedUni() throws Exception
+    {
+        final InvocationTracer sampledTracer = mock(InvocationTracer.class);
+        final InvocationSpan span = mock(InvocationSpan.class);
+
+        when(sampledTracer.startSpan(context)).thenReturn(span);
+        when(span.makeCurrent()).thenReturn(InvocationSpan.Scope.NOOP);
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("loadAsync"));
+        when(context.getTarget()).thenReturn(new TestTarget());
+        when(context.proceed()).thenReturn(Uni.createFrom().item("result"));
+
+        final DatabaseMetricsInterceptor interceptor = new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, sampledTracer, requestTracker, new AnnotationResolver());
+        final Uni<?> result = (Uni<?>) interceptor.collectDatabaseMetrics(context);
+
+        verify(sampledTracer, never()).startSpan(any());
+
+        assertEquals("result", result.await().atMost(Duration.ofSeconds(5L)));
+        verify(sampledTracer).startSpan(context);
+        verify(span).setAttribute("metrics.entity", "TestMetricsRecord");
+        verify(span).end();
+    }
+
+    @Test
+    @DisplayName("collectDatabaseMetrics sets no span attributes when the invocation is not traced")
+    void collectDatabaseMetrics_SetsNoAttributes_WhenSpanIsNoop() throws Exception
+    {
+        final InvocationTracer untracedTracer = mock(InvocationTracer.class);
+
+        when(untracedTracer.startSpan(context)).thenReturn(InvocationSpan.NOOP);
+        when(context.getMethod()).thenReturn(TestTarget.class.getMethod("methodWithAnnotation"));
+        when(context.getTarget()).thenReturn(new TestTarget());
+        when(context.proceed()).thenReturn("result");
+
+        try (MockedStatic<MetricsRecord> metricsRecord = mockStatic(MetricsRecord.class, CALLS_REAL_METHODS))
+        {
+            new DatabaseMetricsInterceptor(recorder, tailLatencyRegistry, untracedTracer, requestTracker, new AnnotationResolver()).collectDatabaseMetrics(context);
+
+            // Only the request tracker needs the label
+            metricsRecord.verify(() -> MetricsRecord.metricsLabelFor(TestMetricsRecord.class));
+        }
+    }
+
     @SuppressWarnings("unused")
     static class TestTargetWithoutAnnotation
     {
@@ -167,6 +328,11 @@ class DatabaseMetricsInterceptorTest
         {
             return "result";
         }
+
+        public Uni<String> loadAsync()
+        {
+            return Uni.createFrom().item("result");
+        }
     }
 
     @DatabaseMetrics(entity = TestMetricsRecord.class)
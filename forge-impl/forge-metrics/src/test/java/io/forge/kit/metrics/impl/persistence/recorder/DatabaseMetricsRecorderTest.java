@@ -0,0 +1,120 @@
+package io.forge.kit.metrics.impl.persistence.recorder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.forge.kit.metrics.api.persistence.MetricsRecord;
+import io.forge.kit.metrics.impl.aggregation.LogarithmicBuckets;
+import io.forge.kit.metrics.impl.domain.support.InlineMeterWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DatabaseMetricsRecorderTest
+{
+    private static final DatabaseTimerSettings SLO_SETTINGS = new DatabaseTimerSettings(
+        List.of(Duration.ofNanos(500_000L), Duration.ofMillis(1L)), false, 0.0d,
+        DatabaseTimerSettings.DEFAULTS.minimumExpectedValue(), DatabaseTimerSettings.DEFAULTS.maximumExpectedValue());
+
+    private static final DatabaseTimerSettings SKETCH_SETTINGS = new DatabaseTimerSettings(List.of(), false, 0.1d,
+        Duration.ofNanos(50_000L), Duration.ofMillis(100L));
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<String> resolvedEntities = new ArrayList<>();
+
+    private final DatabaseMetricsRecorder recorder = new DatabaseMetricsRecorder(meterRegistry, new InlineMeterWriter(),
+        entityLabel ->
+        {
+            resolvedEntities.add(entityLabel);
+            return Map.of("ActorRecord", SLO_SETTINGS, "SessionRecord", SKETCH_SETTINGS)
+                .getOrDefault(entityLabel, DatabaseTimerSettings.DEFAULTS);
+        });
+
+    private Timer timer(final String operation, final String entity)
+    {
+        return meterRegistry.get("database.operation.duration").tag("operation", operation).tag("entity", entity).timer();
+    }
+
+    @Test
+    @DisplayName("recordDatabaseOperation keeps sub-millisecond durations")
+    void recordDatabaseOperation_KeepsSubMillisecondDurations()
+    {
+        recorder.recordDatabaseOperation("findById", PlainRecord.class, 250_000L);
+
+        final Timer timer = timer("findById", "PlainRecord");
+        assertEquals(1L, timer.count());
+        assertEquals(250_000.0d, timer.totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    @DisplayName("recordDatabaseOperation reuses timers and resolves settings once per entity")
+    void recordDatabaseOperation_ReusesTimers_AndResolvesSettingsOncePerEntity()
+    {
+        recorder.recordDatabaseOperation("save", PlainRecord.class, 1_000L);
+        final Timer timer = timer("save", "PlainRecord");
+        recorder.recordDatabaseOperation("save", PlainRecord.class, 1_000L);
+        recorder.recordDatabaseOperation("delete", PlainRecord.class, 1_000L);
+
+        assertSame(timer, timer("save", "PlainRecord"));
+        assertEquals(2L, timer.count());
+        assertEquals(List.of("PlainRecord"), resolvedEntities);
+    }
+
+    @Test
+    @DisplayName("recordDatabaseOperation publishes the entity's SLO buckets")
+    void recordDatabaseOperation_PublishesEntitySloBuckets()
+    {
+        recorder.recordDatabaseOperation("findById", ActorRecord.class, 250_000L);
+        recorder.recordDatabaseOperation("findById", ActorRecord.class, 750_000L);
+
+        final CountAtBucket[] buckets = timer("findById", "ActorRecord").takeSnapshot().histogramCounts();
+        assertEquals(2, buckets.length);
+        assertEquals(500_000.0d, buckets[0].bucket(TimeUnit.NANOSECONDS));
+        assertEquals(1.0d, buckets[0].count());
+        assertEquals(2.0d, buckets[1].count());
+    }
+
+    @Test
+    @DisplayName("recordDatabaseOperation publishes log-spaced sketch buckets when configured")
+    void recordDatabaseOperation_PublishesSketchBuckets_WhenConfigured()
+    {
+        recorder.recordDatabaseOperation("findById", SessionRecord.class, 80_000L);
+
+        final CountAtBucket[] buckets = timer("findById", "SessionRecord").takeSnapshot().histogramCounts();
+        final long[] expected = LogarithmicBuckets.boundaries(50_000L, TimeUnit.MILLISECONDS.toNanos(100L), 0.1d);
+        assertEquals(expected.length, buckets.length);
+        assertTrue(buckets.length > 30);
+        assertEquals(expected[0], (long) buckets[0].bucket(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    @DisplayName("recordDatabaseOperation publishes no buckets by default")
+    void recordDatabaseOperation_PublishesNoBuckets_ByDefault()
+    {
+        recorder.recordDatabaseOperation("findById", PlainRecord.class, 1_000L);
+
+        assertEquals(0, timer("findById", "PlainRecord").takeSnapshot().histogramCounts().length);
+    }
+
+    static class PlainRecord implements MetricsRecord
+    {
+    }
+
+    static class ActorRecord implements MetricsRecord
+    {
+    }
+
+    static class SessionRecord implements MetricsRecord
+    {
+    }
+}
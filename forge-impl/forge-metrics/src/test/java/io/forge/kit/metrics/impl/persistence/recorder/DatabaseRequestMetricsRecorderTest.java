@@ -0,0 +1,52 @@
+package io.forge.kit.metrics.impl.persistence.recorder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.forge.kit.metrics.impl.domain.support.InlineMeterWriter;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DatabaseRequestMetricsRecorderTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DatabaseRequestMetricsRecorder recorder =
+        new DatabaseRequestMetricsRecorder(new MeterHandleCache(meterRegistry), new InlineMeterWriter());
+
+    @Test
+    @DisplayName("recordRequest publishes operation count and database time as bucketed distributions")
+    void recordRequest_PublishesBucketedDistributions()
+    {
+        recorder.recordRequest("ActorResource.listActors", 42, TimeUnit.MILLISECONDS.toNanos(30L));
+        recorder.recordRequest("ActorResource.listActors", 3, TimeUnit.MILLISECONDS.toNanos(2L));
+
+        final DistributionSummary operations = meterRegistry.get("database.request.operations")
+            .tag("endpoint", "ActorResource.listActors").summary();
+        assertEquals(2L, operations.count());
+        assertEquals(42.0d, operations.max());
+        assertEquals(9, operations.takeSnapshot().histogramCounts().length);
+
+        final Timer duration = meterRegistry.get("database.request.duration")
+            .tag("endpoint", "ActorResource.listActors").timer();
+        assertEquals(32.0d, duration.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(10, duration.takeSnapshot().histogramCounts().length);
+    }
+
+    @Test
+    @DisplayName("recordRepeatedOperation counts per endpoint, entity and operation")
+    void recordRepeatedOperation_CountsPerEndpointEntityAndOperation()
+    {
+        recorder.recordRepeatedOperation("ActorResource.listActors", "ActorRecord", "findById");
+        recorder.recordRepeatedOperation("ActorResource.listActors", "ActorRecord", "findById");
+
+        assertEquals(2.0d, meterRegistry.get("database.request.repeated.operations")
+            .tags("endpoint", "ActorResource.listActors", "entity", "ActorRecord", "operation", "findById")
+            .counter().count());
+    }
+}
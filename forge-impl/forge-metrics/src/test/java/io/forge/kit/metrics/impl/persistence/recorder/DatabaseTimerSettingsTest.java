@@ -0,0 +1,70 @@
+package io.forge.kit.metrics.impl.persistence.recorder;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.smallrye.config.SmallRyeConfigBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DatabaseTimerSettingsTest
+{
+    @Test
+    @DisplayName("the settings reject a sketch accuracy outside [0, 1)")
+    void constructor_RejectsSketchAccuracyOutOfRange()
+    {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> new DatabaseTimerSettings(List.of(), false, 1.5d, Duration.ofNanos(50_000L), Duration.ofSeconds(10L)));
+
+        assertTrue(exception.getMessage().contains("Sketch accuracy must be 0 (none) or between 0 and 1 exclusive: 1.5"));
+    }
+
+    @Test
+    @DisplayName("validate names the entity whose sketch accuracy is out of range")
+    void validate_FailsForEntityOverride_WithSketchAccuracyOutOfRange()
+    {
+        final Config config = config(Map.of(
+            "forge.metrics.database.timer.sketch-accuracy", "0.05",
+            "forge.metrics.database.timer.ActorRecord.sketch-accuracy", "5"));
+
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> DatabaseTimerSettings.validate(config));
+
+        assertTrue(exception.getMessage().contains("for entity ActorRecord"));
+    }
+
+    @Test
+    @DisplayName("validate rejects a sketch without a positive, increasing expected range")
+    void validate_FailsForSketch_WithEmptyExpectedRange()
+    {
+        final Config config = config(Map.of(
+            "forge.metrics.database.timer.sketch-accuracy", "0.1",
+            "forge.metrics.database.timer.maximum-expected-value", "PT0.00001S"));
+
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> DatabaseTimerSettings.validate(config));
+
+        assertTrue(exception.getMessage().contains("for all entities"));
+    }
+
+    @Test
+    @DisplayName("validate accepts valid settings for all entities and overrides")
+    void validate_AcceptsValidSettings()
+    {
+        final Config config = config(Map.of(
+            "forge.metrics.database.timer.slos", "PT0.001S,PT0.005S",
+            "forge.metrics.database.timer.ActorRecord.sketch-accuracy", "0.05"));
+
+        assertDoesNotThrow(() -> DatabaseTimerSettings.validate(config));
+    }
+
+    private static Config config(final Map<String, String> properties)
+    {
+        return new SmallRyeConfigBuilder().withDefaultValues(properties).build();
+    }
+}
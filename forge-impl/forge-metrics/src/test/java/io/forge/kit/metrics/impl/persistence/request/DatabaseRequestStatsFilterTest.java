@@ -0,0 +1,139 @@
+package io.forge.kit.metrics.impl.persistence.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.forge.kit.metrics.impl.domain.support.InlineMeterWriter;
+import io.forge.kit.metrics.impl.domain.support.MeterHandleCache;
+import io.forge.kit.metrics.impl.persistence.recorder.DatabaseRequestMetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DatabaseRequestStatsFilterTest
+{
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DatabaseRequestMetricsRecorder recorder =
+        new DatabaseRequestMetricsRecorder(new MeterHandleCache(meterRegistry), new InlineMeterWriter());
+
+    private final DatabaseRequestStats stats = new DatabaseRequestStats();
+
+    private final DatabaseRequestTracker tracker = new DatabaseRequestTracker(true, () -> true, stats);
+
+    private final SimpleResourceInfo resourceInfo = mock(SimpleResourceInfo.class);
+
+    private final ContainerResponseContext responseContext = mock(ContainerResponseContext.class);
+
+    private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+    @BeforeEach
+    void setUp()
+    {
+        doReturn(ActorResource.class).when(resourceInfo).getResourceClass();
+        when(resourceInfo.getMethodName()).thenReturn("listActors");
+        when(responseContext.getHeaders()).thenReturn(headers);
+    }
+
+    @Test
+    @DisplayName("filter records operation count and database time per endpoint")
+    void filter_RecordsOperationCountAndDuration_PerEndpoint()
+    {
+        stats.record("ActorRecord", "findAll", TimeUnit.MILLISECONDS.toNanos(3L));
+        stats.record("SessionRecord", "findById", TimeUnit.MILLISECONDS.toNanos(2L));
+
+        new DatabaseRequestStatsFilter(tracker, recorder, 20, false).filter(resourceInfo, responseContext);
+
+        assertEquals(2.0d, meterRegistry.get("database.request.operations")
+            .tag("endpoint", "ActorResource.listActors").summary().totalAmount());
+        assertEquals(5.0d, meterRegistry.get("database.request.duration")
+            .tag("endpoint", "ActorResource.listActors").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertNull(meterRegistry.find("database.request.repeated.operations").counter());
+        assertEquals(List.of(), headers.getOrDefault("Server-Timing", List.of()));
+    }
+
+    @Test
+    @DisplayName("filter counts operations repeated more than the threshold as likely N+1")
+    void filter_CountsRepeatedOperations_AboveThreshold()
+    {
+        for (int i = 0; i < 4; i++)
+        {
+            stats.record("ActorRecord", "findById", 1_000L);
+        }
+        stats.record("ActorRecord", "findAll", 1_000L);
+
+        new DatabaseRequestStatsFilter(tracker, recorder, 3, false).filter(resourceInfo, responseContext);
+
+        assertEquals(1.0d, meterRegistry.get("database.request.repeated.operations")
+            .tags("endpoint", "ActorResource.listActors", "entity", "ActorRecord", "operation", "findById")
+            .counter().count());
+        assertNull(meterRegistry.find("database.request.repeated.operations").tag("operation", "findAll").counter());
+    }
+
+    @Test
+    @DisplayName("filter counts every request that repeats an operation above the threshold")
+    void filter_CountsEveryRepeatingRequest()
+    {
+        final DatabaseRequestStatsFilter filter = new DatabaseRequestStatsFilter(tracker, recorder, 3, false);
+        for (int request = 0; request < 3; request++)
+        {
+            for (int i = 0; i < 4; i++)
+            {
+                stats.record("ActorRecord", "findById", 1_000L);
+            }
+            filter.filter(resourceInfo, responseContext);
+        }
+
+        assertEquals(3.0d, meterRegistry.get("database.request.repeated.operations")
+            .tags("endpoint", "ActorResource.listActors", "entity", "ActorRecord", "operation", "findById")
+            .counter().count());
+    }
+
+    @Test
+    @DisplayName("filter adds a Server-Timing header when enabled")
+    void filter_AddsServerTimingHeader_WhenEnabled()
+    {
+        stats.record("ActorRecord", "findAll", 12_345_678L);
+
+        new DatabaseRequestStatsFilter(tracker, recorder, 20, true).filter(resourceInfo, responseContext);
+
+        assertEquals(List.of("db;dur=12.346;desc=\"1 operations\""), headers.get("Server-Timing"));
+    }
+
+    @Test
+    @DisplayName("filter records nothing for requests without database operations")
+    void filter_RecordsNothing_WithoutDatabaseOperations()
+    {
+        new DatabaseRequestStatsFilter(tracker, recorder, 20, true).filter(resourceInfo, responseContext);
+
+        assertNull(meterRegistry.find("database.request.operations").summary());
+        assertNull(headers.get("Server-Timing"));
+    }
+
+    @Test
+    @DisplayName("filter tags requests that matched no resource method as unmatched")
+    void filter_TagsUnmatchedRequests()
+    {
+        doReturn(null).when(resourceInfo).getResourceClass();
+        stats.record("ActorRecord", "findAll", 1_000L);
+
+        new DatabaseRequestStatsFilter(tracker, recorder, 20, false).filter(resourceInfo, responseContext);
+
+        assertEquals(1L, meterRegistry.get("database.request.operations").tag("endpoint", "unmatched").summary().count());
+    }
+
+    static class ActorResource
+    {
+    }
+}
@@ -0,0 +1,47 @@
+package io.forge.kit.metrics.impl.persistence.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DatabaseRequestStatsTest
+{
+    private final DatabaseRequestStats stats = new DatabaseRequestStats();
+
+    @Test
+    @DisplayName("record sums operation count and duration across entities and operations")
+    void record_SumsCountAndDuration()
+    {
+        stats.record("ActorRecord", "findById", 1_000L);
+        stats.record("ActorRecord", "save", 2_000L);
+        stats.record("SessionRecord", "findById", 3_000L);
+
+        assertEquals(3, stats.operationCount());
+        assertEquals(6_000L, stats.totalNanos());
+    }
+
+    @Test
+    @DisplayName("operationCounts tallies repeats per entity and operation in order of first use")
+    void operationCounts_TalliesRepeatsPerEntityAndOperation()
+    {
+        stats.record("ActorRecord", "findById", 1L);
+        stats.record("SessionRecord", "findById", 1L);
+        stats.record("ActorRecord", "findById", 1L);
+        stats.record("ActorRecord", "findById", 1L);
+
+        assertEquals(List.of(
+            new DatabaseRequestStats.OperationCount("ActorRecord", "findById", 3),
+            new DatabaseRequestStats.OperationCount("SessionRecord", "findById", 1)), stats.operationCounts());
+    }
+
+    @Test
+    @DisplayName("a request without database operations reports nothing")
+    void emptyRequest_ReportsNothing()
+    {
+        assertEquals(0, stats.operationCount());
+        assertEquals(0L, stats.totalNanos());
+        assertEquals(List.of(), stats.operationCounts());
+    }
+}
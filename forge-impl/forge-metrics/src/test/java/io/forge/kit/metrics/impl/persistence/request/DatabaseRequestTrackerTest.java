@@ -0,0 +1,53 @@
+package io.forge.kit.metrics.impl.persistence.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DatabaseRequestTrackerTest
+{
+    private final DatabaseRequestStats stats = new DatabaseRequestStats();
+
+    private final AtomicBoolean requestActive = new AtomicBoolean(true);
+
+    @Test
+    @DisplayName("record adds operations to the request stats while a request is active")
+    void record_AddsOperations_WhileRequestActive()
+    {
+        final DatabaseRequestTracker tracker = new DatabaseRequestTracker(true, requestActive::get, stats);
+
+        tracker.record("ActorRecord", "findById", 1_000L);
+
+        assertEquals(1, stats.operationCount());
+        assertSame(stats, tracker.currentRequest());
+    }
+
+    @Test
+    @DisplayName("record skips operations outside a request")
+    void record_SkipsOperations_OutsideRequest()
+    {
+        final DatabaseRequestTracker tracker = new DatabaseRequestTracker(true, requestActive::get, stats);
+        requestActive.set(false);
+
+        tracker.record("ActorRecord", "findById", 1_000L);
+
+        assertEquals(0, stats.operationCount());
+        assertNull(tracker.currentRequest());
+    }
+
+    @Test
+    @DisplayName("record does nothing when tracking is disabled")
+    void record_DoesNothing_WhenDisabled()
+    {
+        final DatabaseRequestTracker tracker = new DatabaseRequestTracker(false, requestActive::get, stats);
+
+        tracker.record("ActorRecord", "findById", 1_000L);
+
+        assertEquals(0, stats.operationCount());
+        assertNull(tracker.currentRequest());
+    }
+}
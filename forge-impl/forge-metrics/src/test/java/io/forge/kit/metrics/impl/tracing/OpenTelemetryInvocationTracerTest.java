@@ -0,0 +1,147 @@
+package io.forge.kit.metrics.impl.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.forge.kit.metrics.api.dto.MetricsResultIndicator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.interceptor.InvocationContext;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OpenTelemetryInvocationTracerTest
+{
+    private final List<SpanData> endedSpans = new CopyOnWriteArrayList<>();
+
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+        .addSpanProcessor(new CollectingSpanProcessor(endedSpans))
+        .build();
+
+    private final io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+
+    private final OpenTelemetryInvocationTracer tracer = new OpenTelemetryInvocationTracer(otelTracer);
+
+    private final InvocationContext context = mock(InvocationContext.class);
+
+    @AfterEach
+    void tearDown()
+    {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("startSpan returns the no-op span outside a sampled trace")
+    void startSpan_ReturnsNoop_WhenNotTraced()
+    {
+        assertSame(InvocationSpan.NOOP, tracer.startSpan(context));
+    }
+
+    @Test
+    @DisplayName("startSpan creates a child span of the current sampled span")
+    void startSpan_CreatesChildSpan_WhenTraced() throws Exception
+    {
+        when(context.getMethod()).thenReturn(Target.class.getMethod("find"));
+        final Span parent = otelTracer.spanBuilder("request").startSpan();
+        final String currentSpanId;
+
+        try (Scope ignored = parent.makeCurrent())
+        {
+            final InvocationSpan span = tracer.startSpan(context);
+            span.setAttribute("metrics.type", "user");
+            try (InvocationSpan.Scope spanScope = span.makeCurrent())
+            {
+                // Meters recorded here reference the current span as their exemplar
+                currentSpanId = Span.current().getSpanContext().getSpanId();
+            }
+            span.end(new TestResult(true));
+        }
+        parent.end();
+
+        final SpanData child = endedSpans.get(0);
+        assertEquals("Target.find", child.getName());
+        assertEquals(child.getSpanId(), currentSpanId);
+        assertEquals(parent.getSpanContext().getSpanId(), child.getParentSpanId());
+        assertEquals("find", child.getAttributes().get(AttributeKey.stringKey("code.function")));
+        assertEquals("user", child.getAttributes().get(AttributeKey.stringKey("metrics.type")));
+        assertEquals("success", child.getAttributes().get(AttributeKey.stringKey("metrics.result")));
+        assertEquals(StatusCode.UNSET, child.getStatus().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("end marks failed indicators and exceptions as errors")
+    void end_MarksFailuresAsErrors() throws Exception
+    {
+        when(context.getMethod()).thenReturn(Target.class.getMethod("find"));
+        final Span parent = otelTracer.spanBuilder("request").startSpan();
+
+        try (Scope ignored = parent.makeCurrent())
+        {
+            tracer.startSpan(context).end(new TestResult(false));
+            tracer.startSpan(context).end(new IllegalStateException("boom"));
+        }
+        parent.end();
+
+        assertEquals("failure", endedSpans.get(0).getAttributes().get(AttributeKey.stringKey("metrics.result")));
+        assertEquals(StatusCode.ERROR, endedSpans.get(0).getStatus().getStatusCode());
+        assertEquals("exception", endedSpans.get(1).getAttributes().get(AttributeKey.stringKey("metrics.result")));
+        assertEquals(StatusCode.ERROR, endedSpans.get(1).getStatus().getStatusCode());
+        assertEquals("exception", endedSpans.get(1).getEvents().get(0).getName());
+    }
+
+    static class Target
+    {
+        public String find()
+        {
+            return "result";
+        }
+    }
+
+    private record TestResult(boolean success) implements MetricsResultIndicator
+    {
+        @Override
+        public String errorMessage()
+        {
+            return success ? null : "failed";
+        }
+    }
+
+    private record CollectingSpanProcessor(List<SpanData> endedSpans) implements SpanProcessor
+    {
+        @Override
+        public void onStart(final Context parentContext, final ReadWriteSpan span)
+        {
+        }
+
+        @Override
+        public boolean isStartRequired()
+        {
+            return false;
+        }
+
+        @Override
+        public void onEnd(final ReadableSpan span)
+        {
+            endedSpans.add(span.toSpanData());
+        }
+
+        @Override
+        public boolean isEndRequired()
+        {
+            return true;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.forge.kit.security.impl.infrastructure;
 
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import io.forge.kit.security.api.rest.AllowedServices;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.interceptor.InvocationContext;
 
 /**
@@ -10,6 +12,14 @@ import jakarta.interceptor.InvocationContext;
 @ApplicationScoped
 public final class AllowedServicesResolver
 {
+    private final AnnotationResolver annotationResolver;
+
+    @Inject
+    public AllowedServicesResolver(final AnnotationResolver annotationResolver)
+    {
+        this.annotationResolver = annotationResolver;
+    }
+
     /**
      * Gets the allowed services annotation from the method or class.
      *
@@ -18,13 +28,14 @@ public final class AllowedServicesResolver
      */
     public AllowedServices getAnnotation(final InvocationContext context)
     {
-        final AllowedServices methodAnnotation = context.getMethod().getAnnotation(AllowedServices.class);
-        if (methodAnnotation != null)
+        // Lookups are memoized per method/type, so reflection only happens on first use
+        final AllowedServices annotation = annotationResolver.resolve(context.getMethod(), AllowedServices.class);
+        if (annotation != null)
         {
-            return methodAnnotation;
+            return annotation;
         }
 
-        return context.getTarget().getClass().getAnnotation(AllowedServices.class);
+        return annotationResolver.resolveOnType(context.getTarget().getClass(), AllowedServices.class);
     }
 
     /**
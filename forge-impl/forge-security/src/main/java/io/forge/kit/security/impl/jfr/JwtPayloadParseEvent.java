@@ -0,0 +1,45 @@
+package io.forge.kit.security.impl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for decoding and parsing the payload of a JWT. The token itself is never recorded.
+ */
+@Name("io.forge.kit.JwtPayloadParse")
+@Label("JWT Payload Parse")
+@Category({"Forge Kit", "Security"})
+@Description("Base64 decoding and JSON parsing of a JWT payload")
+@StackTrace(false)
+public final class JwtPayloadParseEvent extends Event
+{
+    @Label("Token Length")
+    @DataAmount(DataAmount.BYTES)
+    private int tokenLength;
+
+    @Label("Parsed")
+    @Description("Whether the token yielded a payload")
+    private boolean parsed;
+
+    /**
+     * Ends the parse and commits the event if it is enabled and exceeds its threshold.
+     *
+     * @param jwtToken the token that was parsed, possibly null
+     * @param parsed   whether a payload was produced
+     */
+    public void complete(final String jwtToken, final boolean parsed)
+    {
+        end();
+        if (shouldCommit())
+        {
+            this.tokenLength = jwtToken != null ? jwtToken.length() : 0;
+            this.parsed = parsed;
+            commit();
+        }
+    }
+}
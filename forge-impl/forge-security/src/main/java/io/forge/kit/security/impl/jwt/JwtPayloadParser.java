@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.forge.kit.common.impl.lang.Base64Utils;
+import io.forge.kit.security.impl.jfr.JwtPayloadParseEvent;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Optional;
@@ -20,6 +21,15 @@ public final class JwtPayloadParser
     {}
 
     public static Optional<JsonNode> parsePayload(final String jwtToken)
+    {
+        final JwtPayloadParseEvent event = new JwtPayloadParseEvent();
+        event.begin();
+        final Optional<JsonNode> payload = decodePayload(jwtToken);
+        event.complete(jwtToken, payload.isPresent());
+        return payload;
+    }
+
+    private static Optional<JsonNode> decodePayload(final String jwtToken)
     {
         try
         {
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
 import io.forge.kit.security.api.rest.AllowedServices;
 import jakarta.interceptor.InvocationContext;
 import java.lang.reflect.Method;
@@ -23,7 +24,7 @@ class AllowedServicesResolverTest
         // getTarget() is not called when method annotation is present, so use lenient
         lenient().when(context.getTarget()).thenReturn(new TestTarget());
 
-        final AllowedServices annotation = new AllowedServicesResolver().getAnnotation(context);
+        final AllowedServices annotation = new AllowedServicesResolver(new AnnotationResolver()).getAnnotation(context);
 
         assertArrayEquals(new String[]{"service-1", "service-2"}, annotation.value());
     }
@@ -36,7 +37,7 @@ class AllowedServicesResolverTest
         when(context.getMethod()).thenReturn(method);
         when(context.getTarget()).thenReturn(new ClassAnnotatedTarget());
 
-        final AllowedServices annotation = new AllowedServicesResolver().getAnnotation(context);
+        final AllowedServices annotation = new AllowedServicesResolver(new AnnotationResolver()).getAnnotation(context);
 
         assertArrayEquals(new String[]{"class-service"}, annotation.value());
     }
@@ -49,7 +50,7 @@ class AllowedServicesResolverTest
         when(context.getMethod()).thenReturn(method);
         when(context.getTarget()).thenReturn(new NoAnnotationTarget());
 
-        final AllowedServices annotation = new AllowedServicesResolver().getAnnotation(context);
+        final AllowedServices annotation = new AllowedServicesResolver(new AnnotationResolver()).getAnnotation(context);
 
         assertNull(annotation);
     }
@@ -58,7 +59,7 @@ class AllowedServicesResolverTest
     @DisplayName("getAllowedServices returns empty array when annotation is null")
     void getAllowedServices_ReturnsEmptyArray_WhenAnnotationIsNull()
     {
-        final String[] result = new AllowedServicesResolver().getAllowedServices(null);
+        final String[] result = new AllowedServicesResolver(new AnnotationResolver()).getAllowedServices(null);
 
         assertArrayEquals(new String[0], result);
     }
@@ -71,9 +72,9 @@ class AllowedServicesResolverTest
         when(context.getMethod()).thenReturn(method);
         // getTarget() is not called when method annotation is present, so use lenient
         lenient().when(context.getTarget()).thenReturn(new TestTarget());
-        final AllowedServices annotation = new AllowedServicesResolver().getAnnotation(context);
+        final AllowedServices annotation = new AllowedServicesResolver(new AnnotationResolver()).getAnnotation(context);
 
-        final String[] result = new AllowedServicesResolver().getAllowedServices(annotation);
+        final String[] result = new AllowedServicesResolver(new AnnotationResolver()).getAllowedServices(annotation);
 
         assertArrayEquals(new String[]{"service-1", "service-2"}, result);
     }
@@ -86,9 +87,9 @@ class AllowedServicesResolverTest
         when(context.getMethod()).thenReturn(method);
         // getTarget() is not called when method annotation is present, so use lenient
         lenient().when(context.getTarget()).thenReturn(new TestTarget());
-        final AllowedServices annotation = new AllowedServicesResolver().getAnnotation(context);
+        final AllowedServices annotation = new AllowedServicesResolver(new AnnotationResolver()).getAnnotation(context);
 
-        final String[] result = new AllowedServicesResolver().getAllowedServices(annotation);
+        final String[] result = new AllowedServicesResolver(new AnnotationResolver()).getAllowedServices(annotation);
 
         assertArrayEquals(new String[0], result);
     }
@@ -0,0 +1,85 @@
+package io.forge.kit.throttle.impl.client;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.throttle.api.client.Throttled;
+import io.forge.kit.throttle.api.client.exception.ThrottledException;
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+import io.forge.kit.throttle.api.infrastructure.RateLimiter;
+import io.forge.kit.throttle.impl.infrastructure.ThrottledRateLimiterRegistry;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.time.Duration;
+import org.jboss.logging.Logger;
+
+/**
+ * CDI interceptor that enforces client-side (outbound) rate limits for methods annotated with {@link Throttled}.
+ *
+ * <p>The interceptor:
+ * <ul>
+ * <li>Resolves the bucket key from the annotation, or derives it from {@code ClassName#methodName}</li>
+ * <li>Consumes a permit from the key's rate limiter before invoking the method</li>
+ * <li>Waits for a permit (up to {@link Throttled#maxWaitMillis()}) when running on a virtual thread</li>
+ * <li>Fails fast with {@link ThrottledException} on platform threads or when the wait budget is exceeded</li>
+ * </ul>
+ *
+ * <p>Interceptors with a lower priority wrap those with a higher one. SmallRye Fault Tolerance runs at
+ * {@code PLATFORM_AFTER + 10} (4010) and therefore wraps this interceptor (4100): fault tolerance runs first, and every
+ * {@code @Retry} attempt passes through the throttle again and consumes a permit, so retries cannot amplify load beyond
+ * the downstream quota. A {@link ThrottledException} is seen by {@code @Retry} and {@code @CircuitBreaker} like any other
+ * failure of the attempt.
+ */
+@Throttled(permitsPerSecond = 0L)
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 100) // 4100
+public final class ThrottledInterceptor
+{
+    private static final Logger LOGGER = Logger.getLogger(ThrottledInterceptor.class);
+
+    private final ThrottledRateLimiterRegistry registry;
+
+    private final AnnotationResolver annotationResolver;
+
+    @Inject
+    public ThrottledInterceptor(final ThrottledRateLimiterRegistry registry,
+                                final AnnotationResolver annotationResolver)
+    {
+        this.registry = registry;
+        this.annotationResolver = annotationResolver;
+    }
+
+    @AroundInvoke
+    public Object throttle(final InvocationContext context) throws Exception
+    {
+        final Throttled annotation = annotationResolver.resolve(context.getMethod(), Throttled.class);
+        if (annotation == null)
+        {
+            return context.proceed();
+        }
+
+        final String key = resolveKey(context, annotation);
+        final RateLimiter limiter = registry.limiterFor(key, annotation.permitsPerSecond());
+        final RateLimitStatus status = Thread.currentThread().isVirtual()
+            ? limiter.tryConsume(key, Duration.ofMillis(annotation.maxWaitMillis()))
+            : limiter.tryConsume(key);
+
+        if (!status.allowed())
+        {
+            LOGGER.debugf("Client rate limit exceeded for key [%s] (limit=%d, retryAfter=%ds)", key, status.limit(), status.retryAfterSeconds());
+            throw new ThrottledException(key, status.retryAfterSeconds());
+        }
+
+        return context.proceed();
+    }
+
+    private static String resolveKey(final InvocationContext context, final Throttled annotation)
+    {
+        if (!annotation.key().isEmpty())
+        {
+            return annotation.key();
+        }
+        return context.getMethod().getDeclaringClass().getSimpleName() + "#" + context.getMethod().getName();
+    }
+}
@@ -0,0 +1,219 @@
+package io.forge.kit.throttle.impl.event;
+
+import io.forge.kit.throttle.api.event.RateLimitEvent;
+import io.forge.kit.throttle.api.event.RateLimitEventListener;
+import io.forge.kit.throttle.api.event.RateLimitEventStats;
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+/**
+ * Delivers rate limit decisions from the rate limiter engine to every {@link RateLimitEventListener} bean.
+ *
+ * <p>Synchronous listeners are called on the publishing thread. Events for batched listeners are offered to a bounded
+ * queue drained by a single daemon thread, which hands each listener batches of up to {@code max-batch-size} events.
+ * When the queue is full the event is dropped and counted in {@link #droppedCount()}, which the metrics module exports,
+ * so publishing never blocks a request:
+ * <pre>{@code
+ * forge.rate-limit.events.queue-capacity=8192
+ * forge.rate-limit.events.max-batch-size=256
+ * }</pre>
+ *
+ * <p>With no listeners registered, {@link #publish(String, RateLimitStatus)} returns immediately without allocating.
+ */
+@ApplicationScoped
+public class RateLimitEventDispatcher implements RateLimitEventStats
+{
+    private static final Logger LOGGER = Logger.getLogger(RateLimitEventDispatcher.class);
+
+    private static final String QUEUE_CAPACITY_PROPERTY = "forge.rate-limit.events.queue-capacity";
+    private static final String MAX_BATCH_SIZE_PROPERTY = "forge.rate-limit.events.max-batch-size";
+    private static final int DEFAULT_QUEUE_CAPACITY = 8_192;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+    private static final long IDLE_POLL_MILLIS = 100L;
+
+    private final RateLimitEventListener[] synchronousListeners;
+    private final RateLimitEventListener[] batchedListeners;
+    private final BlockingQueue<RateLimitEvent> queue;
+    private final int maxBatchSize;
+    private final List<RateLimitEvent> batch;
+    private final List<RateLimitEvent> batchView;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread consumer;
+
+    private volatile boolean running = true;
+
+    @Inject
+    public RateLimitEventDispatcher(final Instance<RateLimitEventListener> listeners)
+    {
+        this(listeners,
+            ConfigProvider.getConfig().getOptionalValue(QUEUE_CAPACITY_PROPERTY, Integer.class).orElse(DEFAULT_QUEUE_CAPACITY),
+            ConfigProvider.getConfig().getOptionalValue(MAX_BATCH_SIZE_PROPERTY, Integer.class).orElse(DEFAULT_MAX_BATCH_SIZE),
+            true);
+    }
+
+    /**
+     * Creates the dispatcher; without a consumer thread, batched listeners are only called via {@link #drain()}.
+     */
+    RateLimitEventDispatcher(final Iterable<RateLimitEventListener> listeners, final int queueCapacity,
+                             final int maxBatchSize, final boolean startConsumer)
+    {
+        final List<RateLimitEventListener> synchronous = new ArrayList<>();
+        final List<RateLimitEventListener> batched = new ArrayList<>();
+        for (final RateLimitEventListener listener : listeners)
+        {
+            (listener.delivery() == RateLimitEventListener.Delivery.BATCHED ? batched : synchronous).add(listener);
+        }
+
+        this.synchronousListeners = synchronous.toArray(RateLimitEventListener[]::new);
+        this.batchedListeners = batched.toArray(RateLimitEventListener[]::new);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batch = new ArrayList<>(this.maxBatchSize);
+        this.batchView = Collections.unmodifiableList(batch);
+        this.queue = batched.isEmpty() ? null : new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.consumer = startConsumer && queue != null
+            ? Thread.ofPlatform().daemon().name("forge-rate-limit-events").start(this::drainLoop)
+            : null;
+    }
+
+    /**
+     * Publishes a rate limit decision to all listeners.
+     *
+     * @param key    the rate limit key
+     * @param status the decision
+     * @return {@code status}, so engines can publish inline with their return
+     */
+    public RateLimitStatus publish(final String key, final RateLimitStatus status)
+    {
+        if (synchronousListeners.length == 0 && queue == null)
+        {
+            return status;
+        }
+
+        final RateLimitEvent event = new RateLimitEvent(key, status, System.nanoTime());
+        for (final RateLimitEventListener listener : synchronousListeners)
+        {
+            try
+            {
+                listener.onEvent(event);
+            }
+            catch (final RuntimeException e)
+            {
+                // A failing listener must never change the rate limit decision
+                LOGGER.warnf(e, "Rate limit event listener %s failed", listener.getClass().getName());
+            }
+        }
+
+        if (queue != null && !queue.offer(event))
+        {
+            dropped.increment();
+        }
+
+        return status;
+    }
+
+    /**
+     * Returns the number of events discarded because the batch queue was full.
+     */
+    @Override
+    public long droppedCount()
+    {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        running = false;
+        if (consumer == null)
+        {
+            return;
+        }
+        consumer.interrupt();
+        try
+        {
+            consumer.join(TimeUnit.SECONDS.toMillis(5L));
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hands up to one batch of queued events to the batched listeners. Must only be called from a single thread.
+     *
+     * @return number of events delivered
+     */
+    int drain()
+    {
+        if (queue == null)
+        {
+            return 0;
+        }
+        queue.drainTo(batch, maxBatchSize);
+        return deliverBatch();
+    }
+
+    private void drainLoop()
+    {
+        while (running)
+        {
+            try
+            {
+                final RateLimitEvent first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null)
+                {
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    deliverBatch();
+                }
+            }
+            catch (final InterruptedException e)
+            {
+                // Shutdown - fall through to the final drain
+                break;
+            }
+        }
+
+        while (drain() > 0)
+        {
+            // Deliver events published before shutdown
+        }
+    }
+
+    private int deliverBatch()
+    {
+        final int size = batch.size();
+        if (size == 0)
+        {
+            return 0;
+        }
+
+        for (final RateLimitEventListener listener : batchedListeners)
+        {
+            try
+            {
+                listener.onBatch(batchView);
+            }
+            catch (final RuntimeException e)
+            {
+                // A failing listener must not kill the consumer thread
+                LOGGER.warnf(e, "Rate limit event listener %s failed", listener.getClass().getName());
+            }
+        }
+        batch.clear();
+        return size;
+    }
+}
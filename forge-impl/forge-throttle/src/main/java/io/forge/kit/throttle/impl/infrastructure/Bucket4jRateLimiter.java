@@ -1,14 +1,22 @@
 package io.forge.kit.throttle.impl.infrastructure;
 
+import io.forge.kit.throttle.api.infrastructure.BucketOccupancySource;
 import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
 import io.forge.kit.throttle.api.infrastructure.RateLimiter;
 import io.forge.kit.throttle.api.infrastructure.RateLimiterProperties;
+import io.forge.kit.throttle.impl.event.RateLimitEventDispatcher;
+import io.forge.kit.throttle.impl.jfr.RateLimitCheckEvent;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.TimeMeter;
+import io.github.bucket4j.local.LocalBucketBuilder;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
 
 /**
  * Rate limiter implementation using Bucket4j library.
@@ -18,34 +26,150 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p>The class is only created via the producer method in {@link Bucket4jRateLimiterProducer}
  * when properties are available. It has no CDI annotations, so it won't be auto-discovered as a bean.</p>
+ *
+ * <p>When created with a {@link RateLimitEventDispatcher}, every allowed and blocked decision is published to the
+ * registered {@link io.forge.kit.throttle.api.event.RateLimitEventListener}s.</p>
+ *
+ * <p>Every check is also timed as a {@link RateLimitCheckEvent} for JDK Flight Recorder.</p>
  */
-public class Bucket4jRateLimiter implements RateLimiter
+public class Bucket4jRateLimiter implements RateLimiter, BucketOccupancySource
 {
     private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
     private final RateLimiterProperties properties;
+    private final TimeMeter timeMeter;
+    private final RateLimitEventDispatcher events;
 
-    // Package-private constructor for producer and testing
+    // Package-private constructors for producer and testing
     Bucket4jRateLimiter(final RateLimiterProperties properties)
+    {
+        this(properties, null, null);
+    }
+
+    Bucket4jRateLimiter(final RateLimiterProperties properties, final RateLimitEventDispatcher events)
+    {
+        this(properties, null, events);
+    }
+
+    private Bucket4jRateLimiter(final RateLimiterProperties properties, final TimeMeter timeMeter,
+                                final RateLimitEventDispatcher events)
     {
         this.properties = properties;
+        this.timeMeter = timeMeter;
+        this.events = events;
+    }
+
+    /**
+     * Creates a limiter whose buckets refill against the supplied clock instead of wall-clock time.
+     *
+     * <p>Intended for offline replay and simulation, where time is advanced explicitly and runs faster than real
+     * time. Blocking consumption is not supported on a non-wall clock.
+     *
+     * @param properties rate limit configuration
+     * @param nanoClock  clock returning the current (virtual) time in nanoseconds
+     * @return limiter driven by {@code nanoClock}
+     */
+    public static Bucket4jRateLimiter withClock(final RateLimiterProperties properties, final LongSupplier nanoClock)
+    {
+        return new Bucket4jRateLimiter(properties, new TimeMeter()
+        {
+            @Override
+            public long currentTimeNanos()
+            {
+                return nanoClock.getAsLong();
+            }
+
+            @Override
+            public boolean isWallClockBased()
+            {
+                return false;
+            }
+        }, null);
     }
 
     @Override
     public RateLimitStatus tryConsume(final String key)
     {
+        final RateLimitCheckEvent event = new RateLimitCheckEvent();
+        event.begin();
+
         final Bucket bucket = buckets.computeIfAbsent(key, this::createBucket);
         final ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
         final long capacity = properties.resolveCapacityForKey(key);
 
         if (probe.isConsumed())
         {
-            return new RateLimitStatus(true, capacity, probe.getRemainingTokens(), 0L);
+            return publish(key, new RateLimitStatus(true, capacity, probe.getRemainingTokens(), 0L), event);
         }
         else
         {
-            final long retryAfterNanos = probe.getNanosToWaitForRefill();
-            final long retryAfterSeconds = retryAfterNanos > 0L ? (retryAfterNanos / 1_000_000_000L) + 1L : 1L;
-            return new RateLimitStatus(false, capacity, probe.getRemainingTokens(), retryAfterSeconds);
+            return publish(key, new RateLimitStatus(false, capacity, probe.getRemainingTokens(), toRetryAfterSeconds(probe.getNanosToWaitForRefill())), event);
+        }
+    }
+
+    /**
+     * Waits for a permit using Bucket4j's blocking API, which parks the calling thread for the exact refill
+     * time. Parking is cheap on virtual threads, so client-side callers can wait rather than fail.
+     */
+    @Override
+    public RateLimitStatus tryConsume(final String key, final Duration maxWait) throws InterruptedException
+    {
+        if (maxWait.isZero() || maxWait.isNegative())
+        {
+            // Bucket4j rejects non-positive wait budgets - degrade to a plain non-blocking check
+            return tryConsume(key);
+        }
+
+        final RateLimitCheckEvent event = new RateLimitCheckEvent();
+        event.begin();
+
+        final Bucket bucket = buckets.computeIfAbsent(key, this::createBucket);
+        final long capacity = properties.resolveCapacityForKey(key);
+
+        if (bucket.asBlocking().tryConsume(1, maxWait))
+        {
+            return publish(key, new RateLimitStatus(true, capacity, bucket.getAvailableTokens(), 0L), event);
+        }
+
+        // Not obtainable within maxWait - report the current state without consuming
+        final EstimationProbe probe = bucket.estimateAbilityToConsume(1);
+        return publish(key, new RateLimitStatus(false, capacity, probe.getRemainingTokens(), toRetryAfterSeconds(probe.getNanosToWaitForRefill())), event);
+    }
+
+    @Override
+    public int bucketCount()
+    {
+        return buckets.size();
+    }
+
+    /**
+     * Bernoulli-samples the bucket map so each live bucket has an equal chance of selection, stopping once
+     * {@code maxSamples} buckets have been visited. Reading available tokens does not consume them.
+     */
+    @Override
+    public void sampleOccupancy(final int maxSamples, final OccupancySampler sampler)
+    {
+        final int size = buckets.size();
+        if (size == 0 || maxSamples <= 0)
+        {
+            return;
+        }
+
+        final double probability = Math.min(1.0d, (double) maxSamples / size);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sampled = 0;
+
+        for (final Map.Entry<String, Bucket> entry : buckets.entrySet())
+        {
+            if (sampled >= maxSamples)
+            {
+                return;
+            }
+            if (random.nextDouble() < probability)
+            {
+                final String key = entry.getKey();
+                sampler.accept(key, properties.resolveCapacityForKey(key), entry.getValue().getAvailableTokens());
+                sampled++;
+            }
         }
     }
 
@@ -58,6 +182,18 @@ public class Bucket4jRateLimiter implements RateLimiter
         buckets.clear();
     }
 
+    private RateLimitStatus publish(final String key, final RateLimitStatus status, final RateLimitCheckEvent event)
+    {
+        // The flight recorder event times the decision only, not event listeners
+        event.complete(key, status);
+        return events != null ? events.publish(key, status) : status;
+    }
+
+    private static long toRetryAfterSeconds(final long retryAfterNanos)
+    {
+        return retryAfterNanos > 0L ? (retryAfterNanos / 1_000_000_000L) + 1L : 1L;
+    }
+
     private Bucket createBucket(final String key)
     {
         final long capacity = properties.resolveCapacityForKey(key);
@@ -69,8 +205,12 @@ public class Bucket4jRateLimiter implements RateLimiter
             .refillIntervally(refillPerSecond, Duration.ofSeconds(1L))
             .build();
 
-        return Bucket.builder()
-            .addLimit(bandwidth)
-            .build();
+        final LocalBucketBuilder builder = Bucket.builder().addLimit(bandwidth);
+        if (timeMeter != null)
+        {
+            builder.withCustomTimePrecision(timeMeter);
+        }
+
+        return builder.build();
     }
 }
@@ -1,6 +1,7 @@
 package io.forge.kit.throttle.impl.infrastructure;
 
 import io.forge.kit.throttle.api.infrastructure.RateLimiterProperties;
+import io.forge.kit.throttle.impl.event.RateLimitEventDispatcher;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
@@ -11,6 +12,8 @@ import org.jboss.logging.Logger;
  *
  * <p>This producer only creates the {@link Bucket4jRateLimiter} bean if {@link RateLimiterProperties}
  * is available. This ensures the bean is not created when rate limiting is not configured.</p>
+ *
+ * <p>The produced limiter publishes its decisions through the {@link RateLimitEventDispatcher}.</p>
  */
 @ApplicationScoped
 public class Bucket4jRateLimiterProducer
@@ -19,11 +22,12 @@ public class Bucket4jRateLimiterProducer
 
     @Produces
     @ApplicationScoped
-    public Bucket4jRateLimiter produceRateLimiter(final Instance<RateLimiterProperties> propertiesInstance)
+    public Bucket4jRateLimiter produceRateLimiter(final Instance<RateLimiterProperties> propertiesInstance,
+                                                  final RateLimitEventDispatcher events)
     {
         if (propertiesInstance.isResolvable())
         {
-            return new Bucket4jRateLimiter(propertiesInstance.get());
+            return new Bucket4jRateLimiter(propertiesInstance.get(), events);
         }
 
         LOGGER.debug("RateLimiterProperties not available - Bucket4jRateLimiter will not be created");
@@ -0,0 +1,81 @@
+package io.forge.kit.throttle.impl.infrastructure;
+
+import io.forge.kit.throttle.api.infrastructure.RateLimiter;
+import io.forge.kit.throttle.api.infrastructure.RateLimiterProperties;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of client-side rate limiters used by {@link io.forge.kit.throttle.api.client.Throttled} methods.
+ *
+ * <p>Each key gets its own {@link Bucket4jRateLimiter} configured with a fixed rate taken from the annotation, so
+ * outbound quotas reuse the same engine as inbound HTTP throttling without depending on the inbound
+ * {@link RateLimiterProperties} configuration.</p>
+ */
+@ApplicationScoped
+public class ThrottledRateLimiterRegistry
+{
+    private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the limiter for the given key, creating it with the given rate on first use.
+     *
+     * @param key              the rate limit bucket key
+     * @param permitsPerSecond permits issued per second (ignored if the key is already registered)
+     * @return the rate limiter for the key
+     * @throws IllegalArgumentException if {@code permitsPerSecond} is not positive
+     */
+    public RateLimiter limiterFor(final String key, final long permitsPerSecond)
+    {
+        if (permitsPerSecond <= 0L)
+        {
+            throw new IllegalArgumentException(
+                "@Throttled permitsPerSecond must be positive for key [" + key + "], was " + permitsPerSecond);
+        }
+        return limiters.computeIfAbsent(key, ignored -> new Bucket4jRateLimiter(new FixedRateProperties(permitsPerSecond)));
+    }
+
+    /**
+     * {@link RateLimiterProperties} with the same capacity and refill for every key. Capacity equals one second of
+     * permits, so a client can burst at most one second's quota.
+     */
+    private record FixedRateProperties(long permitsPerSecond) implements RateLimiterProperties
+    {
+        @Override
+        public long authenticatedCapacityPerMinute()
+        {
+            return permitsPerSecond;
+        }
+
+        @Override
+        public long unauthenticatedCapacityPerMinute()
+        {
+            return permitsPerSecond;
+        }
+
+        @Override
+        public long authenticatedRefillPerSecond()
+        {
+            return permitsPerSecond;
+        }
+
+        @Override
+        public long unauthenticatedRefillPerSecond()
+        {
+            return permitsPerSecond;
+        }
+
+        @Override
+        public long resolveCapacityForKey(final String key)
+        {
+            return permitsPerSecond;
+        }
+
+        @Override
+        public long resolveRefillPerSecondForKey(final String key)
+        {
+            return permitsPerSecond;
+        }
+    }
+}
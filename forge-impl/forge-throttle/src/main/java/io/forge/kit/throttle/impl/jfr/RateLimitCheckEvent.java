@@ -0,0 +1,53 @@
+package io.forge.kit.throttle.impl.jfr;
+
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a single rate limit check, timed from bucket lookup to decision.
+ *
+ * <p>Only the key tier ({@code user}, {@code service}, {@code ip}, ...) is recorded, never the identifier. Fields are
+ * filled in only when the event will be committed, so a disabled event costs nothing beyond the JIT-eliminated
+ * allocation.
+ */
+@Name("io.forge.kit.RateLimitCheck")
+@Label("Rate Limit Check")
+@Category({"Forge Kit", "Throttle"})
+@Description("Rate limit bucket lookup and token consumption")
+@StackTrace(false)
+public final class RateLimitCheckEvent extends Event
+{
+    @Label("Key Tier")
+    @Description("Prefix of the rate limit key, e.g. user or service")
+    private String tier;
+
+    @Label("Allowed")
+    private boolean allowed;
+
+    @Label("Remaining Tokens")
+    private long remaining;
+
+    /**
+     * Ends the check and commits the event if it is enabled and exceeds its threshold.
+     *
+     * @param key    the rate limit key that was checked
+     * @param status the decision
+     */
+    public void complete(final String key, final RateLimitStatus status)
+    {
+        end();
+        if (shouldCommit())
+        {
+            final int separator = key.indexOf(':');
+            tier = separator > 0 ? key.substring(0, separator) : "unknown";
+            allowed = status.allowed();
+            remaining = status.remaining();
+            commit();
+        }
+    }
+}
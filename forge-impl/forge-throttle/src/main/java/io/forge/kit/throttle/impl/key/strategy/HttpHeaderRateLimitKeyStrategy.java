@@ -10,11 +10,16 @@ import org.apache.commons.lang3.StringUtils;
 @ApplicationScoped
 public final class HttpHeaderRateLimitKeyStrategy
 {
-    @Inject
-    AuthHeaderRateLimitKeyResolver authHeaderRateLimitKeyResolver;
+    private final AuthHeaderRateLimitKeyResolver authHeaderRateLimitKeyResolver;
+    private final IpHeaderRateLimitKeyResolver ipHeaderRateLimitKeyResolver;
 
     @Inject
-    IpHeaderRateLimitKeyResolver ipHeaderRateLimitKeyResolver;
+    public HttpHeaderRateLimitKeyStrategy(final AuthHeaderRateLimitKeyResolver authHeaderRateLimitKeyResolver,
+                                          final IpHeaderRateLimitKeyResolver ipHeaderRateLimitKeyResolver)
+    {
+        this.authHeaderRateLimitKeyResolver = authHeaderRateLimitKeyResolver;
+        this.ipHeaderRateLimitKeyResolver = ipHeaderRateLimitKeyResolver;
+    }
 
     /**
      * Resolve a rate-limiting key from the request context. Priority: service token -> user token -> auth:unidentified
@@ -1,5 +1,6 @@
 package io.forge.kit.throttle.impl.reference;
 
+import io.forge.kit.throttle.api.infrastructure.RateLimitContext;
 import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
 import io.forge.kit.throttle.api.infrastructure.RateLimiter;
 import io.forge.kit.throttle.impl.key.strategy.HttpHeaderRateLimitKeyStrategy;
@@ -27,7 +28,9 @@ import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestCo
  * {@code forge.rate-limit.reference.enabled} property.</p>
  *
  * <p>This module deliberately avoids coupling to logging, metrics, or tracing
- * frameworks. Consumers may layer those concerns externally if desired.</p>
+ * frameworks. Consumers may layer those concerns externally if desired; the
+ * outcome of each check is recorded in the request-scoped {@link RateLimitContext}
+ * for them to read.</p>
  */
 @ApplicationScoped
 @IfBuildProperty(
@@ -43,6 +46,9 @@ public class ReferenceRateLimitingFilter
     @Inject
     HttpHeaderRateLimitKeyStrategy keyResolver;
 
+    @Inject
+    RateLimitContext rateLimitContext;
+
     /**
      * RESTEasy Reactive request filter that enforces rate limiting.
      *
@@ -57,6 +63,7 @@ public class ReferenceRateLimitingFilter
         {
             final String rateLimitKey = keyResolver.resolve(ctx);
             final RateLimitStatus status = rateLimiter.get().tryConsume(rateLimitKey);
+            rateLimitContext.record(rateLimitKey, status);
 
             if (!status.allowed())
             {
@@ -0,0 +1,61 @@
+package io.forge.kit.throttle.impl.simulation;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A single recorded request to be replayed through the rate limiter.
+ *
+ * <p>Log lines are comma-separated: {@code timestamp,authorizationHeader,ip}. The timestamp is either epoch millis or
+ * an ISO-8601 instant. The authorization column may be empty for anonymous traffic. The IP column is taken verbatim
+ * as an {@code X-Forwarded-For} value, so it may itself contain commas.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * 1735689600000,Bearer eyJhbGciOi...,10.0.0.1
+ * 2025-01-01T00:00:00.250Z,,203.0.113.7, 10.0.0.2
+ * }</pre>
+ *
+ * @param timestampMillis     request time in epoch millis
+ * @param authorizationHeader raw {@code Authorization} header, or {@code null} if absent
+ * @param ip                  client IP or {@code X-Forwarded-For} chain, or {@code null} if absent
+ */
+public record AccessLogEntry(long timestampMillis, String authorizationHeader, String ip)
+{
+    /**
+     * Parses a single access-log line.
+     *
+     * @param line comma-separated log line
+     * @return parsed entry
+     * @throws IllegalArgumentException if the line has fewer than three columns or an unparseable timestamp
+     */
+    public static AccessLogEntry parse(final String line)
+    {
+        final String[] columns = line.split(",", 3);
+        if (columns.length < 3)
+        {
+            throw new IllegalArgumentException("Access log line must have timestamp,authorization,ip columns: " + line);
+        }
+
+        return new AccessLogEntry(parseTimestamp(columns[0].trim()), StringUtils.trimToNull(columns[1]),
+            StringUtils.trimToNull(columns[2]));
+    }
+
+    private static long parseTimestamp(final String value)
+    {
+        if (StringUtils.isNumeric(value))
+        {
+            return Long.parseLong(value);
+        }
+
+        try
+        {
+            return Instant.parse(value).toEpochMilli();
+        }
+        catch (final DateTimeParseException e)
+        {
+            throw new IllegalArgumentException("Unparseable access log timestamp: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.forge.kit.throttle.impl.simulation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of replaying an access log through a rate-limit engine.
+ *
+ * @param requests               total requests replayed
+ * @param simulatedSpan          virtual time covered by the log
+ * @param tiers                  allowed/blocked counts per key tier ({@code user}, {@code service}, {@code auth},
+ *                               {@code ip})
+ * @param peakBucketCount        maximum number of live buckets observed, or distinct keys if the engine does not
+ *                               expose its buckets
+ * @param heapGrowthBytes        heap growth over the replay; no collection is forced, so it includes garbage not yet
+ *                               collected and is only an upper bound on the engine's retained memory
+ * @param limiterNanosPerOp      mean wall-clock cost of a single {@code tryConsume} call
+ */
+public record RateLimitSimulationReport(long requests, Duration simulatedSpan, Map<String, TierStats> tiers,
+                                        int peakBucketCount, long heapGrowthBytes, double limiterNanosPerOp)
+{
+    /**
+     * Allowed/blocked counts for a single key tier.
+     */
+    public record TierStats(long allowed, long blocked)
+    {
+        public long total()
+        {
+            return allowed + blocked;
+        }
+
+        public double blockedRate()
+        {
+            return total() == 0L ? 0.0d : (double) blocked / total();
+        }
+    }
+
+    /**
+     * Returns a human-readable, multi-line summary suitable for logging or console output.
+     */
+    public String summary()
+    {
+        final String tierLines = tiers.entrySet().stream()
+            .map(e -> String.format("  %-8s allowed=%d blocked=%d (%.2f%% blocked)", e.getKey(), e.getValue().allowed(),
+                e.getValue().blocked(), e.getValue().blockedRate() * 100.0d))
+            .collect(Collectors.joining(System.lineSeparator()));
+
+        return String.format("Replayed %d requests over %s%n%s%nPeak buckets: %d, heap growth: ~%d KiB, limiter: %.1f ns/op",
+            requests, simulatedSpan, tierLines, peakBucketCount, heapGrowthBytes / 1024L, limiterNanosPerOp);
+    }
+}
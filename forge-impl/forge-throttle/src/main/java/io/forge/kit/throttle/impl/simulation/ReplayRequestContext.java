@@ -0,0 +1,81 @@
+package io.forge.kit.throttle.impl.simulation;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds minimal {@link ContainerRequestContext} views of replayed requests.
+ *
+ * <p>Key strategies only read headers, so the view answers {@code getHeaderString} for {@code Authorization} and
+ * {@code X-Forwarded-For}. {@code equals}, {@code hashCode} and {@code toString} follow object identity; every other
+ * method returns a neutral default ({@code null}, {@code false}, zero or an empty collection), so a strategy reading
+ * properties the log does not record behaves as if the request had none.
+ */
+final class ReplayRequestContext
+{
+    private ReplayRequestContext()
+    {
+        // Utility class
+    }
+
+    static ContainerRequestContext of(final AccessLogEntry entry)
+    {
+        return (ContainerRequestContext) Proxy.newProxyInstance(ContainerRequestContext.class.getClassLoader(),
+            new Class<?>[] {ContainerRequestContext.class}, (proxy, method, args) -> switch (method.getName())
+            {
+                case "getHeaderString" -> header(entry, (String) args[0]);
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "ReplayRequestContext[" + entry + "]";
+                default -> neutralDefault(method);
+            });
+    }
+
+    private static Object neutralDefault(final Method method)
+    {
+        final Class<?> type = method.getReturnType();
+        if (type == boolean.class)
+        {
+            return false;
+        }
+        if (type == int.class)
+        {
+            return 0;
+        }
+        if (type == long.class)
+        {
+            return 0L;
+        }
+        if (type == List.class || type == Collection.class)
+        {
+            return List.of();
+        }
+        if (type == Set.class)
+        {
+            return Set.of();
+        }
+        if (type == Map.class)
+        {
+            return Map.of();
+        }
+        return null;
+    }
+
+    private static String header(final AccessLogEntry entry, final String name)
+    {
+        if ("Authorization".equalsIgnoreCase(name))
+        {
+            return entry.authorizationHeader();
+        }
+        if ("X-Forwarded-For".equalsIgnoreCase(name))
+        {
+            return entry.ip();
+        }
+        return null;
+    }
+}
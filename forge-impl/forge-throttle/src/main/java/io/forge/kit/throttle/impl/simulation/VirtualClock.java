@@ -0,0 +1,33 @@
+package io.forge.kit.throttle.impl.simulation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Monotonic clock advanced explicitly by the replay, allowing rate-limit engines to run faster than real time.
+ *
+ * <p>Time never moves backwards: out-of-order log entries are replayed at the latest time seen so far.
+ */
+public final class VirtualClock implements LongSupplier
+{
+    private long nowNanos;
+
+    /**
+     * Advances the clock to the given epoch millis, if later than the current time.
+     *
+     * @param epochMillis target time
+     */
+    public void advanceTo(final long epochMillis)
+    {
+        nowNanos = Math.max(nowNanos, TimeUnit.MILLISECONDS.toNanos(epochMillis));
+    }
+
+    /**
+     * Returns the current virtual time in nanoseconds.
+     */
+    @Override
+    public long getAsLong()
+    {
+        return nowNanos;
+    }
+}
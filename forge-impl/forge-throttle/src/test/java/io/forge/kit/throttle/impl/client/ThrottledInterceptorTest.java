@@ -0,0 +1,182 @@
+package io.forge.kit.throttle.impl.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.forge.kit.common.impl.reflect.AnnotationResolver;
+import io.forge.kit.throttle.api.client.Throttled;
+import io.forge.kit.throttle.api.client.exception.ThrottledException;
+import io.forge.kit.throttle.impl.infrastructure.ThrottledRateLimiterRegistry;
+import jakarta.interceptor.InvocationContext;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThrottledInterceptorTest
+{
+    private final InvocationContext context = mock(InvocationContext.class);
+
+    @Test
+    @DisplayName("throttle proceeds without limiting when no Throttled annotation")
+    void throttle_Proceeds_WhenNoThrottledAnnotation() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestClient.class.getMethod("unthrottled"));
+        when(context.proceed()).thenReturn("result");
+
+        final ThrottledInterceptor interceptor = new ThrottledInterceptor(new ThrottledRateLimiterRegistry(), new AnnotationResolver());
+
+        assertEquals("result", interceptor.throttle(context));
+        verify(context).proceed();
+    }
+
+    @Test
+    @DisplayName("throttle fails fast on platform threads once permits are exhausted")
+    void throttle_FailsFast_OnPlatformThreadsWhenExhausted() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestClient.class.getMethod("twoPerSecond"));
+        when(context.proceed()).thenReturn("result");
+
+        final ThrottledInterceptor interceptor = new ThrottledInterceptor(new ThrottledRateLimiterRegistry(), new AnnotationResolver());
+        interceptor.throttle(context);
+        interceptor.throttle(context);
+
+        final ThrottledException exception = assertThrows(ThrottledException.class, () -> interceptor.throttle(context));
+
+        assertEquals("downstream-api", exception.getKey());
+        assertTrue(exception.getRetryAfterSeconds() > 0);
+        verify(context, times(2)).proceed();
+    }
+
+    @Test
+    @DisplayName("throttle waits for a permit on virtual threads instead of failing")
+    void throttle_WaitsForPermit_OnVirtualThreads() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestClient.class.getMethod("twoPerSecond"));
+        when(context.proceed()).thenReturn("result");
+
+        final ThrottledInterceptor interceptor = new ThrottledInterceptor(new ThrottledRateLimiterRegistry(), new AnnotationResolver());
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread.ofVirtual().start(() ->
+        {
+            try
+            {
+                // Third call exceeds the bucket and must wait for the next refill
+                for (int i = 0; i < 3; i++)
+                {
+                    interceptor.throttle(context);
+                }
+            }
+            catch (final Exception e)
+            {
+                failure.set(e);
+            }
+        }).join();
+
+        assertEquals(null, failure.get());
+        verify(context, times(3)).proceed();
+    }
+
+    @Test
+    @DisplayName("throttle fails on virtual threads when the wait budget would be exceeded")
+    void throttle_Fails_OnVirtualThreadsWhenWaitBudgetExceeded() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestClient.class.getMethod("noWait"));
+
+        final ThrottledInterceptor interceptor = new ThrottledInterceptor(new ThrottledRateLimiterRegistry(), new AnnotationResolver());
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread.ofVirtual().start(() ->
+        {
+            try
+            {
+                interceptor.throttle(context);
+                interceptor.throttle(context);
+            }
+            catch (final Exception e)
+            {
+                failure.set(e);
+            }
+        }).join();
+
+        assertTrue(failure.get() instanceof ThrottledException);
+        verify(context, times(1)).proceed();
+    }
+
+    @Test
+    @DisplayName("throttle derives the key from class and method name when key is empty")
+    void throttle_DerivesKey_WhenKeyIsEmpty() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestClient.class.getMethod("derivedKey"));
+
+        final ThrottledInterceptor interceptor = new ThrottledInterceptor(new ThrottledRateLimiterRegistry(), new AnnotationResolver());
+        interceptor.throttle(context);
+
+        final ThrottledException exception = assertThrows(ThrottledException.class, () -> interceptor.throttle(context));
+
+        assertEquals("TestClient#derivedKey", exception.getKey());
+    }
+
+    @Test
+    @DisplayName("throttle does not invoke the method when throttled")
+    void throttle_DoesNotProceed_WhenThrottled() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestClient.class.getMethod("derivedKey"));
+
+        final ThrottledRateLimiterRegistry registry = new ThrottledRateLimiterRegistry();
+        registry.limiterFor("TestClient#derivedKey", 1L).tryConsume("TestClient#derivedKey");
+
+        final ThrottledInterceptor interceptor = new ThrottledInterceptor(registry, new AnnotationResolver());
+
+        assertThrows(ThrottledException.class, () -> interceptor.throttle(context));
+        verify(context, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("throttle rejects a non-positive permitsPerSecond with a clear message")
+    void throttle_RejectsNonPositivePermitsPerSecond() throws Exception
+    {
+        when(context.getMethod()).thenReturn(TestClient.class.getMethod("zeroRate"));
+
+        final ThrottledInterceptor interceptor = new ThrottledInterceptor(new ThrottledRateLimiterRegistry(), new AnnotationResolver());
+
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> interceptor.throttle(context));
+        assertEquals("@Throttled permitsPerSecond must be positive for key [zero-rate-api], was 0", exception.getMessage());
+        verify(context, never()).proceed();
+    }
+
+    @SuppressWarnings("unused")
+    static class TestClient
+    {
+        public void unthrottled()
+        {
+        }
+
+        @Throttled(key = "downstream-api", permitsPerSecond = 2L)
+        public void twoPerSecond()
+        {
+        }
+
+        @Throttled(key = "no-wait-api", permitsPerSecond = 1L, maxWaitMillis = 0L)
+        public void noWait()
+        {
+        }
+
+        @Throttled(permitsPerSecond = 1L)
+        public void derivedKey()
+        {
+        }
+
+        @Throttled(key = "zero-rate-api", permitsPerSecond = 0L)
+        public void zeroRate()
+        {
+        }
+    }
+}
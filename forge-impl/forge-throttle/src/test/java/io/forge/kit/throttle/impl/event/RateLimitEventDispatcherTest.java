@@ -0,0 +1,138 @@
+package io.forge.kit.throttle.impl.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.forge.kit.throttle.api.event.RateLimitEvent;
+import io.forge.kit.throttle.api.event.RateLimitEventListener;
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitEventDispatcherTest
+{
+    private static final RateLimitStatus ALLOWED = new RateLimitStatus(true, 10L, 9L, 0L);
+    private static final RateLimitStatus BLOCKED = new RateLimitStatus(false, 10L, 0L, 1L);
+
+    @Test
+    @DisplayName("publish calls synchronous listeners on the publishing thread")
+    void publish_CallsSynchronousListeners_OnPublishingThread()
+    {
+        final List<RateLimitEvent> received = new ArrayList<>();
+        final RateLimitEventDispatcher dispatcher = new RateLimitEventDispatcher(List.of(received::add), 8, 4, false);
+
+        assertSame(BLOCKED, dispatcher.publish("ip:10.0.0.1", BLOCKED));
+
+        assertEquals(1, received.size());
+        assertEquals("ip:10.0.0.1", received.get(0).key());
+        assertEquals(BLOCKED, received.get(0).status());
+    }
+
+    @Test
+    @DisplayName("publish survives a failing synchronous listener")
+    void publish_SurvivesFailingListener()
+    {
+        final List<RateLimitEvent> received = new ArrayList<>();
+        final RateLimitEventListener failing = event ->
+        {
+            throw new IllegalStateException("boom");
+        };
+        final RateLimitEventDispatcher dispatcher = new RateLimitEventDispatcher(List.of(failing, received::add), 8, 4, false);
+
+        assertSame(ALLOWED, dispatcher.publish("user:alice", ALLOWED));
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    @DisplayName("drain hands queued events to batched listeners in batches of at most max-batch-size")
+    void drain_DeliversBatchesOfAtMostMaxBatchSize()
+    {
+        final BatchRecorder batched = new BatchRecorder();
+        final RateLimitEventDispatcher dispatcher = new RateLimitEventDispatcher(List.of(batched), 8, 2, false);
+
+        dispatcher.publish("user:a", ALLOWED);
+        dispatcher.publish("user:b", ALLOWED);
+        dispatcher.publish("user:c", BLOCKED);
+
+        assertEquals(0, batched.batchSizes.size());
+        assertEquals(2, dispatcher.drain());
+        assertEquals(1, dispatcher.drain());
+        assertEquals(0, dispatcher.drain());
+        assertEquals(List.of(2, 1), batched.batchSizes);
+        assertEquals(List.of("user:a", "user:b", "user:c"), batched.keys);
+    }
+
+    @Test
+    @DisplayName("publish drops and counts events when the batch queue is full")
+    void publish_DropsAndCounts_WhenQueueFull()
+    {
+        final BatchRecorder batched = new BatchRecorder();
+        final RateLimitEventDispatcher dispatcher = new RateLimitEventDispatcher(List.of(batched), 2, 8, false);
+
+        for (int i = 0; i < 5; i++)
+        {
+            dispatcher.publish("user:" + i, ALLOWED);
+        }
+
+        assertEquals(3L, dispatcher.droppedCount());
+        assertEquals(2, dispatcher.drain());
+    }
+
+    @Test
+    @DisplayName("consumer thread delivers batched events in the background")
+    void consumer_DeliversBatchedEventsInBackground() throws InterruptedException
+    {
+        final BatchRecorder batched = new BatchRecorder();
+        final RateLimitEventDispatcher dispatcher = new RateLimitEventDispatcher(List.of(batched), 64, 16, true);
+
+        try
+        {
+            for (int i = 0; i < 10; i++)
+            {
+                dispatcher.publish("user:" + i, ALLOWED);
+            }
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+            while (batched.keys.size() < 10 && System.nanoTime() < deadline)
+            {
+                Thread.sleep(5L);
+            }
+            assertEquals(10, batched.keys.size());
+            assertTrue(batched.batchSizes.stream().allMatch(size -> size <= 16));
+        }
+        finally
+        {
+            dispatcher.shutdown();
+        }
+    }
+
+    private static final class BatchRecorder implements RateLimitEventListener
+    {
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final List<String> keys = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Delivery delivery()
+        {
+            return Delivery.BATCHED;
+        }
+
+        @Override
+        public void onEvent(final RateLimitEvent event)
+        {
+            keys.add(event.key());
+        }
+
+        @Override
+        public void onBatch(final List<RateLimitEvent> events)
+        {
+            batchSizes.add(events.size());
+            RateLimitEventListener.super.onBatch(events);
+        }
+    }
+}
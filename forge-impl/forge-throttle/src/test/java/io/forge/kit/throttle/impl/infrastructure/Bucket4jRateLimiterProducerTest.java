@@ -6,6 +6,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.forge.kit.throttle.api.infrastructure.RateLimiterProperties;
+import io.forge.kit.throttle.impl.event.RateLimitEventDispatcher;
 import jakarta.enterprise.inject.Instance;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +24,7 @@ class Bucket4jRateLimiterProducerTest
         when(propertiesInstance.get()).thenReturn(properties);
 
         final Bucket4jRateLimiterProducer producer = new Bucket4jRateLimiterProducer();
-        final Bucket4jRateLimiter result = producer.produceRateLimiter(propertiesInstance);
+        final Bucket4jRateLimiter result = producer.produceRateLimiter(propertiesInstance, mock(RateLimitEventDispatcher.class));
 
         assertNotNull(result);
     }
@@ -37,7 +38,7 @@ class Bucket4jRateLimiterProducerTest
         when(propertiesInstance.isResolvable()).thenReturn(false);
 
         final Bucket4jRateLimiterProducer producer = new Bucket4jRateLimiterProducer();
-        final Bucket4jRateLimiter result = producer.produceRateLimiter(propertiesInstance);
+        final Bucket4jRateLimiter result = producer.produceRateLimiter(propertiesInstance, mock(RateLimitEventDispatcher.class));
 
         assertNull(result);
     }
@@ -3,11 +3,25 @@ package io.forge.kit.throttle.impl.infrastructure;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
 import io.forge.kit.throttle.api.infrastructure.RateLimiterProperties;
+import io.forge.kit.throttle.impl.event.RateLimitEventDispatcher;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -114,4 +128,118 @@ class Bucket4jRateLimiterTest
         assertEquals(9L, status1.remaining()); // 10 - 1
         assertEquals(4L, status2.remaining()); // 5 - 1
     }
+
+    @Test
+    @DisplayName("Waits for refill when a wait budget is given")
+    void waitsForRefillWhenWaitBudgetGiven() throws InterruptedException
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            rateLimiter.tryConsume("test-key");
+        }
+
+        final RateLimitStatus status = rateLimiter.tryConsume("test-key", Duration.ofSeconds(2L));
+
+        assertTrue(status.allowed());
+    }
+
+    @Test
+    @DisplayName("Returns blocked status without waiting when the wait budget is too small")
+    void returnsBlockedStatusWhenWaitBudgetTooSmall() throws InterruptedException
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            rateLimiter.tryConsume("test-key");
+        }
+
+        final RateLimitStatus status = rateLimiter.tryConsume("test-key", Duration.ofMillis(1L));
+
+        assertFalse(status.allowed());
+        assertTrue(status.retryAfterSeconds() > 0);
+    }
+
+    @Test
+    @DisplayName("Samples bucket occupancy without consuming tokens")
+    void samplesBucketOccupancyWithoutConsumingTokens()
+    {
+        rateLimiter.tryConsume("test-key");
+        rateLimiter.tryConsume("ip-key");
+
+        final Map<String, Long> available = new HashMap<>();
+        rateLimiter.sampleOccupancy(10, (key, capacity, tokens) -> available.put(key, tokens));
+
+        assertEquals(2, rateLimiter.bucketCount());
+        assertEquals(Map.of("test-key", 9L, "ip-key", 4L), available);
+        assertEquals(8L, rateLimiter.tryConsume("test-key").remaining());
+    }
+
+    @Test
+    @DisplayName("Stops sampling once the sample bound is reached")
+    void stopsSamplingAtSampleBound()
+    {
+        final RateLimiterProperties properties = mock(RateLimiterProperties.class);
+        when(properties.resolveCapacityForKey(any())).thenReturn(10L);
+        when(properties.resolveRefillPerSecondForKey(any())).thenReturn(10L);
+        final Bucket4jRateLimiter limiter = new Bucket4jRateLimiter(properties);
+
+        for (int i = 0; i < 50; i++)
+        {
+            limiter.tryConsume("test-key-" + i);
+        }
+
+        final List<String> sampled = new ArrayList<>();
+        limiter.sampleOccupancy(5, (key, capacity, tokens) -> sampled.add(key));
+
+        assertTrue(sampled.size() <= 5);
+    }
+
+    @Test
+    @DisplayName("Publishes allowed and blocked decisions to the event dispatcher")
+    void publishesDecisionsToEventDispatcher()
+    {
+        final RateLimiterProperties properties = mock(RateLimiterProperties.class);
+        when(properties.resolveCapacityForKey(any())).thenReturn(1L);
+        when(properties.resolveRefillPerSecondForKey(any())).thenReturn(1L);
+        final RateLimitEventDispatcher events = mock(RateLimitEventDispatcher.class);
+        when(events.publish(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        final Bucket4jRateLimiter limiter = new Bucket4jRateLimiter(properties, events);
+
+        final RateLimitStatus allowed = limiter.tryConsume("user:alice");
+        final RateLimitStatus blocked = limiter.tryConsume("user:alice");
+
+        assertTrue(allowed.allowed());
+        assertFalse(blocked.allowed());
+        verify(events).publish("user:alice", allowed);
+        verify(events).publish("user:alice", blocked);
+    }
+
+    @Test
+    @DisplayName("Records a flight recorder event per check with the key tier but not the identifier")
+    void recordsFlightRecorderEventPerCheck() throws IOException
+    {
+        final RateLimiterProperties properties = mock(RateLimiterProperties.class);
+        when(properties.resolveCapacityForKey(any())).thenReturn(1L);
+        when(properties.resolveRefillPerSecondForKey(any())).thenReturn(1L);
+        final Bucket4jRateLimiter limiter = new Bucket4jRateLimiter(properties);
+        final Path file = Files.createTempFile("rate-limit-check", ".jfr");
+
+        try (Recording recording = new Recording())
+        {
+            recording.enable("io.forge.kit.RateLimitCheck").withThreshold(Duration.ZERO);
+            recording.start();
+            limiter.tryConsume("user:alice");
+            limiter.tryConsume("user:alice");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        assertEquals(2, events.size());
+        assertEquals("user", events.get(0).getString("tier"));
+        assertTrue(events.get(0).getBoolean("allowed"));
+        assertFalse(events.get(1).getBoolean("allowed"));
+        assertEquals(0L, events.get(1).getLong("remaining"));
+    }
 }
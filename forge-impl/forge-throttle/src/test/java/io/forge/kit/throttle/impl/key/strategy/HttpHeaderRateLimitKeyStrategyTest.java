@@ -27,9 +27,7 @@ class HttpHeaderRateLimitKeyStrategyTest
         when(requestContext.getHeaderString("Authorization")).thenReturn("Bearer token123");
         when(authResolver.resolve("Bearer token123")).thenReturn("user:test@example.com");
 
-        final HttpHeaderRateLimitKeyStrategy strategy = new HttpHeaderRateLimitKeyStrategy();
-        strategy.authHeaderRateLimitKeyResolver = authResolver;
-        strategy.ipHeaderRateLimitKeyResolver = ipResolver;
+        final HttpHeaderRateLimitKeyStrategy strategy = new HttpHeaderRateLimitKeyStrategy(authResolver, ipResolver);
 
         final String result = strategy.resolve(requestContext);
 
@@ -49,9 +47,7 @@ class HttpHeaderRateLimitKeyStrategyTest
         when(requestContext.getHeaderString("Authorization")).thenReturn(null);
         when(ipResolver.resolve(requestContext)).thenReturn("ip:192.168.1.1");
 
-        final HttpHeaderRateLimitKeyStrategy strategy = new HttpHeaderRateLimitKeyStrategy();
-        strategy.authHeaderRateLimitKeyResolver = authResolver;
-        strategy.ipHeaderRateLimitKeyResolver = ipResolver;
+        final HttpHeaderRateLimitKeyStrategy strategy = new HttpHeaderRateLimitKeyStrategy(authResolver, ipResolver);
 
         final String result = strategy.resolve(requestContext);
 
@@ -71,9 +67,7 @@ class HttpHeaderRateLimitKeyStrategyTest
         when(requestContext.getHeaderString("Authorization")).thenReturn("   ");
         when(ipResolver.resolve(requestContext)).thenReturn("ip:unknown");
 
-        final HttpHeaderRateLimitKeyStrategy strategy = new HttpHeaderRateLimitKeyStrategy();
-        strategy.authHeaderRateLimitKeyResolver = authResolver;
-        strategy.ipHeaderRateLimitKeyResolver = ipResolver;
+        final HttpHeaderRateLimitKeyStrategy strategy = new HttpHeaderRateLimitKeyStrategy(authResolver, ipResolver);
 
         final String result = strategy.resolve(requestContext);
 
@@ -0,0 +1,192 @@
+package io.forge.kit.throttle.impl.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.forge.kit.security.api.jwt.JwtPrincipalExtractor;
+import io.forge.kit.security.impl.jwt.JwtPrincipalResolver;
+import io.forge.kit.security.impl.reference.ReferenceOidcUserPrincipalExtractor;
+import io.forge.kit.throttle.api.infrastructure.RateLimitStatus;
+import io.forge.kit.throttle.api.infrastructure.RateLimiterProperties;
+import io.forge.kit.throttle.impl.infrastructure.Bucket4jRateLimiter;
+import io.forge.kit.throttle.impl.key.resolver.http.HttpHeaderRateLimitIpKeyResolver;
+import io.forge.kit.throttle.impl.key.resolver.jwt.JwtRateLimitPrincipalKeyResolver;
+import io.forge.kit.throttle.impl.key.strategy.HttpHeaderRateLimitKeyStrategy;
+import jakarta.enterprise.inject.Instance;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RateLimitReplaySimulatorTest
+{
+    private RateLimitReplaySimulator simulator;
+    private RateLimiterProperties properties;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp()
+    {
+        // The live key strategy: bearer tokens keyed by principal, anonymous callers by forwarded IP
+        final Instance<JwtPrincipalExtractor> extractors = mock(Instance.class);
+        when(extractors.spliterator()).thenAnswer(invocation ->
+            List.<JwtPrincipalExtractor>of(new ReferenceOidcUserPrincipalExtractor()).spliterator());
+        final HttpHeaderRateLimitKeyStrategy strategy = new HttpHeaderRateLimitKeyStrategy(
+            new JwtRateLimitPrincipalKeyResolver(new JwtPrincipalResolver(extractors)),
+            new HttpHeaderRateLimitIpKeyResolver());
+
+        properties = mock(RateLimiterProperties.class);
+        when(properties.resolveCapacityForKey(any())).thenReturn(2L);
+        when(properties.resolveRefillPerSecondForKey(any())).thenReturn(2L);
+
+        simulator = new RateLimitReplaySimulator(strategy);
+    }
+
+    @Test
+    @DisplayName("Blocks bursts that exceed capacity within the same virtual second")
+    void blocksBurstsWithinSameVirtualSecond()
+    {
+        final Stream<AccessLogEntry> entries = IntStream.range(0, 5)
+            .mapToObj(i -> new AccessLogEntry(1_000L + i, bearer("alice"), null));
+
+        final RateLimitSimulationReport report = simulator.replay(entries, clock -> Bucket4jRateLimiter.withClock(properties, clock));
+
+        assertEquals(5L, report.requests());
+        assertEquals(2L, report.tiers().get("user").allowed());
+        assertEquals(3L, report.tiers().get("user").blocked());
+    }
+
+    @Test
+    @DisplayName("Refills buckets in virtual time rather than wall-clock time")
+    void refillsBucketsInVirtualTime()
+    {
+        // One request per simulated second for an hour - never throttled, and replayed far faster than real time
+        final Stream<AccessLogEntry> entries = IntStream.range(0, 3_600)
+            .mapToObj(i -> new AccessLogEntry(i * 1_000L, null, "10.0.0.1"));
+
+        final RateLimitSimulationReport report = simulator.replay(entries, clock -> Bucket4jRateLimiter.withClock(properties, clock));
+
+        assertEquals(3_600L, report.tiers().get("ip").allowed());
+        assertEquals(0L, report.tiers().get("ip").blocked());
+        assertEquals(Duration.ofMillis(3_599_000L), report.simulatedSpan());
+    }
+
+    @Test
+    @DisplayName("Reports peak bucket count per distinct key")
+    void reportsPeakBucketCount()
+    {
+        final Stream<AccessLogEntry> entries = Stream.of(
+            new AccessLogEntry(0L, bearer("alice"), null),
+            new AccessLogEntry(1L, bearer("bob"), null),
+            new AccessLogEntry(2L, null, "10.0.0.1"),
+            new AccessLogEntry(3L, bearer("alice"), null));
+
+        final RateLimitSimulationReport report = simulator.replay(entries, clock -> Bucket4jRateLimiter.withClock(properties, clock));
+
+        assertEquals(3, report.peakBucketCount());
+        assertTrue(report.limiterNanosPerOp() > 0.0d);
+    }
+
+    @Test
+    @DisplayName("Falls back to distinct key count for engines without bucket inventory")
+    void fallsBackToDistinctKeysForOpaqueEngines()
+    {
+        final Stream<AccessLogEntry> entries = Stream.of(
+            new AccessLogEntry(0L, bearer("alice"), null),
+            new AccessLogEntry(1L, bearer("alice"), null),
+            new AccessLogEntry(2L, bearer("bob"), null));
+
+        final RateLimitSimulationReport report = simulator.replay(entries, clock -> key -> new RateLimitStatus(true, 1L, 1L, 0L));
+
+        assertEquals(2, report.peakBucketCount());
+    }
+
+    @Test
+    @DisplayName("Replays a log file, skipping blank and comment lines")
+    void replaysLogFile(@TempDir final Path directory) throws IOException
+    {
+        final Path log = directory.resolve("access.log");
+        Files.write(log, List.of(
+            "# timestamp,authorization,ip",
+            "1735689600000," + bearer("alice") + ",",
+            "",
+            "2025-01-01T00:00:00.500Z,,203.0.113.7, 10.0.0.2"));
+
+        final RateLimitSimulationReport report = simulator.replay(log, clock -> Bucket4jRateLimiter.withClock(properties, clock));
+
+        assertEquals(2L, report.requests());
+        assertEquals(1L, report.tiers().get("user").allowed());
+        assertEquals(1L, report.tiers().get("ip").allowed());
+        assertEquals(Duration.ofMillis(500L), report.simulatedSpan());
+    }
+
+    @Test
+    @DisplayName("Keys malformed tokens as unidentified instead of falling back to the caller IP")
+    void keysMalformedTokensAsUnidentified()
+    {
+        final Stream<AccessLogEntry> entries = Stream.of(
+            new AccessLogEntry(0L, "Bearer not-a-jwt", "10.0.0.1"),
+            new AccessLogEntry(1L, "Basic dXNlcjpwYXNz", "10.0.0.2"));
+
+        final RateLimitSimulationReport report = simulator.replay(entries, clock -> Bucket4jRateLimiter.withClock(properties, clock));
+
+        assertEquals(2L, report.tiers().get("auth").total());
+        assertNull(report.tiers().get("ip"));
+    }
+
+    @Test
+    @DisplayName("Replayed requests answer Object methods and unmodelled properties with neutral defaults")
+    void replayedRequestsAnswerNeutralDefaults()
+    {
+        final ContainerRequestContext request = ReplayRequestContext.of(new AccessLogEntry(0L, null, "10.0.0.1"));
+
+        assertEquals(request, request);
+        assertEquals(System.identityHashCode(request), request.hashCode());
+        assertTrue(request.toString().startsWith("ReplayRequestContext["));
+        assertEquals("10.0.0.1", request.getHeaderString("x-forwarded-for"));
+        assertNull(request.getMethod());
+        assertEquals(0, request.getLength());
+        assertTrue(request.getAcceptableMediaTypes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Parses access log lines with empty columns and forwarded IP chains")
+    void parsesAccessLogLines()
+    {
+        final AccessLogEntry entry = AccessLogEntry.parse("1000,,203.0.113.7, 10.0.0.2");
+
+        assertEquals(1_000L, entry.timestampMillis());
+        assertNull(entry.authorizationHeader());
+        assertEquals("203.0.113.7, 10.0.0.2", entry.ip());
+    }
+
+    @Test
+    @DisplayName("Rejects access log lines with missing columns")
+    void rejectsMalformedAccessLogLines()
+    {
+        assertThrows(IllegalArgumentException.class, () -> AccessLogEntry.parse("1000,Bearer token"));
+        assertThrows(IllegalArgumentException.class, () -> AccessLogEntry.parse("yesterday,,10.0.0.1"));
+    }
+
+    private static String bearer(final String username)
+    {
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "Bearer " + encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+            + encoder.encodeToString(("{\"sub\":\"" + username + "\"}").getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+}